@@ -0,0 +1,751 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants.HazardStatus;
+
+/**
+ * Randomized comparison of the deadline-driven time checks made by the
+ * session event manager against checks of every event. Two simulated
+ * sessions are given identical sequences of time advances (including
+ * backward jumps), event additions, modifications and removals, and hazard
+ * types configuration reloads. One re-evaluates every event whenever time
+ * boundaries or elapse states are checked, as the session event manager did
+ * before deadlines were introduced; the other re-evaluates only the events
+ * yielded by {@link HazardEventDeadlineQueue}, scheduling them using
+ * {@link TimeDrivenEventRules} in the same way as the session event manager.
+ * After every step, the two must agree on every event's status and time range
+ * boundaries, and on which events had their boundaries changed or were found
+ * to be past their expiration times.
+ * <p>
+ * The time range boundaries are a simplified model of those computed by the
+ * session event manager, preserving what matters here: which statuses have
+ * boundaries that follow the current time, and which depend only upon the
+ * event and its type's configuration.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+public class TimeDrivenEventDeadlinesTest {
+
+    // Private Static Constants
+
+    /**
+     * System property that may be used to specify the seed of the first run.
+     */
+    private static final String SEED_PROPERTY = "verification.seed";
+
+    /**
+     * System property that may be used to specify the number of runs.
+     */
+    private static final String RUNS_PROPERTY = "verification.runs";
+
+    /**
+     * Default seed of the first run; each subsequent run uses the next seed.
+     */
+    private static final long DEFAULT_SEED = 20261019L;
+
+    /**
+     * Default number of runs.
+     */
+    private static final int DEFAULT_RUN_COUNT = 250;
+
+    /**
+     * Number of steps per run.
+     */
+    private static final int STEP_COUNT = 600;
+
+    /**
+     * Maximum number of events in a session at once.
+     */
+    private static final int MAXIMUM_EVENT_COUNT = 40;
+
+    /**
+     * Hazard types that events may have.
+     */
+    private static final List<String> HAZARD_TYPES = Arrays.asList("FF.W",
+            "FA.Y", "FL.W", "SV.W", "TO.W");
+
+    /**
+     * Time at which each run starts, in epoch milliseconds.
+     */
+    private static final long START_TIME = 1791936000000L;
+
+    /**
+     * One minute in milliseconds.
+     */
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1L);
+
+    /**
+     * Minimum time value used for boundaries.
+     */
+    private static final long MIN_TIME = Long.MIN_VALUE;
+
+    /**
+     * Maximum time value used for boundaries.
+     */
+    private static final long MAX_TIME = Long.MAX_VALUE;
+
+    // Private Classes
+
+    /**
+     * Configuration of a hazard type.
+     */
+    private static class TypeConfig {
+
+        private final boolean elapseWhenIssued;
+
+        private final boolean startTimeIsCurrentTime;
+
+        private final long expireOffset;
+
+        TypeConfig(Random random) {
+            elapseWhenIssued = (random.nextInt(5) == 0);
+            startTimeIsCurrentTime = random.nextBoolean();
+            expireOffset = random.nextInt(90) * MINUTE;
+        }
+    }
+
+    /**
+     * Simulated hazard event.
+     */
+    private static class Event {
+
+        private final String identifier;
+
+        private HazardStatus status;
+
+        private HazardStatus preExpiredStatus;
+
+        private String type;
+
+        private long startTime;
+
+        private long endTime;
+
+        private Date expirationTime;
+
+        Event(String identifier) {
+            this.identifier = identifier;
+        }
+
+        Event(Event other) {
+            identifier = other.identifier;
+            status = other.status;
+            preExpiredStatus = other.preExpiredStatus;
+            type = other.type;
+            startTime = other.startTime;
+            endTime = other.endTime;
+            expirationTime = other.expirationTime;
+        }
+    }
+
+    /**
+     * Identifiers of events changed by a time boundaries check.
+     */
+    private static class BoundariesCheckResult {
+
+        private final Set<String> identifiersWithChangedBoundaries = new TreeSet<>();
+
+        private final Set<String> identifiersWithExpiredTimes = new TreeSet<>();
+    }
+
+    /**
+     * Simulated session.
+     */
+    private abstract static class Session {
+
+        /**
+         * Events, in the order in which they were added.
+         */
+        protected final List<Event> events = new ArrayList<>();
+
+        /**
+         * Time range boundaries of the events, keyed by event identifier.
+         */
+        protected final Map<String, List<Long>> boundariesForIdentifiers = new HashMap<>();
+
+        /**
+         * Hazard types configuration.
+         */
+        protected Map<String, TypeConfig> hazardTypes;
+
+        /**
+         * Add the specified event.
+         * 
+         * @param event
+         *            Event to be added.
+         * @param currentTime
+         *            Current time in epoch milliseconds.
+         */
+        void addEvent(Event event, long currentTime) {
+            events.add(event);
+            expireOrUnexpireEvent(event, currentTime);
+            updateBoundaries(event, currentTime);
+            eventChanged(event);
+        }
+
+        /**
+         * Handle the modification of the specified event, which has been
+         * made prior to this invocation.
+         * 
+         * @param identifier
+         *            Identifier of the event that was modified.
+         * @param currentTime
+         *            Current time in epoch milliseconds.
+         */
+        void eventModified(String identifier, long currentTime) {
+            Event event = getEvent(identifier);
+            expireOrUnexpireEvent(event, currentTime);
+            updateBoundaries(event, currentTime);
+            eventChanged(event);
+        }
+
+        /**
+         * Remove the specified event.
+         * 
+         * @param identifier
+         *            Identifier of the event to be removed.
+         */
+        void removeEvent(String identifier) {
+            Event event = getEvent(identifier);
+            events.remove(event);
+            boundariesForIdentifiers.remove(identifier);
+            eventRemoved(event);
+        }
+
+        /**
+         * Set the hazard types configuration, replacing any previous one.
+         * 
+         * @param hazardTypes
+         *            New hazard types configuration.
+         */
+        void setHazardTypes(Map<String, TypeConfig> hazardTypes) {
+            this.hazardTypes = hazardTypes;
+        }
+
+        /**
+         * Get the event with the specified identifier.
+         * 
+         * @param identifier
+         *            Identifier.
+         * @return Event.
+         */
+        Event getEvent(String identifier) {
+            for (Event event : events) {
+                if (event.identifier.equals(identifier)) {
+                    return event;
+                }
+            }
+            throw new IllegalArgumentException(identifier);
+        }
+
+        /**
+         * Expire or unexpire the specified event as appropriate.
+         * 
+         * @param event
+         *            Event.
+         * @param currentTime
+         *            Current time in epoch milliseconds.
+         * @return <code>true</code> if the event's status changed,
+         *         <code>false</code> otherwise.
+         */
+        protected boolean expireOrUnexpireEvent(Event event,
+                long currentTime) {
+            TypeConfig config = hazardTypes.get(event.type);
+            HazardStatus newStatus = TimeDrivenEventRules.getElapseStatus(
+                    event.status, event.preExpiredStatus,
+                    config.elapseWhenIssued, currentTime, event.endTime,
+                    getExpireTime(event));
+            if (newStatus != event.status) {
+                event.status = newStatus;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Get the time at which the specified event goes from elapsing to
+         * elapsed.
+         * 
+         * @param event
+         *            Event.
+         * @return Time in epoch milliseconds.
+         */
+        protected long getExpireTime(Event event) {
+            return event.endTime + hazardTypes.get(event.type).expireOffset;
+        }
+
+        /**
+         * Update the time range boundaries of the specified event.
+         * 
+         * @param event
+         *            Event.
+         * @param currentTime
+         *            Current time in epoch milliseconds.
+         * @return <code>true</code> if the boundaries changed,
+         *         <code>false</code> otherwise.
+         */
+        protected boolean updateBoundaries(Event event, long currentTime) {
+            TypeConfig config = hazardTypes.get(event.type);
+            List<Long> boundaries;
+            switch (event.status) {
+            case POTENTIAL:
+            case PENDING:
+            case PROPOSED:
+                boundaries = Arrays.asList(currentTime,
+                        (config.startTimeIsCurrentTime ? currentTime
+                                : MAX_TIME),
+                        Math.max(event.endTime, currentTime), MAX_TIME);
+                break;
+            case ISSUED:
+                boundaries = Arrays.asList(
+                        (config.startTimeIsCurrentTime ? event.startTime
+                                : MIN_TIME),
+                        (config.startTimeIsCurrentTime ? event.startTime
+                                : MAX_TIME),
+                        event.startTime, MAX_TIME);
+                break;
+            default:
+                boundaries = Arrays.asList(event.startTime, event.startTime,
+                        event.endTime, event.endTime);
+            }
+            return (boundaries.equals(boundariesForIdentifiers
+                    .put(event.identifier, boundaries)) == false);
+        }
+
+        /**
+         * Handle the specified event having been added or modified.
+         * 
+         * @param event
+         *            Event.
+         */
+        protected abstract void eventChanged(Event event);
+
+        /**
+         * Handle the specified event having been removed.
+         * 
+         * @param event
+         *            Event.
+         */
+        protected abstract void eventRemoved(Event event);
+
+        /**
+         * Check the time range boundaries and expiration states of events
+         * whose boundaries may have changed with the passage of time.
+         * 
+         * @param currentTime
+         *            Current time in epoch milliseconds.
+         * @return Result of the check.
+         */
+        abstract BoundariesCheckResult checkBoundaries(long currentTime);
+
+        /**
+         * Expire or unexpire events as appropriate.
+         * 
+         * @param currentTime
+         *            Current time in epoch milliseconds.
+         * @return Identifiers of events that had their statuses changed.
+         */
+        abstract Set<String> checkElapse(long currentTime);
+    }
+
+    /**
+     * Session that checks every event, as the session event manager did prior
+     * to the use of deadlines.
+     */
+    private static class FullScanSession extends Session {
+
+        @Override
+        protected void eventChanged(Event event) {
+
+            /*
+             * No action.
+             */
+        }
+
+        @Override
+        protected void eventRemoved(Event event) {
+
+            /*
+             * No action.
+             */
+        }
+
+        @Override
+        BoundariesCheckResult checkBoundaries(long currentTime) {
+            BoundariesCheckResult result = new BoundariesCheckResult();
+            for (Event event : events) {
+                if (updateBoundaries(event, currentTime)) {
+                    result.identifiersWithChangedBoundaries
+                            .add(event.identifier);
+                }
+                if (TimeDrivenEventRules.isPastExpirationTime(
+                        event.expirationTime, currentTime)) {
+                    result.identifiersWithExpiredTimes.add(event.identifier);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        Set<String> checkElapse(long currentTime) {
+            Set<String> changed = new TreeSet<>();
+            for (Event event : events) {
+                if (expireOrUnexpireEvent(event, currentTime)) {
+                    changed.add(event.identifier);
+                }
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Session that checks only those events whose deadlines have been
+     * reached, as the session event manager does.
+     */
+    private static class DeadlineSession extends Session {
+
+        private final HazardEventDeadlineQueue<Event> timeBoundaryDeadlines = new HazardEventDeadlineQueue<>();
+
+        private final HazardEventDeadlineQueue<Event> elapseDeadlines = new HazardEventDeadlineQueue<>();
+
+        private Map<String, TypeConfig> deadlinesHazardTypes;
+
+        @Override
+        protected void eventChanged(Event event) {
+            timeBoundaryDeadlines.scheduleImmediately(event);
+            elapseDeadlines.scheduleImmediately(event);
+        }
+
+        @Override
+        protected void eventRemoved(Event event) {
+            timeBoundaryDeadlines.remove(event);
+            elapseDeadlines.remove(event);
+        }
+
+        @Override
+        BoundariesCheckResult checkBoundaries(long currentTime) {
+            BoundariesCheckResult result = new BoundariesCheckResult();
+            for (Event event : getDueEvents(timeBoundaryDeadlines,
+                    currentTime)) {
+                if (updateBoundaries(event, currentTime)) {
+                    result.identifiersWithChangedBoundaries
+                            .add(event.identifier);
+                }
+                if (TimeDrivenEventRules.isPastExpirationTime(
+                        event.expirationTime, currentTime)) {
+                    result.identifiersWithExpiredTimes.add(event.identifier);
+                }
+                timeBoundaryDeadlines.schedule(event,
+                        TimeDrivenEventRules.getNextTimeBoundaryDeadline(
+                                event.status, event.expirationTime,
+                                currentTime));
+            }
+            return result;
+        }
+
+        @Override
+        Set<String> checkElapse(long currentTime) {
+            Set<String> changed = new TreeSet<>();
+            for (Event event : getDueEvents(elapseDeadlines, currentTime)) {
+                if (expireOrUnexpireEvent(event, currentTime)) {
+                    changed.add(event.identifier);
+                    timeBoundaryDeadlines.scheduleImmediately(event);
+                }
+                elapseDeadlines.schedule(event,
+                        TimeDrivenEventRules.getNextElapseDeadline(
+                                event.status,
+                                hazardTypes.get(event.type).elapseWhenIssued,
+                                event.endTime, getExpireTime(event)));
+            }
+            return changed;
+        }
+
+        /**
+         * Get the events with deadlines in the specified queue that are due
+         * at the specified time, treating all events as due if the hazard
+         * types configuration has changed since the queues were last
+         * advanced.
+         * 
+         * @param deadlines
+         *            Queue of deadlines.
+         * @param currentTime
+         *            Current time in epoch milliseconds.
+         * @return Events that are due.
+         */
+        private List<Event> getDueEvents(
+                HazardEventDeadlineQueue<Event> deadlines, long currentTime) {
+            if (hazardTypes != deadlinesHazardTypes) {
+                deadlinesHazardTypes = hazardTypes;
+                for (Event event : events) {
+                    eventChanged(event);
+                }
+            }
+            return deadlines.advanceTo(currentTime, events);
+        }
+    }
+
+    // Public Methods
+
+    /**
+     * Test that checking only events with reached deadlines always yields
+     * the same results as checking every event.
+     */
+    @Test
+    public void testDeadlineChecksMatchFullScans() {
+        long seed = Long.getLong(SEED_PROPERTY, DEFAULT_SEED);
+        int runCount = Integer.getInteger(RUNS_PROPERTY, DEFAULT_RUN_COUNT);
+        for (int run = 0; run < runCount; run++) {
+            runComparison(seed + run);
+        }
+    }
+
+    // Private Methods
+
+    /**
+     * Run a single randomized comparison.
+     * 
+     * @param seed
+     *            Seed for the random number generator.
+     */
+    private void runComparison(long seed) {
+        Random random = new Random(seed);
+        Session fullScanSession = new FullScanSession();
+        Session deadlineSession = new DeadlineSession();
+        Map<String, TypeConfig> hazardTypes = createHazardTypes(random);
+        fullScanSession.setHazardTypes(hazardTypes);
+        deadlineSession.setHazardTypes(hazardTypes);
+        long currentTime = START_TIME;
+        int nextIdentifier = 0;
+        for (int step = 0; step < STEP_COUNT; step++) {
+            String context = "seed " + seed + ", step " + step;
+            int action = random.nextInt(100);
+            if (action < 45) {
+
+                /*
+                 * Advance the time, usually forward but occasionally not at
+                 * all or backward, and then perform both kinds of checks in
+                 * either order, since the session performs them
+                 * independently.
+                 */
+                currentTime += getTimeDelta(random);
+                boolean boundariesFirst = random.nextBoolean();
+                for (int pass = 0; pass < 2; pass++) {
+                    if ((pass == 0) == boundariesFirst) {
+                        BoundariesCheckResult expected = fullScanSession
+                                .checkBoundaries(currentTime);
+                        BoundariesCheckResult actual = deadlineSession
+                                .checkBoundaries(currentTime);
+                        assertEquals(context + ": changed boundaries",
+                                expected.identifiersWithChangedBoundaries,
+                                actual.identifiersWithChangedBoundaries);
+                        assertEquals(context + ": expired",
+                                expected.identifiersWithExpiredTimes,
+                                actual.identifiersWithExpiredTimes);
+                    } else {
+                        assertEquals(context + ": elapse status changes",
+                                fullScanSession.checkElapse(currentTime),
+                                deadlineSession.checkElapse(currentTime));
+                    }
+                }
+            } else if ((action < 65)
+                    && (fullScanSession.events.size() < MAXIMUM_EVENT_COUNT)) {
+                Event event = createEvent("HZ-" + nextIdentifier++, random,
+                        currentTime);
+                fullScanSession.addEvent(event, currentTime);
+                deadlineSession.addEvent(new Event(event), currentTime);
+            } else if ((action < 90)
+                    && (fullScanSession.events.isEmpty() == false)) {
+                String identifier = fullScanSession.events.get(
+                        random.nextInt(fullScanSession.events.size())).identifier;
+                long modificationSeed = random.nextLong();
+                modifyEvent(fullScanSession.getEvent(identifier),
+                        new Random(modificationSeed), currentTime);
+                modifyEvent(deadlineSession.getEvent(identifier),
+                        new Random(modificationSeed), currentTime);
+                fullScanSession.eventModified(identifier, currentTime);
+                deadlineSession.eventModified(identifier, currentTime);
+            } else if ((action < 96)
+                    && (fullScanSession.events.isEmpty() == false)) {
+                String identifier = fullScanSession.events.get(
+                        random.nextInt(fullScanSession.events.size())).identifier;
+                fullScanSession.removeEvent(identifier);
+                deadlineSession.removeEvent(identifier);
+            } else {
+                hazardTypes = createHazardTypes(random);
+                fullScanSession.setHazardTypes(hazardTypes);
+                deadlineSession.setHazardTypes(hazardTypes);
+            }
+            assertEquals(context + ": statuses", getStatuses(fullScanSession),
+                    getStatuses(deadlineSession));
+            assertEquals(context + ": boundaries",
+                    new TreeMap<>(fullScanSession.boundariesForIdentifiers),
+                    new TreeMap<>(deadlineSession.boundariesForIdentifiers));
+        }
+    }
+
+    /**
+     * Create a hazard types configuration.
+     * 
+     * @param random
+     *            Random number generator.
+     * @return Hazard types configuration.
+     */
+    private Map<String, TypeConfig> createHazardTypes(Random random) {
+        Map<String, TypeConfig> hazardTypes = new HashMap<>();
+        for (String type : HAZARD_TYPES) {
+            hazardTypes.put(type, new TypeConfig(random));
+        }
+        return hazardTypes;
+    }
+
+    /**
+     * Get the amount by which to change the current time.
+     * 
+     * @param random
+     *            Random number generator.
+     * @return Change in milliseconds.
+     */
+    private long getTimeDelta(Random random) {
+        int kind = random.nextInt(100);
+        if (kind < 65) {
+            return random.nextInt(3) * MINUTE + random.nextInt(60) * 1000L;
+        } else if (kind < 85) {
+            return random.nextInt(90) * MINUTE;
+        } else if (kind < 92) {
+            return 0L;
+        }
+        return -random.nextInt(180) * MINUTE;
+    }
+
+    /**
+     * Create an event.
+     * 
+     * @param identifier
+     *            Identifier of the event.
+     * @param random
+     *            Random number generator.
+     * @param currentTime
+     *            Current time in epoch milliseconds.
+     * @return Event.
+     */
+    private Event createEvent(String identifier, Random random,
+            long currentTime) {
+        Event event = new Event(identifier);
+        HazardStatus[] statuses = HazardStatus.values();
+        event.status = (random.nextInt(3) == 0 ? HazardStatus.ISSUED
+                : statuses[random.nextInt(statuses.length)]);
+        if (((event.status == HazardStatus.ELAPSING)
+                || (event.status == HazardStatus.ELAPSED))
+                && random.nextBoolean()) {
+            event.preExpiredStatus = HazardStatus.ISSUED;
+        }
+        event.type = HAZARD_TYPES.get(random.nextInt(HAZARD_TYPES.size()));
+        event.startTime = currentTime + (random.nextInt(240) - 120) * MINUTE;
+        event.endTime = event.startTime + (5 + random.nextInt(175)) * MINUTE;
+        if (random.nextInt(10) < 7) {
+            event.expirationTime = new Date(
+                    event.endTime + (random.nextInt(90) - 30) * MINUTE);
+        }
+        return event;
+    }
+
+    /**
+     * Modify the specified event.
+     * 
+     * @param event
+     *            Event to be modified.
+     * @param random
+     *            Random number generator.
+     * @param currentTime
+     *            Current time in epoch milliseconds.
+     */
+    private void modifyEvent(Event event, Random random, long currentTime) {
+        switch (random.nextInt(5)) {
+        case 0:
+            event.endTime = Math.max(event.startTime + MINUTE,
+                    currentTime + (random.nextInt(120) - 30) * MINUTE);
+            break;
+        case 1:
+            if ((event.status == HazardStatus.POTENTIAL)
+                    || (event.status == HazardStatus.PENDING)
+                    || (event.status == HazardStatus.PROPOSED)) {
+                event.status = HazardStatus.ISSUED;
+            }
+            break;
+        case 2:
+            if (event.status == HazardStatus.ISSUED) {
+                event.status = (random.nextBoolean() ? HazardStatus.ENDING
+                        : HazardStatus.ENDED);
+            }
+            break;
+        case 3:
+            event.expirationTime = (random.nextInt(4) == 0 ? null
+                    : new Date(currentTime
+                            + (random.nextInt(120) - 30) * MINUTE));
+            break;
+        default:
+            event.type = HAZARD_TYPES.get(random.nextInt(HAZARD_TYPES.size()));
+        }
+    }
+
+    /**
+     * Get the statuses of the events in the specified session.
+     * 
+     * @param session
+     *            Session.
+     * @return Statuses keyed by event identifier.
+     */
+    private Map<String, HazardStatus> getStatuses(Session session) {
+        Map<String, HazardStatus> statuses = new TreeMap<>();
+        for (Event event : session.events) {
+            statuses.put(event.identifier, event.status);
+        }
+        return statuses;
+    }
+}
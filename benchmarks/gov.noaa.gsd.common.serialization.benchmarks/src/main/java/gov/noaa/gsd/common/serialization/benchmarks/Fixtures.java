@@ -0,0 +1,377 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Evaluation & Decision Support Branch (EDS)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.serialization.benchmarks;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants.HazardStatus;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.MultiPolygon;
+import com.vividsolutions.jts.geom.Polygon;
+
+import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryUtilities;
+import gov.noaa.gsd.common.utilities.geometry.IAdvancedGeometry;
+import gov.noaa.gsd.common.visuals.BenchmarkVisualFeatures;
+import gov.noaa.gsd.common.visuals.VisualFeaturesList;
+
+/**
+ * Description: Factory building the payloads used by the serialization
+ * benchmarks. The payloads are sized like the large ones seen in operations:
+ * a multi-county hazard geometry, a recommender's visual features, and the
+ * attributes of a hydrologic hazard event with its UGC lists, as well as a
+ * hazard event holding all three. It also builds the versions of a long-lived
+ * hazard event's history. A fixed seed is used so that every run measures
+ * identical payloads.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * Oct 19, 2026            agent        Added hazard event history versions.
+ * Oct 19, 2026            agent        Added a complete hazard event.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+final class Fixtures {
+
+    // Package Static Constants
+
+    /**
+     * Seed for the random number generators.
+     */
+    static final long SEED = 20261019L;
+
+    /**
+     * Number of polygons in the multi-polygon geometry.
+     */
+    static final int POLYGON_COUNT = 40;
+
+    /**
+     * Number of vertices in each polygon of the multi-polygon geometry.
+     */
+    static final int VERTICES_PER_POLYGON = 400;
+
+    /**
+     * Number of visual features in the visual features list.
+     */
+    static final int VISUAL_FEATURE_COUNT = 12;
+
+    /**
+     * Number of time ranges over which the visual features' properties vary.
+     */
+    static final int TIME_RANGE_COUNT = 24;
+
+    /**
+     * Number of UGCs in each UGC list attribute.
+     */
+    static final int UGC_COUNT = 120;
+
+    /**
+     * Number of scalar attributes, in addition to the UGC lists and nested
+     * structures.
+     */
+    static final int SCALAR_ATTRIBUTE_COUNT = 60;
+
+    // Private Static Constants
+
+    /**
+     * Start time of the visual features' time ranges, and base of the time
+     * attributes.
+     */
+    private static final long START_TIME = 1791936000000L;
+
+    /**
+     * Length of each visual feature time range in milliseconds.
+     */
+    private static final long TIME_RANGE_MILLIS = 5L * 60L * 1000L;
+
+    /**
+     * Interval in milliseconds between the persist times, and between the
+     * start times, of successive versions of a hazard event.
+     */
+    private static final long HISTORY_VERSION_INTERVAL_MILLIS = 60L * 60L
+            * 1000L;
+
+    /**
+     * Duration in milliseconds of each version of a hazard event.
+     */
+    private static final long HISTORY_VERSION_DURATION_MILLIS = 6L
+            * HISTORY_VERSION_INTERVAL_MILLIS;
+
+    /**
+     * Bounds of the area within which polygons are placed.
+     */
+    private static final double MIN_LONGITUDE = -110.0, MAX_LONGITUDE = -95.0,
+            MIN_LATITUDE = 35.0, MAX_LATITUDE = 45.0;
+
+    /**
+     * Maximum radius of each polygon, in degrees.
+     */
+    private static final double MAX_RADIUS = 0.5;
+
+    // Package Static Methods
+
+    /**
+     * Create the multi-polygon advanced geometry.
+     * 
+     * @return Advanced geometry.
+     */
+    static IAdvancedGeometry createGeometry() {
+        return AdvancedGeometryUtilities.createGeometryWrapper(
+                createMultiPolygon(new Random(SEED), POLYGON_COUNT,
+                        VERTICES_PER_POLYGON),
+                0.0);
+    }
+
+    /**
+     * Create the visual features list.
+     * 
+     * @return Visual features list.
+     */
+    static VisualFeaturesList createVisualFeatures() {
+        Random random = new Random(SEED);
+        List<IAdvancedGeometry> geometries = new ArrayList<>(
+                VISUAL_FEATURE_COUNT);
+        for (int j = 0; j < VISUAL_FEATURE_COUNT; j++) {
+            geometries.add(AdvancedGeometryUtilities.createGeometryWrapper(
+                    createMultiPolygon(random, 4, VERTICES_PER_POLYGON / 4),
+                    0.0));
+        }
+        return BenchmarkVisualFeatures.create(random, geometries,
+                new Date(START_TIME), TIME_RANGE_COUNT, TIME_RANGE_MILLIS);
+    }
+
+    /**
+     * Create the hazard attributes.
+     * 
+     * @return Map of attribute names to values.
+     */
+    static HashMap<String, Serializable> createHazardAttributes() {
+        Random random = new Random(SEED);
+        HashMap<String, Serializable> attributes = new HashMap<>();
+        attributes.put("ugcs", createUgcs(random, "COC", UGC_COUNT));
+        attributes.put("cityList", createUgcs(random, "COZ", UGC_COUNT));
+        attributes.put("forecastZones", createUgcs(random, "COZ", UGC_COUNT));
+
+        /*
+         * Add a mix of scalar attributes of the types found in hazard events.
+         */
+        for (int j = 0; j < SCALAR_ATTRIBUTE_COUNT; j++) {
+            String name = "attribute" + j;
+            switch (j % 5) {
+            case 0:
+                attributes.put(name, "value " + random.nextInt(1000));
+                break;
+            case 1:
+                attributes.put(name, random.nextInt(100000));
+                break;
+            case 2:
+                attributes.put(name, random.nextDouble() * 100.0);
+                break;
+            case 3:
+                attributes.put(name, random.nextBoolean());
+                break;
+            default:
+                attributes.put(name,
+                        START_TIME + (random.nextInt(48) * TIME_RANGE_MILLIS));
+            }
+        }
+
+        /*
+         * Add a forecast point and a list of per-zone details, as nested
+         * structures that are serialized as JSON.
+         */
+        HashMap<String, Serializable> forecastPoint = new HashMap<>();
+        forecastPoint.put("id", "DCSC2");
+        forecastPoint.put("name", "Dry Creek Near Sample");
+        forecastPoint.put("floodStage", 12.5);
+        forecastPoint.put("crestStage", 14.2);
+        forecastPoint.put("crestTime", START_TIME + TIME_RANGE_MILLIS * 30);
+        attributes.put("forecastPoint", forecastPoint);
+        ArrayList<HashMap<String, Serializable>> zoneDetails = new ArrayList<>(
+                UGC_COUNT);
+        for (int j = 0; j < UGC_COUNT; j++) {
+            HashMap<String, Serializable> zoneDetail = new HashMap<>();
+            zoneDetail.put("ugc", "COZ" + String.format("%03d", j));
+            zoneDetail.put("included", random.nextBoolean());
+            zoneDetail.put("areaPercentage", random.nextInt(101));
+            zoneDetails.add(zoneDetail);
+        }
+        attributes.put("zoneDetails", zoneDetails);
+        return attributes;
+    }
+
+    /**
+     * Create an issued hazard event with the geometry, visual features and
+     * attributes built by {@link #createGeometry()},
+     * {@link #createVisualFeatures()} and {@link #createHazardAttributes()}.
+     * 
+     * @return Hazard event.
+     */
+    static HazardEvent createHazardEvent() {
+        HazardEvent event = new HazardEvent();
+        event.setSiteID("OAX");
+        event.setEventID("HZ-2026-OAX-000001");
+        event.setPhenomenon("FL");
+        event.setSignificance("W");
+        event.setStatus(HazardStatus.ISSUED);
+        event.setIssuanceCount(1);
+        event.setCreationTime(new Date(START_TIME));
+        event.setInsertTime(new Date(START_TIME));
+        event.setTimeRange(new Date(START_TIME), new Date(START_TIME
+                + HISTORY_VERSION_DURATION_MILLIS));
+        event.setGeometry(createGeometry());
+        event.setVisualFeatures(createVisualFeatures());
+        event.addHazardAttributes(createHazardAttributes());
+        return event;
+    }
+
+    /**
+     * Create the specified number of versions of a hazard event, in order of
+     * persist time. Each version starts an hour after the previous one and
+     * lasts six hours, as a river flood warning extended by hourly updates
+     * would, so that several versions cover most times.
+     * 
+     * @param versionCount
+     *            Number of versions.
+     * @return Versions of the event.
+     */
+    static List<HazardEvent> createHistoryEvents(int versionCount) {
+        List<HazardEvent> events = new ArrayList<>(versionCount);
+        for (int j = 0; j < versionCount; j++) {
+            HazardEvent event = new HazardEvent();
+            event.setEventID("HZ-2026-OAX-000001");
+            event.setPhenomenon("FL");
+            event.setSignificance("W");
+            long startTime = START_TIME
+                    + (j * HISTORY_VERSION_INTERVAL_MILLIS);
+            event.setTimeRange(new Date(startTime),
+                    new Date(startTime + HISTORY_VERSION_DURATION_MILLIS));
+            event.setInsertTime(new Date(startTime));
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Create times at which to look up versions of a hazard event created by
+     * {@link #createHistoryEvents(int)}.
+     * 
+     * @param versionCount
+     *            Number of versions.
+     * @param timeCount
+     *            Number of times to create.
+     * @param covered
+     *            Flag indicating whether the times are to be covered by the
+     *            versions, or to be before or after all of them.
+     * @return Times.
+     */
+    static Date[] createHistoryLookupTimes(int versionCount, int timeCount,
+            boolean covered) {
+        Random random = new Random(SEED);
+        long lastEndTime = START_TIME
+                + ((versionCount - 1) * HISTORY_VERSION_INTERVAL_MILLIS)
+                + HISTORY_VERSION_DURATION_MILLIS;
+        Date[] times = new Date[timeCount];
+        for (int j = 0; j < timeCount; j++) {
+            long offset = (long) (random.nextDouble()
+                    * HISTORY_VERSION_DURATION_MILLIS) + 1L;
+            if (covered) {
+                times[j] = new Date(START_TIME + (long) (random.nextDouble()
+                        * (lastEndTime - START_TIME)));
+            } else {
+                times[j] = new Date(random.nextBoolean() ? START_TIME - offset
+                        : lastEndTime + offset);
+            }
+        }
+        return times;
+    }
+
+    // Private Static Methods
+
+    /**
+     * Create a multi-polygon with the specified number of polygons, each with
+     * the specified number of vertices, placed at random.
+     * 
+     * @param random
+     *            Random number generator.
+     * @param polygonCount
+     *            Number of polygons.
+     * @param vertexCount
+     *            Number of vertices in each polygon, not counting the
+     *            duplicate closing vertex.
+     * @return Multi-polygon.
+     */
+    private static MultiPolygon createMultiPolygon(Random random,
+            int polygonCount, int vertexCount) {
+        GeometryFactory geometryFactory = AdvancedGeometryUtilities
+                .getGeometryFactory();
+        Polygon[] polygons = new Polygon[polygonCount];
+        for (int j = 0; j < polygonCount; j++) {
+            double centerX = MIN_LONGITUDE
+                    + (random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE));
+            double centerY = MIN_LATITUDE
+                    + (random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE));
+            double radius = MAX_RADIUS * (0.5 + (random.nextDouble() / 2.0));
+            Coordinate[] coordinates = new Coordinate[vertexCount + 1];
+            for (int k = 0; k < vertexCount; k++) {
+                double angle = (2.0 * Math.PI * k) / vertexCount;
+                double jitteredRadius = radius
+                        * (0.9 + (random.nextDouble() / 10.0));
+                coordinates[k] = new Coordinate(
+                        centerX + (jitteredRadius * Math.cos(angle)),
+                        centerY + (jitteredRadius * Math.sin(angle)));
+            }
+            coordinates[vertexCount] = new Coordinate(coordinates[0]);
+            polygons[j] = geometryFactory.createPolygon(
+                    geometryFactory.createLinearRing(coordinates), null);
+        }
+        return geometryFactory.createMultiPolygon(polygons);
+    }
+
+    /**
+     * Create a list of UGCs with the specified prefix.
+     * 
+     * @param random
+     *            Random number generator.
+     * @param prefix
+     *            State and type prefix, for example <code>COZ</code>.
+     * @param count
+     *            Number of UGCs.
+     * @return List of UGCs.
+     */
+    private static ArrayList<String> createUgcs(Random random, String prefix,
+            int count) {
+        ArrayList<String> ugcs = new ArrayList<>(count);
+        for (int j = 0; j < count; j++) {
+            ugcs.add(prefix + String.format("%03d", random.nextInt(1000)));
+        }
+        return ugcs;
+    }
+
+    // Private Constructors
+
+    /**
+     * Prevent instantiation.
+     */
+    private Fixtures() {
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Evaluation & Decision Support Branch (EDS)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.serialization.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryBinaryTranslator;
+import gov.noaa.gsd.common.utilities.geometry.IAdvancedGeometry;
+
+/**
+ * Description: Benchmark of the compressed binary and base-64 encodings of an
+ * advanced geometry provided by {@link AdvancedGeometryBinaryTranslator}.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class GeometryCodecBenchmark {
+
+    // Private Variables
+
+    /**
+     * Geometry to be serialized.
+     */
+    private IAdvancedGeometry geometry;
+
+    /**
+     * Compressed bytes to be deserialized.
+     */
+    private byte[] bytes;
+
+    /**
+     * Base-64 string to be deserialized.
+     */
+    private String base64;
+
+    // Public Methods
+
+    /**
+     * Build the geometry and its serialized forms.
+     * 
+     * @throws IOException
+     *             If serialization fails.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        geometry = Fixtures.createGeometry();
+        bytes = AdvancedGeometryBinaryTranslator
+                .serializeToCompressedBytes(geometry);
+        base64 = AdvancedGeometryBinaryTranslator
+                .serializeToCompressedBytesInBase64String(geometry);
+    }
+
+    @Benchmark
+    public byte[] serializeToCompressedBytes() throws IOException {
+        return AdvancedGeometryBinaryTranslator
+                .serializeToCompressedBytes(geometry);
+    }
+
+    @Benchmark
+    public IAdvancedGeometry deserializeFromCompressedBytes()
+            throws IOException {
+        return AdvancedGeometryBinaryTranslator
+                .deserializeFromCompressedBytes(bytes);
+    }
+
+    @Benchmark
+    public String serializeToBase64() throws IOException {
+        return AdvancedGeometryBinaryTranslator
+                .serializeToCompressedBytesInBase64String(geometry);
+    }
+
+    @Benchmark
+    public IAdvancedGeometry deserializeFromBase64() throws IOException {
+        return AdvancedGeometryBinaryTranslator
+                .deserializeFromCompressedBytesInBase64String(base64);
+    }
+}
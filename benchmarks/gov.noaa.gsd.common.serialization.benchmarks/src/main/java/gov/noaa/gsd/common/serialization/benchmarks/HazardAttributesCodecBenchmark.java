@@ -0,0 +1,90 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Evaluation & Decision Support Branch (EDS)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.serialization.benchmarks;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gov.noaa.gsd.common.utilities.JsonConverter;
+
+/**
+ * Description: Benchmark of the JSON encoding provided by {@link JsonConverter}
+ * for hazard attribute values that cannot be stored as registry slots, using
+ * the attributes of a large hydrologic hazard event.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class HazardAttributesCodecBenchmark {
+
+    // Private Variables
+
+    /**
+     * Attributes to be serialized.
+     */
+    private HashMap<String, Serializable> attributes;
+
+    /**
+     * JSON to be deserialized.
+     */
+    private String json;
+
+    // Public Methods
+
+    /**
+     * Build the attributes and their serialized form.
+     * 
+     * @throws IOException
+     *             If serialization fails.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        attributes = Fixtures.createHazardAttributes();
+        json = JsonConverter.toJson(attributes);
+    }
+
+    @Benchmark
+    public String serializeToJson() throws IOException {
+        return JsonConverter.toJson(attributes);
+    }
+
+    @Benchmark
+    public Object deserializeFromJson() throws IOException {
+        return JsonConverter.fromJson(json);
+    }
+}
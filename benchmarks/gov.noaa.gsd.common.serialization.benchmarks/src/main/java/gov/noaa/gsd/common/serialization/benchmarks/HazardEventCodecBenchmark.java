@@ -0,0 +1,167 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Evaluation & Decision Support Branch (EDS)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.serialization.benchmarks;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
+import com.raytheon.uf.common.serialization.JAXBManager;
+
+/**
+ * Description: Benchmark of the JAXB XML encoding of a complete hazard event,
+ * as stored in the content slot of the event's registry object. The event
+ * holds the multi-polygon geometry, the visual features, and the more than 50
+ * attributes built by {@link Fixtures}, so the geometry and visual features
+ * adapters and the attribute slot encoding are all exercised. The event is
+ * encoded and decoded both through a {@link JAXBManager}, as the hazard event
+ * services do, and through a marshaller and unmarshaller created once per
+ * thread from a single {@link JAXBContext}, so that the cost of the manager's
+ * pooling may be told apart from that of JAXB itself.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class HazardEventCodecBenchmark {
+
+    // Public Classes
+
+    /**
+     * Marshaller and unmarshaller belonging to a single benchmark thread, as
+     * neither is thread-safe.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCodec {
+
+        // Private Variables
+
+        /**
+         * Marshaller.
+         */
+        private Marshaller marshaller;
+
+        /**
+         * Unmarshaller.
+         */
+        private Unmarshaller unmarshaller;
+
+        // Public Methods
+
+        /**
+         * Create the marshaller and unmarshaller from the shared context.
+         * 
+         * @param benchmark
+         *            Benchmark state holding the shared context.
+         * @throws JAXBException
+         *             If the marshaller or unmarshaller cannot be created.
+         */
+        @Setup(Level.Trial)
+        public void setUp(HazardEventCodecBenchmark benchmark)
+                throws JAXBException {
+            marshaller = benchmark.context.createMarshaller();
+            unmarshaller = benchmark.context.createUnmarshaller();
+        }
+    }
+
+    // Private Variables
+
+    /**
+     * Event to be serialized.
+     */
+    private HazardEvent event;
+
+    /**
+     * XML to be deserialized.
+     */
+    private String xml;
+
+    /**
+     * JAXB manager for hazard events.
+     */
+    private JAXBManager manager;
+
+    /**
+     * JAXB context for hazard events, created once and shared by all threads.
+     */
+    private JAXBContext context;
+
+    // Public Methods
+
+    /**
+     * Build the event, the JAXB manager and context, and the event's
+     * serialized form.
+     * 
+     * @throws JAXBException
+     *             If serialization fails.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws JAXBException {
+        event = Fixtures.createHazardEvent();
+        manager = new JAXBManager(HazardEvent.class);
+        context = JAXBContext.newInstance(HazardEvent.class);
+        xml = manager.marshalToXml(event);
+    }
+
+    @Benchmark
+    public String marshalWithManager() throws JAXBException {
+        return manager.marshalToXml(event);
+    }
+
+    @Benchmark
+    public Object unmarshalWithManager() throws JAXBException {
+        return manager.unmarshalFromXml(xml);
+    }
+
+    @Benchmark
+    public String marshalWithThreadMarshaller(ThreadCodec codec)
+            throws JAXBException {
+        StringWriter writer = new StringWriter(xml.length());
+        codec.marshaller.marshal(event, writer);
+        return writer.toString();
+    }
+
+    @Benchmark
+    public Object unmarshalWithThreadUnmarshaller(ThreadCodec codec)
+            throws JAXBException {
+        return codec.unmarshaller.unmarshal(new StringReader(xml));
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Evaluation & Decision Support Branch (EDS)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.serialization.benchmarks;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.raytheon.uf.common.dataplugin.events.IEvent;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.IHazardEvent;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.collections.HazardHistoryList;
+
+/**
+ * Description: Benchmark of building a hazard event's history one version at
+ * a time, and of looking up the version covering a given time, for histories
+ * of 10 to 500 versions. Each is measured both for {@link HazardHistoryList}
+ * and for the linked list that it used to wrap, which was resorted after
+ * every addition and scanned by position for lookups. Lookups are measured
+ * separately for times that some version covers and for times that none do,
+ * since the latter are checked against the versions' current times before
+ * the lookup index is trusted.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class HazardHistoryListBenchmark {
+
+    // Private Static Constants
+
+    /**
+     * Number of lookup times cycled through by each lookup benchmark.
+     */
+    private static final int LOOKUP_TIME_COUNT = 1024;
+
+    // Public Variables
+
+    /**
+     * Number of versions in the history.
+     */
+    @Param({ "10", "50", "100", "500" })
+    public int versionCount;
+
+    // Private Variables
+
+    /**
+     * Versions of the event, in order of persist time.
+     */
+    private List<HazardEvent> events;
+
+    /**
+     * History list holding the versions.
+     */
+    private HazardHistoryList history;
+
+    /**
+     * Linked list holding the versions.
+     */
+    private LinkedList<HazardEvent> linkedHistory;
+
+    /**
+     * Times covered by at least one version.
+     */
+    private Date[] coveredTimes;
+
+    /**
+     * Times covered by no version.
+     */
+    private Date[] uncoveredTimes;
+
+    /**
+     * Index of the next lookup time to be used.
+     */
+    private int lookupIndex;
+
+    // Public Methods
+
+    /**
+     * Build the versions, the histories, and the lookup times.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        events = Fixtures.createHistoryEvents(versionCount);
+        history = buildHistory();
+        linkedHistory = buildLinkedHistory();
+        coveredTimes = Fixtures.createHistoryLookupTimes(versionCount,
+                LOOKUP_TIME_COUNT, true);
+        uncoveredTimes = Fixtures.createHistoryLookupTimes(versionCount,
+                LOOKUP_TIME_COUNT, false);
+    }
+
+    @Benchmark
+    public HazardHistoryList buildHistory() {
+        HazardHistoryList list = new HazardHistoryList();
+        for (HazardEvent event : events) {
+            list.add(event);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LinkedList<HazardEvent> buildLinkedHistory() {
+        LinkedList<HazardEvent> list = new LinkedList<>();
+        for (HazardEvent event : events) {
+            list.add(event);
+            Collections.sort(list, IHazardEvent.SORT_BY_PERSIST_TIME);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IEvent getCoveredEvent() {
+        return history.getEventAtTime(nextTime(coveredTimes));
+    }
+
+    @Benchmark
+    public IEvent getCoveredEventFromLinkedHistory() {
+        return getEventAtTime(linkedHistory, nextTime(coveredTimes));
+    }
+
+    @Benchmark
+    public IEvent getUncoveredEvent() {
+        return history.getEventAtTime(nextTime(uncoveredTimes));
+    }
+
+    @Benchmark
+    public IEvent getUncoveredEventFromLinkedHistory() {
+        return getEventAtTime(linkedHistory, nextTime(uncoveredTimes));
+    }
+
+    // Private Methods
+
+    /**
+     * Get the next of the specified lookup times.
+     * 
+     * @param times
+     *            Lookup times.
+     * @return Next time.
+     */
+    private Date nextTime(Date[] times) {
+        Date time = times[lookupIndex];
+        lookupIndex = (lookupIndex + 1) % times.length;
+        return time;
+    }
+
+    /**
+     * Get the first event in the specified list covering the specified time,
+     * as <code>HazardHistoryList</code> used to.
+     * 
+     * @param events
+     *            Events.
+     * @param date
+     *            Time.
+     * @return First event covering the time, or <code>null</code> if none
+     *         do.
+     */
+    private IEvent getEventAtTime(List<HazardEvent> events, Date date) {
+        for (int i = 0; i < events.size(); i++) {
+            IEvent event = events.get(i);
+            if ((event.getStartTime().before(date)
+                    && event.getEndTime().after(date))
+                    || event.getStartTime().equals(date)
+                    || event.getEndTime().equals(date)) {
+                return event;
+            }
+        }
+        return null;
+    }
+}
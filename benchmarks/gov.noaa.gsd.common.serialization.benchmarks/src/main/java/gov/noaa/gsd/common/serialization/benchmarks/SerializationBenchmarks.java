@@ -0,0 +1,147 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Evaluation & Decision Support Branch (EDS)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.serialization.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.bind.JAXBException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
+import com.raytheon.uf.common.serialization.JAXBManager;
+
+import gov.noaa.gsd.common.utilities.JsonConverter;
+import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryBinaryTranslator;
+import gov.noaa.gsd.common.utilities.geometry.IAdvancedGeometry;
+import gov.noaa.gsd.common.visuals.VisualFeaturesList;
+import gov.noaa.gsd.common.visuals.VisualFeaturesListBinaryTranslator;
+import gov.noaa.gsd.common.visuals.VisualFeaturesListJsonConverter;
+
+/**
+ * Description: Runner for the serialization benchmarks. It first prints the
+ * size of the payload each codec produces for the benchmark fixtures, and then
+ * runs the benchmarks with the garbage collection profiler attached, so that
+ * throughput is reported alongside the bytes allocated per operation.
+ * <p>
+ * The optional first argument is a regular expression selecting the
+ * benchmarks to be run; by default, all benchmarks in this package are run.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * Oct 19, 2026            agent        Added the hazard event XML payload.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+public class SerializationBenchmarks {
+
+    // Private Static Constants
+
+    /**
+     * Format of each line of the payload size table.
+     */
+    private static final String PAYLOAD_SIZE_FORMAT = "%-45s %12s%n";
+
+    // Public Static Methods
+
+    /**
+     * Print the payload sizes and run the benchmarks.
+     * 
+     * @param args
+     *            Optional regular expression selecting the benchmarks to be
+     *            run.
+     * @throws IOException
+     *             If a payload cannot be serialized.
+     * @throws JAXBException
+     *             If the hazard event cannot be serialized.
+     * @throws RunnerException
+     *             If the benchmarks cannot be run.
+     */
+    public static void main(String[] args)
+            throws IOException, JAXBException, RunnerException {
+        printPayloadSizes();
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0]
+                        : SerializationBenchmarks.class.getPackage().getName()
+                                + "\\..*Benchmark")
+                .addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+
+    // Private Static Methods
+
+    /**
+     * Print the size in bytes of the payload produced by each codec.
+     * 
+     * @throws IOException
+     *             If a payload cannot be serialized.
+     * @throws JAXBException
+     *             If the hazard event cannot be serialized.
+     */
+    private static void printPayloadSizes()
+            throws IOException, JAXBException {
+        IAdvancedGeometry geometry = Fixtures.createGeometry();
+        VisualFeaturesList visualFeatures = Fixtures.createVisualFeatures();
+
+        System.out.printf(PAYLOAD_SIZE_FORMAT, "Codec", "Bytes");
+        printPayloadSize("Geometry, compressed binary",
+                AdvancedGeometryBinaryTranslator
+                        .serializeToCompressedBytes(geometry).length);
+        printPayloadSize("Geometry, compressed binary in base 64",
+                getUtf8Length(AdvancedGeometryBinaryTranslator
+                        .serializeToCompressedBytesInBase64String(geometry)));
+        printPayloadSize("Visual features, compressed binary",
+                VisualFeaturesListBinaryTranslator
+                        .serializeToCompressedBytes(visualFeatures).length);
+        printPayloadSize("Visual features, JSON", getUtf8Length(
+                VisualFeaturesListJsonConverter.toJson(visualFeatures)));
+        printPayloadSize("Hazard attributes, JSON", getUtf8Length(
+                JsonConverter.toJson(Fixtures.createHazardAttributes())));
+        printPayloadSize("Hazard event, JAXB XML",
+                getUtf8Length(new JAXBManager(HazardEvent.class)
+                        .marshalToXml(Fixtures.createHazardEvent())));
+        System.out.println();
+    }
+
+    /**
+     * Print a line of the payload size table.
+     * 
+     * @param codec
+     *            Description of the codec.
+     * @param size
+     *            Size of the payload in bytes.
+     */
+    private static void printPayloadSize(String codec, int size) {
+        System.out.printf(PAYLOAD_SIZE_FORMAT, codec, size);
+    }
+
+    /**
+     * Get the length of the specified text when encoded as UTF-8.
+     * 
+     * @param text
+     *            Text.
+     * @return Length in bytes.
+     */
+    private static int getUtf8Length(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Evaluation & Decision Support Branch (EDS)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.serialization.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gov.noaa.gsd.common.visuals.VisualFeaturesList;
+import gov.noaa.gsd.common.visuals.VisualFeaturesListBinaryTranslator;
+import gov.noaa.gsd.common.visuals.VisualFeaturesListJsonConverter;
+
+/**
+ * Description: Benchmark of the compressed binary encoding of a visual features
+ * list provided by {@link VisualFeaturesListBinaryTranslator}, alongside the
+ * JSON encoding provided by {@link VisualFeaturesListJsonConverter}.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class VisualFeaturesCodecBenchmark {
+
+    // Private Variables
+
+    /**
+     * Visual features list to be serialized.
+     */
+    private VisualFeaturesList visualFeatures;
+
+    /**
+     * Compressed bytes to be deserialized.
+     */
+    private byte[] bytes;
+
+    /**
+     * JSON to be deserialized.
+     */
+    private String json;
+
+    // Public Methods
+
+    /**
+     * Build the visual features list and its serialized forms.
+     * 
+     * @throws IOException
+     *             If serialization fails.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        visualFeatures = Fixtures.createVisualFeatures();
+        bytes = VisualFeaturesListBinaryTranslator
+                .serializeToCompressedBytes(visualFeatures);
+        json = VisualFeaturesListJsonConverter.toJson(visualFeatures);
+    }
+
+    @Benchmark
+    public byte[] serializeToCompressedBytes() throws IOException {
+        return VisualFeaturesListBinaryTranslator
+                .serializeToCompressedBytes(visualFeatures);
+    }
+
+    @Benchmark
+    public VisualFeaturesList deserializeFromCompressedBytes()
+            throws IOException {
+        return VisualFeaturesListBinaryTranslator
+                .deserializeFromCompressedBytes(bytes);
+    }
+
+    @Benchmark
+    public String serializeToJson() throws IOException {
+        return VisualFeaturesListJsonConverter.toJson(visualFeatures);
+    }
+
+    @Benchmark
+    public VisualFeaturesList deserializeFromJson() throws IOException {
+        return VisualFeaturesListJsonConverter.fromJson(json);
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Evaluation & Decision Support Branch (EDS)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.visuals;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.google.common.collect.Range;
+
+import gov.noaa.gsd.common.utilities.geometry.IAdvancedGeometry;
+import gov.noaa.gsd.common.visuals.VisualFeature.SerializableColor;
+
+/**
+ * Description: Factory building visual features lists for the serialization
+ * benchmarks. It lives in this package because the setters used to give each
+ * visual feature temporally variant properties, as a recommender would, are
+ * package-private.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+public final class BenchmarkVisualFeatures {
+
+    // Private Static Constants
+
+    /**
+     * Border styles to cycle through.
+     */
+    private static final BorderStyle[] BORDER_STYLES = { BorderStyle.SOLID,
+            BorderStyle.DASHED, BorderStyle.DOTTED };
+
+    /**
+     * Visibility constraints to cycle through.
+     */
+    private static final VisibilityConstraints[] VISIBILITY_CONSTRAINTS = {
+            VisibilityConstraints.ALWAYS, VisibilityConstraints.SELECTED,
+            VisibilityConstraints.UNSELECTED };
+
+    // Public Static Methods
+
+    /**
+     * Create a visual features list with one visual feature for each of the
+     * specified geometries. Each visual feature's geometry, border color,
+     * border thickness, and label vary over the specified number of
+     * consecutive time ranges, with the geometries for the time ranges taken
+     * in turn from the specified list.
+     * 
+     * @param random
+     *            Random number generator; should be seeded so that successive
+     *            runs build identical lists.
+     * @param geometries
+     *            Geometries to be used; must not be empty.
+     * @param startTime
+     *            Start time of the first time range.
+     * @param timeRangeCount
+     *            Number of time ranges over which each property varies.
+     * @param timeRangeMillis
+     *            Length of each time range in milliseconds.
+     * @return Visual features list.
+     */
+    public static VisualFeaturesList create(Random random,
+            List<IAdvancedGeometry> geometries, Date startTime,
+            int timeRangeCount, long timeRangeMillis) {
+        VisualFeaturesList visualFeatures = new VisualFeaturesList(
+                geometries.size());
+        for (int j = 0; j < geometries.size(); j++) {
+            VisualFeature visualFeature = new VisualFeature("feature" + j);
+
+            TemporallyVariantProperty<IAdvancedGeometry> geometry = new TemporallyVariantProperty<>(
+                    geometries.get(j));
+            TemporallyVariantProperty<SerializableColor> borderColor = new TemporallyVariantProperty<>(
+                    createColor(random));
+            TemporallyVariantProperty<Double> borderThickness = new TemporallyVariantProperty<>(
+                    2.0);
+            TemporallyVariantProperty<String> label = new TemporallyVariantProperty<>(
+                    "Feature " + j);
+            for (int k = 0; k < timeRangeCount; k++) {
+                Range<Date> timeRange = Range.closedOpen(
+                        new Date(startTime.getTime() + (k * timeRangeMillis)),
+                        new Date(startTime.getTime()
+                                + ((k + 1) * timeRangeMillis)));
+                geometry.addPropertyForTimeRange(timeRange,
+                        geometries.get((j + k) % geometries.size()));
+                borderColor.addPropertyForTimeRange(timeRange,
+                        createColor(random));
+                borderThickness.addPropertyForTimeRange(timeRange,
+                        1.0 + random.nextInt(4));
+                label.addPropertyForTimeRange(timeRange,
+                        "Feature " + j + " at step " + k);
+            }
+
+            visualFeature.setGeometry(geometry);
+            visualFeature.setBorderColor(borderColor);
+            visualFeature.setBorderThickness(borderThickness);
+            visualFeature.setLabel(label);
+            visualFeature.setFillColor(
+                    new TemporallyVariantProperty<>(createColor(random)));
+            visualFeature.setBorderStyle(new TemporallyVariantProperty<>(
+                    BORDER_STYLES[j % BORDER_STYLES.length]));
+            visualFeature.setVisibilityConstraints(
+                    VISIBILITY_CONSTRAINTS[j % VISIBILITY_CONSTRAINTS.length]);
+            visualFeatures.add(visualFeature);
+        }
+        return visualFeatures;
+    }
+
+    // Private Static Methods
+
+    /**
+     * Create a random opaque color.
+     * 
+     * @param random
+     *            Random number generator.
+     * @return Color.
+     */
+    private static SerializableColor createColor(Random random) {
+        return new SerializableColor(random.nextFloat(), random.nextFloat(),
+                random.nextFloat());
+    }
+
+    // Private Constructors
+
+    /**
+     * Prevent instantiation.
+     */
+    private BenchmarkVisualFeatures() {
+    }
+}
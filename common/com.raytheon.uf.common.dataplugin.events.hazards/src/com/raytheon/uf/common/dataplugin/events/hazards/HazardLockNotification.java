@@ -26,7 +26,10 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 
 /**
- * The notification event for hazard event locks.
+ * The notification event for hazard event locks. Notifications are published
+ * with the {@link HazardNotification#PRACTICE_MODE_PROPERTY} message property
+ * set, so that subscribers may use a selector built by
+ * {@link #getMessageSelector(boolean)} to receive only those for their mode.
  * 
  * <pre>
  * 
@@ -36,6 +39,8 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * ------------ ---------- ----------- --------------------------
  * Dec 12, 2016 21504      Robert.Blum Initial creation
  * Apr 05, 2017 32733      Robert.Blum Contains list of eventIds now.
+ * Oct 18, 2026            agent       Added mode message selector
+ *                                     construction.
  * 
  * </pre>
  * 
@@ -77,6 +82,18 @@ public class HazardLockNotification {
         this.workstation = workstation;
     }
 
+    /**
+     * Get a message selector accepting only notifications for the specified
+     * mode.
+     * 
+     * @param practice
+     *            Practice mode flag.
+     * @return Message selector.
+     */
+    public static String getMessageSelector(boolean practice) {
+        return HazardNotification.getMessageSelector(practice, null);
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
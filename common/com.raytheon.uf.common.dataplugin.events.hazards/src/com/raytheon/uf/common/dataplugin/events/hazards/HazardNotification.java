@@ -19,12 +19,25 @@
  **/
 package com.raytheon.uf.common.dataplugin.events.hazards;
 
+import java.util.Collection;
+
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEventDelta;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 
 /**
- * The notification event for hazard events.
+ * The notification event for hazard events. A store or update notification
+ * carries either the full event, or, if only some of its fields changed since
+ * the previous notification for that event, a {@link HazardEventDelta}; in the
+ * latter case, recipients not holding the version from which the delta was
+ * computed must fetch the full event.
+ * <p>
+ * Notifications are published with the {@link #SITE_ID_PROPERTY} and
+ * {@link #PRACTICE_MODE_PROPERTY} message properties set, so that subscribers
+ * may use a selector built by {@link #getMessageSelector(boolean, Collection)}
+ * to have the broker drop notifications for other sites and modes.
+ * </p>
  * 
  * <pre>
  * 
@@ -38,6 +51,10 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * Feb 16, 2017 29138     Chris.Golden  Changed to use HazardEvent instead of
  *                                      IHazardEvent, since only the former
  *                                      has a unique identifier.
+ * Oct 18, 2026            agent        Added optional field-level delta in
+ *                                      place of the full event.
+ * Oct 18, 2026            agent        Added site and mode message properties
+ *                                      and selector construction.
  * </pre>
  * 
  * @author mnash
@@ -48,6 +65,16 @@ public class HazardNotification {
 
     public static final String HAZARD_TOPIC = "edex.alerts.hazards";
 
+    /**
+     * Name of the message property holding the site identifier of the event.
+     */
+    public static final String SITE_ID_PROPERTY = "siteID";
+
+    /**
+     * Name of the message property holding the practice mode flag.
+     */
+    public static final String PRACTICE_MODE_PROPERTY = "practiceMode";
+
     public static enum NotificationType {
         STORE, UPDATE, DELETE, DELETE_ALL;
     }
@@ -55,6 +82,9 @@ public class HazardNotification {
     @DynamicSerializeElement
     private HazardEvent event;
 
+    @DynamicSerializeElement
+    private HazardEventDelta delta;
+
     @DynamicSerializeElement
     private NotificationType type;
 
@@ -74,6 +104,86 @@ public class HazardNotification {
         this.practiceMode = practice;
     }
 
+    public HazardNotification(HazardEventDelta delta, NotificationType type,
+            boolean practice) {
+        this.delta = delta;
+        this.type = type;
+        this.practiceMode = practice;
+    }
+
+    /**
+     * @return <code>true</code> if this notification carries a delta rather
+     *         than the full event
+     */
+    public boolean isDelta() {
+        return (event == null) && (delta != null);
+    }
+
+    /**
+     * Get a message selector accepting only notifications for the specified
+     * mode and sites. Notifications published without a site identifier
+     * property are accepted regardless of site.
+     * 
+     * @param practice
+     *            Practice mode flag.
+     * @param siteIDs
+     *            Identifiers of the sites of interest; if <code>null</code>,
+     *            notifications for all sites are accepted.
+     * @return Message selector.
+     */
+    public static String getMessageSelector(boolean practice,
+            Collection<String> siteIDs) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(PRACTICE_MODE_PROPERTY);
+        builder.append(practice ? " = TRUE" : " = FALSE");
+        if (siteIDs != null) {
+            builder.append(" AND (");
+            builder.append(SITE_ID_PROPERTY);
+            builder.append(" IS NULL");
+            if (siteIDs.isEmpty() == false) {
+                builder.append(" OR ");
+                builder.append(SITE_ID_PROPERTY);
+                builder.append(" IN (");
+                boolean first = true;
+                for (String siteID : siteIDs) {
+                    if (first == false) {
+                        builder.append(", ");
+                    }
+                    first = false;
+                    builder.append('\'');
+                    builder.append(siteID.replace("'", "''"));
+                    builder.append('\'');
+                }
+                builder.append(')');
+            }
+            builder.append(')');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return the site identifier of the event, whether carried in full or as
+     *         a delta
+     */
+    public String getSiteID() {
+        if (event != null) {
+            return event.getSiteID();
+        }
+        return ((delta == null) || (delta.getChanges() == null) ? null
+                : delta.getChanges().getSiteID());
+    }
+
+    /**
+     * @return the identifier of the event, whether carried in full or as a
+     *         delta
+     */
+    public String getEventID() {
+        if (event != null) {
+            return event.getEventID();
+        }
+        return (delta == null ? null : delta.getEventID());
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -83,10 +193,13 @@ public class HazardNotification {
     public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append("Event: ");
-        if (event == null) {
-            builder.append(" null ");
-        } else {
+        if (event != null) {
             builder.append(event.getEventID());
+        } else if (delta != null) {
+            builder.append(delta.getEventID());
+            builder.append(" (delta)");
+        } else {
+            builder.append(" null ");
         }
         builder.append(" Mode: ");
         builder.append(practiceMode);
@@ -110,6 +223,21 @@ public class HazardNotification {
         this.event = event;
     }
 
+    /**
+     * @return the delta, or <code>null</code> if the full event is carried
+     */
+    public HazardEventDelta getDelta() {
+        return delta;
+    }
+
+    /**
+     * @param delta
+     *            the delta to set
+     */
+    public void setDelta(HazardEventDelta delta) {
+        this.delta = delta;
+    }
+
     /**
      * @return the type
      */
@@ -0,0 +1,547 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.dataplugin.events.hazards.datastorage;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification;
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification.NotificationType;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.collections.HazardHistoryList;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * Client-side cache of hazard event histories and latest versions, used by a
+ * {@link HazardEventManager} to answer queries by event identifier without a
+ * round trip to the registry.
+ * <p>
+ * Entries are populated by queries and kept current by
+ * {@link HazardNotification}s, which must be passed to
+ * {@link #handleNotification(HazardNotification)} as they arrive. Each event
+ * identifier has a version that is advanced whenever the event is invalidated;
+ * a query captures a stamp via {@link #getStamp()} before going to the
+ * registry, and its result is only cached if the event has not been
+ * invalidated since, so that a notification racing with a query cannot be
+ * overwritten by the query's stale result.
+ * </p>
+ * <p>
+ * Events are copied on the way in and on the way out, since callers modify
+ * the events they are given. When the consistency check mode is on, the
+ * manager still queries the registry on every cache hit and compares the two
+ * results, counting and logging any mismatch.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+public class HazardEventCache {
+
+    // Package Enumerated Types
+
+    /**
+     * Kinds of query results cached for an event.
+     */
+    enum Kind {
+        HISTORY, HISTORY_WITH_LATEST, LATEST, LATEST_OR_HISTORICAL
+    }
+
+    // Package Classes
+
+    /**
+     * Result of a lookup in the cache.
+     */
+    static class Lookup {
+
+        /**
+         * Flag indicating whether or not a result was cached.
+         */
+        private final boolean hit;
+
+        /**
+         * Copy of the cached result; <code>null</code> if there was no hit, or
+         * if the event does not exist or has no history.
+         */
+        private final Object value;
+
+        private Lookup(boolean hit, Object value) {
+            this.hit = hit;
+            this.value = value;
+        }
+
+        /**
+         * Determine whether or not a result was cached.
+         * 
+         * @return <code>true</code> if a result was cached.
+         */
+        boolean isHit() {
+            return hit;
+        }
+
+        /**
+         * Get the copy of the cached history list.
+         * 
+         * @return Copy of the history list, or <code>null</code> if there was
+         *         no hit or the event has no history.
+         */
+        HazardHistoryList getHistory() {
+            return (value instanceof HazardHistoryList
+                    ? (HazardHistoryList) value : null);
+        }
+
+        /**
+         * Get the copy of the cached event.
+         * 
+         * @return Copy of the event, or <code>null</code> if there was no hit
+         *         or the event does not exist.
+         */
+        HazardEvent getEvent() {
+            return (value instanceof HazardEvent ? (HazardEvent) value : null);
+        }
+    }
+
+    // Private Static Constants
+
+    /**
+     * Logger.
+     */
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(HazardEventCache.class);
+
+    /**
+     * Default maximum number of events for which results are cached.
+     */
+    private static final int DEFAULT_MAXIMUM_EVENTS = 2000;
+
+    /**
+     * Number of lookups between summary log messages.
+     */
+    private static final long STATISTICS_LOG_INTERVAL = 1000L;
+
+    /**
+     * Marker for a cached result indicating that the event does not exist.
+     */
+    private static final Object ABSENT = new Object();
+
+    /**
+     * Result of a lookup that found nothing cached.
+     */
+    private static final Lookup MISS = new Lookup(false, null);
+
+    // Private Variables
+
+    /**
+     * Cached results for each event identifier, in least recently used order.
+     */
+    private final Map<String, Map<Kind, Object>> entries;
+
+    /**
+     * Stamp at which each event identifier was last invalidated.
+     */
+    private final Map<String, Long> invalidationStamps = new LinkedHashMap<>();
+
+    /**
+     * Stamp at which all events were last invalidated.
+     */
+    private long allInvalidationStamp;
+
+    /**
+     * Current stamp, advanced each time an invalidation occurs.
+     */
+    private long stamp;
+
+    /**
+     * Flag indicating whether or not cache hits are to be checked against
+     * the registry.
+     */
+    private final boolean consistencyCheck;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong mismatchCount = new AtomicLong();
+
+    // Public Constructors
+
+    /**
+     * Construct a standard instance.
+     * 
+     * @param consistencyCheck
+     *            Flag indicating whether or not cache hits are to be checked
+     *            against the registry.
+     */
+    public HazardEventCache(boolean consistencyCheck) {
+        this(DEFAULT_MAXIMUM_EVENTS, consistencyCheck);
+    }
+
+    /**
+     * Construct a standard instance.
+     * 
+     * @param maximumEvents
+     *            Maximum number of events for which results are cached.
+     * @param consistencyCheck
+     *            Flag indicating whether or not cache hits are to be checked
+     *            against the registry.
+     */
+    @SuppressWarnings("serial")
+    public HazardEventCache(final int maximumEvents,
+            boolean consistencyCheck) {
+        this.consistencyCheck = consistencyCheck;
+        this.entries = new LinkedHashMap<String, Map<Kind, Object>>(16, 0.75f,
+                true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<String, Map<Kind, Object>> eldest) {
+                return (size() > maximumEvents);
+            }
+        };
+    }
+
+    // Public Methods
+
+    /**
+     * Update the cache to reflect the specified notification. Any results
+     * cached for the event are discarded; if the notification carries the
+     * new latest version of the event, or a delta that applies to the cached
+     * latest version, that version is cached. A notification that has already
+     * been applied (as indicated by the cached latest version of the event
+     * being the one it carries) is ignored, since the same notification may be
+     * passed in by more than one observer.
+     * 
+     * @param notification
+     *            Notification that has arrived.
+     */
+    public synchronized void handleNotification(
+            HazardNotification notification) {
+        String eventIdentifier = notification.getEventID();
+        if (eventIdentifier == null) {
+            return;
+        }
+        Map<Kind, Object> oldEntry = entries.get(eventIdentifier);
+        if (isApplied(notification, oldEntry)) {
+            return;
+        }
+        invalidate(eventIdentifier);
+
+        switch (notification.getType()) {
+        case STORE:
+        case UPDATE:
+            HazardEvent latest = null;
+            if (notification.isDelta()) {
+                Object oldLatest = (oldEntry == null ? null
+                        : oldEntry.get(Kind.LATEST));
+                if (oldLatest instanceof HazardEvent) {
+                    latest = notification.getDelta()
+                            .applyTo((HazardEvent) oldLatest);
+                }
+            } else if (isHistorical(notification.getEvent()) == false) {
+                latest = copy(notification.getEvent());
+            }
+            if (latest != null) {
+                getEntry(eventIdentifier).put(Kind.LATEST, latest);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Discard any results cached for the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     */
+    public synchronized void invalidate(String eventIdentifier) {
+        entries.remove(eventIdentifier);
+        invalidationStamps.remove(eventIdentifier);
+        invalidationStamps.put(eventIdentifier, ++stamp);
+
+        /*
+         * Invalidation stamps older than any query still likely to be in
+         * progress are no longer needed, so keep only as many as there are
+         * cache entries allowed.
+         */
+        if (invalidationStamps.size() > DEFAULT_MAXIMUM_EVENTS) {
+            String eldest = invalidationStamps.keySet().iterator().next();
+            allInvalidationStamp = Math.max(allInvalidationStamp,
+                    invalidationStamps.remove(eldest));
+        }
+    }
+
+    /**
+     * Discard all cached results.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        invalidationStamps.clear();
+        allInvalidationStamp = ++stamp;
+    }
+
+    /**
+     * Get the number of lookups satisfied by the cache.
+     * 
+     * @return Number of hits.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Get the number of lookups that had to go to the registry.
+     * 
+     * @return Number of misses.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Get the fraction of lookups satisfied by the cache.
+     * 
+     * @return Hit rate between 0 and 1, or 0 if no lookups have occurred.
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return (total == 0L ? 0.0 : ((double) hits) / total);
+    }
+
+    /**
+     * Get the number of cache hits found to differ from the registry while in
+     * consistency check mode.
+     * 
+     * @return Number of mismatches.
+     */
+    public long getMismatchCount() {
+        return mismatchCount.get();
+    }
+
+    /**
+     * Determine whether or not consistency check mode is on.
+     * 
+     * @return <code>true</code> if cache hits are checked against the
+     *         registry.
+     */
+    public boolean isConsistencyCheck() {
+        return consistencyCheck;
+    }
+
+    // Package Methods
+
+    /**
+     * Get the current stamp, to be passed to
+     * {@link #put(String, Kind, Object, long)} along with the result of a
+     * query begun after this call.
+     * 
+     * @return Stamp.
+     */
+    synchronized long getStamp() {
+        return stamp;
+    }
+
+    /**
+     * Look up the result of the specified kind cached for the specified event,
+     * recording the lookup as a hit or miss. The check for a cached result and
+     * the copying of it are done together, so that an invalidation cannot
+     * slip in between them.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param kind
+     *            Kind of result.
+     * @return Result of the lookup, holding a copy of the cached result if
+     *         there was a hit.
+     */
+    synchronized Lookup get(String eventIdentifier, Kind kind) {
+        Map<Kind, Object> entry = entries.get(eventIdentifier);
+        boolean hit = ((entry != null) && entry.containsKey(kind));
+        long hits = (hit ? hitCount.incrementAndGet() : hitCount.get());
+        long misses = (hit ? missCount.get() : missCount.incrementAndGet());
+        if (((hits + misses) % STATISTICS_LOG_INTERVAL) == 0) {
+            statusHandler.info("Hazard event cache: " + hits + " hits, "
+                    + misses + " misses, " + mismatchCount.get()
+                    + " mismatches, " + entries.size() + " events cached.");
+        }
+        if (hit == false) {
+            return MISS;
+        }
+        Object value = entry.get(kind);
+        if (value instanceof HazardHistoryList) {
+            return new Lookup(true, copy((HazardHistoryList) value));
+        } else if (value instanceof HazardEvent) {
+            return new Lookup(true, copy((HazardEvent) value));
+        }
+        return new Lookup(true, null);
+    }
+
+    /**
+     * Cache the specified query result for the specified event, unless the
+     * event has been invalidated since the specified stamp was taken.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param kind
+     *            Kind of result.
+     * @param value
+     *            Result, either a {@link HazardHistoryList} or a
+     *            {@link HazardEvent} depending upon the kind; may be
+     *            <code>null</code> if the event does not exist.
+     * @param queryStamp
+     *            Stamp taken before the query was begun.
+     */
+    synchronized void put(String eventIdentifier, Kind kind, Object value,
+            long queryStamp) {
+        Long invalidationStamp = invalidationStamps.get(eventIdentifier);
+        if ((allInvalidationStamp > queryStamp) || ((invalidationStamp != null)
+                && (invalidationStamp > queryStamp))) {
+            return;
+        }
+        Object copy = ABSENT;
+        if (value instanceof HazardHistoryList) {
+            copy = copy((HazardHistoryList) value);
+        } else if (value instanceof HazardEvent) {
+            copy = copy((HazardEvent) value);
+        }
+        getEntry(eventIdentifier).put(kind, copy);
+    }
+
+    /**
+     * Compare the specified cached and registry results for the specified
+     * event, recording and logging a mismatch if they differ. The registry
+     * result replaces the cached one.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param kind
+     *            Kind of result.
+     * @param cached
+     *            Result obtained from the cache.
+     * @param actual
+     *            Result obtained from the registry.
+     * @param queryStamp
+     *            Stamp taken before the registry query was begun.
+     * @return <code>true</code> if the results match.
+     */
+    boolean check(String eventIdentifier, Kind kind, Object cached,
+            Object actual, long queryStamp) {
+        boolean match;
+        if ((cached instanceof HazardHistoryList)
+                && (actual instanceof HazardHistoryList)) {
+            match = ((HazardHistoryList) cached).getEvents()
+                    .equals(((HazardHistoryList) actual).getEvents());
+        } else {
+            match = Objects.equals(cached, actual);
+        }
+        if (match == false) {
+            mismatchCount.incrementAndGet();
+            statusHandler.warn("Hazard event cache mismatch for " + kind
+                    + " of event " + eventIdentifier + ".");
+        }
+        put(eventIdentifier, kind, actual, queryStamp);
+        return match;
+    }
+
+    // Private Methods
+
+    /**
+     * Determine whether or not the specified notification has already been
+     * applied, given the specified entry for the event.
+     */
+    private static boolean isApplied(HazardNotification notification,
+            Map<Kind, Object> entry) {
+        NotificationType type = notification.getType();
+        if ((entry == null) || ((type != NotificationType.STORE)
+                && (type != NotificationType.UPDATE))) {
+            return false;
+        }
+        Object latest = entry.get(Kind.LATEST);
+        if ((latest instanceof HazardEvent == false)
+                || (((HazardEvent) latest).getInsertTime() == null)) {
+            return false;
+        }
+        long latestVersion = ((HazardEvent) latest).getInsertTime().getTime();
+        if (notification.isDelta()) {
+            return (notification.getDelta().getVersion() == latestVersion);
+        }
+        HazardEvent event = notification.getEvent();
+        return ((isHistorical(event) == false)
+                && (event.getInsertTime() != null)
+                && (event.getInsertTime().getTime() == latestVersion));
+    }
+
+    /**
+     * Get the entry for the specified event, creating it if necessary.
+     */
+    private Map<Kind, Object> getEntry(String eventIdentifier) {
+        Map<Kind, Object> entry = entries.get(eventIdentifier);
+        if (entry == null) {
+            entry = new EnumMap<>(Kind.class);
+            entries.put(eventIdentifier, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Determine whether or not the specified event is a historical snapshot.
+     */
+    private static boolean isHistorical(HazardEvent event) {
+        return (event.getHazardAttribute(HazardEventManager.HISTORICAL) != null);
+    }
+
+    /**
+     * Copy the specified event, including its unique identifier.
+     */
+    private static HazardEvent copy(HazardEvent event) {
+        HazardEvent copy = new HazardEvent(event);
+        copy.setUniqueID(event.getUniqueID());
+        return copy;
+    }
+
+    /**
+     * Copy the specified history list and its events.
+     */
+    private static HazardHistoryList copy(HazardHistoryList historyList) {
+        List<HazardEvent> events = new ArrayList<>(historyList.size());
+        for (HazardEvent event : historyList) {
+            events.add(copy(event));
+        }
+        HazardHistoryList copy = new HazardHistoryList();
+        copy.setEvents(events);
+        return copy;
+    }
+}
@@ -53,6 +53,13 @@ import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryUtilities;
  * All access to the registry/database for hazards will happen through here.
  * Contains methods to get, store, update, delete, and create new hazards. This
  * class should be the only class used to access the database for hazards.
+ * <p>
+ * If constructed with a {@link HazardEventCache}, queries by event identifier
+ * are answered from the cache when possible, and their results, along with
+ * those of latest-version queries, are added to it. The cache must be kept
+ * current by passing it hazard notifications; writes made through this
+ * manager invalidate the affected events immediately.
+ * </p>
  * 
  * <pre>
  * 
@@ -98,6 +105,8 @@ import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryUtilities;
  *                                      method.
  * Jun 06, 2018  15561    Chris.Golden  Added practice flag for hazard event
  *                                      construction.
+ * Oct 18, 2026           agent         Added optional read-through cache of
+ *                                      event histories and latest versions.
  * </pre>
  * 
  * @author mnash
@@ -146,6 +155,11 @@ public class HazardEventManager implements IHazardEventManager {
      */
     private final IHazardEventServices hazardDataAccess;
 
+    /**
+     * Cache of query results, or <code>null</code> if results are not cached.
+     */
+    private final HazardEventCache cache;
+
     // Public Constructors
 
     /**
@@ -155,13 +169,36 @@ public class HazardEventManager implements IHazardEventManager {
      *            Flag indicating whether or not practice mode is in effect.
      */
     public HazardEventManager(boolean practice) {
+        this(practice, null);
+    }
+
+    /**
+     * Construct a standard instance.
+     * 
+     * @param practice
+     *            Flag indicating whether or not practice mode is in effect.
+     * @param cache
+     *            Cache of query results to be used; may be <code>null</code>
+     *            if results are not to be cached.
+     */
+    public HazardEventManager(boolean practice, HazardEventCache cache) {
         this.practice = practice;
         this.hazardDataAccess = HazardEventRequestServices
                 .getServices(practice);
+        this.cache = cache;
     }
 
     // Public Methods
 
+    /**
+     * Get the cache of query results.
+     * 
+     * @return Cache, or <code>null</code> if results are not cached.
+     */
+    public HazardEventCache getCache() {
+        return cache;
+    }
+
     @Override
     public HazardEvent createEvent(boolean practice) {
         return new HazardEvent(practice);
@@ -179,6 +216,7 @@ public class HazardEventManager implements IHazardEventManager {
 
     @Override
     public boolean storeEvents(List<HazardEvent> events) {
+        invalidate(events);
         try {
             return checkResponse(hazardDataAccess.storeEventList(events));
         } catch (Exception e) {
@@ -194,6 +232,7 @@ public class HazardEventManager implements IHazardEventManager {
 
     @Override
     public boolean updateEvents(List<HazardEvent> events) {
+        invalidate(events);
         try {
             return checkResponse(hazardDataAccess.updateEventList(events));
         } catch (Exception e) {
@@ -209,6 +248,7 @@ public class HazardEventManager implements IHazardEventManager {
 
     @Override
     public boolean removeEvents(List<HazardEvent> events) {
+        invalidate(events);
         try {
             return checkResponse(hazardDataAccess.deleteEventList(events));
         } catch (Exception e) {
@@ -274,9 +314,23 @@ public class HazardEventManager implements IHazardEventManager {
     public Map<String, HazardEvent> queryLatest(HazardEventQueryRequest request)
             throws HazardEventServiceException {
         Map<String, HazardEvent> events = Collections.emptyMap();
+        long stamp = (cache == null ? 0L : cache.getStamp());
         HazardEventResponse response = hazardDataAccess.retrieve(request);
         if (response.success()) {
             events = response.getLatestMap();
+
+            /*
+             * Any event returned by a query for latest versions only is the
+             * true latest version of that event, so it may be cached.
+             */
+            if ((cache != null)
+                    && (request.getInclude() == Include.LATEST_EVENTS)) {
+                for (Map.Entry<String, HazardEvent> entry : events
+                        .entrySet()) {
+                    cache.put(entry.getKey(), HazardEventCache.Kind.LATEST,
+                            entry.getValue(), stamp);
+                }
+            }
         } else {
             checkResponse(response);
         }
@@ -438,52 +492,71 @@ public class HazardEventManager implements IHazardEventManager {
     @Override
     public HazardHistoryList getHistoryByEventID(String eventIdentifier,
             boolean includeLatestVersion) {
-        HazardEventQueryRequest request = new HazardEventQueryRequest(practice)
-                .and(HazardConstants.HAZARD_EVENT_IDENTIFIER, eventIdentifier);
-        if (includeLatestVersion == false) {
-            request.setInclude(Include.HISTORICAL_EVENTS);
-        }
-
-        HazardHistoryList result;
         try {
-            result = queryHistory(request).get(eventIdentifier);
+            if (cache == null) {
+                return queryHistoryByEventID(eventIdentifier,
+                        includeLatestVersion);
+            }
+            return getCachedHistoryByEventID(eventIdentifier,
+                    includeLatestVersion);
         } catch (HazardEventServiceException e) {
             statusHandler.handle(Priority.ERROR,
                     "Error requesting event history by event ID.", e);
-            result = new HazardHistoryList();
+            return new HazardHistoryList();
         }
-        return result;
     }
 
     @Override
     public int getHistorySizeByEventID(String eventIdentifier,
             boolean includeLatestVersion) {
-        HazardEventQueryRequest request = new HazardEventQueryRequest(practice)
-                .and(HazardConstants.HAZARD_EVENT_IDENTIFIER, eventIdentifier);
-        if (includeLatestVersion == false) {
-            request.setInclude(Include.HISTORICAL_EVENTS);
-        }
-        request.setSizeOnlyRequired(true);
-        try {
-            return queryHistorySize(request).get(eventIdentifier);
-        } catch (HazardEventServiceException e) {
-            statusHandler.handle(Priority.ERROR,
-                    "Error requesting event history size by event ID.", e);
-            return -1;
+
+        /*
+         * The size is computed from the full history list anyway (see
+         * queryHistorySize()), so if caching, get the list via the cache.
+         */
+        if (cache != null) {
+            try {
+                HazardHistoryList historyList = getCachedHistoryByEventID(
+                        eventIdentifier, includeLatestVersion);
+                return (historyList == null ? 0 : historyList.size());
+            } catch (HazardEventServiceException e) {
+                statusHandler.handle(Priority.ERROR,
+                        "Error requesting event history size by event ID.", e);
+                return -1;
+            }
         }
+        return queryHistorySizeByEventID(eventIdentifier,
+                includeLatestVersion);
     }
 
     @Override
     public HazardEvent getLatestByEventID(String eventIdentifier,
             boolean includeHistoricalVersion) {
-        HazardEventQueryRequest request = new HazardEventQueryRequest(practice)
-                .and(HazardConstants.HAZARD_EVENT_IDENTIFIER, eventIdentifier);
-        request.setInclude(includeHistoricalVersion
-                ? Include.LATEST_OR_MOST_RECENT_HISTORICAL_EVENTS
-                : Include.LATEST_EVENTS);
-
         try {
-            return queryLatest(request).get(eventIdentifier);
+            if (cache == null) {
+                return queryLatestByEventID(eventIdentifier,
+                        includeHistoricalVersion);
+            }
+            HazardEventCache.Kind kind = (includeHistoricalVersion
+                    ? HazardEventCache.Kind.LATEST_OR_HISTORICAL
+                    : HazardEventCache.Kind.LATEST);
+            HazardEventCache.Lookup lookup = cache.get(eventIdentifier, kind);
+            if (lookup.isHit()) {
+                HazardEvent cached = lookup.getEvent();
+                if (cache.isConsistencyCheck() == false) {
+                    return cached;
+                }
+                long stamp = cache.getStamp();
+                HazardEvent actual = queryLatestByEventID(eventIdentifier,
+                        includeHistoricalVersion);
+                cache.check(eventIdentifier, kind, cached, actual, stamp);
+                return actual;
+            }
+            long stamp = cache.getStamp();
+            HazardEvent result = queryLatestByEventID(eventIdentifier,
+                    includeHistoricalVersion);
+            cache.put(eventIdentifier, kind, result, stamp);
+            return result;
         } catch (HazardEventServiceException e) {
             statusHandler.handle(Priority.ERROR,
                     "Error requesting latest event by event ID.", e);
@@ -559,6 +632,9 @@ public class HazardEventManager implements IHazardEventManager {
 
     @Override
     public boolean removeAllCopiesOfEvent(String eventIdentifier) {
+        if (cache != null) {
+            cache.invalidate(eventIdentifier);
+        }
         try {
             return checkResponse(
                     hazardDataAccess.deleteAllWithIdentifier(eventIdentifier));
@@ -570,6 +646,9 @@ public class HazardEventManager implements IHazardEventManager {
 
     @Override
     public boolean removeAllEvents() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
         try {
             return checkResponse(hazardDataAccess.deleteAll());
         } catch (Exception e) {
@@ -580,6 +659,133 @@ public class HazardEventManager implements IHazardEventManager {
 
     // Private Methods
 
+    /**
+     * Get the history list of the specified event from the cache, querying the
+     * registry and caching the result if it is not cached. The cache must not
+     * be <code>null</code>.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param includeLatestVersion
+     *            Flag indicating whether or not the latest version should be
+     *            included.
+     * @return History list, or <code>null</code> if there is none.
+     * @throws HazardEventServiceException
+     *             If a problem occurs while querying.
+     */
+    private HazardHistoryList getCachedHistoryByEventID(
+            String eventIdentifier, boolean includeLatestVersion)
+            throws HazardEventServiceException {
+        HazardEventCache.Kind kind = (includeLatestVersion
+                ? HazardEventCache.Kind.HISTORY_WITH_LATEST
+                : HazardEventCache.Kind.HISTORY);
+        HazardEventCache.Lookup lookup = cache.get(eventIdentifier, kind);
+        if (lookup.isHit()) {
+            HazardHistoryList cached = lookup.getHistory();
+            if (cache.isConsistencyCheck() == false) {
+                return cached;
+            }
+            long stamp = cache.getStamp();
+            HazardHistoryList actual = queryHistoryByEventID(eventIdentifier,
+                    includeLatestVersion);
+            cache.check(eventIdentifier, kind, cached, actual, stamp);
+            return actual;
+        }
+        long stamp = cache.getStamp();
+        HazardHistoryList result = queryHistoryByEventID(eventIdentifier,
+                includeLatestVersion);
+        cache.put(eventIdentifier, kind, result, stamp);
+        return result;
+    }
+
+    /**
+     * Query the registry for the history list of the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param includeLatestVersion
+     *            Flag indicating whether or not the latest version should be
+     *            included.
+     * @return History list, or <code>null</code> if there is none.
+     * @throws HazardEventServiceException
+     *             If a problem occurs while querying.
+     */
+    private HazardHistoryList queryHistoryByEventID(String eventIdentifier,
+            boolean includeLatestVersion) throws HazardEventServiceException {
+        HazardEventQueryRequest request = new HazardEventQueryRequest(practice)
+                .and(HazardConstants.HAZARD_EVENT_IDENTIFIER, eventIdentifier);
+        if (includeLatestVersion == false) {
+            request.setInclude(Include.HISTORICAL_EVENTS);
+        }
+        return queryHistory(request).get(eventIdentifier);
+    }
+
+    /**
+     * Query the registry for the size of the history list of the specified
+     * event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param includeLatestVersion
+     *            Flag indicating whether or not the latest version should be
+     *            included.
+     * @return Size of the history list, or -1 if an error occurred.
+     */
+    private int queryHistorySizeByEventID(String eventIdentifier,
+            boolean includeLatestVersion) {
+        HazardEventQueryRequest request = new HazardEventQueryRequest(practice)
+                .and(HazardConstants.HAZARD_EVENT_IDENTIFIER, eventIdentifier);
+        if (includeLatestVersion == false) {
+            request.setInclude(Include.HISTORICAL_EVENTS);
+        }
+        request.setSizeOnlyRequired(true);
+        try {
+            return queryHistorySize(request).get(eventIdentifier);
+        } catch (HazardEventServiceException e) {
+            statusHandler.handle(Priority.ERROR,
+                    "Error requesting event history size by event ID.", e);
+            return -1;
+        }
+    }
+
+    /**
+     * Query the registry for the latest version of the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param includeHistoricalVersion
+     *            Flag indicating whether or not a historical version should be
+     *            returned if it is later than the latest version.
+     * @return Latest version, or <code>null</code> if there is none.
+     * @throws HazardEventServiceException
+     *             If a problem occurs while querying.
+     */
+    private HazardEvent queryLatestByEventID(String eventIdentifier,
+            boolean includeHistoricalVersion)
+            throws HazardEventServiceException {
+        HazardEventQueryRequest request = new HazardEventQueryRequest(practice)
+                .and(HazardConstants.HAZARD_EVENT_IDENTIFIER, eventIdentifier);
+        request.setInclude(includeHistoricalVersion
+                ? Include.LATEST_OR_MOST_RECENT_HISTORICAL_EVENTS
+                : Include.LATEST_EVENTS);
+        return queryLatest(request).get(eventIdentifier);
+    }
+
+    /**
+     * Invalidate any cached results for the specified events, which are about
+     * to be written.
+     * 
+     * @param events
+     *            Events to be written.
+     */
+    private void invalidate(List<HazardEvent> events) {
+        if (cache != null) {
+            for (HazardEvent event : events) {
+                cache.invalidate(event.getEventID());
+            }
+        }
+    }
+
     /**
      * Submit the specified query request and get a map of event identifiers to
      * the sizes of the history lists back.
@@ -0,0 +1,394 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.dataplugin.events.hazards.event;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * Field-level difference between two successive latest versions of a hazard
+ * event, sent in place of the full event within a
+ * {@link com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification}
+ * when only some of the event's fields have changed.
+ * <p>
+ * Versions are identified by the events' insert times, which are assigned
+ * each time an event is persisted. A delta may only be applied to the version
+ * it was computed from; a recipient holding any other version must instead
+ * fetch the full event.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@DynamicSerialize
+public class HazardEventDelta {
+
+    /**
+     * Fields of a hazard event, other than its attributes, that may be carried
+     * by a delta.
+     */
+    public static enum Field {
+        MODIFIED, SITE_ID, ISSUE_SITE_ID, STATUS, ISSUANCE_COUNT, PHENOMENON, SIGNIFICANCE, SUB_TYPE, START_TIME, END_TIME, CREATION_TIME, EXPIRATION_TIME, SOURCE, GEOMETRY, VISUAL_FEATURES, WS_ID;
+    }
+
+    /**
+     * Event identifier.
+     */
+    @DynamicSerializeElement
+    private String eventID;
+
+    /**
+     * Version (insert time in epoch milliseconds) of the event from which
+     * this delta was computed.
+     */
+    @DynamicSerializeElement
+    private long baseVersion;
+
+    /**
+     * Version (insert time in epoch milliseconds) of the event resulting from
+     * the application of this delta.
+     */
+    @DynamicSerializeElement
+    private long version;
+
+    /**
+     * Fields that have changed; their new values are found in
+     * {@link #changes}.
+     */
+    @DynamicSerializeElement
+    private List<Field> changedFields = new ArrayList<>();
+
+    /**
+     * Event holding the new values of the fields in {@link #changedFields},
+     * as well as the event's site identifier whether or not it changed; its
+     * other fields are not meaningful.
+     */
+    @DynamicSerializeElement
+    private HazardEvent changes;
+
+    /**
+     * Attributes that have been added or have changed values.
+     */
+    @DynamicSerializeElement
+    private Set<HazardAttribute> changedAttributes = new HashSet<>();
+
+    /**
+     * Keys of attributes that have been removed.
+     */
+    @DynamicSerializeElement
+    private List<String> removedAttributes = new ArrayList<>();
+
+    /**
+     * Used only for serialization.
+     */
+    public HazardEventDelta() {
+    }
+
+    /**
+     * Compute the delta between the specified versions of an event.
+     * 
+     * @param base
+     *            Version from which the delta is to be computed.
+     * @param updated
+     *            Version to which the delta is to lead.
+     * @return Delta, or <code>null</code> if the two are not versions of the
+     *         same event, or either lacks an insert time.
+     */
+    public static HazardEventDelta create(HazardEvent base,
+            HazardEvent updated) {
+        if ((base.getInsertTime() == null) || (updated.getInsertTime() == null)
+                || (Objects.equals(base.getEventID(),
+                        updated.getEventID()) == false)) {
+            return null;
+        }
+        HazardEventDelta delta = new HazardEventDelta();
+        delta.eventID = updated.getEventID();
+        delta.baseVersion = base.getInsertTime().getTime();
+        delta.version = updated.getInsertTime().getTime();
+        delta.changes = new HazardEvent();
+        delta.changes.setAttributes(new HashSet<HazardAttribute>());
+        delta.changes.setEventID(updated.getEventID());
+        delta.changes.setSiteID(updated.getSiteID());
+        delta.changes.setUniqueID(updated.getUniqueID());
+        delta.changes.setInsertTime(updated.getInsertTime());
+
+        if (base.isModified() != updated.isModified()) {
+            delta.changedFields.add(Field.MODIFIED);
+            delta.changes.setModified(updated.isModified());
+        }
+        if (changed(base.getSiteID(), updated.getSiteID())) {
+            delta.changedFields.add(Field.SITE_ID);
+        }
+        if (changed(base.getIssueSiteID(), updated.getIssueSiteID())) {
+            delta.changedFields.add(Field.ISSUE_SITE_ID);
+            delta.changes.setIssueSiteID(updated.getIssueSiteID());
+        }
+        if (changed(base.getStatus(), updated.getStatus())) {
+            delta.changedFields.add(Field.STATUS);
+            delta.changes.setStatus(updated.getStatus());
+        }
+        if (base.getIssuanceCount() != updated.getIssuanceCount()) {
+            delta.changedFields.add(Field.ISSUANCE_COUNT);
+            delta.changes.setIssuanceCount(updated.getIssuanceCount());
+        }
+        if (changed(base.getPhenomenon(), updated.getPhenomenon())) {
+            delta.changedFields.add(Field.PHENOMENON);
+            delta.changes.setPhenomenon(updated.getPhenomenon());
+        }
+        if (changed(base.getSignificance(), updated.getSignificance())) {
+            delta.changedFields.add(Field.SIGNIFICANCE);
+            delta.changes.setSignificance(updated.getSignificance());
+        }
+        if (changed(base.getSubType(), updated.getSubType())) {
+            delta.changedFields.add(Field.SUB_TYPE);
+            delta.changes.setSubType(updated.getSubType());
+        }
+        if (changed(base.getStartTime(), updated.getStartTime())) {
+            delta.changedFields.add(Field.START_TIME);
+            delta.changes.setStartTime(updated.getStartTime());
+        }
+        if (changed(base.getEndTime(), updated.getEndTime())) {
+            delta.changedFields.add(Field.END_TIME);
+            delta.changes.setEndTime(updated.getEndTime());
+        }
+        if (changed(base.getCreationTime(), updated.getCreationTime())) {
+            delta.changedFields.add(Field.CREATION_TIME);
+            delta.changes.setCreationTime(updated.getCreationTime());
+        }
+        if (changed(base.getExpirationTime(), updated.getExpirationTime())) {
+            delta.changedFields.add(Field.EXPIRATION_TIME);
+            delta.changes.setExpirationTime(updated.getExpirationTime());
+        }
+        if (changed(base.getSource(), updated.getSource())) {
+            delta.changedFields.add(Field.SOURCE);
+            delta.changes.setSource(updated.getSource());
+        }
+        if (changed(base.getGeometry(), updated.getGeometry())) {
+            delta.changedFields.add(Field.GEOMETRY);
+            delta.changes.setGeometry(updated.getGeometry());
+        }
+        if (changed(base.getVisualFeatures(), updated.getVisualFeatures())) {
+            delta.changedFields.add(Field.VISUAL_FEATURES);
+            delta.changes.setVisualFeatures(updated.getVisualFeatures());
+        }
+        if (changed(base.getWsId(), updated.getWsId())) {
+            delta.changedFields.add(Field.WS_ID);
+            delta.changes.setWsId(updated.getWsId());
+        }
+
+        Map<String, Serializable> baseAttributes = base.getHazardAttributes();
+        Map<String, Serializable> updatedAttributes = updated
+                .getHazardAttributes();
+        for (Map.Entry<String, Serializable> entry : updatedAttributes
+                .entrySet()) {
+            if ((baseAttributes.containsKey(entry.getKey()) == false)
+                    || changed(baseAttributes.get(entry.getKey()),
+                            entry.getValue())) {
+                delta.changedAttributes.add(new HazardAttribute(
+                        delta.eventID, entry.getKey(), entry.getValue()));
+            }
+        }
+        for (String key : baseAttributes.keySet()) {
+            if (updatedAttributes.containsKey(key) == false) {
+                delta.removedAttributes.add(key);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Apply this delta to the specified version of the event.
+     * 
+     * @param base
+     *            Version of the event to which to apply the delta; this is not
+     *            modified.
+     * @return New event resulting from the application of the delta, or
+     *         <code>null</code> if the specified event is not the version
+     *         from which this delta was computed.
+     */
+    public HazardEvent applyTo(HazardEvent base) {
+        if ((Objects.equals(base.getEventID(), eventID) == false)
+                || (base.getInsertTime() == null)
+                || (base.getInsertTime().getTime() != baseVersion)) {
+            return null;
+        }
+        HazardEvent result = new HazardEvent(base);
+        result.setUniqueID(changes.getUniqueID());
+        result.setInsertTime(new Date(version));
+        for (Field field : changedFields) {
+            switch (field) {
+            case MODIFIED:
+                result.setModified(changes.isModified());
+                break;
+            case SITE_ID:
+                result.setSiteID(changes.getSiteID());
+                break;
+            case ISSUE_SITE_ID:
+                result.setIssueSiteID(changes.getIssueSiteID());
+                break;
+            case STATUS:
+                result.setStatus(changes.getStatus());
+                break;
+            case ISSUANCE_COUNT:
+                result.setIssuanceCount(changes.getIssuanceCount());
+                break;
+            case PHENOMENON:
+                result.setPhenomenon(changes.getPhenomenon());
+                break;
+            case SIGNIFICANCE:
+                result.setSignificance(changes.getSignificance());
+                break;
+            case SUB_TYPE:
+                result.setSubType(changes.getSubType());
+                break;
+            case START_TIME:
+                result.setStartTime(changes.getStartTime());
+                break;
+            case END_TIME:
+                result.setEndTime(changes.getEndTime());
+                break;
+            case CREATION_TIME:
+                result.setCreationTime(changes.getCreationTime());
+                break;
+            case EXPIRATION_TIME:
+                result.setExpirationTime(changes.getExpirationTime());
+                break;
+            case SOURCE:
+                result.setSource(changes.getSource());
+                break;
+            case GEOMETRY:
+                result.setGeometry(changes.getGeometry());
+                break;
+            case VISUAL_FEATURES:
+                result.setVisualFeatures(changes.getVisualFeatures());
+                break;
+            case WS_ID:
+                result.setWsId(changes.getWsId());
+                break;
+            }
+        }
+        for (String key : removedAttributes) {
+            result.removeHazardAttribute(key);
+        }
+        for (HazardAttribute attribute : changedAttributes) {
+            result.addHazardAttribute(attribute.getKey(),
+                    (Serializable) attribute.getValueObject());
+        }
+        return result;
+    }
+
+    /**
+     * Determine whether this delta changes the specified field.
+     * 
+     * @param field
+     *            Field to be checked.
+     * @return <code>true</code> if the field is changed by this delta.
+     */
+    public boolean isChanged(Field field) {
+        return changedFields.contains(field);
+    }
+
+    private static boolean changed(Object oldValue, Object newValue) {
+        return (Objects.equals(oldValue, newValue) == false);
+    }
+
+    @Override
+    public String toString() {
+        return "Delta of " + eventID + " from version " + baseVersion
+                + " to " + version + ": " + changedFields + ", "
+                + changedAttributes.size() + " attribute(s) changed, "
+                + removedAttributes.size() + " removed";
+    }
+
+    public String getEventID() {
+        return eventID;
+    }
+
+    public void setEventID(String eventID) {
+        this.eventID = eventID;
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public void setBaseVersion(long baseVersion) {
+        this.baseVersion = baseVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public List<Field> getChangedFields() {
+        return changedFields;
+    }
+
+    public void setChangedFields(List<Field> changedFields) {
+        this.changedFields = changedFields;
+    }
+
+    public HazardEvent getChanges() {
+        return changes;
+    }
+
+    public void setChanges(HazardEvent changes) {
+        this.changes = changes;
+    }
+
+    public Set<HazardAttribute> getChangedAttributes() {
+        return changedAttributes;
+    }
+
+    public void setChangedAttributes(Set<HazardAttribute> changedAttributes) {
+        this.changedAttributes = changedAttributes;
+    }
+
+    public List<String> getRemovedAttributes() {
+        return removedAttributes;
+    }
+
+    public void setRemovedAttributes(List<String> removedAttributes) {
+        this.removedAttributes = removedAttributes;
+    }
+}
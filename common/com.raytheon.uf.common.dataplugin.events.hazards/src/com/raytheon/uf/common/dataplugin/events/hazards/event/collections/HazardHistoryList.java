@@ -19,13 +19,16 @@
  **/
 package com.raytheon.uf.common.dataplugin.events.hazards.event.collections;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.TreeSet;
 
 import com.raytheon.uf.common.dataplugin.events.IEvent;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
@@ -35,7 +38,16 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 
 /**
  * List of a series of hazards events as they have progressed through their
- * lifecycle.
+ * lifecycle, kept in order of persist time.
+ * <p>
+ * The events are historical snapshots, and their start and end times must not
+ * be changed while they are in the list. The time lookup performed by
+ * {@link #getEventAtTime(Date)} uses an index of the events' time ranges
+ * that is rebuilt when the list is modified; it also detects changed times
+ * when the event it finds no longer covers the time, or when it finds no
+ * event at all, but cannot detect a changed time that makes an earlier event
+ * cover a time that a later event also covers.
+ * </p>
  * 
  * <pre>
  * 
@@ -49,6 +61,15 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  *                                      IHazardEvent, since only the former
  *                                      has a unique identifier.
  * Mar 23, 2017 28470     Kevin.Bisanz  Added method to getLatestEvent()
+ * Oct 18, 2026            agent        Changed to use an array-backed list,
+ *                                      inserting single events in sorted
+ *                                      position instead of resorting, and to
+ *                                      look up events by time using a lazily
+ *                                      built interval index.
+ * Oct 19, 2026            agent        Revalidated the interval index against
+ *                                      the events' times when it finds no
+ *                                      event, and made add(int, HazardEvent)
+ *                                      honor its index or reject it.
  * </pre>
  * 
  * @author mnash
@@ -56,20 +77,295 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  */
 @DynamicSerialize
 public class HazardHistoryList implements List<HazardEvent> {
+
+    /**
+     * Array-backed list of events that tracks its modifications, including
+     * replacements of elements, so that the interval index built from it may
+     * be discarded when it changes.
+     */
+    private static class EventList extends ArrayList<HazardEvent> {
+
+        private static final long serialVersionUID = -4412373262637405867L;
+
+        private int replacementCount;
+
+        EventList() {
+        }
+
+        EventList(Collection<? extends HazardEvent> events) {
+            super(events);
+        }
+
+        @Override
+        public HazardEvent set(int index, HazardEvent element) {
+            replacementCount++;
+            return super.set(index, element);
+        }
+
+        /**
+         * Get a count that changes whenever the list is modified.
+         */
+        long getModificationCount() {
+            return (((long) modCount) << 32) + replacementCount;
+        }
+    }
+
+    /**
+     * Index of the time intervals covered by the events, allowing the first
+     * event covering a given time to be found by binary search. The distinct
+     * start and end times of the events divide the timeline into points and
+     * the gaps between them, and for each of these the index records the
+     * position of the first event that covers it.
+     */
+    private static class IntervalIndex {
+
+        /**
+         * Modification count of the list when this index was built.
+         */
+        private final long modificationCount;
+
+        /**
+         * Distinct start and end times, in ascending order.
+         */
+        private final long[] times;
+
+        /**
+         * Positions of the first events covering each of {@link #times}, or
+         * <code>-1</code> where no event covers the time.
+         */
+        private final int[] positionsAtTimes;
+
+        /**
+         * Positions of the first events covering the gaps between each time
+         * and the next, or <code>-1</code> where no event covers the gap.
+         */
+        private final int[] positionsInGaps;
+
+        /**
+         * Start times of the events when this index was built, by position.
+         */
+        private final long[] starts;
+
+        /**
+         * End times of the events when this index was built, by position.
+         */
+        private final long[] ends;
+
+        /**
+         * Flags indicating which events had both start and end times when
+         * this index was built, by position.
+         */
+        private final boolean[] timed;
+
+        IntervalIndex(List<HazardEvent> events, long modificationCount) {
+            this.modificationCount = modificationCount;
+
+            /*
+             * Get the start and end times of the events, skipping any lacking
+             * them, and gather the distinct times.
+             */
+            int count = events.size();
+            final long[] starts = new long[count];
+            final long[] ends = new long[count];
+            this.starts = starts;
+            this.ends = ends;
+            this.timed = new boolean[count];
+            long[] allTimes = new long[count * 2];
+            List<Integer> positionsByStart = new ArrayList<>(count);
+            List<Integer> positionsByEnd = new ArrayList<>(count);
+            int timeCount = 0;
+            for (int j = 0; j < count; j++) {
+                HazardEvent event = events.get(j);
+                Date start = event.getStartTime();
+                Date end = event.getEndTime();
+                if ((start == null) || (end == null)) {
+                    continue;
+                }
+                starts[j] = start.getTime();
+                ends[j] = end.getTime();
+                timed[j] = true;
+                allTimes[timeCount++] = starts[j];
+                allTimes[timeCount++] = ends[j];
+                positionsByStart.add(j);
+                positionsByEnd.add(j);
+            }
+            Arrays.sort(allTimes, 0, timeCount);
+            int distinctCount = 0;
+            for (int j = 0; j < timeCount; j++) {
+                if ((distinctCount == 0)
+                        || (allTimes[j] != allTimes[distinctCount - 1])) {
+                    allTimes[distinctCount++] = allTimes[j];
+                }
+            }
+            times = Arrays.copyOf(allTimes, distinctCount);
+            positionsAtTimes = new int[distinctCount];
+            positionsInGaps = new int[distinctCount];
+            Collections.sort(positionsByStart, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer o1, Integer o2) {
+                    return Long.compare(starts[o1], starts[o2]);
+                }
+            });
+            Collections.sort(positionsByEnd, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer o1, Integer o2) {
+                    return Long.compare(ends[o1], ends[o2]);
+                }
+            });
+
+            /*
+             * Sweep through the times, keeping the set of events whose
+             * intervals include the current time. An event with an end time
+             * preceding its start time covers only those two times, so it is
+             * never placed in the set, but is considered at both of its times.
+             */
+            TreeSet<Integer> active = new TreeSet<>();
+            int nextStart = 0;
+            int nextEnd = 0;
+            for (int j = 0; j < distinctCount; j++) {
+                long time = times[j];
+                int firstDegenerate = Integer.MAX_VALUE;
+                while ((nextStart < positionsByStart.size())
+                        && (starts[positionsByStart.get(nextStart)] == time)) {
+                    int position = positionsByStart.get(nextStart++);
+                    if (ends[position] >= time) {
+                        active.add(position);
+                    } else {
+                        firstDegenerate = Math.min(firstDegenerate, position);
+                    }
+                }
+                int firstAtTime = (active.isEmpty() ? Integer.MAX_VALUE
+                        : active.first());
+                while ((nextEnd < positionsByEnd.size())
+                        && (ends[positionsByEnd.get(nextEnd)] == time)) {
+                    int position = positionsByEnd.get(nextEnd++);
+                    if (starts[position] > time) {
+                        firstDegenerate = Math.min(firstDegenerate, position);
+                    } else {
+                        active.remove(position);
+                    }
+                }
+                firstAtTime = Math.min(firstAtTime, firstDegenerate);
+                positionsAtTimes[j] = (firstAtTime == Integer.MAX_VALUE ? -1
+                        : firstAtTime);
+                positionsInGaps[j] = (active.isEmpty() ? -1 : active.first());
+            }
+        }
+
+        /**
+         * Get the position of the first event covering the specified time.
+         * 
+         * @return Position, or <code>-1</code> if no event covers the time.
+         */
+        int getPosition(long time) {
+            int index = Arrays.binarySearch(times, time);
+            if (index >= 0) {
+                return positionsAtTimes[index];
+            }
+            index = -(index + 1);
+            if ((index == 0) || (index == times.length)) {
+                return -1;
+            }
+            return positionsInGaps[index - 1];
+        }
+
+        /**
+         * Determine whether or not the specified events have the same start
+         * and end times that they had when this index was built.
+         * 
+         * @return <code>true</code> if the times are unchanged,
+         *         <code>false</code> otherwise.
+         */
+        boolean isCurrent(List<HazardEvent> events) {
+            if (events.size() != timed.length) {
+                return false;
+            }
+            for (int j = 0; j < timed.length; j++) {
+                HazardEvent event = events.get(j);
+                Date start = event.getStartTime();
+                Date end = event.getEndTime();
+                if ((start == null) || (end == null)) {
+                    if (timed[j]) {
+                        return false;
+                    }
+                } else if ((timed[j] == false)
+                        || (start.getTime() != starts[j])
+                        || (end.getTime() != ends[j])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @DynamicSerializeElement
-    private List<HazardEvent> events = new LinkedList<HazardEvent>();
+    private EventList events = new EventList();
+
+    /**
+     * Index of the events' time intervals, or <code>null</code> if it has not
+     * been built.
+     */
+    private transient IntervalIndex intervalIndex;
 
+    /**
+     * Get the first event, in order of persist time, whose time range includes
+     * the specified time.
+     * 
+     * @param date
+     *            Time for which to find the event.
+     * @return First event including the time, or <code>null</code> if none
+     *         do.
+     */
     public IEvent getEventAtTime(Date date) {
-        for (int i = 0; i < size(); i++) {
-            IEvent event = get(i);
-            if ((event.getStartTime().before(date)
-                    && event.getEndTime().after(date))
-                    || event.getStartTime().equals(date)
-                    || event.getEndTime().equals(date)) {
-                return event;
+        long time = date.getTime();
+        IntervalIndex index = getIntervalIndex(false);
+        int position = index.getPosition(time);
+
+        /*
+         * The index cannot see changes to the events themselves, so if the
+         * event it yields no longer includes the time, rebuild it. If it
+         * yields no event, check that the events' times are unchanged before
+         * trusting it, rebuilding it if not; this is no more costly than the
+         * scan that would otherwise be needed to be sure that no event
+         * includes the time.
+         */
+        if (position != -1) {
+            if (includes(events.get(position), date) == false) {
+                position = getIntervalIndex(true).getPosition(time);
             }
+        } else if (index.isCurrent(events) == false) {
+            position = getIntervalIndex(true).getPosition(time);
         }
-        return null;
+        return (position == -1 ? null : events.get(position));
+    }
+
+    /**
+     * Determine whether or not the specified event's time range includes the
+     * specified time.
+     */
+    private static boolean includes(IEvent event, Date date) {
+        Date start = event.getStartTime();
+        Date end = event.getEndTime();
+        if ((start == null) || (end == null)) {
+            return false;
+        }
+        return ((start.before(date) && end.after(date)) || start.equals(date)
+                || end.equals(date));
+    }
+
+    /**
+     * Get the interval index, building it if it does not exist, is out of
+     * date, or is to be rebuilt regardless.
+     */
+    private IntervalIndex getIntervalIndex(boolean rebuild) {
+        IntervalIndex index = intervalIndex;
+        long modificationCount = events.getModificationCount();
+        if (rebuild || (index == null)
+                || (index.modificationCount != modificationCount)) {
+            index = new IntervalIndex(events, modificationCount);
+            intervalIndex = index;
+        }
+        return index;
     }
 
     /**
@@ -86,15 +382,32 @@ public class HazardHistoryList implements List<HazardEvent> {
         return "";
     }
 
-    /*
-     * (non-Javadoc)
+    /**
+     * Insert the specified event at the specified position, which must be
+     * one at which the list remains in order of persist time.
      * 
-     * @see java.util.ArrayList#add(int, java.lang.Object)
+     * @throws IndexOutOfBoundsException
+     *             If the index is out of range.
+     * @throws IllegalArgumentException
+     *             If inserting the event at the index would put the list out
+     *             of order.
      */
     @Override
     public void add(int index, HazardEvent element) {
+        if ((index < 0) || (index > events.size())) {
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + events.size());
+        }
+        Comparator<IHazardEvent> comparator =
+                IHazardEvent.SORT_BY_PERSIST_TIME;
+        if (((index > 0)
+                && (comparator.compare(events.get(index - 1), element) > 0))
+                || ((index < events.size())
+                        && (comparator.compare(element, events.get(index)) > 0))) {
+            throw new IllegalArgumentException("cannot insert event at index "
+                    + index + " without violating persist time order");
+        }
         events.add(index, element);
-        sort();
     }
 
     /*
@@ -107,7 +420,9 @@ public class HazardHistoryList implements List<HazardEvent> {
         boolean success = false;
         if (c != null) {
             success = events.addAll(index, c);
-            sort();
+            if (success) {
+                sort();
+            }
         }
         return success;
     }
@@ -122,7 +437,9 @@ public class HazardHistoryList implements List<HazardEvent> {
         boolean success = false;
         if (c != null) {
             success = events.addAll(c);
-            sort();
+            if (success) {
+                sort();
+            }
         }
         return success;
     }
@@ -135,12 +452,21 @@ public class HazardHistoryList implements List<HazardEvent> {
     @Override
     public boolean add(HazardEvent e) {
         // events are sorted by time, so we need to compare when we add that way
-        // they are stored correctly
-        boolean success = events.add(e);
-        if (success) {
-            sort();
+        // they are stored correctly; the new event goes after any others with
+        // the same persist time, as it would if appended and stably sorted
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (IHazardEvent.SORT_BY_PERSIST_TIME.compare(events.get(middle),
+                    e) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
         }
-        return success;
+        events.add(low, e);
+        return true;
     }
 
     private void sort() {
@@ -349,7 +675,13 @@ public class HazardHistoryList implements List<HazardEvent> {
      *            the events to set
      */
     public void setEvents(List<HazardEvent> events) {
-        this.events = events;
+        if (events == null) {
+            this.events = new EventList();
+        } else {
+            this.events = (events instanceof EventList ? (EventList) events
+                    : new EventList(events));
+        }
+        this.intervalIndex = null;
     }
 
     /**
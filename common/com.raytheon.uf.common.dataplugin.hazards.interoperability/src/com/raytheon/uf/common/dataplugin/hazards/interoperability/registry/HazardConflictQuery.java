@@ -0,0 +1,189 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.dataplugin.hazards.interoperability.registry;
+
+import java.util.Date;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * 
+ * Describes one hazard event to be checked for conflicts as part of a bulk
+ * conflicts check.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@XmlRootElement(name = "HazardConflictQuery")
+@XmlAccessorType(XmlAccessType.FIELD)
+@DynamicSerialize
+public class HazardConflictQuery {
+
+    /** The identifier of the event being checked */
+    @XmlElement
+    @DynamicSerializeElement
+    private String eventID;
+
+    /** The phenomenon and significance string */
+    @XmlElement
+    @DynamicSerializeElement
+    private String phenSig;
+
+    /** The site ID */
+    @XmlElement
+    @DynamicSerializeElement
+    private String siteID;
+
+    /** The start time of the event */
+    @XmlElement
+    @DynamicSerializeElement
+    private Date startTime;
+
+    /** The end time of the event */
+    @XmlElement
+    @DynamicSerializeElement
+    private Date endTime;
+
+    /**
+     * Creates a new HazardConflictQuery
+     */
+    public HazardConflictQuery() {
+
+    }
+
+    /**
+     * Creates a new HazardConflictQuery
+     * 
+     * @param eventID
+     *            The identifier of the event
+     * @param phenSig
+     *            The phensig
+     * @param siteID
+     *            The site ID
+     * @param startTime
+     *            The start time of the event
+     * @param endTime
+     *            The end time of the event
+     */
+    public HazardConflictQuery(String eventID, String phenSig, String siteID,
+            Date startTime, Date endTime) {
+        this.eventID = eventID;
+        this.phenSig = phenSig;
+        this.siteID = siteID;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * @return the eventID
+     */
+    public String getEventID() {
+        return eventID;
+    }
+
+    /**
+     * @param eventID
+     *            the eventID to set
+     */
+    public void setEventID(String eventID) {
+        this.eventID = eventID;
+    }
+
+    /**
+     * @return the phenSig
+     */
+    public String getPhenSig() {
+        return phenSig;
+    }
+
+    /**
+     * @param phenSig
+     *            the phenSig to set
+     */
+    public void setPhenSig(String phenSig) {
+        this.phenSig = phenSig;
+    }
+
+    /**
+     * @return the siteID
+     */
+    public String getSiteID() {
+        return siteID;
+    }
+
+    /**
+     * @param siteID
+     *            the siteID to set
+     */
+    public void setSiteID(String siteID) {
+        this.siteID = siteID;
+    }
+
+    /**
+     * @return the startTime
+     */
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @param startTime
+     *            the startTime to set
+     */
+    public void setStartTime(Date startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * @return the endTime
+     */
+    public Date getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * @param endTime
+     *            the endTime to set
+     */
+    public void setEndTime(Date endTime) {
+        this.endTime = endTime;
+    }
+
+    public String toString() {
+        return eventID + " " + phenSig + " " + siteID + " " + startTime + " - "
+                + endTime;
+    }
+}
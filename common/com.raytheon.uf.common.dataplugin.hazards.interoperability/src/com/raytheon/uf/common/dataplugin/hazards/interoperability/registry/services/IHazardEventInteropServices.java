@@ -33,6 +33,7 @@ import com.raytheon.uf.common.dataplugin.events.hazards.registry.HazardEventServ
 import com.raytheon.uf.common.dataplugin.events.hazards.request.HazardEventQueryRequest;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.HazardInteroperabilityRecord;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictDict;
+import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictQuery;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardInteroperabilityResponse;
 
 /**
@@ -48,6 +49,7 @@ import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.Hazar
  * May 29, 2015 6895      Ben.Phillippe Refactored Hazard Service data access
  * Aug 4, 2015  6895     Ben.Phillippe Finished HS data access refactor
  * Aug 20, 2015 6895     Ben.Phillippe Routing registry requests through request server
+ * Oct 18, 2026            agent       Added findConflicts() to check many events at once.
  * 
  * </pre>
  * 
@@ -212,6 +214,20 @@ public interface IHazardEventInteropServices {
             @WebParam(name = "endTime") Date endTime)
             throws HazardEventServiceException;
 
+    /**
+     * Checks if there are conflicts with existing GFE grids for each of the
+     * specified events, retrieving the grids for each site only once
+     * 
+     * @param queries
+     *            The events to be checked
+     * @return The identifiers of those events for which conflicts exist
+     * @throws HazardEventServiceException
+     */
+    @WebMethod(operationName = "findConflicts")
+    public List<String> findConflicts(
+            @WebParam(name = "queries") List<HazardConflictQuery> queries)
+            throws HazardEventServiceException;
+
     /**
      * Retrieves the hazard conflict dictionary
      * 
@@ -19,9 +19,11 @@
  **/
 package com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.services.client;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import com.raytheon.uf.common.dataplugin.events.hazards.registry.HazardEventServiceException;
 import com.raytheon.uf.common.dataplugin.events.hazards.registry.HazardEventServicesUtil;
@@ -30,6 +32,7 @@ import com.raytheon.uf.common.dataplugin.events.hazards.request.HazardEventQuery
 import com.raytheon.uf.common.dataplugin.events.hazards.request.HazardRequest;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.HazardInteroperabilityRecord;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictDict;
+import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictQuery;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardInteroperabilityResponse;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.services.IHazardEventInteropServices;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.requests.DeleteAllInteroperabilityRecordsRequest;
@@ -54,6 +57,7 @@ import com.raytheon.uf.common.serialization.comm.RequestRouter;
  * ------------ ---------- ----------- --------------------------
  * Aug 20, 2015 6895     Ben.Phillippe Routing registry requests through request server
  * May 06, 2016 18202      Robert.Blum Changes for operational mode.
+ * Oct 18, 2026            agent       Added bulk conflicts checking.
  * 
  * </pre>
  * 
@@ -174,6 +178,36 @@ public class InteroperabilityRequestServices implements
         return response.getPayload();
     }
 
+    @Override
+    public List<String> findConflicts(List<HazardConflictQuery> queries)
+            throws HazardEventServiceException {
+        List<String> eventIDs = new ArrayList<>();
+        for (Map.Entry<String, Boolean> entry : getConflicts(queries)
+                .entrySet()) {
+            if (Boolean.TRUE.equals(entry.getValue())) {
+                eventIDs.add(entry.getKey());
+            }
+        }
+        return eventIDs;
+    }
+
+    /**
+     * Checks if there are conflicts with existing GFE grids for each of the
+     * specified events using a single request
+     * 
+     * @param queries
+     *            The events to be checked
+     * @return Map of the identifiers of the events to flags indicating whether
+     *         or not conflicts exist for them
+     * @throws HazardEventServiceException
+     */
+    public Map<String, Boolean> getConflicts(List<HazardConflictQuery> queries)
+            throws HazardEventServiceException {
+        HazardInteroperabilityResponse response = routeRequest(new InteroperabilityConflictsRequest(
+                this.practice, queries));
+        return response.getPayload();
+    }
+
     @Override
     public HazardConflictDict retrieveHazardsConflictDict() {
         return null;
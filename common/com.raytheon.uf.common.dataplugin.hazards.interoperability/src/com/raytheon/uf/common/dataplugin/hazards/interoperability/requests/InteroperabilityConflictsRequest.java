@@ -20,8 +20,10 @@
 package com.raytheon.uf.common.dataplugin.hazards.interoperability.requests;
 
 import java.util.Date;
+import java.util.List;
 
 import com.raytheon.uf.common.dataplugin.events.hazards.request.HazardRequest;
+import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictQuery;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 
@@ -29,6 +31,12 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * 
  * Request object used to determine if there are conlicts among hazard products
  * 
+ * If queries are provided, the request is a bulk request covering all the
+ * events they describe, and its response payload is a map of event
+ * identifiers to flags indicating whether or not each event has conflicts;
+ * otherwise the single phensig, site and time range are checked, and the
+ * payload is a single flag.
+ * 
  * <pre>
  * 
  * SOFTWARE HISTORY
@@ -36,6 +44,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Aug 20, 2015 6895     Ben.Phillippe Routing registry requests through request server
+ * Oct 18, 2026            agent       Added bulk form checking many events at once.
  * 
  * </pre>
  * 
@@ -61,6 +70,10 @@ public class InteroperabilityConflictsRequest extends HazardRequest {
     @DynamicSerializeElement
     private Date endTime;
 
+    /** The events to be checked, if this is a bulk request */
+    @DynamicSerializeElement
+    private List<HazardConflictQuery> queries;
+
     /**
      * Creates a new InteroperabilityConflictsRequest
      */
@@ -91,6 +104,20 @@ public class InteroperabilityConflictsRequest extends HazardRequest {
         this.endTime = endTime;
     }
 
+    /**
+     * Creates a new bulk InteroperabilityConflictsRequest
+     * 
+     * @param practice
+     *            Practice mode flag
+     * @param queries
+     *            The events to be checked
+     */
+    public InteroperabilityConflictsRequest(boolean practice,
+            List<HazardConflictQuery> queries) {
+        super(practice);
+        this.queries = queries;
+    }
+
     /**
      * @return the phenSig
      */
@@ -151,4 +178,19 @@ public class InteroperabilityConflictsRequest extends HazardRequest {
         this.endTime = endTime;
     }
 
+    /**
+     * @return the queries, or null if this is not a bulk request
+     */
+    public List<HazardConflictQuery> getQueries() {
+        return queries;
+    }
+
+    /**
+     * @param queries
+     *            the queries to set
+     */
+    public void setQueries(List<HazardConflictQuery> queries) {
+        this.queries = queries;
+    }
+
 }
@@ -0,0 +1,571 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.hazards.configuration;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.raytheon.uf.common.localization.IPathManager;
+import com.raytheon.uf.common.localization.LocalizationContext;
+import com.raytheon.uf.common.localization.LocalizationContext.LocalizationLevel;
+import com.raytheon.uf.common.localization.LocalizationContext.LocalizationType;
+import com.raytheon.uf.common.localization.LocalizationFile;
+import com.raytheon.uf.common.localization.PathManagerFactory;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * Local disk cache of the JSON produced by running Python configuration files,
+ * used by {@link ConfigLoader} so that configuration that has not changed
+ * need not be run through Python again.
+ * <p>
+ * Entries are keyed by the configuration file's name, the variable and
+ * parameters used to load it, and the localization level, name and checksum
+ * of every Python file in the configuration file's directory at each level of
+ * the override chain (including the site level of the site being loaded for,
+ * if one is given), as well as the include path used to load it. Any change to
+ * an override, whether at the level actually used or at a lower level merged
+ * in by incremental overriding, thus produces a different key.
+ * </p>
+ * <p>
+ * Modules imported from other directories of the include path are recorded
+ * with each entry, along with the checksums of their files. An entry is only
+ * used if each such module would still be imported from the same file, that
+ * is, if no directory earlier in the include path now holds an override of
+ * it, and if that file's checksum is unchanged; otherwise the entry is
+ * removed. Changes to shared Python modules, whether made by a site or base
+ * override or by a new release, thus invalidate the entries that depend upon
+ * them.
+ * </p>
+ * <p>
+ * The cache directory may be specified using the
+ * {@value #CACHE_DIRECTORY_PROPERTY} system property; by default it is a
+ * directory within the user's localization directory. It is created readable
+ * and writable only by the user, and if it already exists, it is only used if
+ * it is owned by the user and not writable by anyone else, since entries read
+ * from it are trusted as configuration. All failures to read or write the
+ * cache are treated as misses.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * Oct 19, 2026            agent       Added the include path to the key, and
+ *                                     recorded imported modules with entries.
+ * Oct 19, 2026            agent       Moved the default directory out of the
+ *                                     temporary directory, and refused to use
+ *                                     a directory that others can write to.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class ConfigCache {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(ConfigCache.class);
+
+    /**
+     * System property that may be used to specify the cache directory.
+     */
+    static final String CACHE_DIRECTORY_PROPERTY = "hazardServices.configCacheDir";
+
+    /**
+     * Version of the cache format; incrementing it invalidates all existing
+     * entries.
+     */
+    private static final String CACHE_VERSION = "2";
+
+    /**
+     * Path of the default cache directory within the user's localization
+     * directory.
+     */
+    private static final String CACHE_LOCALIZATION_PATH = "hazardServices/configCache";
+
+    /**
+     * Permissions of the cache directory when it is created.
+     */
+    private static final Set<PosixFilePermission> DIRECTORY_PERMISSIONS = PosixFilePermissions
+            .fromString("rwx------");
+
+    private static final String ENTRY_EXTENSION = ".json";
+
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    /**
+     * Separator between the paths and checksum of an imported module within
+     * the header of an entry.
+     */
+    private static final String MODULE_FIELD_SEPARATOR = "\t";
+
+    private static final ConfigCache INSTANCE = new ConfigCache();
+
+    /**
+     * Cache directory, or <code>null</code> if it could not be determined, in
+     * which case caching is disabled.
+     */
+    private final File directory;
+
+    /**
+     * Flag indicating whether or not the cache directory has been found to be
+     * owned by the user and not writable by others.
+     */
+    private volatile boolean directoryVerified;
+
+    /**
+     * Flag indicating whether or not the cache directory has been reported as
+     * not being trusted.
+     */
+    private volatile boolean directoryRejectionReported;
+
+    static ConfigCache getInstance() {
+        return INSTANCE;
+    }
+
+    private ConfigCache() {
+        File directory = null;
+        String path = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+        if (path != null) {
+            directory = new File(path);
+        } else {
+            try {
+                IPathManager pathManager = PathManagerFactory
+                        .getPathManager();
+                LocalizationContext context = pathManager.getContext(
+                        LocalizationType.COMMON_STATIC,
+                        LocalizationLevel.USER);
+                directory = pathManager.getLocalizationFile(context,
+                        CACHE_LOCALIZATION_PATH).getFile(false);
+            } catch (RuntimeException e) {
+                statusHandler.debug("Could not determine configuration "
+                        + "cache directory; caching disabled", e);
+            }
+        }
+        this.directory = directory;
+    }
+
+    /**
+     * Get the key of the cache entry for the specified Python configuration
+     * file.
+     * 
+     * @param lfile
+     *            Configuration file.
+     * @param varName
+     *            Name of the variable holding the configuration.
+     * @param site
+     *            Site for which the configuration is being loaded, or
+     *            <code>null</code>.
+     * @param parameters
+     *            Parameters used to load the configuration; may be
+     *            <code>null</code>.
+     * @param pyIncludes
+     *            Include path used to load the configuration; may be
+     *            <code>null</code>.
+     * @return Key, or <code>null</code> if the key could not be determined.
+     */
+    String getKey(LocalizationFile lfile, String varName, String site,
+            Map<String, Object> parameters, String pyIncludes) {
+        try {
+            /*
+             * The way in which the file is loaded identifies the entry, and
+             * forms part of its prefix so that stale entries for the same
+             * load may be found; the checksums identify its version.
+             */
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            update(digest, CACHE_VERSION);
+            update(digest, lfile.getName());
+            update(digest, varName);
+            update(digest, pyIncludes);
+            if (parameters != null) {
+                for (Map.Entry<String, Object> entry : new TreeMap<>(
+                        parameters).entrySet()) {
+                    update(digest, entry.getKey());
+                    update(digest, String.valueOf(entry.getValue()));
+                }
+            }
+            String prefix = getEntryPrefix(lfile)
+                    + toHex(digest.digest()).substring(0, 8) + "-";
+
+            /*
+             * Add every Python file in the directory at each level of the
+             * override chain, ordered so that the key does not depend upon
+             * the order in which they are listed.
+             */
+            IPathManager pathManager = PathManagerFactory.getPathManager();
+            List<LocalizationContext> contexts = new ArrayList<>(
+                    Arrays.asList(pathManager.getLocalSearchHierarchy(
+                            LocalizationType.COMMON_STATIC)));
+            if (site != null) {
+                contexts.add(pathManager.getContextForSite(
+                        LocalizationType.COMMON_STATIC, site));
+            }
+            String configDir = lfile.getName().substring(0,
+                    lfile.getName().length()
+                            - lfile.getFile(false).getName().length());
+            List<String> fileKeys = new ArrayList<>();
+            for (LocalizationFile file : pathManager.listFiles(
+                    contexts.toArray(new LocalizationContext[contexts.size()]),
+                    configDir, new String[] { ".py" }, false, true)) {
+                LocalizationContext context = file.getContext();
+                fileKeys.add(context.getLocalizationLevel().name()
+                        + KEY_SEPARATOR + context.getContextName()
+                        + KEY_SEPARATOR + file.getName() + KEY_SEPARATOR
+                        + file.getCheckSum());
+            }
+            Collections.sort(fileKeys);
+            update(digest, prefix);
+            for (String fileKey : fileKeys) {
+                update(digest, fileKey);
+            }
+            return prefix + toHex(digest.digest());
+        } catch (NoSuchAlgorithmException | RuntimeException e) {
+            statusHandler.debug("Could not compute configuration cache key for "
+                    + lfile.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the JSON cached under the specified key, provided the modules
+     * imported when it was produced are unchanged.
+     * 
+     * @param key
+     *            Key of the entry.
+     * @param pyIncludes
+     *            Include path used to load the configuration; may be
+     *            <code>null</code>.
+     * @return Cached JSON, or <code>null</code> if there is none, or if it is
+     *         stale.
+     */
+    String get(String key, String pyIncludes) {
+        if (directory == null) {
+            return null;
+        }
+        File file = new File(directory, key + ENTRY_EXTENSION);
+        if (file.isFile() == false) {
+            return null;
+        }
+        try {
+            if (isDirectoryTrusted() == false) {
+                return null;
+            }
+            String contents = new String(Files.readAllBytes(file.toPath()),
+                    StandardCharsets.UTF_8);
+
+            /*
+             * The entry starts with a line giving the number of imported
+             * modules, followed by a line for each module; the JSON follows.
+             */
+            BufferedReader reader = new BufferedReader(
+                    new StringReader(contents));
+            String line = reader.readLine();
+            int moduleCount = Integer.parseInt(line);
+            int offset = line.length() + 1;
+            List<String> includeDirectories = getIncludeDirectories(
+                    pyIncludes);
+            for (int j = 0; j < moduleCount; j++) {
+                line = reader.readLine();
+                offset += line.length() + 1;
+                String[] fields = line.split(MODULE_FIELD_SEPARATOR);
+                if ((fields.length != 3) || (isModuleUnchanged(fields[0],
+                        fields[1], fields[2], includeDirectories) == false)) {
+                    statusHandler.debug("Discarding stale cached "
+                            + "configuration " + key + " due to change in "
+                            + (fields.length > 1 ? fields[1] : line));
+                    remove(key);
+                    return null;
+                }
+            }
+            return contents.substring(offset);
+        } catch (IOException | NoSuchAlgorithmException
+                | RuntimeException e) {
+            statusHandler.debug("Could not read configuration cache entry "
+                    + file, e);
+            remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * Cache the specified JSON under the specified key, removing any entries
+     * for older versions of the same configuration file.
+     * 
+     * @param key
+     *            Key of the entry.
+     * @param json
+     *            JSON to be cached.
+     * @param importedModuleFiles
+     *            Files of the modules imported from the include path while
+     *            producing the JSON, as provided by
+     *            {@link ConfigInterpreterPool#getImportedModuleFiles(jep.Jep)}.
+     */
+    void put(String key, String json, List<String[]> importedModuleFiles) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            StringBuilder contents = new StringBuilder();
+            contents.append(importedModuleFiles.size()).append('\n');
+            for (String[] paths : importedModuleFiles) {
+                File moduleFile = new File(paths[1]);
+                if (moduleFile.isFile() == false) {
+
+                    /*
+                     * A module whose source cannot be checked makes the
+                     * result uncacheable.
+                     */
+                    return;
+                }
+                contents.append(paths[0]).append(MODULE_FIELD_SEPARATOR)
+                        .append(paths[1]).append(MODULE_FIELD_SEPARATOR)
+                        .append(getChecksum(moduleFile)).append('\n');
+            }
+            contents.append(json);
+            createDirectory();
+            if (isDirectoryTrusted() == false) {
+                return;
+            }
+            File file = new File(directory, key + ENTRY_EXTENSION);
+            File temporaryFile = File.createTempFile(key, ".tmp", directory);
+            try {
+                Files.write(temporaryFile.toPath(), contents.toString()
+                        .getBytes(StandardCharsets.UTF_8));
+                Files.move(temporaryFile.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile.toPath());
+            }
+            removeStaleEntries(key);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            statusHandler.debug("Could not write configuration cache entry "
+                    + key, e);
+        }
+    }
+
+    /**
+     * Remove the entry with the specified key.
+     * 
+     * @param key
+     *            Key of the entry.
+     */
+    void remove(String key) {
+        if (directory != null) {
+            new File(directory, key + ENTRY_EXTENSION).delete();
+        }
+    }
+
+    /**
+     * Create the cache directory, readable and writable only by the user, if
+     * it does not exist.
+     */
+    private void createDirectory() throws IOException {
+        Path path = directory.toPath();
+        if (Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        Files.createDirectories(path.getParent());
+        try {
+            Files.createDirectory(path,
+                    PosixFilePermissions.asFileAttribute(DIRECTORY_PERMISSIONS));
+        } catch (UnsupportedOperationException e) {
+            Files.createDirectory(path);
+        } catch (FileAlreadyExistsException e) {
+
+            /*
+             * Created by another process in the meantime; it is checked
+             * before being used.
+             */
+        }
+    }
+
+    /**
+     * Determine whether or not the cache directory is a directory, not a link,
+     * that is owned by the user and is not writable by the group or others.
+     * Once it has been found to be so, it is not checked again. A directory
+     * that is not trusted is reported, and its entries are neither read nor
+     * written, since they could have been planted by another user.
+     */
+    private boolean isDirectoryTrusted() throws IOException {
+        if (directoryVerified) {
+            return true;
+        }
+        Path path = directory.toPath();
+        if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS) == false) {
+            reportDirectoryRejection("not a directory");
+            return false;
+        }
+        if (Files.getOwner(path, LinkOption.NOFOLLOW_LINKS).equals(
+                FileSystems.getDefault().getUserPrincipalLookupService()
+                        .lookupPrincipalByName(
+                                System.getProperty("user.name"))) == false) {
+            reportDirectoryRejection("owned by another user");
+            return false;
+        }
+        try {
+            Set<PosixFilePermission> permissions = Files
+                    .getPosixFilePermissions(path, LinkOption.NOFOLLOW_LINKS);
+            if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                reportDirectoryRejection("writable by other users");
+                return false;
+            }
+        } catch (UnsupportedOperationException e) {
+
+            /*
+             * File system without POSIX permissions; ownership suffices.
+             */
+        }
+        directoryVerified = true;
+        return true;
+    }
+
+    /**
+     * Report, if this has not already been done, that the cache directory is
+     * not being used for the specified reason.
+     */
+    private void reportDirectoryRejection(String reason) {
+        if (directoryRejectionReported == false) {
+            directoryRejectionReported = true;
+            statusHandler.warn("Not using configuration cache directory "
+                    + directory + ": " + reason);
+        }
+    }
+
+    /**
+     * Remove any entries for the same configuration file as the specified
+     * key, but with different keys.
+     */
+    private void removeStaleEntries(String key) {
+        String prefix = key.substring(0, key.lastIndexOf('-') + 1);
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        String current = key + ENTRY_EXTENSION;
+        for (File file : files) {
+            String name = file.getName();
+            if (name.startsWith(prefix) && name.endsWith(ENTRY_EXTENSION)
+                    && (name.equals(current) == false)) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Determine whether or not the specified imported module would still be
+     * imported from the same file, and that file is unchanged.
+     * 
+     * @param relativePath
+     *            Path of the module's file relative to the include directory
+     *            from which it was imported.
+     * @param path
+     *            Absolute path of the module's file.
+     * @param checksum
+     *            Checksum of the module's file when it was imported.
+     * @param includeDirectories
+     *            Include directories, in the order in which they are searched.
+     * @return <code>true</code> if the module is unchanged, <code>false</code>
+     *         otherwise.
+     */
+    private static boolean isModuleUnchanged(String relativePath, String path,
+            String checksum, List<String> includeDirectories)
+            throws IOException, NoSuchAlgorithmException {
+        for (String includeDirectory : includeDirectories) {
+            File file = new File(includeDirectory, relativePath);
+            if (file.isFile()) {
+                return (file.getAbsolutePath()
+                        .equals(new File(path).getAbsolutePath())
+                        && checksum.equals(getChecksum(file)));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the directories making up the specified include path.
+     */
+    private static List<String> getIncludeDirectories(String pyIncludes) {
+        List<String> directories = new ArrayList<>();
+        if (pyIncludes != null) {
+            for (String directory : pyIncludes.split(File.pathSeparator)) {
+                if (directory.isEmpty() == false) {
+                    directories.add(directory);
+                }
+            }
+        }
+        return directories;
+    }
+
+    /**
+     * Get the checksum of the contents of the specified file.
+     */
+    private static String getChecksum(File file)
+            throws IOException, NoSuchAlgorithmException {
+        return toHex(MessageDigest.getInstance("SHA-1")
+                .digest(Files.readAllBytes(file.toPath())));
+    }
+
+    /**
+     * Get the start of the prefix of entries for the specified configuration
+     * file, made up of the file's path with unsafe characters replaced.
+     */
+    private static String getEntryPrefix(LocalizationFile lfile) {
+        return lfile.getName().replaceAll("[^A-Za-z0-9_.]", "_") + "-";
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(String.format("%02x", b & 0xff));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,410 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.hazards.configuration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+import jep.Jep;
+import jep.JepException;
+import jep.NamingConventionClassEnquirer;
+
+/**
+ * Small pool of threads, each holding reusable Jep interpreters, used by
+ * {@link ConfigLoader} to run Python configuration files. Starting an
+ * interpreter and importing the standard modules used by the configuration
+ * scripts costs more than running most of those scripts, so interpreters are
+ * kept between loads. Since Jep interpreters may only be used by the thread
+ * that created them, each thread keeps its own interpreters, one for each of
+ * the include paths it has most recently used; the least recently used is
+ * closed when a thread would otherwise hold more than
+ * {@link #MAX_INTERPRETERS_PER_THREAD}. The interpreters are closed when the
+ * pool is shut down, which happens at the latest when the JVM exits.
+ * <p>
+ * Between loads, an interpreter's global namespace is reset to what it was
+ * when the interpreter was created, and any modules imported from the include
+ * path (that is, configuration modules, which may have been changed since
+ * they were imported) are dropped, so that each load sees the same state a
+ * new interpreter would. Before being reset, an interpreter may be asked
+ * which of the modules on the include path were imported by the load, so
+ * that the result may be cached along with those modules' files.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * Oct 19, 2026            agent       Bounded the interpreters per thread, added
+ *                                     shutdown, and added listing of imported
+ *                                     modules.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class ConfigInterpreterPool {
+
+    /**
+     * Task to be run using an interpreter.
+     */
+    interface IInterpreterTask<T> {
+
+        /**
+         * Run the task.
+         * 
+         * @param jep
+         *            Interpreter to be used.
+         * @return Result.
+         * @throws Exception
+         *             If an error occurs.
+         */
+        T run(Jep jep) throws Exception;
+    }
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(ConfigInterpreterPool.class);
+
+    /**
+     * Number of interpreter threads.
+     */
+    private static final int THREAD_COUNT = 2;
+
+    /**
+     * Maximum number of interpreters, each for a different include path, held
+     * by each thread.
+     */
+    private static final int MAX_INTERPRETERS_PER_THREAD = 4;
+
+    /**
+     * Maximum time in seconds to wait for the interpreters to be closed when
+     * the pool is shut down.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    /**
+     * Python code run when an interpreter is created, defining the function
+     * used to list the modules imported from the include path, with each
+     * module's file given relative to the include directory from which it was
+     * imported and as an absolute path, and the function used to reset the
+     * interpreter between loads.
+     */
+    private static final String RESET_FUNCTION_DEFINITION = "def _configLoaderModules():\n"
+            + "    result = set()\n"
+            + "    for module in list(sys.modules.values()):\n"
+            + "        f = getattr(module, '__file__', None)\n"
+            + "        if not f:\n"
+            + "            continue\n"
+            + "        if f.endswith('.pyc') or f.endswith('.pyo'):\n"
+            + "            f = f[:-1]\n"
+            + "        for p in _configLoaderIncludes:\n"
+            + "            prefix = os.path.join(p, '')\n"
+            + "            if f.startswith(prefix):\n"
+            + "                result.add(f[len(prefix):] + '\\t' + f)\n"
+            + "                break\n"
+            + "    return '\\n'.join(sorted(result))\n"
+            + "def _configLoaderReset(_keep=set(globals().keys()) | set(['_configLoaderReset'])):\n"
+            + "    g = globals()\n"
+            + "    for name in list(g.keys()):\n"
+            + "        if name not in _keep:\n"
+            + "            del g[name]\n"
+            + "    for name, module in list(sys.modules.items()):\n"
+            + "        f = getattr(module, '__file__', None)\n"
+            + "        if f and any(f.startswith(p) for p in _configLoaderIncludes):\n"
+            + "            del sys.modules[name]\n";
+
+    private static final ConfigInterpreterPool INSTANCE = new ConfigInterpreterPool();
+
+    private final ExecutorService executor;
+
+    /**
+     * Interpreters held by the current thread, keyed by include path and
+     * ordered from least to most recently used.
+     */
+    private final ThreadLocal<Map<String, Jep>> interpreters = new ThreadLocal<Map<String, Jep>>() {
+        @Override
+        protected Map<String, Jep> initialValue() {
+            return new LinkedHashMap<String, Jep>(
+                    MAX_INTERPRETERS_PER_THREAD + 1, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<String, Jep> eldest) {
+                    if (size() > MAX_INTERPRETERS_PER_THREAD) {
+                        close(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    };
+
+    private volatile boolean shutdown = false;
+
+    static ConfigInterpreterPool getInstance() {
+        return INSTANCE;
+    }
+
+    private ConfigInterpreterPool() {
+        executor = Executors.newFixedThreadPool(THREAD_COUNT,
+                new ThreadFactory() {
+
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "ConfigLoader-python-"
+                                + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        Runtime.getRuntime().addShutdownHook(
+                new Thread("ConfigLoader-python-shutdown") {
+                    @Override
+                    public void run() {
+                        shutdown();
+                    }
+                });
+    }
+
+    /**
+     * Run the specified task on one of the pool's interpreters for the
+     * specified include path, waiting for it to complete.
+     * 
+     * @param pyIncludes
+     *            Include path; may be <code>null</code>.
+     * @param task
+     *            Task to be run.
+     * @return Result of the task.
+     * @throws Exception
+     *             If the task fails.
+     */
+    <T> T execute(final String pyIncludes, final IInterpreterTask<T> task)
+            throws Exception {
+        Future<T> future = executor.submit(new Callable<T>() {
+
+            @Override
+            public T call() throws Exception {
+                Jep jep = getInterpreter(pyIncludes);
+                try {
+                    return task.run(jep);
+                } finally {
+                    reset(jep, pyIncludes);
+                }
+            }
+        });
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Get the files of the modules imported from the include path by the
+     * specified interpreter since it was last reset. This may only be called
+     * from within an {@link IInterpreterTask}.
+     * 
+     * @param jep
+     *            Interpreter.
+     * @return Pairs of paths, the first of each being relative to the include
+     *         directory from which the module was imported, the second being
+     *         absolute.
+     * @throws JepException
+     *             If the modules cannot be listed.
+     */
+    static List<String[]> getImportedModuleFiles(Jep jep) throws JepException {
+        String modules = (String) jep.getValue("_configLoaderModules()");
+        if ((modules == null) || modules.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String[]> result = new ArrayList<>();
+        for (String module : modules.split("\n")) {
+            String[] paths = module.split("\t");
+            if (paths.length == 2) {
+                result.add(paths);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Shut down the pool, closing the interpreters held by each of its
+     * threads. Once this has been called, the pool may no longer be used.
+     */
+    void shutdown() {
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+        }
+
+        /*
+         * Each interpreter must be closed by the thread that created it, so
+         * submit one closing task per thread. Each task waits until all the
+         * others have started, which ensures that no thread runs two of them.
+         */
+        final CountDownLatch started = new CountDownLatch(THREAD_COUNT);
+        final CountDownLatch finished = new CountDownLatch(THREAD_COUNT);
+        for (int j = 0; j < THREAD_COUNT; j++) {
+            executor.submit(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        started.countDown();
+                        started.await(SHUTDOWN_TIMEOUT_SECONDS,
+                                TimeUnit.SECONDS);
+                        Map<String, Jep> interpretersForIncludes = interpreters
+                                .get();
+                        for (Jep jep : interpretersForIncludes.values()) {
+                            close(jep);
+                        }
+                        interpretersForIncludes.clear();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        finished.countDown();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            if (finished.await(SHUTDOWN_TIMEOUT_SECONDS,
+                    TimeUnit.SECONDS) == false) {
+                statusHandler.warn("Timed out waiting for configuration "
+                        + "loader interpreters to close.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get the current thread's interpreter for the specified include path,
+     * creating it if necessary.
+     */
+    private Jep getInterpreter(String pyIncludes) throws JepException {
+        String key = (pyIncludes == null ? "" : pyIncludes);
+        Map<String, Jep> interpretersForIncludes = interpreters.get();
+        Jep jep = interpretersForIncludes.get(key);
+        if (jep == null) {
+            jep = new Jep(false, pyIncludes,
+                    ConfigInterpreterPool.class.getClassLoader(),
+                    new NamingConventionClassEnquirer());
+            try {
+                jep.eval("import json");
+                jep.eval("import os");
+                jep.eval("import sys");
+                jep.eval("_configLoaderIncludes = "
+                        + toPythonList(pyIncludes));
+                jep.eval("exec(" + toPythonString(RESET_FUNCTION_DEFINITION)
+                        + ")");
+            } catch (JepException e) {
+                close(jep);
+                throw e;
+            }
+            interpretersForIncludes.put(key, jep);
+        }
+        return jep;
+    }
+
+    /**
+     * Reset the specified interpreter, discarding it if this fails.
+     */
+    private void reset(Jep jep, String pyIncludes) {
+        try {
+            jep.eval("_configLoaderReset()");
+        } catch (JepException e) {
+            interpreters.get().remove(pyIncludes == null ? "" : pyIncludes);
+            close(jep);
+        }
+    }
+
+    /**
+     * Close the specified interpreter, ignoring any failure to do so, since
+     * the interpreter is being discarded anyway.
+     */
+    private static void close(Jep jep) {
+        try {
+            jep.close();
+        } catch (JepException e) {
+            statusHandler.debug("Could not close configuration loader "
+                    + "interpreter.", e);
+        }
+    }
+
+    /**
+     * Convert the specified include path to a Python list literal of its
+     * directories.
+     */
+    private static String toPythonList(String pyIncludes) {
+        StringBuilder builder = new StringBuilder("[");
+        if (pyIncludes != null) {
+            for (String directory : pyIncludes.split(File.pathSeparator)) {
+                if (directory.isEmpty()) {
+                    continue;
+                }
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(toPythonString(directory));
+            }
+        }
+        return builder.append("]").toString();
+    }
+
+    /**
+     * Convert the specified string to a Python string literal.
+     */
+    private static String toPythonString(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'")
+                .replace("\n", "\\n") + "'";
+    }
+}
@@ -23,6 +23,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import javax.xml.bind.JAXB;
@@ -37,8 +39,6 @@ import com.raytheon.uf.common.status.UFStatus;
 import com.raytheon.uf.common.status.UFStatus.Priority;
 
 import jep.Jep;
-import jep.JepException;
-import jep.NamingConventionClassEnquirer;
 
 /**
  * This is the primary interface which allows asynchronous loading. At
@@ -63,6 +63,11 @@ import jep.NamingConventionClassEnquirer;
  * Aug 31, 2015 9757       Robert.Blum  Removed TODO since we dont want to incrementally override non-class
  *                                      based config files.
  * Apr 25, 2016 17611      Robert.Blum  Implemented incremental overrides for python files.
+ * Oct 18, 2026            agent        Run python files on a shared interpreter pool,
+ *                                      cache their results on disk, share a single
+ *                                      object mapper, and log load timings.
+ * Oct 19, 2026            agent        Made cached results depend upon the modules
+ *                                      imported while loading them.
  * 
  * </pre>
  * 
@@ -80,6 +85,14 @@ public class ConfigLoader<T> implements Runnable {
 
     private static final String SITE = "site";
 
+    /**
+     * Mapper used for all JSON conversion; mappers are thread-safe once
+     * configured, and expensive to create.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                    false);
+
     private final LocalizationFile lfile;
 
     private final Class<T> clazz;
@@ -92,6 +105,17 @@ public class ConfigLoader<T> implements Runnable {
 
     private T config;
 
+    /**
+     * Source from which the configuration was last loaded, for logging.
+     */
+    private String source;
+
+    /**
+     * Time in milliseconds taken to load the configuration, or -1 if it has
+     * not been loaded.
+     */
+    private long loadMillis = -1L;
+
     public ConfigLoader(LocalizationFile lfile, Class<T> clazz) {
         this(lfile, clazz, null);
     }
@@ -122,9 +146,11 @@ public class ConfigLoader<T> implements Runnable {
             if (config != null) {
                 return;
             }
+            long start = System.currentTimeMillis();
             File file = lfile.getFile();
             String ext = file.getName()
                     .substring(file.getName().lastIndexOf('.'));
+            source = ext.substring(1);
             try {
                 if (ext.equals(".py")) {
                     this.config = loadPython();
@@ -149,14 +175,13 @@ public class ConfigLoader<T> implements Runnable {
                             e.getLocalizedMessage(), e);
                 }
             }
+            loadMillis = System.currentTimeMillis() - start;
+            statusHandler.debug("Loaded configuration " + lfile.getName()
+                    + " from " + source + " in " + loadMillis + " ms.");
         }
     }
 
     private T loadJson() throws LocalizationException, IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                false);
-
         StringBuilder sb = new StringBuilder();
         char[] buffer = new char[1024];
         try (InputStream is = lfile.openInputStream()) {
@@ -166,7 +191,7 @@ public class ConfigLoader<T> implements Runnable {
                     sb.append(buffer, 0, read);
                     read = isr.read(buffer);
                 }
-                return mapper.readValue(sb.toString(), clazz);
+                return MAPPER.readValue(sb.toString(), clazz);
             }
         }
     }
@@ -179,59 +204,86 @@ public class ConfigLoader<T> implements Runnable {
         return result;
     }
 
-    private T loadPython() throws JepException, IOException {
-        File file = lfile.getFile();
-        String fileName = file.getName();
-        String configDir = lfile.getName().replace(fileName, "");
-        fileName = fileName.replaceFirst("[.][^.]+$", "");
-        String varName = pyVarName;
-        if (varName == null) {
-            varName = fileName;
+    private T loadPython() throws Exception {
+        final File file = lfile.getFile();
+        String name = file.getName();
+        final String configDir = lfile.getName().replace(name, "");
+        final String fileName = name.replaceFirst("[.][^.]+$", "");
+        final String varName = (pyVarName == null ? fileName : pyVarName);
+
+        /*
+         * Determine how the file is to be loaded.
+         */
+        final boolean incrementalOverride = ((parameters != null)
+                && Boolean.TRUE.equals(parameters.get(INCREMENTAL_OVERRIDE)));
+        final String dataType = (incrementalOverride
+                ? (String) parameters.get(DATA_TYPE) : null);
+        if (incrementalOverride && (dataType == null)) {
+            statusHandler.error("ConfigLoader: Error no data type specified.");
+            return null;
         }
-        Jep jep = new Jep(false, pyIncludes,
-                ConfigLoader.class.getClassLoader(),
-                new NamingConventionClassEnquirer());
-        jep.eval("import json");
-
-        if (parameters != null) {
-            Boolean incrementalOverride = (Boolean) parameters
-                    .get(INCREMENTAL_OVERRIDE);
-            if (incrementalOverride != null && incrementalOverride) {
-                String dataType = (String) parameters.get(DATA_TYPE);
-                if (dataType == null) {
-                    statusHandler.error(
-                            "ConfigLoader: Error no data type specified.");
-                    jep.close();
-                    return null;
-                }
+        String siteParameter = (parameters == null ? null
+                : (String) parameters.get(SITE));
+        final String site = (siteParameter == null ? "None" : siteParameter);
 
-                String site = (String) parameters.get(SITE);
-                if (site == null) {
-                    site = "None";
+        /*
+         * If the result of an earlier run of this version of the file is
+         * cached, use it.
+         */
+        ConfigCache cache = ConfigCache.getInstance();
+        String cacheKey = cache.getKey(lfile, varName, siteParameter,
+                parameters, pyIncludes);
+        if (cacheKey != null) {
+            String json = cache.get(cacheKey, pyIncludes);
+            if (json != null) {
+                try {
+                    T result = MAPPER.readValue(json, clazz);
+                    source = "cache";
+                    return result;
+                } catch (IOException e) {
+                    statusHandler.debug("Discarding unreadable cached "
+                            + "configuration for " + lfile.getName(), e);
+                    cache.remove(cacheKey);
                 }
-
-                jep.eval("from Bridge import Bridge");
-                jep.eval("criteria = {'dataType':'" + dataType
-                        + "', 'filter': {'name': '" + fileName + "'}, 'site':'"
-                        + site + "', 'configDir':'" + configDir + "'}");
-
-                jep.eval("bridge = Bridge()");
-                jep.eval(varName
-                        + " = bridge.getConfigFile(json.dumps(criteria))");
-            } else {
-                jep.runScript(file.getAbsolutePath());
             }
-        } else {
-            jep.runScript(file.getAbsolutePath());
         }
 
-        String json = (String) jep.getValue("json.dumps(" + varName + ")");
-        jep.close();
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                false);
-        return mapper.readValue(json, clazz);
+        /*
+         * Run the file on a pooled interpreter, noting which modules from the
+         * include path it imported, since the cached result depends upon them
+         * as well.
+         */
+        final List<String[]> importedModuleFiles = new ArrayList<>();
+        String json = ConfigInterpreterPool.getInstance().execute(pyIncludes,
+                new ConfigInterpreterPool.IInterpreterTask<String>() {
 
+                    @Override
+                    public String run(Jep jep) throws Exception {
+                        if (incrementalOverride) {
+                            jep.eval("from Bridge import Bridge");
+                            jep.eval("criteria = {'dataType':'" + dataType
+                                    + "', 'filter': {'name': '" + fileName
+                                    + "'}, 'site':'" + site
+                                    + "', 'configDir':'" + configDir + "'}");
+
+                            jep.eval("bridge = Bridge()");
+                            jep.eval(varName
+                                    + " = bridge.getConfigFile(json.dumps(criteria))");
+                        } else {
+                            jep.runScript(file.getAbsolutePath());
+                        }
+                        String json = (String) jep
+                                .getValue("json.dumps(" + varName + ")");
+                        importedModuleFiles.addAll(ConfigInterpreterPool
+                                .getImportedModuleFiles(jep));
+                        return json;
+                    }
+                });
+        T result = MAPPER.readValue(json, clazz);
+        if (cacheKey != null) {
+            cache.put(cacheKey, json, importedModuleFiles);
+        }
+        return result;
     }
 
     public T getConfig() {
@@ -240,4 +292,14 @@ public class ConfigLoader<T> implements Runnable {
         }
         return config;
     }
+
+    /**
+     * Get the time taken to load the configuration.
+     * 
+     * @return Time in milliseconds, or -1 if the configuration has not yet
+     *         been loaded.
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
 }
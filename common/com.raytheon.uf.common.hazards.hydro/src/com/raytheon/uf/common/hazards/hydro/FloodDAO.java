@@ -73,6 +73,7 @@ import com.raytheon.uf.common.time.util.TimeUtil;
  * Mar 13, 2017 29675      Kevin.Bisanz        Return value and time from queryPhysicalElementValue(..).
  * Apr 27, 2017 29292      bkowal              Handle {@code null} ordinal values in the fpinfo view.
  * Jul 10, 2017 35819      Robert.Blum         Reducing the number of conversion done with hydro data.
+ * Oct 19, 2026            agent               Build hydrograph time series directly from query rows.
  * </pre>
  * 
  */
@@ -912,7 +913,7 @@ public class FloodDAO implements IFloodDAO {
             String physicalElement, String typeSource, long obsBeginTime,
             long obsEndTime) {
 
-        List<SHEFObserved> shefObservedList = null;
+        ShefTimeSeries timeSeries = ShefTimeSeries.EMPTY;
         if ((typeSource == null) || (typeSource.length() == 0)) {
             typeSource = queryBestObservedTypeSource(lid, physicalElement,
                     obsBeginTime, obsEndTime);
@@ -955,21 +956,17 @@ public class FloodDAO implements IFloodDAO {
                             querySB.toString(), IHFS,
                             "river observed hydrograph");
             if ((queryResults != null) && (queryResults.isEmpty() == false)) {
-                shefObservedList = Lists
-                        .newArrayListWithExpectedSize(queryResults.size());
+                ShefTimeSeries.Builder builder = new ShefTimeSeries.Builder(
+                        queryResults.size());
                 for (Object[] queryResult : queryResults) {
-                    SHEFObserved shefObserved = new SHEFObserved(queryResult);
-                    shefObservedList.add(shefObserved);
+                    builder.add(new SHEFObserved(queryResult));
                 }
-            } else {
-                shefObservedList = Lists.newArrayListWithExpectedSize(0);
+                timeSeries = builder.build();
             }
-        } else {
-            shefObservedList = Lists.newArrayListWithExpectedSize(0);
         }
         HydrographObserved hydrographObserved = new HydrographObserved(lid,
                 physicalElement, typeSource, obsBeginTime, obsEndTime,
-                shefObservedList);
+                timeSeries);
 
         return (hydrographObserved);
     }
@@ -1112,7 +1109,7 @@ public class FloodDAO implements IFloodDAO {
             String physicalElement, String typeSource, long obsBeginTime,
             long obsEndTime) {
 
-        List<SHEFPrecip> shefPrecipList = null;
+        ShefTimeSeries timeSeries = ShefTimeSeries.EMPTY;
         if ((typeSource == null) || (typeSource.length() == 0)) {
             // This is the same query used for SHEFObserved objects.
             typeSource = queryBestObservedTypeSource(lid, physicalElement);
@@ -1156,21 +1153,17 @@ public class FloodDAO implements IFloodDAO {
                             querySB.toString(), IHFS,
                             "river precip hydrograph");
             if ((queryResults != null) && (queryResults.isEmpty() == false)) {
-                shefPrecipList = Lists
-                        .newArrayListWithExpectedSize(queryResults.size());
+                ShefTimeSeries.Builder builder = new ShefTimeSeries.Builder(
+                        queryResults.size());
                 for (Object[] queryResult : queryResults) {
-                    SHEFPrecip shefPrecip = new SHEFPrecip(queryResult);
-                    shefPrecipList.add(shefPrecip);
+                    builder.add(new SHEFPrecip(queryResult));
                 }
-            } else {
-                shefPrecipList = Lists.newArrayListWithExpectedSize(0);
+                timeSeries = builder.build();
             }
-        } else {
-            shefPrecipList = Lists.newArrayListWithExpectedSize(0);
         }
         HydrographPrecip hydrographPrecip = new HydrographPrecip(lid,
                 physicalElement, typeSource, obsBeginTime, obsEndTime,
-                shefPrecipList);
+                timeSeries);
 
         return (hydrographPrecip);
     }
@@ -1199,37 +1192,32 @@ public class FloodDAO implements IFloodDAO {
                             lid, physicalElement, typeSource, currentSystemTime,
                             endValidTime, basisBeginTime, useLatestForecast,
                             uniqueBasisList);
-                    if (hydrographForecast != null) {
-                        List<SHEFForecast> shefForecastList = hydrographForecast
-                                .getShefHydroDataList();
-                        if ((shefForecastList != null)
-                                && (shefForecastList.isEmpty() == false)) {
-                            break;
-                        }
+                    if ((hydrographForecast != null) && (hydrographForecast
+                            .getTimeSeries().isEmpty() == false)) {
+                        break;
                     }
                 } else {
                     hydrographForecast = new HydrographForecast(lid,
                             physicalElement, typeSource, currentSystemTime,
                             endValidTime, basisBeginTime, useLatestForecast,
-                            null, null);
+                            null, ShefTimeSeries.EMPTY);
                 }
             }
         }
 
         if (hydrographForecast != null) {
-            List<SHEFForecast> origForecastList = hydrographForecast
-                    .getShefHydroDataList();
-            if ((origForecastList != null)
-                    && (origForecastList.isEmpty() == false)) {
+            if (hydrographForecast.getTimeSeries().isEmpty() == false) {
                 List<SHEFForecast> shefForecastList = processKeepShefForecast(
-                        origForecastList, uniqueBasisList);
+                        hydrographForecast.getShefHydroDataList(),
+                        uniqueBasisList);
                 hydrographForecast.setShefHydroDataList(shefForecastList);
             }
             returnHydrographForecast = hydrographForecast;
         } else {
             returnHydrographForecast = new HydrographForecast(lid,
                     physicalElement, "", currentSystemTime, endValidTime,
-                    basisBeginTime, useLatestForecast, null, null);
+                    basisBeginTime, useLatestForecast, null,
+                    ShefTimeSeries.EMPTY);
 
         }
 
@@ -1321,24 +1309,21 @@ public class FloodDAO implements IFloodDAO {
             querySB.append(" ORDER BY validtime ASC");
         }
 
-        List<SHEFForecast> shefForecastList = null;
+        ShefTimeSeries timeSeries = ShefTimeSeries.EMPTY;
         List<Object[]> queryResults = DatabaseQueryUtil.executeDatabaseQuery(
                 QUERY_MODE.MODE_SQLQUERY, querySB.toString(), IHFS,
                 "river forecast hydrograph");
         if ((queryResults != null) && (queryResults.isEmpty() == false)) {
-            shefForecastList = Lists
-                    .newArrayListWithExpectedSize(queryResults.size());
+            ShefTimeSeries.Builder builder = new ShefTimeSeries.Builder(
+                    queryResults.size());
             for (Object[] queryResult : queryResults) {
-                SHEFForecast shefForecast = new SHEFForecast(queryResult);
-                shefForecastList.add(shefForecast);
+                builder.add(new SHEFForecast(queryResult));
             }
-        } else {
-            shefForecastList = Lists.newArrayListWithExpectedSize(0);
+            timeSeries = builder.build();
         }
         HydrographForecast hydrographForecast = new HydrographForecast(lid,
                 physicalElement, typeSource, systemTime, endValidTime,
-                basisBeginTime, useLatestForecast, basisTimeList,
-                shefForecastList);
+                basisBeginTime, useLatestForecast, basisTimeList, timeSeries);
 
         return (hydrographForecast);
     }
@@ -1,9 +1,9 @@
 package com.raytheon.uf.common.hazards.hydro;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-
 /**
  * 
  * Description: Represents a generic (abstract) hydrograph. This is a time
@@ -27,6 +27,12 @@ import com.google.common.collect.Lists;
  * May 08, 2015 6562       Chris.Cody  Restructure River Forecast Points/Recommender
  * May 28, 2015 7139       Chris.Cody  Add SHEF Precip sub class. Add get earliest/latest SHEF object
  * May 04, 2016 15584      Kevin.Bisanz Add toString()
+ * Oct 18, 2026            agent       Added columnar time series view.
+ * Oct 19, 2026            agent       Made SHEF list unmodifiable and build the
+ *                                     time series view when it is set.
+ * Oct 19, 2026            agent       Hold only the columnar time series, and
+ *                                     create the SHEF objects from it when
+ *                                     they are requested.
  * 
  * </pre>
  * 
@@ -50,12 +56,19 @@ public abstract class Hydrograph<T extends SHEFBase> {
     protected String typeSource;
 
     /**
-     * Container for hydro time series data.
+     * Hydro time series data; this is the only copy of the data held.
+     */
+    private volatile ShefTimeSeries timeSeries;
+
+    /**
+     * Unmodifiable list of SHEF objects derived from {@link #timeSeries}, or
+     * <code>null</code> if it has not yet been requested since the latter was
+     * last set.
      */
-    protected List<T> shefHydroDataList;
+    private List<T> shefHydroDataList;
 
     public Hydrograph() {
-        this.shefHydroDataList = Lists.newArrayList();
+        this.timeSeries = ShefTimeSeries.EMPTY;
     }
 
     protected Hydrograph(String lid, String physicalElement, String typeSource,
@@ -63,11 +76,15 @@ public abstract class Hydrograph<T extends SHEFBase> {
         this.lid = lid;
         this.physicalElement = physicalElement;
         this.typeSource = typeSource;
-        if (shefHydroDataList != null) {
-            this.shefHydroDataList = shefHydroDataList;
-        } else {
-            this.shefHydroDataList = Lists.newArrayList();
-        }
+        setShefHydroDataList(shefHydroDataList);
+    }
+
+    protected Hydrograph(String lid, String physicalElement, String typeSource,
+            ShefTimeSeries timeSeries) {
+        this.lid = lid;
+        this.physicalElement = physicalElement;
+        this.typeSource = typeSource;
+        setTimeSeries(timeSeries);
     }
 
     /**
@@ -118,55 +135,68 @@ public abstract class Hydrograph<T extends SHEFBase> {
     }
 
     /**
-     * Set a new list of SHEF Time Series sub data objects.
+     * Set a new list of SHEF Time Series sub data objects. The list is not
+     * retained; the columnar time series is built from it. If any of the SHEF
+     * objects are modified afterward, this method must be called again for
+     * the hydrograph to reflect the modifications.
      * 
      * @param shefHydroDataList
      *            List of SHEF (Forecast, Observed, Precip) Time Series data
      *            objects.
      */
     public void setShefHydroDataList(List<T> shefHydroDataList) {
-        if (shefHydroDataList != null) {
-            this.shefHydroDataList = shefHydroDataList;
-        } else {
-            this.shefHydroDataList = Lists.newArrayList();
-        }
+        setTimeSeries(ShefTimeSeries.fromShefList(shefHydroDataList));
     }
 
     /**
-     * Return a list of all queried SHEF Time Series sub data objects.
+     * Set a new SHEF Time Series.
      * 
-     * @return List of SHEF (Forecast, Observed, Precip) Time Series data
-     *         objects.
+     * @param timeSeries
+     *            Time series; if <code>null</code>, an empty time series is
+     *            used.
      */
-    public List<T> getShefHydroDataList() {
-        return (this.shefHydroDataList);
+    public synchronized void setTimeSeries(ShefTimeSeries timeSeries) {
+        this.timeSeries = (timeSeries == null ? ShefTimeSeries.EMPTY
+                : timeSeries);
+        this.shefHydroDataList = null;
     }
 
-    public T getShefHydroByValue(boolean isMax) {
-        T shefHydroData = null;
-        double shefHydroDataValue = 0.0D;
+    /**
+     * Get the columnar, time-sorted SHEF Time Series data. Lookups by time
+     * against it are binary searches that do not create SHEF objects.
+     * 
+     * @return Time series.
+     */
+    public ShefTimeSeries getTimeSeries() {
+        return (this.timeSeries);
+    }
 
-        for (T tempShefHydroData : this.shefHydroDataList) {
-            if (shefHydroData != null) {
-                double tempShefHydroDataValue = tempShefHydroData.getValue();
-                if (isMax == true) {
-                    if (tempShefHydroDataValue > shefHydroDataValue) {
-                        shefHydroData = tempShefHydroData;
-                        shefHydroDataValue = tempShefHydroDataValue;
-                    }
-                } else {
-                    if (tempShefHydroDataValue < shefHydroDataValue) {
-                        shefHydroData = tempShefHydroData;
-                        shefHydroDataValue = tempShefHydroDataValue;
-                    }
-                }
-            } else {
-                shefHydroData = tempShefHydroData;
-                shefHydroDataValue = tempShefHydroData.getValue();
+    /**
+     * Return a list of all queried SHEF Time Series sub data objects. The
+     * objects are created from the time series the first time this is
+     * invoked after the latter is set.
+     * 
+     * @return Unmodifiable list of SHEF (Forecast, Observed, Precip) Time
+     *         Series data objects, sorted by time.
+     */
+    public synchronized List<T> getShefHydroDataList() {
+        if (this.shefHydroDataList == null) {
+            ShefTimeSeries timeSeries = this.timeSeries;
+            List<T> shefHydroDataList = new ArrayList<>(timeSeries.size());
+            for (int j = 0; j < timeSeries.size(); j++) {
+                shefHydroDataList.add(createShefHydroData(timeSeries, j));
             }
+            this.shefHydroDataList = Collections
+                    .unmodifiableList(shefHydroDataList);
         }
+        return (this.shefHydroDataList);
+    }
 
-        return (shefHydroData);
+    public T getShefHydroByValue(boolean isMax) {
+        ShefTimeSeries timeSeries = getTimeSeries();
+        return (getShefHydroData(timeSeries,
+                (isMax ? timeSeries.getMaxValueIndex()
+                        : timeSeries.getMinValueIndex())));
     }
 
     /**
@@ -194,30 +224,12 @@ public abstract class Hydrograph<T extends SHEFBase> {
     }
 
     public T getShefHydroDataByTime(boolean isEarliest) {
-        T shefHydroData = null;
-        long shefHydroDataTime = 0L;
-
-        for (T tempShefHydroData : this.shefHydroDataList) {
-            if (shefHydroData != null) {
-                long tempShefTime = tempShefHydroData.getTime();
-                if (isEarliest == true) {
-                    if (tempShefTime < shefHydroDataTime) {
-                        shefHydroData = tempShefHydroData;
-                        shefHydroDataTime = tempShefTime;
-                    }
-                } else {
-                    if (tempShefTime > shefHydroDataTime) {
-                        shefHydroData = tempShefHydroData;
-                        shefHydroDataTime = tempShefTime;
-                    }
-                }
-            } else {
-                shefHydroData = tempShefHydroData;
-                shefHydroDataTime = tempShefHydroData.getTime();
-            }
+        ShefTimeSeries timeSeries = getTimeSeries();
+        if (timeSeries.isEmpty()) {
+            return null;
         }
-
-        return (shefHydroData);
+        return (getShefHydroData(timeSeries, (isEarliest ? 0
+                : timeSeries.indexOf(timeSeries.getLatestTime()))));
     }
 
     public T getEarliestShefHydroData() {
@@ -229,21 +241,11 @@ public abstract class Hydrograph<T extends SHEFBase> {
     }
 
     public long getEarliestShefHydroDataTime() {
-        T shefHydroData = getShefHydroDataByTime(true);
-        if (shefHydroData != null) {
-            return (shefHydroData.getTime());
-        } else {
-            return (RiverHydroConstants.MISSING_VALUE);
-        }
+        return (getTimeSeries().getEarliestTime());
     }
 
     public long getLatestShefHydroDataTime() {
-        T shefshefHydroData = getShefHydroDataByTime(false);
-        if (shefshefHydroData != null) {
-            return (shefshefHydroData.getTime());
-        } else {
-            return (RiverHydroConstants.MISSING_VALUE);
-        }
+        return (getTimeSeries().getLatestTime());
     }
 
     @Override
@@ -258,4 +260,44 @@ public abstract class Hydrograph<T extends SHEFBase> {
         return sb.toString();
     }
 
+    /**
+     * Create a SHEF object holding the specified sample of the specified time
+     * series.
+     * 
+     * @param timeSeries
+     *            Time series.
+     * @param index
+     *            Index of the sample within the time series.
+     * @return SHEF object.
+     */
+    protected abstract T createShefHydroData(ShefTimeSeries timeSeries,
+            int index);
+
+    /**
+     * Get the SHEF object for the specified sample of the specified time
+     * series. If the list of SHEF objects has been created for that time
+     * series, the object is taken from it; otherwise, a new object is created
+     * without creating the rest of the list.
+     * 
+     * @param timeSeries
+     *            Time series.
+     * @param index
+     *            Index of the sample within the time series, or
+     *            {@link ShefTimeSeries#NOT_FOUND}.
+     * @return SHEF object, or <code>null</code> if the index is
+     *         {@link ShefTimeSeries#NOT_FOUND}.
+     */
+    private T getShefHydroData(ShefTimeSeries timeSeries, int index) {
+        if (index == ShefTimeSeries.NOT_FOUND) {
+            return null;
+        }
+        synchronized (this) {
+            if ((this.shefHydroDataList != null)
+                    && (this.timeSeries == timeSeries)) {
+                return (this.shefHydroDataList.get(index));
+            }
+        }
+        return (createShefHydroData(timeSeries, index));
+    }
+
 }
@@ -37,6 +37,7 @@ import com.google.common.collect.Lists;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * May 08, 2015 6562       Chris.Cody  Initial creation: Restructure River Forecast Points/Recommender
+ * Oct 19, 2026            agent       Added time series constructor.
  * 
  * </pre>
  * 
@@ -96,6 +97,24 @@ public class HydrographForecast extends Hydrograph<SHEFForecast> {
         this.useLatestForecast = useLatestForecast;
     }
 
+    public HydrographForecast(String lid, String physicalElement,
+            String typeSource, long systemTime, long endValidTime,
+            long basisBTime, boolean useLatestForecast,
+            List<Long> basisTimeList, ShefTimeSeries timeSeries) {
+
+        super(lid, physicalElement, typeSource, timeSeries);
+        if (basisTimeList != null) {
+            this.basisTimeList = basisTimeList;
+        } else {
+            this.basisTimeList = Lists.newArrayList();
+        }
+
+        this.systemTime = systemTime;
+        this.endValidTime = endValidTime;
+        this.basisBTime = basisBTime;
+        this.useLatestForecast = useLatestForecast;
+    }
+
     /**
      * Get Current System Time of Forecast.
      * 
@@ -141,4 +160,10 @@ public class HydrographForecast extends Hydrograph<SHEFForecast> {
         return (this.basisTimeList);
     }
 
+    @Override
+    protected SHEFForecast createShefHydroData(ShefTimeSeries timeSeries,
+            int index) {
+        return (new SHEFForecast(timeSeries, index));
+    }
+
 }
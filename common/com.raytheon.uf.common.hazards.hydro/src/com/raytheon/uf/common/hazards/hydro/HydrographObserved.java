@@ -35,6 +35,7 @@ import java.util.List;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * May 08, 2015 6562       Chris.Cody  Initial creation: Restructure River Forecast Points/Recommender
+ * Oct 19, 2026            agent       Added time series constructor.
  * 
  * </pre>
  * 
@@ -65,6 +66,14 @@ public class HydrographObserved extends Hydrograph<SHEFObserved> {
         this.obsEndTime = obsEndTime;
     }
 
+    public HydrographObserved(String lid, String physicalElement,
+            String typeSource, long obsBeginTime, long obsEndTime,
+            ShefTimeSeries timeSeries) {
+        super(lid, physicalElement, typeSource, timeSeries);
+        this.obsBeginTime = obsBeginTime;
+        this.obsEndTime = obsEndTime;
+    }
+
     /**
      * Get Current Start of Observed Time.
      * 
@@ -83,4 +92,10 @@ public class HydrographObserved extends Hydrograph<SHEFObserved> {
         return (this.obsEndTime);
     }
 
+    @Override
+    protected SHEFObserved createShefHydroData(ShefTimeSeries timeSeries,
+            int index) {
+        return (new SHEFObserved(timeSeries, index));
+    }
+
 }
@@ -35,6 +35,7 @@ import java.util.List;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * May 28, 2015 7139       Chris.Cody  Initial creation: Restructure River Forecast Points/Recommender
+ * Oct 19, 2026            agent       Added time series constructor.
  * 
  * </pre>
  * 
@@ -82,6 +83,14 @@ public class HydrographPrecip extends Hydrograph<SHEFPrecip> {
         this.obsEndTime = obsEndTime;
     }
 
+    public HydrographPrecip(String lid, String physicalElement,
+            String typeSource, long obsBeginTime, long obsEndTime,
+            ShefTimeSeries timeSeries) {
+        super(lid, physicalElement, typeSource, timeSeries);
+        this.obsBeginTime = obsBeginTime;
+        this.obsEndTime = obsEndTime;
+    }
+
     /**
      * Get Current Start of Observed Time.
      * 
@@ -100,4 +109,10 @@ public class HydrographPrecip extends Hydrograph<SHEFPrecip> {
         return (this.obsEndTime);
     }
 
+    @Override
+    protected SHEFPrecip createShefHydroData(ShefTimeSeries timeSeries,
+            int index) {
+        return (new SHEFPrecip(timeSeries, index));
+    }
+
 }
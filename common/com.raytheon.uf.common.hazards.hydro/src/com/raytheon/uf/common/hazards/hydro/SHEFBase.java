@@ -32,6 +32,8 @@ package com.raytheon.uf.common.hazards.hydro;
  * July 2012               Bryon.Lawrence    Initial creation
  * May 1, 2014  3581       bkowal      Relocate to common hazards hydro
  * May 08, 2015 6562       Chris.Cody  Restructure River Forecast Points/Recommender
+ * Oct 19, 2026            agent       Added constructor taking a sample of a
+ *                                     columnar time series.
  * 
  * </pre>
  * 
@@ -100,6 +102,36 @@ public abstract class SHEFBase {
      */
     protected long postingTime;
 
+    /**
+     * Construct a standard instance with all fields at their defaults.
+     */
+    protected SHEFBase() {
+    }
+
+    /**
+     * Construct a standard instance holding the fields common to all SHEF
+     * data of the specified sample of a time series.
+     * 
+     * @param timeSeries
+     *            Time series.
+     * @param index
+     *            Index of the sample within the time series.
+     */
+    protected SHEFBase(ShefTimeSeries timeSeries, int index) {
+        this.lid = timeSeries.getLid(index);
+        this.physicalElement = timeSeries.getPhysicalElement(index);
+        this.duration = timeSeries.getDuration(index);
+        this.typeSource = timeSeries.getTypeSource(index);
+        this.extremum = timeSeries.getExtremum(index);
+        this.value = timeSeries.getValue(index);
+        this.shefQualCode = timeSeries.getShefQualCode(index);
+        this.qualityCode = timeSeries.getQualityCode(index);
+        this.revision = timeSeries.getRevision(index);
+        this.productId = timeSeries.getProductId(index);
+        this.productTime = timeSeries.getProductTime(index);
+        this.postingTime = timeSeries.getPostingTime(index);
+    }
+
     /**
      * Get Forecast Point Identifier.
      * 
@@ -42,6 +42,8 @@ import com.raytheon.uf.common.util.StringUtil;
  * Jul 22, 2015 9670       Chris.Cody  Changes for Base database query result numeric casting
  * Aug 13, 2015 9670       mpduff      Fix bug where validtime is incorrectly set.
  * May 04, 2016 15584      Kevin.Bisanz Updated toString().
+ * Oct 19, 2026            agent       Added constructor taking a sample of a
+ *                                     columnar time series.
  * 
  * </pre>
  * 
@@ -110,6 +112,22 @@ public final class SHEFForecast extends SHEFBase {
         super();
     }
 
+    /**
+     * Construct a standard instance from the specified sample of a time
+     * series.
+     * 
+     * @param timeSeries
+     *            Time series.
+     * @param index
+     *            Index of the sample within the time series.
+     */
+    SHEFForecast(ShefTimeSeries timeSeries, int index) {
+        super(timeSeries, index);
+        this.validTime = timeSeries.getTime(index);
+        this.basisTime = timeSeries.getBasisTime(index);
+        this.probability = timeSeries.getProbability(index);
+    }
+
     public SHEFForecast(Object[] queryResult) {
         super();
         if (queryResult != null) {
@@ -42,6 +42,8 @@ import com.raytheon.uf.common.util.StringUtil;
  * Aug 13, 2015 9670       mpduff      Added toString().
  * May 04, 2016 15584      Kevin.Bisanz Updated toString().
  * Jun 16, 2017 35199      Robert.Blum Removed unneeded getter/setters.
+ * Oct 19, 2026            agent       Added constructor taking a sample of a
+ *                                     columnar time series.
  * 
  * </pre>
  * 
@@ -96,6 +98,20 @@ public final class SHEFObserved extends SHEFBase {
         super();
     }
 
+    /**
+     * Construct a standard instance from the specified sample of a time
+     * series.
+     * 
+     * @param timeSeries
+     *            Time series.
+     * @param index
+     *            Index of the sample within the time series.
+     */
+    SHEFObserved(ShefTimeSeries timeSeries, int index) {
+        super(timeSeries, index);
+        this.obsTime = timeSeries.getTime(index);
+    }
+
     public SHEFObserved(Object[] queryResult) {
         super();
         if (queryResult != null) {
@@ -37,6 +37,8 @@ import com.raytheon.uf.common.status.UFStatus;
  * May 29, 2015 7139       Chris.Cody  Initial creation: Add SHEF Precipitation (curpc or curpp) query and processing
  * Jul 22, 2015 9670       Chris.Cody  Changes for Base database query result numeric casting
  * Jun 16, 2017 35199      Robert.Blum Removed unneeded getter/setters.
+ * Oct 19, 2026            agent       Added constructor taking a sample of a
+ *                                     columnar time series.
  * 
  * </pre>
  * 
@@ -90,6 +92,20 @@ public final class SHEFPrecip extends SHEFBase {
         super();
     }
 
+    /**
+     * Construct a standard instance from the specified sample of a time
+     * series.
+     * 
+     * @param timeSeries
+     *            Time series.
+     * @param index
+     *            Index of the sample within the time series.
+     */
+    SHEFPrecip(ShefTimeSeries timeSeries, int index) {
+        super(timeSeries, index);
+        this.obsTime = timeSeries.getTime(index);
+    }
+
     public SHEFPrecip(Object[] queryResult) {
         super();
         if (queryResult != null) {
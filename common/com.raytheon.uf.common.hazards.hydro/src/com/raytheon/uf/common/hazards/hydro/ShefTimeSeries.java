@@ -0,0 +1,972 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.hazards.hydro;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+/**
+ * 
+ * Description: Immutable, columnar representation of a SHEF time series.
+ * Rather than holding one {@link SHEFBase} object per sample, the samples are
+ * held in parallel primitive arrays sorted by time: valid (or observation)
+ * times in a <code>long[]</code>, values in a <code>double[]</code>, the
+ * string fields dictionary-encoded as indices into small string tables, and
+ * extremum and revision bit-packed into a single <code>int</code> per sample.
+ * Every field of the SHEF objects is held, so that they may be recreated from
+ * the series when needed (see {@link Hydrograph#getShefHydroDataList()}).
+ * <p>
+ * Instances are built either by a {@link Builder} filled as query rows are
+ * read, or from an existing list of SHEF objects (see
+ * {@link #fromShefList(List)}), and are safe to share between threads.
+ * Lookups by time are binary searches and do not materialize per-sample
+ * objects.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * Oct 19, 2026            agent       Made the builder private, and check that
+ *                                     durations fit in an int.
+ * Oct 19, 2026            agent       Added the remaining SHEF fields, so that
+ *                                     SHEF objects may be recreated from a
+ *                                     series, and made the builder public so
+ *                                     that series may be built from query
+ *                                     rows.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+public final class ShefTimeSeries {
+
+    // Public Static Constants
+
+    /**
+     * Index returned by lookups when no sample satisfies the request.
+     */
+    public static final int NOT_FOUND = -1;
+
+    /**
+     * Empty time series.
+     */
+    public static final ShefTimeSeries EMPTY = new Builder(0).build();
+
+    // Private Static Constants
+
+    /**
+     * Mask for the extremum character within a packed flags value.
+     */
+    private static final int EXTREMUM_MASK = 0xFFFF;
+
+    /**
+     * Shift of the revision bit within a packed flags value.
+     */
+    private static final int REVISION_SHIFT = 16;
+
+    /**
+     * Maximum number of distinct values in a dictionary-encoded column.
+     */
+    private static final int MAX_DICTIONARY_SIZE = Character.MAX_VALUE + 1;
+
+    // Private Variables
+
+    /**
+     * Number of samples.
+     */
+    private final int size;
+
+    /**
+     * Sample times in epoch milliseconds, ascending; these are valid times
+     * for forecasts and observation times otherwise.
+     */
+    private final long[] times;
+
+    /**
+     * Sample values.
+     */
+    private final double[] values;
+
+    /**
+     * Sample durations.
+     */
+    private final int[] durations;
+
+    /**
+     * Sample observation quality codes.
+     */
+    private final long[] qualityCodes;
+
+    /**
+     * Sample product times in epoch milliseconds.
+     */
+    private final long[] productTimes;
+
+    /**
+     * Sample posting times in epoch milliseconds.
+     */
+    private final long[] postingTimes;
+
+    /**
+     * Sample basis times in epoch milliseconds, for forecasts.
+     */
+    private final long[] basisTimes;
+
+    /**
+     * Sample probabilities, for forecasts.
+     */
+    private final double[] probabilities;
+
+    /**
+     * Sample location identifiers.
+     */
+    private final StringColumn lids;
+
+    /**
+     * Sample physical elements.
+     */
+    private final StringColumn physicalElements;
+
+    /**
+     * Sample type sources.
+     */
+    private final StringColumn typeSources;
+
+    /**
+     * Sample SHEF qualifiers.
+     */
+    private final StringColumn shefQualCodes;
+
+    /**
+     * Sample product identifiers.
+     */
+    private final StringColumn productIds;
+
+    /**
+     * Packed extremum (low 16 bits) and revision (bit 16), one per sample.
+     */
+    private final int[] flags;
+
+    // Public Static Methods
+
+    /**
+     * Build a columnar time series from a list of SHEF data objects. The
+     * objects are not retained.
+     * 
+     * @param shefList
+     *            SHEF data objects; may be <code>null</code>.
+     * @return Time series holding the same samples, sorted by time.
+     */
+    public static ShefTimeSeries fromShefList(
+            List<? extends SHEFBase> shefList) {
+        if ((shefList == null) || shefList.isEmpty()) {
+            return EMPTY;
+        }
+        Builder builder = new Builder(shefList.size());
+        for (SHEFBase shef : shefList) {
+            builder.add(shef);
+        }
+        return builder.build();
+    }
+
+    // Private Constructors
+
+    /**
+     * Construct a standard instance from the specified builder's columns,
+     * which must already be sorted.
+     * 
+     * @param builder
+     *            Builder.
+     */
+    private ShefTimeSeries(Builder builder) {
+        int size = builder.size;
+        this.size = size;
+        this.times = Arrays.copyOf(builder.times, size);
+        this.values = Arrays.copyOf(builder.values, size);
+        this.durations = Arrays.copyOf(builder.durations, size);
+        this.qualityCodes = Arrays.copyOf(builder.qualityCodes, size);
+        this.productTimes = Arrays.copyOf(builder.productTimes, size);
+        this.postingTimes = Arrays.copyOf(builder.postingTimes, size);
+        this.basisTimes = Arrays.copyOf(builder.basisTimes, size);
+        this.probabilities = Arrays.copyOf(builder.probabilities, size);
+        this.lids = builder.lids.build(size);
+        this.physicalElements = builder.physicalElements.build(size);
+        this.typeSources = builder.typeSources.build(size);
+        this.shefQualCodes = builder.shefQualCodes.build(size);
+        this.productIds = builder.productIds.build(size);
+        this.flags = Arrays.copyOf(builder.flags, size);
+    }
+
+    // Public Methods
+
+    /**
+     * Get the number of samples.
+     * 
+     * @return Number of samples.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determine whether the series is empty.
+     * 
+     * @return <code>true</code> if there are no samples.
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Get the time of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Time in epoch milliseconds.
+     */
+    public long getTime(int index) {
+        checkIndex(index);
+        return times[index];
+    }
+
+    /**
+     * Get the value of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Value.
+     */
+    public double getValue(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Get the duration of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Duration.
+     */
+    public int getDuration(int index) {
+        checkIndex(index);
+        return durations[index];
+    }
+
+    /**
+     * Get the location identifier of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Location identifier; may be <code>null</code>.
+     */
+    public String getLid(int index) {
+        checkIndex(index);
+        return lids.get(index);
+    }
+
+    /**
+     * Get the physical element of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Physical element; may be <code>null</code>.
+     */
+    public String getPhysicalElement(int index) {
+        checkIndex(index);
+        return physicalElements.get(index);
+    }
+
+    /**
+     * Get the type source of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Type source; may be <code>null</code>.
+     */
+    public String getTypeSource(int index) {
+        checkIndex(index);
+        return typeSources.get(index);
+    }
+
+    /**
+     * Get the SHEF qualifier of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return SHEF qualifier; may be <code>null</code>.
+     */
+    public String getShefQualCode(int index) {
+        checkIndex(index);
+        return shefQualCodes.get(index);
+    }
+
+    /**
+     * Get the product identifier of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Product identifier; may be <code>null</code>.
+     */
+    public String getProductId(int index) {
+        checkIndex(index);
+        return productIds.get(index);
+    }
+
+    /**
+     * Get the extremum of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Extremum.
+     */
+    public char getExtremum(int index) {
+        checkIndex(index);
+        return (char) (flags[index] & EXTREMUM_MASK);
+    }
+
+    /**
+     * Get the revision flag of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Revision, either <code>0</code> or <code>1</code>.
+     */
+    public int getRevision(int index) {
+        checkIndex(index);
+        return (flags[index] >>> REVISION_SHIFT) & 1;
+    }
+
+    /**
+     * Get the observation quality code of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Quality code.
+     */
+    public long getQualityCode(int index) {
+        checkIndex(index);
+        return qualityCodes[index];
+    }
+
+    /**
+     * Get the product time of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Product time in epoch milliseconds.
+     */
+    public long getProductTime(int index) {
+        checkIndex(index);
+        return productTimes[index];
+    }
+
+    /**
+     * Get the posting time of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Posting time in epoch milliseconds.
+     */
+    public long getPostingTime(int index) {
+        checkIndex(index);
+        return postingTimes[index];
+    }
+
+    /**
+     * Get the basis time of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Basis time in epoch milliseconds, or
+     *         {@link RiverHydroConstants#MISSING_VALUE} if the sample is not a
+     *         forecast.
+     */
+    public long getBasisTime(int index) {
+        checkIndex(index);
+        return basisTimes[index];
+    }
+
+    /**
+     * Get the probability of the specified sample.
+     * 
+     * @param index
+     *            Sample index.
+     * @return Probability, or
+     *         {@link RiverHydroConstants#MISSING_VALUE_DOUBLE} if the sample
+     *         is not a forecast.
+     */
+    public double getProbability(int index) {
+        checkIndex(index);
+        return probabilities[index];
+    }
+
+    /**
+     * Get the earliest sample time.
+     * 
+     * @return Earliest time, or {@link RiverHydroConstants#MISSING_VALUE} if
+     *         the series is empty.
+     */
+    public long getEarliestTime() {
+        return (size == 0 ? RiverHydroConstants.MISSING_VALUE : times[0]);
+    }
+
+    /**
+     * Get the latest sample time.
+     * 
+     * @return Latest time, or {@link RiverHydroConstants#MISSING_VALUE} if the
+     *         series is empty.
+     */
+    public long getLatestTime() {
+        return (size == 0 ? RiverHydroConstants.MISSING_VALUE
+                : times[size - 1]);
+    }
+
+    /**
+     * Get the index of the first sample at exactly the specified time.
+     * 
+     * @param time
+     *            Time in epoch milliseconds.
+     * @return Index, or {@link #NOT_FOUND} if no sample has that time.
+     */
+    public int indexOf(long time) {
+        int index = lowerBound(time);
+        return ((index < size) && (times[index] == time) ? index : NOT_FOUND);
+    }
+
+    /**
+     * Get the index of the last sample at or before the specified time.
+     * 
+     * @param time
+     *            Time in epoch milliseconds.
+     * @return Index, or {@link #NOT_FOUND} if all samples are later.
+     */
+    public int floorIndex(long time) {
+        int index = lowerBound(time);
+        if ((index < size) && (times[index] == time)) {
+            while ((index + 1 < size) && (times[index + 1] == time)) {
+                index++;
+            }
+            return index;
+        }
+        return (index == 0 ? NOT_FOUND : index - 1);
+    }
+
+    /**
+     * Get the index of the first sample at or after the specified time.
+     * 
+     * @param time
+     *            Time in epoch milliseconds.
+     * @return Index, or {@link #NOT_FOUND} if all samples are earlier.
+     */
+    public int ceilingIndex(long time) {
+        int index = lowerBound(time);
+        return (index < size ? index : NOT_FOUND);
+    }
+
+    /**
+     * Get the value of the first sample at exactly the specified time.
+     * 
+     * @param time
+     *            Time in epoch milliseconds.
+     * @return Value, or {@link RiverHydroConstants#MISSING_VALUE_DOUBLE} if
+     *         no sample has that time.
+     */
+    public double getValueAt(long time) {
+        int index = indexOf(time);
+        return (index == NOT_FOUND ? RiverHydroConstants.MISSING_VALUE_DOUBLE
+                : values[index]);
+    }
+
+    /**
+     * Get the index of the sample with the maximum value within the specified
+     * inclusive time range. Ties are resolved in favor of the earliest sample.
+     * 
+     * @param beginTime
+     *            Start of range in epoch milliseconds.
+     * @param endTime
+     *            End of range in epoch milliseconds.
+     * @return Index, or {@link #NOT_FOUND} if no sample lies in the range.
+     */
+    public int getMaxValueIndex(long beginTime, long endTime) {
+        return getExtremeValueIndex(beginTime, endTime, true);
+    }
+
+    /**
+     * Get the index of the sample with the minimum value within the specified
+     * inclusive time range. Ties are resolved in favor of the earliest sample.
+     * 
+     * @param beginTime
+     *            Start of range in epoch milliseconds.
+     * @param endTime
+     *            End of range in epoch milliseconds.
+     * @return Index, or {@link #NOT_FOUND} if no sample lies in the range.
+     */
+    public int getMinValueIndex(long beginTime, long endTime) {
+        return getExtremeValueIndex(beginTime, endTime, false);
+    }
+
+    /**
+     * Get the index of the sample with the maximum value.
+     * 
+     * @return Index, or {@link #NOT_FOUND} if the series is empty.
+     */
+    public int getMaxValueIndex() {
+        return getExtremeValueIndex(Long.MIN_VALUE, Long.MAX_VALUE, true);
+    }
+
+    /**
+     * Get the index of the sample with the minimum value.
+     * 
+     * @return Index, or {@link #NOT_FOUND} if the series is empty.
+     */
+    public int getMinValueIndex() {
+        return getExtremeValueIndex(Long.MIN_VALUE, Long.MAX_VALUE, false);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("ShefTimeSeries: ").append(size).append(" samples");
+        if (size > 0) {
+            sb.append(" [").append(times[0]).append(" - ")
+                    .append(times[size - 1]).append("]");
+        }
+        return sb.toString();
+    }
+
+    // Private Methods
+
+    /**
+     * Ensure that the specified index is within bounds.
+     * 
+     * @param index
+     *            Index to be checked.
+     * @throws IndexOutOfBoundsException
+     *             If the index is out of bounds.
+     */
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= size)) {
+            throw new IndexOutOfBoundsException(
+                    "index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * Get the index of the first sample with a time greater than or equal to
+     * the specified time.
+     * 
+     * @param time
+     *            Time in epoch milliseconds.
+     * @return Index, which is {@link #size} if all samples are earlier.
+     */
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the index of the sample with the maximum or minimum value within
+     * the specified inclusive time range.
+     * 
+     * @param beginTime
+     *            Start of range in epoch milliseconds.
+     * @param endTime
+     *            End of range in epoch milliseconds.
+     * @param isMax
+     *            Flag indicating whether the maximum or minimum is desired.
+     * @return Index, or {@link #NOT_FOUND} if no sample lies in the range.
+     */
+    private int getExtremeValueIndex(long beginTime, long endTime,
+            boolean isMax) {
+        int result = NOT_FOUND;
+        for (int j = lowerBound(beginTime); (j < size)
+                && (times[j] <= endTime); j++) {
+            if ((result == NOT_FOUND) || (isMax ? values[j] > values[result]
+                    : values[j] < values[result])) {
+                result = j;
+            }
+        }
+        return result;
+    }
+
+    // Public Classes
+
+    /**
+     * Builder used to accumulate samples, for example as the rows of a query
+     * are read. Samples may be added in any order; they are sorted by time
+     * when {@link #build()} is invoked, with samples sharing a time keeping
+     * their insertion order.
+     */
+    public static final class Builder {
+
+        // Private Variables
+
+        private int size;
+
+        private long[] times;
+
+        private double[] values;
+
+        private int[] durations;
+
+        private long[] qualityCodes;
+
+        private long[] productTimes;
+
+        private long[] postingTimes;
+
+        private long[] basisTimes;
+
+        private double[] probabilities;
+
+        private int[] flags;
+
+        private final StringColumnBuilder lids;
+
+        private final StringColumnBuilder physicalElements;
+
+        private final StringColumnBuilder typeSources;
+
+        private final StringColumnBuilder shefQualCodes;
+
+        private final StringColumnBuilder productIds;
+
+        private boolean sorted = true;
+
+        // Public Constructors
+
+        /**
+         * Construct a standard instance.
+         * 
+         * @param expectedSize
+         *            Expected number of samples.
+         */
+        public Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 1);
+            times = new long[capacity];
+            values = new double[capacity];
+            durations = new int[capacity];
+            qualityCodes = new long[capacity];
+            productTimes = new long[capacity];
+            postingTimes = new long[capacity];
+            basisTimes = new long[capacity];
+            probabilities = new double[capacity];
+            flags = new int[capacity];
+            lids = new StringColumnBuilder(capacity);
+            physicalElements = new StringColumnBuilder(capacity);
+            typeSources = new StringColumnBuilder(capacity);
+            shefQualCodes = new StringColumnBuilder(capacity);
+            productIds = new StringColumnBuilder(capacity);
+        }
+
+        // Public Methods
+
+        /**
+         * Add a sample holding the fields of the specified SHEF object, which
+         * is not retained.
+         * 
+         * @param shef
+         *            SHEF object.
+         * @return This builder.
+         * @throws ArithmeticException
+         *             If the duration does not fit in an <code>int</code>.
+         * @throws IllegalStateException
+         *             If one of the string fields has more distinct values
+         *             than can be encoded.
+         */
+        public Builder add(SHEFBase shef) {
+            if (size == times.length) {
+                grow();
+            }
+            long time = shef.getTime();
+            if ((size > 0) && (time < times[size - 1])) {
+                sorted = false;
+            }
+            times[size] = time;
+            values[size] = shef.getValue();
+            durations[size] = Math.toIntExact(shef.getDuration());
+            qualityCodes[size] = shef.getQualityCode();
+            productTimes[size] = shef.getProductTime();
+            postingTimes[size] = shef.getPostingTime();
+            if (shef instanceof SHEFForecast) {
+                SHEFForecast forecast = (SHEFForecast) shef;
+                basisTimes[size] = forecast.getBasisTime();
+                probabilities[size] = forecast.getProbability();
+            } else {
+                basisTimes[size] = RiverHydroConstants.MISSING_VALUE;
+                probabilities[size] = RiverHydroConstants.MISSING_VALUE_DOUBLE;
+            }
+            flags[size] = (shef.getExtremum() & EXTREMUM_MASK)
+                    | ((shef.getRevision() != 0 ? 1 : 0) << REVISION_SHIFT);
+            lids.set(size, shef.getLid());
+            physicalElements.set(size, shef.getPhysicalElement());
+            typeSources.set(size, shef.getTypeSource());
+            shefQualCodes.set(size, shef.getShefQualCode());
+            productIds.set(size, shef.getProductId());
+            size++;
+            return this;
+        }
+
+        /**
+         * Build the time series. The builder should not be used afterward.
+         * 
+         * @return Time series.
+         */
+        public ShefTimeSeries build() {
+            if (sorted == false) {
+                sort();
+            }
+            return new ShefTimeSeries(this);
+        }
+
+        // Private Methods
+
+        /**
+         * Double the capacity of the columns.
+         */
+        private void grow() {
+            int capacity = times.length * 2;
+            times = Arrays.copyOf(times, capacity);
+            values = Arrays.copyOf(values, capacity);
+            durations = Arrays.copyOf(durations, capacity);
+            qualityCodes = Arrays.copyOf(qualityCodes, capacity);
+            productTimes = Arrays.copyOf(productTimes, capacity);
+            postingTimes = Arrays.copyOf(postingTimes, capacity);
+            basisTimes = Arrays.copyOf(basisTimes, capacity);
+            probabilities = Arrays.copyOf(probabilities, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            lids.grow(capacity);
+            physicalElements.grow(capacity);
+            typeSources.grow(capacity);
+            shefQualCodes.grow(capacity);
+            productIds.grow(capacity);
+        }
+
+        /**
+         * Stable-sort all columns by time. This is only needed when samples
+         * were not added in ascending time order, which is rare since the
+         * hydrograph queries order by time.
+         */
+        private void sort() {
+            Integer[] order = new Integer[size];
+            for (int j = 0; j < size; j++) {
+                order[j] = j;
+            }
+            final long[] keys = times;
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer o1, Integer o2) {
+                    return Long.compare(keys[o1], keys[o2]);
+                }
+            });
+            long[] sortedTimes = new long[size];
+            double[] sortedValues = new double[size];
+            int[] sortedDurations = new int[size];
+            long[] sortedQualityCodes = new long[size];
+            long[] sortedProductTimes = new long[size];
+            long[] sortedPostingTimes = new long[size];
+            long[] sortedBasisTimes = new long[size];
+            double[] sortedProbabilities = new double[size];
+            int[] sortedFlags = new int[size];
+            for (int j = 0; j < size; j++) {
+                int source = order[j];
+                sortedTimes[j] = times[source];
+                sortedValues[j] = values[source];
+                sortedDurations[j] = durations[source];
+                sortedQualityCodes[j] = qualityCodes[source];
+                sortedProductTimes[j] = productTimes[source];
+                sortedPostingTimes[j] = postingTimes[source];
+                sortedBasisTimes[j] = basisTimes[source];
+                sortedProbabilities[j] = probabilities[source];
+                sortedFlags[j] = flags[source];
+            }
+            times = sortedTimes;
+            values = sortedValues;
+            durations = sortedDurations;
+            qualityCodes = sortedQualityCodes;
+            productTimes = sortedProductTimes;
+            postingTimes = sortedPostingTimes;
+            basisTimes = sortedBasisTimes;
+            probabilities = sortedProbabilities;
+            flags = sortedFlags;
+            lids.reorder(order, size);
+            physicalElements.reorder(order, size);
+            typeSources.reorder(order, size);
+            shefQualCodes.reorder(order, size);
+            productIds.reorder(order, size);
+            sorted = true;
+        }
+    }
+
+    // Private Classes
+
+    /**
+     * Dictionary-encoded column of strings, holding for each sample the index
+     * of its value within a table of the distinct values.
+     */
+    private static final class StringColumn {
+
+        // Private Variables
+
+        private final char[] codes;
+
+        private final String[] dictionary;
+
+        // Package Constructors
+
+        /**
+         * Construct a standard instance.
+         * 
+         * @param codes
+         *            Dictionary indices, one per sample.
+         * @param dictionary
+         *            Distinct values.
+         */
+        StringColumn(char[] codes, String[] dictionary) {
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        // Package Methods
+
+        /**
+         * Get the value of the specified sample.
+         * 
+         * @param index
+         *            Sample index.
+         * @return Value; may be <code>null</code>.
+         */
+        String get(int index) {
+            return dictionary[codes[index]];
+        }
+    }
+
+    /**
+     * Builder of a {@link StringColumn}.
+     */
+    private static final class StringColumnBuilder {
+
+        // Private Variables
+
+        private char[] codes;
+
+        private final Map<String, Character> indices = Maps.newHashMap();
+
+        private String[] dictionary = new String[4];
+
+        // Package Constructors
+
+        /**
+         * Construct a standard instance.
+         * 
+         * @param capacity
+         *            Initial number of samples for which to make room.
+         */
+        StringColumnBuilder(int capacity) {
+            codes = new char[capacity];
+        }
+
+        // Package Methods
+
+        /**
+         * Set the value of the specified sample, adding it to the dictionary
+         * if necessary.
+         * 
+         * @param index
+         *            Sample index.
+         * @param value
+         *            Value; may be <code>null</code>.
+         * @throws IllegalStateException
+         *             If the dictionary is full.
+         */
+        void set(int index, String value) {
+            Character code = indices.get(value);
+            if (code == null) {
+                int size = indices.size();
+                if (size == MAX_DICTIONARY_SIZE) {
+                    throw new IllegalStateException("more than "
+                            + MAX_DICTIONARY_SIZE + " distinct values");
+                }
+                if (size == dictionary.length) {
+                    dictionary = Arrays.copyOf(dictionary, size * 2);
+                }
+                code = (char) size;
+                dictionary[size] = value;
+                indices.put(value, code);
+            }
+            codes[index] = code;
+        }
+
+        /**
+         * Make room for the specified number of samples.
+         * 
+         * @param capacity
+         *            New capacity.
+         */
+        void grow(int capacity) {
+            codes = Arrays.copyOf(codes, capacity);
+        }
+
+        /**
+         * Reorder the samples.
+         * 
+         * @param order
+         *            Index of the sample to be placed at each position.
+         * @param size
+         *            Number of samples.
+         */
+        void reorder(Integer[] order, int size) {
+            char[] sortedCodes = new char[size];
+            for (int j = 0; j < size; j++) {
+                sortedCodes[j] = codes[order[j]];
+            }
+            codes = sortedCodes;
+        }
+
+        /**
+         * Build the column.
+         * 
+         * @param size
+         *            Number of samples.
+         * @return Column.
+         */
+        StringColumn build(int size) {
+            return new StringColumn(Arrays.copyOf(codes, size),
+                    Arrays.copyOf(dictionary, indices.size()));
+        }
+    }
+}
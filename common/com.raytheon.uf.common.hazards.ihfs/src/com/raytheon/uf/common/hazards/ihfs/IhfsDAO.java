@@ -19,15 +19,12 @@
  */
 package com.raytheon.uf.common.hazards.ihfs;
 
-import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.raytheon.uf.common.dataaccess.util.DatabaseQueryUtil;
 import com.raytheon.uf.common.dataaccess.util.DatabaseQueryUtil.QUERY_MODE;
 import com.raytheon.uf.common.hazards.ihfs.data.AbstractTableData;
-import com.raytheon.uf.common.status.IUFStatusHandler;
-import com.raytheon.uf.common.status.UFStatus;
 
 /**
  * Product data accessor implementation of the IIhfsDAO to access ihfs data.
@@ -42,6 +39,8 @@ import com.raytheon.uf.common.status.UFStatus;
  * ------------ ---------- -----------         --------------------------
  * Jul 28, 2015 8839       Chris.Cody  Initial Creation
  * Aug 14, 2015 9988       Chris.Cody  Add Aggregate query functions
+ * Oct 18, 2026            agent       Removed singleton lock, and map rows
+ *                                     through cached per-shape row mappers.
  * </pre>
  * 
  * @author Chris.Cody
@@ -52,13 +51,12 @@ public class IhfsDAO implements IIhfsDAO {
     /** String constant "ifhs" This IS case sensitive. */
     public static final String IHFS_DATABASE_NAME = "ihfs";
 
-    private static final transient IUFStatusHandler statusHandler = UFStatus
-            .getHandler(IhfsDAO.class);
-
     /**
-     * Singleton instance of this IHFS data access object
+     * Singleton instance of this IHFS data access object. This is created
+     * eagerly since the object is stateless, which avoids locking on every
+     * call to {@link #getInstance()}.
      */
-    private static IIhfsDAO ihfsDAOInstance = null;
+    private static final IIhfsDAO ihfsDAOInstance = new IhfsDAO();
 
     /**
      * Private constructor. This prevents it from being called and helps to
@@ -78,12 +76,7 @@ public class IhfsDAO implements IIhfsDAO {
      * 
      * @return An instance of this IHFS data access object
      */
-    public synchronized static final IIhfsDAO getInstance() {
-
-        if (ihfsDAOInstance == null) {
-            ihfsDAOInstance = new IhfsDAO();
-        }
-
+    public static final IIhfsDAO getInstance() {
         return ihfsDAOInstance;
     }
 
@@ -99,13 +92,11 @@ public class IhfsDAO implements IIhfsDAO {
     public List<AbstractTableData> queryIhfsData(SimpleIhfsQuery simpleIhfsQuery)
             throws IhfsDatabaseException {
 
-        List<AbstractTableData> returnDataList = new ArrayList<>();
         try {
             String sqlStatement = simpleIhfsQuery.buildSqlStatement();
-            List<String> selectColumnList = simpleIhfsQuery
-                    .getSelectColumnList();
-            Class<? extends AbstractTableData> returnObjClass = simpleIhfsQuery
-                    .getReturnObjClass();
+            IhfsRowMapper rowMapper = IhfsRowMapper.getInstance(
+                    simpleIhfsQuery.getReturnObjClass(),
+                    simpleIhfsQuery.getSelectColumnList());
             boolean isFirst = true;
             StringBuilder sb = new StringBuilder();
             sb.append("Query From ");
@@ -120,20 +111,20 @@ public class IhfsDAO implements IIhfsDAO {
             List<Object[]> queryResultList = DatabaseQueryUtil
                     .executeDatabaseQuery(QUERY_MODE.MODE_SQLQUERY,
                             sqlStatement, IHFS_DATABASE_NAME, sb.toString());
-            if ((queryResultList != null)
-                    && (queryResultList.isEmpty() == false)) {
-                AbstractTableData returnDataObject = null;
-                for (Object[] queryResult : queryResultList) {
-                    returnDataObject = returnObjClass.newInstance();
-                    setReturnObjectData(returnDataObject, selectColumnList,
-                            queryResult);
-                    returnDataList.add(returnDataObject);
-                }
+            if (queryResultList == null) {
+                return (new ArrayList<AbstractTableData>(0));
+            }
+            List<AbstractTableData> returnDataList = new ArrayList<>(
+                    queryResultList.size());
+            for (Object[] queryResult : queryResultList) {
+                returnDataList.add(rowMapper.mapRow(queryResult));
             }
+            return (returnDataList);
+        } catch (IhfsDatabaseException ex) {
+            throw ex;
         } catch (Exception ex) {
             throw (new IhfsDatabaseException("Unexpected query error.", ex));
         }
-        return (returnDataList);
     }
 
     /**
@@ -207,31 +198,4 @@ public class IhfsDAO implements IIhfsDAO {
         }
         return (returnValue);
     }
-
-    /**
-     * Place queried data into Table Data Object.
-     * 
-     * @param returnDataObject
-     *            Data Object to return
-     * @param selectColumnList
-     *            List of queried Columns in order of the queryResult
-     * @param queryResult
-     *            Queried data
-     */
-    protected void setReturnObjectData(AbstractTableData returnDataObject,
-            List<String> selectColumnList, Object[] queryResult) {
-
-        int queryResultSize = queryResult.length;
-        for (int i = 0; i < queryResultSize; i++) {
-            String columnName = selectColumnList.get(i);
-            columnName = IhfsUtil.parseColumnName(columnName);
-            Object columnValue = queryResult[i];
-            try {
-                returnDataObject.setColumnByName(columnName,
-                        (Serializable) columnValue);
-            } catch (IhfsDatabaseException ide) {
-                statusHandler.error("Error setting query result data.", ide);
-            }
-        }
-    }
 }
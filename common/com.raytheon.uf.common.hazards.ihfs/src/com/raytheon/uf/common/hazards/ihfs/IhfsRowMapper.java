@@ -0,0 +1,330 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ */
+package com.raytheon.uf.common.hazards.ihfs;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import com.raytheon.uf.common.hazards.ihfs.data.AbstractTableData;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * Maps IHFS query result rows to table data objects for one query shape, that
+ * is, one combination of return data class and select column list.
+ * 
+ * Everything that previously had to be worked out for each row is resolved
+ * once, when the mapper is built: the data object's no-argument constructor
+ * and, for each select column, the bean setter of the data class that the
+ * column's <code>setColumnByName()</code> case would have called, together
+ * with the conversion of the column's value to the setter's parameter type.
+ * The constructor and setters are bound to generated functional objects, so
+ * that mapping a row involves neither reflection nor a search by column name.
+ * Mappers are cached per shape so repeated queries against the same table and
+ * columns reuse them.
+ * 
+ * Instances are immutable and thread-safe.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer            Description
+ * ------------ ---------- -----------         --------------------------
+ * Oct 18, 2026            agent       Initial Creation
+ * Oct 19, 2026            agent       Bind constructor and column setters once
+ *                                     per shape instead of instantiating
+ *                                     reflectively and setting columns by name
+ *                                     for each row.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+public class IhfsRowMapper {
+
+    /**
+     * Conversions of query result values to the parameter types of table
+     * data setters, mirroring those made by the <code>setColumnByName()</code>
+     * implementations.
+     */
+    private enum ColumnConverter {
+        STRING(String.class) {
+            @Override
+            Object convert(Object columnValue) {
+                return (columnValue);
+            }
+        },
+        SHORT(Short.class) {
+            @Override
+            Object convert(Object columnValue) {
+                return (((Number) columnValue).shortValue());
+            }
+        },
+        INTEGER(Integer.class) {
+            @Override
+            Object convert(Object columnValue) {
+                return (((Number) columnValue).intValue());
+            }
+        },
+        LONG(Long.class) {
+            @Override
+            Object convert(Object columnValue) {
+
+                /*
+                 * Timestamps are held as epoch milliseconds.
+                 */
+                if (columnValue instanceof Date) {
+                    return (((Date) columnValue).getTime());
+                }
+                return (((Number) columnValue).longValue());
+            }
+        },
+        FLOAT(Float.class) {
+            @Override
+            Object convert(Object columnValue) {
+                return (((Number) columnValue).floatValue());
+            }
+        },
+        DOUBLE(Double.class) {
+            @Override
+            Object convert(Object columnValue) {
+                return (((Number) columnValue).doubleValue());
+            }
+        };
+
+        /**
+         * Setter parameter type.
+         */
+        private final Class<?> type;
+
+        private ColumnConverter(Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * Get the converter for the specified setter parameter type.
+         * 
+         * @param type
+         *            Setter parameter type.
+         * @return Converter, or <code>null</code> if the type is not one of
+         *         those used by table data objects.
+         */
+        static ColumnConverter forType(Class<?> type) {
+            for (ColumnConverter converter : values()) {
+                if (converter.type == type) {
+                    return (converter);
+                }
+            }
+            return (null);
+        }
+
+        /**
+         * Convert the specified non-<code>null</code> query result value to
+         * the setter parameter type.
+         * 
+         * @param columnValue
+         *            Query result value.
+         * @return Converted value.
+         */
+        abstract Object convert(Object columnValue);
+    }
+
+    private static final transient IUFStatusHandler statusHandler = UFStatus
+            .getHandler(IhfsRowMapper.class);
+
+    /**
+     * Cache of mappers keyed by query shape.
+     */
+    private static final ConcurrentMap<String, IhfsRowMapper> MAPPER_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Lookup used to bind constructors and setters.
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Creator of the data objects.
+     */
+    private final Supplier<AbstractTableData> constructor;
+
+    /**
+     * Bare (table-name-stripped, upper case) column names, in select order.
+     */
+    private final String[] columnNames;
+
+    /**
+     * Setters for the columns, in select order; an element is
+     * <code>null</code> if the data class has no setter for that column.
+     */
+    private final BiConsumer<Object, Object>[] setters;
+
+    /**
+     * Converters of the column values to the setters' parameter types, in
+     * select order.
+     */
+    private final ColumnConverter[] converters;
+
+    /**
+     * Get the mapper for the specified query shape, building and caching it
+     * if this is the first time the shape has been seen.
+     * 
+     * @param returnObjClass
+     *            Table data class to be created for each row.
+     * @param selectColumnList
+     *            List of queried columns in order of the query results.
+     * @return Row mapper.
+     * @throws IhfsDatabaseException
+     *             If the data class has no accessible no-argument
+     *             constructor.
+     */
+    public static IhfsRowMapper getInstance(
+            Class<? extends AbstractTableData> returnObjClass,
+            List<String> selectColumnList) throws IhfsDatabaseException {
+        String key = returnObjClass.getName() + ":" + selectColumnList;
+        IhfsRowMapper mapper = MAPPER_CACHE.get(key);
+        if (mapper == null) {
+            mapper = new IhfsRowMapper(returnObjClass, selectColumnList);
+            IhfsRowMapper existing = MAPPER_CACHE.putIfAbsent(key, mapper);
+            if (existing != null) {
+                mapper = existing;
+            }
+        }
+        return (mapper);
+    }
+
+    /**
+     * Construct a standard instance.
+     * 
+     * @param returnObjClass
+     *            Table data class to be created for each row.
+     * @param selectColumnList
+     *            List of queried columns in order of the query results.
+     * @throws IhfsDatabaseException
+     *             If the data class has no accessible no-argument
+     *             constructor, or one of its setters cannot be bound.
+     */
+    @SuppressWarnings("unchecked")
+    private IhfsRowMapper(Class<? extends AbstractTableData> returnObjClass,
+            List<String> selectColumnList) throws IhfsDatabaseException {
+        int columnCount = selectColumnList.size();
+        this.columnNames = new String[columnCount];
+        this.setters = new BiConsumer[columnCount];
+        this.converters = new ColumnConverter[columnCount];
+        try {
+            MethodHandle constructorHandle = LOOKUP.findConstructor(
+                    returnObjClass, MethodType.methodType(void.class));
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), constructorHandle,
+                    MethodType.methodType(returnObjClass));
+            this.constructor = (Supplier<AbstractTableData>) callSite
+                    .getTarget().invoke();
+            for (int i = 0; i < columnCount; i++) {
+                this.columnNames[i] = IhfsUtil.parseColumnName(selectColumnList
+                        .get(i));
+                Method setter = getSetter(returnObjClass, columnNames[i]);
+                if (setter == null) {
+                    statusHandler.error("Invalid Column Name: "
+                            + columnNames[i] + " for "
+                            + returnObjClass.getName()
+                            + "; column will not be set.");
+                    continue;
+                }
+                Class<?> parameterType = setter.getParameterTypes()[0];
+                callSite = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class,
+                                Object.class), LOOKUP.unreflect(setter),
+                        MethodType.methodType(void.class, returnObjClass,
+                                parameterType));
+                this.setters[i] = (BiConsumer<Object, Object>) callSite
+                        .getTarget().invoke();
+                this.converters[i] = ColumnConverter.forType(parameterType);
+            }
+        } catch (Throwable ex) {
+            throw (new IhfsDatabaseException("Unable to create row mapper for "
+                    + returnObjClass.getName(), ex));
+        }
+    }
+
+    /**
+     * Get the setter of the specified data class for the specified column.
+     * This is the public single-parameter method whose name, ignoring case,
+     * is "set" followed by the column name without underscores, taking one of
+     * the parameter types handled by {@link ColumnConverter}; this is the
+     * setter called for the column by the class's
+     * <code>setColumnByName()</code>.
+     * 
+     * @param returnObjClass
+     *            Table data class.
+     * @param columnName
+     *            Bare column name.
+     * @return Setter, or <code>null</code> if there is none.
+     */
+    private static Method getSetter(
+            Class<? extends AbstractTableData> returnObjClass,
+            String columnName) {
+        String setterName = "set" + columnName.replace("_", "");
+        for (Method method : returnObjClass.getMethods()) {
+            if (method.getName().equalsIgnoreCase(setterName)
+                    && (method.getParameterTypes().length == 1)
+                    && (Modifier.isStatic(method.getModifiers()) == false)
+                    && (ColumnConverter.forType(method.getParameterTypes()[0]) != null)) {
+                return (method);
+            }
+        }
+        return (null);
+    }
+
+    /**
+     * Create a table data object from a query result row.
+     * 
+     * @param queryResult
+     *            Queried data, in select column order.
+     * @return Table data object; <code>null</code> values leave the
+     *         corresponding columns unset.
+     * @throws ClassCastException
+     *             If a value is not of the type expected for its column.
+     */
+    public AbstractTableData mapRow(Object[] queryResult) {
+        AbstractTableData returnDataObject = constructor.get();
+        int columnCount = Math.min(queryResult.length, columnNames.length);
+        for (int i = 0; i < columnCount; i++) {
+            Object columnValue = queryResult[i];
+            if ((columnValue == null) || (setters[i] == null)) {
+                continue;
+            }
+            setters[i].accept(returnDataObject,
+                    converters[i].convert(columnValue));
+        }
+        return (returnDataObject);
+    }
+}
@@ -20,12 +20,15 @@
 package com.raytheon.uf.common.hazards.productgen;
 
 import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 
 import com.raytheon.uf.common.dataplugin.events.EventSet;
 import com.raytheon.uf.common.dataplugin.events.IEvent;
@@ -52,6 +55,11 @@ import com.raytheon.uf.common.dataplugin.events.IEvent;
  *                                      addEditableEntry().
  * May 07, 2015 6979       Robert.Blum  Changes for product corrections.
  * Jun 05, 2017 29996      Robert.Blum  Changes for new previous text design.
+ * Oct 18, 2026            agent        Changed copy constructor to share the product
+ *                                      dictionary instead of deep-copying it.
+ * Oct 19, 2026            agent        Handed out the product dictionary as a
+ *                                      read-only view, so that attempts to
+ *                                      modify a shared dictionary in place fail.
  * 
  * </pre>
  * 
@@ -60,6 +68,97 @@ import com.raytheon.uf.common.dataplugin.events.IEvent;
  */
 public class GeneratedProduct implements IGeneratedProduct, ITextProduct {
 
+    /**
+     * Read-only view of a map within a product dictionary. Any map or list
+     * fetched from the view is itself a read-only view, so that none of the
+     * dictionary may be modified through it.
+     */
+    private static class ReadOnlyMap<K, V> extends AbstractMap<K, V>
+            implements Serializable {
+
+        private static final long serialVersionUID = 4529314709452207583L;
+
+        /** Map being viewed */
+        private final Map<K, V> map;
+
+        public ReadOnlyMap(Map<K, V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key) {
+            return readOnly(map.get(key));
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<Entry<K, V>>() {
+
+                @Override
+                public int size() {
+                    return map.size();
+                }
+
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    final Iterator<Entry<K, V>> iterator = map.entrySet()
+                            .iterator();
+                    return new Iterator<Entry<K, V>>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<K, V> next() {
+                            Entry<K, V> entry = iterator.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(),
+                                    readOnly(entry.getValue()));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /**
+     * Read-only view of a list within a product dictionary. Any map or list
+     * fetched from the view is itself a read-only view.
+     */
+    private static class ReadOnlyList<E> extends AbstractList<E>
+            implements Serializable {
+
+        private static final long serialVersionUID = -2180460137652818044L;
+
+        /** List being viewed */
+        private final List<E> list;
+
+        public ReadOnlyList(List<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public E get(int index) {
+            return readOnly(list.get(index));
+        }
+    }
+
     private final String productID;
 
     /** Resulting products generated */
@@ -68,9 +167,23 @@ public class GeneratedProduct implements IGeneratedProduct, ITextProduct {
     /** List of editable Product Parts */
     private List<ProductPart> editableEntries = new ArrayList<>();
 
-    /** Product Dictionary generated by the Product Generator */
+    /**
+     * Product Dictionary generated by the Product Generator. Product
+     * dictionaries are never modified in place once generated; they are only
+     * ever replaced via {@link #setData(Map)}. This allows copies of a product
+     * to share its dictionary, with a copy only getting a new one when it is
+     * replaced.
+     */
     private Map<String, Serializable> data;
 
+    /**
+     * Read-only view of {@link #data} handed out by {@link #getData()}, so
+     * that any attempt to modify the shared dictionary, or a map or list
+     * within it, in place fails with an
+     * {@link UnsupportedOperationException}.
+     */
+    private Map<String, Serializable> readOnlyData;
+
     /** Errors thrown executing python product classes */
     private String errors;
 
@@ -84,43 +197,7 @@ public class GeneratedProduct implements IGeneratedProduct, ITextProduct {
         this.productID = generatedProduct.getProductID();
         this.entries = generatedProduct.getEntries();
         this.editableEntries = generatedProduct.getEditableEntries();
-        this.data = deepCopyHashMap(
-                (HashMap<String, Serializable>) generatedProduct.getData());
-    }
-
-    private HashMap<String, Serializable> deepCopyHashMap(
-            HashMap<String, Serializable> map) {
-        HashMap<String, Serializable> data = new HashMap<String, Serializable>();
-        for (Entry<String, Serializable> entry : map.entrySet()) {
-            String key = entry.getKey();
-            Serializable value = entry.getValue();
-            if (value instanceof Map) {
-                data.put(key,
-                        deepCopyHashMap((HashMap<String, Serializable>) value));
-            } else if (value instanceof List) {
-                data.put(key,
-                        deepCopyArrayList((ArrayList<Serializable>) value));
-            } else {
-                data.put(key, value);
-            }
-        }
-
-        return data;
-    }
-
-    private ArrayList<Serializable> deepCopyArrayList(
-            ArrayList<Serializable> list) {
-        ArrayList<Serializable> data = new ArrayList<Serializable>();
-        for (Serializable item : list) {
-            if (item instanceof Map) {
-                data.add(deepCopyHashMap((HashMap<String, Serializable>) item));
-            } else if (item instanceof List) {
-                data.add(deepCopyArrayList((ArrayList<Serializable>) item));
-            } else {
-                data.add(item);
-            }
-        }
-        return data;
+        setData(generatedProduct.getGeneratedData());
     }
 
     @Override
@@ -144,12 +221,22 @@ public class GeneratedProduct implements IGeneratedProduct, ITextProduct {
 
     @Override
     public Map<String, Serializable> getData() {
+        return readOnlyData;
+    }
+
+    @Override
+    public Map<String, Serializable> getGeneratedData() {
         return data;
     }
 
     @Override
     public void setData(Map<String, Serializable> data) {
+        if (data instanceof ReadOnlyMap) {
+            data = ((ReadOnlyMap<String, Serializable>) data).map;
+        }
         this.data = data;
+        this.readOnlyData = (data == null ? null
+                : new ReadOnlyMap<String, Serializable>(data));
     }
 
     @Override
@@ -205,4 +292,24 @@ public class GeneratedProduct implements IGeneratedProduct, ITextProduct {
     public void setEventSet(EventSet<IEvent> eventSet) {
         this.eventSet = eventSet;
     }
+
+    /**
+     * Get a read-only view of the specified value from a product dictionary
+     * if it is a map or a list, or the value itself otherwise.
+     * 
+     * @param value
+     *            Value from a product dictionary.
+     * @return Read-only view of the value, or the value itself.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T readOnly(T value) {
+        if ((value instanceof ReadOnlyMap) || (value instanceof ReadOnlyList)) {
+            return value;
+        } else if (value instanceof Map) {
+            return (T) new ReadOnlyMap<>((Map<Object, Object>) value);
+        } else if (value instanceof List) {
+            return (T) new ReadOnlyList<>((List<Object>) value);
+        }
+        return value;
+    }
 }
@@ -40,6 +40,7 @@ import com.raytheon.uf.common.dataplugin.events.IEvent;
  * Jun  3, 2014  1480      jsanchez    Added a copy constructor.
  * Jul 30, 2015  9681      Robert.Blum Added isViewOnly attribute.
  * Jan 27, 2017  22308     Robert.Blum Removed isViewOnly attribute.
+ * Oct 18, 2026            agent       Added per-stage timings.
  * </pre>
  * 
  * @author jsanchez
@@ -56,6 +57,18 @@ public class GeneratedProductList extends ArrayList<IGeneratedProduct> {
 
     private boolean isCorrectable;
 
+    /** Time in milliseconds taken by the generator, or -1 if not run */
+    private long generatorMillis = -1L;
+
+    /**
+     * Time in milliseconds taken to query the previous product text, or -1 if
+     * not queried
+     */
+    private long productTextMillis = -1L;
+
+    /** Time in milliseconds taken by the formatters, or -1 if not run */
+    private long formatterMillis = -1L;
+
     public GeneratedProductList() {
 
     }
@@ -69,6 +82,9 @@ public class GeneratedProductList extends ArrayList<IGeneratedProduct> {
         this.productInfo = generatedProductList.getProductInfo();
         this.isCorrectable = generatedProductList.isCorrectable();
         this.eventSet = generatedProductList.getEventSet();
+        this.generatorMillis = generatedProductList.getGeneratorMillis();
+        this.productTextMillis = generatedProductList.getProductTextMillis();
+        this.formatterMillis = generatedProductList.getFormatterMillis();
         for (IGeneratedProduct generatedProduct : generatedProductList) {
             add(new GeneratedProduct(generatedProduct));
         }
@@ -97,4 +113,28 @@ public class GeneratedProductList extends ArrayList<IGeneratedProduct> {
     public void setCorrectable(boolean isCorrectable) {
         this.isCorrectable = isCorrectable;
     }
+
+    public long getGeneratorMillis() {
+        return generatorMillis;
+    }
+
+    public void setGeneratorMillis(long generatorMillis) {
+        this.generatorMillis = generatorMillis;
+    }
+
+    public long getProductTextMillis() {
+        return productTextMillis;
+    }
+
+    public void setProductTextMillis(long productTextMillis) {
+        this.productTextMillis = productTextMillis;
+    }
+
+    public long getFormatterMillis() {
+        return formatterMillis;
+    }
+
+    public void setFormatterMillis(long formatterMillis) {
+        this.formatterMillis = formatterMillis;
+    }
 }
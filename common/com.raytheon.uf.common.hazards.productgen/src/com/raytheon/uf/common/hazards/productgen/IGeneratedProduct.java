@@ -47,6 +47,8 @@ import com.raytheon.uf.common.dataplugin.events.IEvent;
  *                                      addEditableEntry().
  * May 07, 2015 6979       Robert.Blum  Changes for product corrections.
  * Jun 05, 2017 29996      Robert.Blum  Changes for new previous text design.
+ * Oct 19, 2026            agent        Made the product dictionary read-only,
+ *                                      and added getGeneratedData().
  * </pre>
  * 
  * @author jsanchez
@@ -66,8 +68,19 @@ public interface IGeneratedProduct {
 
     public List<ProductPart> getEditableEntries();
 
+    /**
+     * @return Returns a read-only view of the product dictionary; neither it
+     *         nor any map or list within it may be modified in place, but it
+     *         may be replaced via {@link #setData(Map)}
+     */
     public Map<String, Serializable> getData();
 
+    /**
+     * @return Returns the product dictionary as it was generated, for
+     *         conversion to python or for storage; it must not be modified
+     */
+    public Map<String, Serializable> getGeneratedData();
+
     public void setData(Map<String, Serializable> data);
 
     public EventSet<IEvent> getEventSet();
@@ -0,0 +1,194 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.hazards.productgen.data;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import com.raytheon.uf.common.serialization.ISerializableObject;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * The class that represents a unique row in the product data event ID table,
+ * that is, one event ID of one {@link ProductData}. The product data is
+ * identified by all of the fields of its {@link CustomDataId} except for its
+ * event ID list, which is stored as a serialized blob and thus cannot be
+ * compared efficiently.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@Embeddable
+@DynamicSerialize
+public class CustomDataEventId implements ISerializableObject, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column
+    @DynamicSerializeElement
+    private String eventID;
+
+    @Column
+    @DynamicSerializeElement
+    private String mode;
+
+    @Column
+    @DynamicSerializeElement
+    private String productGeneratorName;
+
+    @Column
+    @DynamicSerializeElement
+    private String officeID;
+
+    @Column
+    @DynamicSerializeElement
+    private Date issueTime;
+
+    public CustomDataEventId() {
+
+    }
+
+    public CustomDataEventId(String eventID, CustomDataId productDataId) {
+        this.eventID = eventID;
+        this.mode = productDataId.getMode();
+        this.productGeneratorName = productDataId.getProductGeneratorName();
+        this.officeID = productDataId.getOfficeID();
+        this.issueTime = productDataId.getIssueTime();
+    }
+
+    public String getEventID() {
+        return eventID;
+    }
+
+    public void setEventID(String eventID) {
+        this.eventID = eventID;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public String getProductGeneratorName() {
+        return productGeneratorName;
+    }
+
+    public void setProductGeneratorName(String productGeneratorName) {
+        this.productGeneratorName = productGeneratorName;
+    }
+
+    public String getOfficeID() {
+        return officeID;
+    }
+
+    public void setOfficeID(String officeID) {
+        this.officeID = officeID;
+    }
+
+    public Date getIssueTime() {
+        return issueTime;
+    }
+
+    public void setIssueTime(Date issueTime) {
+        this.issueTime = issueTime;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((eventID == null) ? 0 : eventID.hashCode());
+        result = prime * result + ((mode == null) ? 0 : mode.hashCode());
+        result = prime * result + ((productGeneratorName == null) ? 0
+                : productGeneratorName.hashCode());
+        result = prime * result
+                + ((officeID == null) ? 0 : officeID.hashCode());
+        result = prime * result
+                + ((issueTime == null) ? 0 : issueTime.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        CustomDataEventId other = (CustomDataEventId) obj;
+        if (eventID == null) {
+            if (other.eventID != null) {
+                return false;
+            }
+        } else if (!eventID.equals(other.eventID)) {
+            return false;
+        }
+        if (mode == null) {
+            if (other.mode != null) {
+                return false;
+            }
+        } else if (!mode.equals(other.mode)) {
+            return false;
+        }
+        if (productGeneratorName == null) {
+            if (other.productGeneratorName != null) {
+                return false;
+            }
+        } else if (!productGeneratorName.equals(other.productGeneratorName)) {
+            return false;
+        }
+        if (officeID == null) {
+            if (other.officeID != null) {
+                return false;
+            }
+        } else if (!officeID.equals(other.officeID)) {
+            return false;
+        }
+        if (issueTime == null) {
+            if (other.issueTime != null) {
+                return false;
+            }
+        } else if (!issueTime.equals(other.issueTime)) {
+            return false;
+        }
+        return true;
+    }
+}
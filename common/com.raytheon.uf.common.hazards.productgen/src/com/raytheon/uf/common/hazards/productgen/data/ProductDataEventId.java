@@ -0,0 +1,93 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.common.hazards.productgen.data;
+
+import java.io.Serializable;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Index;
+
+import com.raytheon.uf.common.dataplugin.persist.PersistableDataObject;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * The hibernate object indexing {@link ProductData} by event ID. The event IDs
+ * of a product data are part of its key but are stored as a serialized list,
+ * so they cannot be queried; one row of this table is stored for each event ID
+ * of each product data so that product data may be looked up by event ID in
+ * the database.
+ * <p>
+ * Rows are matched to product data by mode, product generator name, office ID
+ * and issue time. Since several product data may share those, a match is only
+ * a candidate; its event IDs must still be checked.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+@Entity
+@Table(name = "productdataeventid")
+@org.hibernate.annotations.Table(appliesTo = "productdataeventid", indexes = {
+        @Index(name = "productdataeventid_productdata_idx", columnNames = {
+                "mode", "productGeneratorName", "officeID", "issueTime" }) })
+@DynamicSerialize
+public class ProductDataEventId extends PersistableDataObject<CustomDataEventId>
+        implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @DynamicSerializeElement
+    private CustomDataEventId id;
+
+    public ProductDataEventId() {
+
+    }
+
+    public ProductDataEventId(String eventID, CustomDataId productDataId) {
+        this.id = new CustomDataEventId(eventID, productDataId);
+    }
+
+    public CustomDataEventId getId() {
+        return id;
+    }
+
+    public void setId(CustomDataEventId id) {
+        this.id = id;
+    }
+
+    public String getEventID() {
+        return id.getEventID();
+    }
+}
@@ -80,6 +80,8 @@ import jep.JepException;
  * Feb 23, 2017 29170     Robert.Blum   Product Editor refactor.
  * Jun 05, 2017 29996     Robert.Blum   Changes for new previous text design.
  * Jul 10, 2017 35819     Robert.Blum   Reworked how overrides are picked up.
+ * Oct 18, 2026            agent         Recorded the time taken by each stage of
+ *                                       generation in the generated product list.
  * </pre>
  * 
  * @author jsanchez
@@ -212,14 +214,19 @@ public class ProductScript extends PythonScriptController {
             }
 
             // Run the generator
+            long start = System.currentTimeMillis();
             GeneratedProductList productList = (GeneratedProductList) execute(
                     GENERATOR_EXECUTE_METHOD, INTERFACE, args);
+            long generatorMillis = System.currentTimeMillis() - start;
 
             // Populate the product parts with previous text
+            start = System.currentTimeMillis();
             ProductTextUtil.queryProductText(productList);
+            long productTextMillis = System.currentTimeMillis() - start;
 
             // Run the formatters
             retVal = formatProduct(product, formats, productList);
+            recordTimings(product, retVal, generatorMillis, productTextMillis);
         } catch (JepException e) {
             statusHandler.handle(Priority.ERROR,
                     "Unable to execute product generator", e);
@@ -258,14 +265,19 @@ public class ProductScript extends PythonScriptController {
             }
 
             // Run the generator update method
+            long start = System.currentTimeMillis();
             GeneratedProductList productList = (GeneratedProductList) execute(
                     GENERATOR_UPDATE_METHOD, INTERFACE, args);
+            long generatorMillis = System.currentTimeMillis() - start;
 
             // Populate the product parts with previous text
+            start = System.currentTimeMillis();
             ProductTextUtil.queryProductText(productList);
+            long productTextMillis = System.currentTimeMillis() - start;
 
             // Run the formatters
             retVal = formatProduct(product, formats, productList);
+            recordTimings(product, retVal, generatorMillis, productTextMillis);
         } catch (JepException e) {
             statusHandler.handle(Priority.ERROR,
                     "Unable to execute product generator update method", e);
@@ -300,11 +312,14 @@ public class ProductScript extends PythonScriptController {
             }
 
             // Run the generator update method
+            long start = System.currentTimeMillis();
             GeneratedProductList productList = (GeneratedProductList) execute(
                     GENERATOR_EXECUTE_FROM_METHOD, INTERFACE, args);
+            long generatorMillis = System.currentTimeMillis() - start;
 
             // Run the formatters
             retVal = formatProduct(product, formats, productList);
+            recordTimings(product, retVal, generatorMillis, -1L);
         } catch (JepException e) {
             statusHandler.handle(Priority.ERROR,
                     "Unable to update the generated products", e);
@@ -323,8 +338,13 @@ public class ProductScript extends PythonScriptController {
                 args = new HashMap<String, Object>(getStarterMap(product));
                 args.put(GENERATED_PRODUCT, retVal);
                 args.put(FORMATS, Arrays.asList(formats));
+                long start = System.currentTimeMillis();
                 retVal = (GeneratedProductList) execute(FORMATTER_METHOD,
                         INTERFACE, args);
+                if (retVal != null) {
+                    retVal.setFormatterMillis(
+                            System.currentTimeMillis() - start);
+                }
             }
         } catch (JepException e) {
             statusHandler.handle(Priority.ERROR,
@@ -333,6 +353,35 @@ public class ProductScript extends PythonScriptController {
         return retVal;
     }
 
+    /**
+     * Record the time taken by the generator and previous text query stages in
+     * the specified product list, and log the times taken by all stages.
+     * 
+     * @param product
+     *            Product generator name.
+     * @param productList
+     *            Generated product list; may be <code>null</code>.
+     * @param generatorMillis
+     *            Time taken by the generator.
+     * @param productTextMillis
+     *            Time taken to query the previous product text, or -1 if it
+     *            was not queried.
+     */
+    private void recordTimings(String product, GeneratedProductList productList,
+            long generatorMillis, long productTextMillis) {
+        if (productList == null) {
+            return;
+        }
+        productList.setGeneratorMillis(generatorMillis);
+        productList.setProductTextMillis(productTextMillis);
+        if (statusHandler.isPriorityEnabled(Priority.DEBUG)) {
+            statusHandler.debug("Product generator " + product + ": generator "
+                    + generatorMillis + " ms, previous text "
+                    + productTextMillis + " ms, formatters "
+                    + productList.getFormatterMillis() + " ms.");
+        }
+    }
+
     /**
      * Retrieves the information to define a dialog from the product.
      * 
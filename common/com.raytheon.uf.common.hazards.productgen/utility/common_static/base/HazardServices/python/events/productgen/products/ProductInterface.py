@@ -102,7 +102,7 @@ class ProductInterface(HazardServicesPythonOverriderInterface.HazardServicesPyth
             dataList = []
             for i in range(genProdList.size()):
                 # make sure dataList is a python object
-                dataList.append(JUtil.javaObjToPyVal(genProdList.get(i).getData()))
+                dataList.append(JUtil.javaObjToPyVal(genProdList.get(i).getGeneratedData()))
             kwargs['dataList'] = dataList
             kwargs['eventSet'] = eventSet
         else:
@@ -163,7 +163,7 @@ class ProductInterface(HazardServicesPythonOverriderInterface.HazardServicesPyth
 
     def formatProduct(self, generatedProduct, formats):
         # Retrieve the product's data to pass to the formatter
-        productData = JUtil.javaObjToPyVal(generatedProduct.getData())
+        productData = JUtil.javaObjToPyVal(generatedProduct.getGeneratedData())
         # Retrieve the product's editableEntries if available
         editableEntries = JUtil.javaObjToPyVal(generatedProduct.getEditableEntries())
 
@@ -0,0 +1,109 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Information Services Branch (ISB)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.common.utilities.collect;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Description: Cached read-only copy of a mutable map that is owned by someone
+ * else, rebuilt only when the map has been modified since the copy was made.
+ * The owner of the map must call {@link #invalidate()} after each modification
+ * of the map is complete.
+ * <p>
+ * Each copy is tagged with the modification count read before it was made,
+ * and is only published, and only returned from the cache, if the count is
+ * still the same. A copy made from the map as it was before a concurrent
+ * modification therefore never outlives that modification: either the
+ * modification count has already changed when the copy is about to be
+ * published, in which case it is not, or it changes afterward, in which case
+ * the published copy no longer matches and is ignored.
+ * </p>
+ * <p>
+ * The map being copied must not hold <code>null</code> keys or values.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 19, 2026            agent       Initial creation.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+public class ImmutableMapSnapshot<K, V> {
+
+    // Private Classes
+
+    /**
+     * Copy of the map, along with the modification count at which it was
+     * made.
+     */
+    private static class Snapshot<K, V> {
+
+        private final long modificationCount;
+
+        private final ImmutableMap<K, V> map;
+
+        Snapshot(long modificationCount, ImmutableMap<K, V> map) {
+            this.modificationCount = modificationCount;
+            this.map = map;
+        }
+    }
+
+    // Private Variables
+
+    /**
+     * Number of modifications made to the map.
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    /**
+     * Most recently published copy; may be <code>null</code>.
+     */
+    private volatile Snapshot<K, V> snapshot;
+
+    // Public Methods
+
+    /**
+     * Get a read-only copy of the specified map, reusing the cached copy if
+     * the map has not been modified since it was made.
+     * 
+     * @param map
+     *            Map to be copied; this must be the same map each time this
+     *            method is called.
+     * @return Read-only copy of the map.
+     */
+    public ImmutableMap<K, V> get(Map<? extends K, ? extends V> map) {
+        long count = modificationCount.get();
+        Snapshot<K, V> cached = snapshot;
+        if ((cached != null) && (cached.modificationCount == count)) {
+            return cached.map;
+        }
+        ImmutableMap<K, V> copy = ImmutableMap.copyOf(map);
+        if (modificationCount.get() == count) {
+            snapshot = new Snapshot<>(count, copy);
+        }
+        return copy;
+    }
+
+    /**
+     * Note that the map has been modified. This must be called after the
+     * modification is complete, not before.
+     */
+    public void invalidate() {
+        modificationCount.incrementAndGet();
+    }
+}
@@ -9,6 +9,7 @@
  */
 package gov.noaa.gsd.common.utilities.geometry;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -45,6 +46,9 @@ import gov.noaa.gsd.common.utilities.PrimitiveAndStringBinaryTranslator.ByteOrde
  * Date         Ticket#    Engineer     Description
  * ------------ ---------- ------------ --------------------------
  * Feb 07, 2017   28892    Chris.Golden Initial creation.
+ * Oct 18, 2026            agent        Buffered serializer output ahead of the
+ *                                      GZIP stream, and enlarged the GZIP input
+ *                                      buffer.
  * </pre>
  * 
  * @author Chris.Golden
@@ -318,13 +322,20 @@ public class AdvancedGeometryBinaryTranslator {
          * try-with-resources block upon completion, and currently the pooled
          * byte array output streams do not handle being closed multiple times
          * well.
+         * 
+         * The serializer writes many small primitives, so its output is
+         * buffered before being handed to the GZIP stream; otherwise each
+         * write would pass through the deflater separately.
          */
         PooledByteArrayOutputStream bytesOutputStream = ByteArrayOutputStreamPool
                 .getInstance().getStream(BYTE_ARRAY_INITIAL_SIZE);
         byte[] compressedBytes = null;
         try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(
                 bytesOutputStream)) {
-            serializeToBinaryStream(geometry, gzipOutputStream);
+            OutputStream bufferedOutputStream = new BufferedOutputStream(
+                    gzipOutputStream, BYTE_BUFFER_LENGTH);
+            serializeToBinaryStream(geometry, bufferedOutputStream);
+            bufferedOutputStream.flush();
             gzipOutputStream.finish();
             compressedBytes = bytesOutputStream.toByteArray();
         }
@@ -347,7 +358,7 @@ public class AdvancedGeometryBinaryTranslator {
         try (ByteArrayInputStream bytesInputStream = new ByteArrayInputStream(
                 bytes);
                 GZIPInputStream gzipInputStream = new GZIPInputStream(
-                        bytesInputStream)) {
+                        bytesInputStream, BYTE_BUFFER_LENGTH)) {
 
             /*
              * Get a byte array input stream from the pool, and uncompress the
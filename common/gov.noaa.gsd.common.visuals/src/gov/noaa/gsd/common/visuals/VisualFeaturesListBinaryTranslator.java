@@ -9,8 +9,10 @@
  */
 package gov.noaa.gsd.common.visuals;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -33,6 +35,9 @@ import com.raytheon.uf.common.util.PooledByteArrayOutputStream;
  * Date         Ticket#    Engineer     Description
  * ------------ ---------- ------------ --------------------------
  * Feb 10, 2017   28892    Chris.Golden Initial creation.
+ * Oct 18, 2026            agent        Buffered serializer output ahead of the
+ *                                      GZIP stream, and enlarged the GZIP input
+ *                                      buffer.
  * </pre>
  * 
  * @author Chris.Golden
@@ -129,14 +134,21 @@ public class VisualFeaturesListBinaryTranslator {
          * try-with-resources block upon completion, and currently the pooled
          * byte array output streams do not handle being closed multiple times
          * well.
+         * 
+         * The serializer writes many small primitives, so its output is
+         * buffered before being handed to the GZIP stream; otherwise each
+         * write would pass through the deflater separately.
          */
         PooledByteArrayOutputStream bytesOutputStream = ByteArrayOutputStreamPool
                 .getInstance().getStream(BYTE_ARRAY_INITIAL_SIZE);
         byte[] compressedBytes = null;
         try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(
                 bytesOutputStream)) {
+            OutputStream bufferedOutputStream = new BufferedOutputStream(
+                    gzipOutputStream, BYTE_BUFFER_LENGTH);
             VisualFeaturesListBinarySerializer.serialize(visualFeatures,
-                    gzipOutputStream);
+                    bufferedOutputStream);
+            bufferedOutputStream.flush();
             gzipOutputStream.finish();
             compressedBytes = bytesOutputStream.toByteArray();
         }
@@ -159,7 +171,7 @@ public class VisualFeaturesListBinaryTranslator {
         try (ByteArrayInputStream bytesInputStream = new ByteArrayInputStream(
                 bytes);
                 GZIPInputStream gzipInputStream = new GZIPInputStream(
-                        bytesInputStream)) {
+                        bytesInputStream, BYTE_BUFFER_LENGTH)) {
 
             /*
              * Get a byte array input stream from the pool, and uncompress the
@@ -27,6 +27,7 @@ import com.raytheon.uf.common.hazards.hydro.RiverHydroConstants.HydroFloodCatego
 import com.raytheon.uf.common.hazards.hydro.RiverStationInfo;
 import com.raytheon.uf.common.hazards.hydro.SHEFForecast;
 import com.raytheon.uf.common.hazards.hydro.SHEFObserved;
+import com.raytheon.uf.common.hazards.hydro.ShefTimeSeries;
 import com.raytheon.uf.common.time.SimulatedTime;
 import com.raytheon.uf.common.time.util.TimeUtil;
 import com.vividsolutions.jts.geom.Coordinate;
@@ -82,6 +83,8 @@ import com.vividsolutions.jts.geom.Coordinate;
  * May 05, 2017 33737      bkowal            Set the crest time to missing when not available.
  * May 08, 2018 15561      Chris.Golden      Changed BaseHazardEvent to SessionHazardEvent.
  * Jun 06, 2018 15561      Chris.Golden      Added practice flag for hazard event construction.
+ * Oct 18, 2026            agent             Use columnar SHEF time series views for time
+ *                                           lookups instead of walking SHEF objects.
  * </pre>
  * 
  * @author Bryon.Lawrence
@@ -463,18 +466,13 @@ public class RiverProFloodRecommender {
                 riverHazardEvent.setEndTime(ufnCal.getTime());
             }
 
-            long latestTime = 0L;
             HydrographForecast hydrographForecast = riverForecastPoint
                     .getHydrographForecast();
             if (hydrographForecast != null) {
-                List<SHEFForecast> shefForecastList = hydrographForecast
-                        .getShefHydroDataList();
-                if (shefForecastList != null) {
-                    for (SHEFForecast fcst : shefForecastList) {
-                        if (fcst.getValidTime() > latestTime) {
-                            latestTime = fcst.getValidTime();
-                        }
-                    }
+                ShefTimeSeries forecastTimeSeries = hydrographForecast
+                        .getTimeSeries();
+                if (forecastTimeSeries.isEmpty() == false) {
+                    long latestTime = forecastTimeSeries.getLatestTime();
                     long interval = latestTime
                             - riverHazardEvent.getStartTime().getTime();
 
@@ -807,4 +805,56 @@ public class RiverProFloodRecommender {
         }
         return (null);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the columnar observed time series for a River Forecast Point.
+     * 
+     * Like {@link #getSHEFObserved(String, int)}, this is intended for use by
+     * Python scripts, but it allows values to be looked up by time (or
+     * iterated by index) without materializing a SHEF Observed object per
+     * sample.
+     * 
+     * @param pointID
+     *            River Forecast Point LID
+     * @return Observed time series; empty if the point or its hydrograph is
+     *         not available.
+     */
+    public ShefTimeSeries getObservedTimeSeries(String pointID) {
+        RiverForecastPoint riverForecastPoint = recommenderData
+                .getRiverForecastPointMap().get(pointID);
+        if (riverForecastPoint != null) {
+            HydrographObserved hydrographObserved = riverForecastPoint
+                    .getHydrographObserved();
+            if (hydrographObserved != null) {
+                return (hydrographObserved.getTimeSeries());
+            }
+        }
+        return (ShefTimeSeries.EMPTY);
+    }
+
+    /**
+     * Get the columnar forecast time series for a River Forecast Point.
+     * 
+     * Like {@link #getSHEFForecast(String, int)}, this is intended for use by
+     * Python scripts, but it allows values to be looked up by time (or
+     * iterated by index) without materializing a SHEF Forecast object per
+     * sample.
+     * 
+     * @param pointID
+     *            River Forecast Point LID
+     * @return Forecast time series; empty if the point or its hydrograph is
+     *         not available.
+     */
+    public ShefTimeSeries getForecastTimeSeries(String pointID) {
+        RiverForecastPoint riverForecastPoint = recommenderData
+                .getRiverForecastPointMap().get(pointID);
+        if (riverForecastPoint != null) {
+            HydrographForecast hydrographForecast = riverForecastPoint
+                    .getHydrographForecast();
+            if (hydrographForecast != null) {
+                return (hydrographForecast.getTimeSeries());
+            }
+        }
+        return (ShefTimeSeries.EMPTY);
+    }
+}
@@ -24,10 +24,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -76,6 +78,14 @@ import com.raytheon.uf.edex.site.SiteAwareRegistry;
  * May 06, 2016  18202     Robert.Blum  Changes for operational mode.
  * Feb 16, 2017  29138     Chris.Golden Changed to work with new hazard
  *                                      event manager.
+ * Oct 18, 2026            agent        Resolve all records of a product with
+ *                                      bulk queries matched through maps, and
+ *                                      write new records and events in one
+ *                                      batch each.
+ * Oct 19, 2026            agent        Made events created for earlier records
+ *                                      of a product available when determining
+ *                                      the event identifiers of later ones, and
+ *                                      removed obsolete commented-out code.
  * </pre>
  * 
  * @author dgilling
@@ -127,39 +137,127 @@ public abstract class AbstractLegacyAppInteropSrv {
 
         setupForInteroperability();
 
+        /*
+         * Validate all of the records up front, splitting them by mode, so
+         * that nothing is written if any record in the product is bad.
+         */
+        List<AbstractWarningRecord> operationalRecords = new ArrayList<>(
+                objects.size());
+        List<AbstractWarningRecord> practiceRecords = new ArrayList<>(
+                objects.size());
         for (PluginDataObject ob : objects) {
-
-            // Validate the record
             AbstractWarningRecord warningRecord = validate(ob);
+            if (ob instanceof PracticeWarningRecord) {
+                practiceRecords.add(warningRecord);
+            } else {
+                operationalRecords.add(warningRecord);
+            }
+        }
 
-            // Determine the mode
-            boolean practice = (ob instanceof PracticeWarningRecord);
+        createHazards(false, operationalRecords);
+        createHazards(true, practiceRecords);
+    }
 
-            /*
-             * Retrieve the correct data access objects for the mode
-             */
-            HazardInteroperabilityDao interopDao = interopObjectManager
-                    .getInteropDao();
-            AbstractActiveTableDao activeTableDao = interopObjectManager
-                    .getActiveTableDao(practice);
+    /**
+     * Process the validated warning records of a single mode from one
+     * ingested product. The active table records for all of the warning
+     * records are fetched with one query, as are the interoperability records
+     * for those active table records; both are then matched up in memory.
+     * Any new interoperability records are created in one batch, and any new
+     * hazard events are stored with a single registry request.
+     * 
+     * @param practice
+     *            Flag indicating whether the records are practice records.
+     * @param warningRecords
+     *            Validated warning records to process.
+     * @throws HazardsInteroperabilityException
+     *             If the active table records do not match the warning
+     *             records.
+     * @throws HazardEventServiceException
+     *             If the hazard events cannot be stored.
+     */
+    private void createHazards(boolean practice,
+            List<AbstractWarningRecord> warningRecords)
+            throws HazardsInteroperabilityException,
+            HazardEventServiceException {
+        if (warningRecords.isEmpty()) {
+            return;
+        }
 
-            /*
-             * Retrieve the active table records and any interoperability
-             * records if they exist
-             */
-            List<ActiveTableRecord> activeTableRecords = activeTableDao
-                    .getBySiteIDEtnPhenSig(warningRecord.getXxxid(),
+        /*
+         * Retrieve the correct data access objects for the mode
+         */
+        HazardInteroperabilityDao interopDao = interopObjectManager
+                .getInteropDao();
+        AbstractActiveTableDao activeTableDao = interopObjectManager
+                .getActiveTableDao(practice);
+
+        /*
+         * Retrieve the active table records for all the warning records at
+         * once, and group them by site/ETN/phen/sig.
+         */
+        Set<String> siteIDs = new HashSet<>();
+        Set<String> etns = new HashSet<>();
+        Set<String> phens = new HashSet<>();
+        Set<String> sigs = new HashSet<>();
+        for (AbstractWarningRecord warningRecord : warningRecords) {
+            siteIDs.add(warningRecord.getXxxid());
+            etns.add(warningRecord.getEtn());
+            phens.add(warningRecord.getPhen());
+            sigs.add(warningRecord.getSig());
+        }
+        List<ActiveTableRecord> allActiveTableRecords = activeTableDao
+                .getBySiteIDsEtnsPhensSigs(siteIDs, etns, phens, sigs);
+        Map<String, List<ActiveTableRecord>> activeTableRecordsForKeys = new HashMap<>();
+        List<ActiveTableKey> activeTableIds = new ArrayList<>(
+                allActiveTableRecords.size());
+        for (ActiveTableRecord activeTableRecord : allActiveTableRecords) {
+            String key = getActiveTableLookupKey(activeTableRecord.getXxxid(),
+                    activeTableRecord.getEtn(), activeTableRecord.getPhen(),
+                    activeTableRecord.getSig());
+            List<ActiveTableRecord> records = activeTableRecordsForKeys
+                    .get(key);
+            if (records == null) {
+                records = new ArrayList<>();
+                activeTableRecordsForKeys.put(key, records);
+            }
+            records.add(activeTableRecord);
+            activeTableIds.add(activeTableRecord.getKey());
+        }
+
+        /*
+         * Retrieve any interoperability records for all of those active table
+         * records at once, keyed by active table ID.
+         */
+        Map<ActiveTableKey, HazardInteroperabilityRecord> interopRecordsForIds = new HashMap<>();
+        if (activeTableIds.isEmpty() == false) {
+            for (HazardInteroperabilityRecord interopRecord : interopDao
+                    .getByActiveTableID(activeTableIds)) {
+                interopRecordsForIds.put(
+                        interopRecord.getActiveTableEventID(), interopRecord);
+            }
+        }
+
+        List<HazardInteroperabilityRecord> newInteropRecords = new ArrayList<>();
+        List<HazardEvent> newHazardEvents = new ArrayList<>();
+        Map<String, List<HazardEvent>> eventsForSites = new HashMap<>();
+        Map<String, List<HazardEvent>> createdEventsForSites = new HashMap<>();
+        for (AbstractWarningRecord warningRecord : warningRecords) {
+            List<ActiveTableRecord> activeTableRecords = activeTableRecordsForKeys
+                    .get(getActiveTableLookupKey(warningRecord.getXxxid(),
                             warningRecord.getEtn(), warningRecord.getPhen(),
-                            warningRecord.getSig());
-            List<HazardInteroperabilityRecord> interopRecords = new ArrayList<HazardInteroperabilityRecord>(
-                    0);
-            if (!activeTableRecords.isEmpty()) {
-                List<ActiveTableKey> activeTableIds = new ArrayList<ActiveTableKey>(
-                        activeTableRecords.size());
-                for (ActiveTableRecord activeTableRecord : activeTableRecords) {
-                    activeTableIds.add(activeTableRecord.getKey());
+                            warningRecord.getSig()));
+            if (activeTableRecords == null) {
+                activeTableRecords = Collections.emptyList();
+            }
+            List<HazardInteroperabilityRecord> interopRecords = new ArrayList<>(
+                    activeTableRecords.size());
+            for (ActiveTableRecord activeTableRecord : activeTableRecords) {
+                HazardInteroperabilityRecord interopRecord = interopRecordsForIds
+                        .get(activeTableRecord.getKey());
+                if (interopRecord != null) {
+                    interopRecords.add(interopRecord);
                 }
-                interopRecords = interopDao.getByActiveTableID(activeTableIds);
             }
 
             int activeTableRecordsFound = activeTableRecords.size();
@@ -195,95 +293,75 @@ public abstract class AbstractLegacyAppInteropSrv {
              * Verify that the active table records match the correct
              * interoperability records
              */
-
             if (interopRecordsFound == 0) {
                 HazardEvent hazardEvent = buildHazardEventFromWarningRecord(
-                        practice, warningRecord);
+                        practice, warningRecord, eventsForSites,
+                        createdEventsForSites);
+
+                /*
+                 * Remember the new event so that any later record in this
+                 * batch for the same ETN finds it, since it will not be in
+                 * the registry until the batch is stored.
+                 */
+                List<HazardEvent> createdEvents = createdEventsForSites
+                        .get(hazardEvent.getSiteID());
+                if (createdEvents == null) {
+                    createdEvents = new ArrayList<>();
+                    createdEventsForSites.put(hazardEvent.getSiteID(),
+                            createdEvents);
+                }
+                createdEvents.add(hazardEvent);
                 for (ActiveTableRecord activeTableRecord : activeTableRecords) {
                     HazardInteroperabilityRecord interopRecord = interopObjectManager
                             .createInteroperabilityRecord(practice,
                                     getInteroperabilityType(), hazardEvent,
                                     activeTableRecord);
-                    interopDao.create(interopRecord);
+                    newInteropRecords.add(interopRecord);
+                    interopRecordsForIds.put(activeTableRecord.getKey(),
+                            interopRecord);
                 }
-                HazardEventServicesSoapClient.getServices(practice)
-                        .store(hazardEvent);
-            } else if (activeTableRecordsFound == interopRecordsFound) {
+                newHazardEvents.add(hazardEvent);
+            } else if (activeTableRecordsFound > interopRecordsFound) {
                 for (ActiveTableRecord activeTableRecord : activeTableRecords) {
-                    ActiveTableKey activeTableId = activeTableRecord.getKey();
-                    boolean found = false;
-                    for (HazardInteroperabilityRecord interopRecord : interopRecords) {
-                        // FIXME: activeTableId is no longer an integer
-                        if (activeTableId.equals(
-                                interopRecord.getActiveTableEventID())) {
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
+                    if (interopRecordsForIds.containsKey(activeTableRecord
+                            .getKey()) == false) {
                         // TODO: Handle this case
                         statusHandler
                                 .error("No Interoperability record found for active table id ["
-                                        + activeTableId + "]");
+                                        + activeTableRecord.getKey() + "]");
                     }
                 }
-            } else if (activeTableRecordsFound < interopRecordsFound) {
-                // TODO: Handle this case
-            } else if (activeTableRecordsFound > interopRecordsFound) {
-                // TODO: Handle this case
             }
         }
-        //
-        // /*
-        // * Verify that there is a hazard event for each unique hazard event
-        // * id found in the interoperability records
-        // */
-        //
-        // if (practiceHazardDao.eventExists(record)) {
-        // statusHandler
-        // .info("Skipping record for "
-        // + record.getPhensig()
-        // + " from office "
-        // + record.getOfficeid()
-        // + " because an entry already exists in the interoperability table.");
-        // continue;
-        // }
-        //
-        // IHazardEvent eventToStore = null;
-        // IHazardEvent existingEvent = practiceHazardDao
-        // .associatedExistingHazard(record.getXxxid(),
-        // record.getPhen(), record.getSig(),
-        // "[" + record.getEtn() + "]");
-        // if (existingEvent != null) {
-        // statusHandler.info("Match found for etn " + record.getEtn()
-        // + " with Hazard Event " + existingEvent.getEventID());
-        // eventToStore = existingEvent;
-        // } else {
-        // statusHandler.info("Could not find matching hazard event for ["
-        // + record.getPhensig() + ":" + record.getEtn() + "].");
-        //
-        // // FIXME: Don't assume PracticeHazardEvent
-        // eventToStore = buildHazardEventFromWarningRecord(record);
-        // // Create the hazard event
-        // practiceHazardDao.create((PracticeHazardEvent) eventToStore);
-        //
-        // }
-        //
-        // // Create the interoperability record
-        // interopDao.createOrUpdate(new HazardsInteroperability(eventToStore,
-        // record.getEtn(), getInteroperabilityType()));
-        //
-        // HazardNotifier.notify(eventToStore, NotificationType.STORE,
-        // Mode.PRACTICE);
-        //
-        // /*
-        // * TODO: add legacy application specific hook to allow app-specific
-        // * interop operations based on the hazard event, warning record and
-        // * interop record.
-        // */
-        //
-        // }
 
+        /*
+         * Write out everything that was created in one batch per store.
+         */
+        if (newInteropRecords.isEmpty() == false) {
+            interopDao.createAll(newInteropRecords);
+        }
+        if (newHazardEvents.isEmpty() == false) {
+            HazardEventServicesSoapClient.getServices(practice)
+                    .storeEventList(newHazardEvents);
+        }
+    }
+
+    /**
+     * Get the key used to match active table records to warning records.
+     * 
+     * @param siteID
+     *            Site ID.
+     * @param etn
+     *            ETN.
+     * @param phen
+     *            Phenomenon.
+     * @param sig
+     *            Significance.
+     * @return Lookup key.
+     */
+    private String getActiveTableLookupKey(String siteID, String etn,
+            String phen, String sig) {
+        return siteID + ":" + etn + ":" + phen + "." + sig;
     }
 
     /**
@@ -384,9 +462,13 @@ public abstract class AbstractLegacyAppInteropSrv {
      * @param warningRecord
      *            {@code AbstractWarningRecord} to build the hazard event object
      *            from.
-     * @param manager
-     *            {@code IHazardEventManager} instance used to instantiate the
-     *            event.
+     * @param eventsForSites
+     *            Map of site IDs to the hazard events already retrieved for
+     *            those sites while processing the current product; this is
+     *            added to as further sites' events are retrieved.
+     * @param createdEventsForSites
+     *            Map of site IDs to the hazard events created for those sites
+     *            while processing the current product and not yet stored.
      * @return The {@code IHazardEvent} that matches the information contained
      *         in the specified {@code AbstractWarningRecord}.
      * @throws Exception
@@ -394,14 +476,17 @@ public abstract class AbstractLegacyAppInteropSrv {
      *             reason.
      */
     private HazardEvent buildHazardEventFromWarningRecord(boolean practice,
-            final AbstractWarningRecord warningRecord)
+            final AbstractWarningRecord warningRecord,
+            Map<String, List<HazardEvent>> eventsForSites,
+            Map<String, List<HazardEvent>> createdEventsForSites)
             throws HazardsInteroperabilityException {
 
         HazardEvent event = new HazardEvent(practice);
         String value;
         try {
             value = determineEtn(practice, warningRecord.getXxxid(),
-                    warningRecord.getAct(), warningRecord.getEtn());
+                    warningRecord.getAct(), warningRecord.getEtn(),
+                    eventsForSites, createdEventsForSites);
         } catch (Exception e) {
             throw new HazardsInteroperabilityException("Error determining ETN",
                     e);
@@ -475,6 +560,39 @@ public abstract class AbstractLegacyAppInteropSrv {
 
     public String determineEtn(boolean practice, String site, String action,
             String etn) throws Exception {
+        return determineEtn(practice, site, action, etn,
+                new HashMap<String, List<HazardEvent>>(),
+                Collections.<String, List<HazardEvent>> emptyMap());
+    }
+
+    /**
+     * Determine the event identifier for a legacy record, retrieving the
+     * site's hazard events at most once per product. Events created for
+     * earlier records of the product are checked before the retrieved ones.
+     * 
+     * @param practice
+     *            Flag indicating whether or not practice mode is in effect.
+     * @param site
+     *            Site identifier.
+     * @param action
+     *            VTEC action.
+     * @param etn
+     *            ETN of the record.
+     * @param eventsForSites
+     *            Map of site IDs to the hazard events already retrieved for
+     *            those sites; this is added to if the site's events must be
+     *            retrieved.
+     * @param createdEventsForSites
+     *            Map of site IDs to the hazard events created for those sites
+     *            while processing the current product and not yet stored.
+     * @return Event identifier.
+     * @throws Exception
+     *             If an error occurs communicating with the registry.
+     */
+    private String determineEtn(boolean practice, String site, String action,
+            String etn, Map<String, List<HazardEvent>> eventsForSites,
+            Map<String, List<HazardEvent>> createdEventsForSites)
+            throws Exception {
 
         IHazardEventServices eventServices = HazardEventServicesSoapClient
                 .getServices(practice);
@@ -483,17 +601,20 @@ public abstract class AbstractLegacyAppInteropSrv {
         if (HazardConstants.NEW_ACTION.equals(action)) {
             value = eventServices.requestEventId(site);
         } else {
-            List<HazardEvent> events = eventServices
-                    .retrieveByParams(HazardConstants.SITE_ID, site)
-                    .getEvents();
-            for (IHazardEvent ev : events) {
-                List<String> hazEtns = HazardEventUtilities.parseEtns(String
-                        .valueOf(ev.getHazardAttribute(HazardConstants.ETNS)));
-                List<String> recEtn = HazardEventUtilities.parseEtns(etn);
-                if (compareEtns(hazEtns, recEtn)) {
-                    value = ev.getEventID();
-                    break;
+            List<String> recEtn = HazardEventUtilities.parseEtns(etn);
+            List<HazardEvent> createdEvents = createdEventsForSites.get(site);
+            if (createdEvents != null) {
+                value = findEventIdForEtns(createdEvents, recEtn);
+            }
+            if (value.isEmpty()) {
+                List<HazardEvent> events = eventsForSites.get(site);
+                if (events == null) {
+                    events = eventServices
+                            .retrieveByParams(HazardConstants.SITE_ID, site)
+                            .getEvents();
+                    eventsForSites.put(site, events);
                 }
+                value = findEventIdForEtns(events, recEtn);
             }
 
             if (value.isEmpty()) {
@@ -503,6 +624,28 @@ public abstract class AbstractLegacyAppInteropSrv {
         return value;
     }
 
+    /**
+     * Find the event identifier of the first of the specified events that
+     * matches the specified ETNs.
+     * 
+     * @param events
+     *            Events to be searched.
+     * @param etns
+     *            ETNs of the record.
+     * @return Event identifier, or an empty string if none matches.
+     */
+    private String findEventIdForEtns(List<HazardEvent> events,
+            List<String> etns) {
+        for (IHazardEvent ev : events) {
+            List<String> hazEtns = HazardEventUtilities.parseEtns(String
+                    .valueOf(ev.getHazardAttribute(HazardConstants.ETNS)));
+            if (compareEtns(hazEtns, etns)) {
+                return ev.getEventID();
+            }
+        }
+        return "";
+    }
+
     /**
      * Comparing if any of the ETNs of the first list match any of the second
      * list. The lists can be different lengths depending on the code that hits
@@ -37,4 +37,29 @@ public abstract class AbstractActiveTableDao<ENTITY extends ActiveTableRecord>
         return result;
     }
 
+    /**
+     * Gets, in a single query, all active table records whose site ID, ETN,
+     * phenomenon and significance are each one of the given values. The
+     * result is a superset of the records matching each individual
+     * site/ETN/phen/sig combination, so callers must group the records by
+     * those fields themselves.
+     * 
+     * @param siteIDs
+     *            Site IDs to match.
+     * @param etns
+     *            ETNs to match.
+     * @param phens
+     *            Phenomena to match.
+     * @param sigs
+     *            Significances to match.
+     * @return Matching active table records.
+     */
+    public List<ENTITY> getBySiteIDsEtnsPhensSigs(Collection<String> siteIDs,
+            Collection<String> etns, Collection<String> phens,
+            Collection<String> sigs) {
+        return executeCriteriaQuery(InteroperabilityUtil.getCriteriaQuery(
+                getEntityClass(), "xxxid", siteIDs, "etn", etns, "phen",
+                phens, "sig", sigs));
+    }
+
 }
@@ -39,6 +39,7 @@ import com.raytheon.uf.edex.hazards.interop.InteroperabilityUtil;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Aug 4, 2015  6895     Ben.Phillippe Finished HS data access refactor
+ * Oct 18, 2026            agent       Added batch creation.
  * 
  * </pre>
  * 
@@ -59,6 +60,20 @@ public class HazardInteroperabilityDao extends
         super.create(record);
     }
 
+    /**
+     * Creates the given interoperability records in a single batch.
+     * 
+     * @param records
+     *            Records to create.
+     */
+    public void createAll(Collection<HazardInteroperabilityRecord> records) {
+        Date creationDate = new Date();
+        for (HazardInteroperabilityRecord record : records) {
+            record.setCreationDate(creationDate);
+        }
+        persistAll(records);
+    }
+
     /**
      * Gets all interoperability records with the given site ID
      * 
@@ -21,6 +21,7 @@ package com.raytheon.uf.edex.hazards.interop.gfe;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,8 @@ import com.raytheon.uf.common.time.TimeRange;
  * May 06, 2016 18202      Robert.Blum  Changes for operational mode.
  * Sep 14, 2016 15934      Chris.Golden Fixed errors caused when no inventories
  *                                      for the current site can be found.
+ * Oct 18, 2026            agent        Added findIntersectedGrids() to find
+ *                                      the grids for many time ranges at once.
  * </pre>
  * 
  * @author jsanchez
@@ -149,13 +152,32 @@ public class GridRequestHandler {
      */
     public List<GFERecord> findIntersectedGrid(ParmID parmID,
             TimeRange timeRange) throws Exception {
+        return findIntersectedGrids(parmID,
+                Collections.singletonList(timeRange));
+    }
+
+    /**
+     * Finds hazard GFERecords that intersect with any of the timeRanges. The
+     * inventory and history of the parm are each retrieved only once, and
+     * each intersecting grid is retrieved only once no matter how many of the
+     * time ranges it intersects.
+     * 
+     * @param parmID
+     * @param timeRanges
+     * @return
+     */
+    public List<GFERecord> findIntersectedGrids(ParmID parmID,
+            Collection<TimeRange> timeRanges) throws Exception {
         List<GFERecord> records = new ArrayList<GFERecord>();
         List<TimeRange> inventoryTimeRanges = getGridInventory(parmID);
         List<TimeRange> intersectingTimeRanges = new ArrayList<TimeRange>();
         if (inventoryTimeRanges != null) {
             for (TimeRange inventoryTimeRange : inventoryTimeRanges) {
-                if (timeRange.overlaps(inventoryTimeRange)) {
-                    intersectingTimeRanges.add(inventoryTimeRange);
+                for (TimeRange timeRange : timeRanges) {
+                    if (timeRange.overlaps(inventoryTimeRange)) {
+                        intersectingTimeRanges.add(inventoryTimeRange);
+                        break;
+                    }
                 }
             }
         }
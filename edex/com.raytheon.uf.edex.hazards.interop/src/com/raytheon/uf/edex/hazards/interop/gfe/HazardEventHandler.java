@@ -125,6 +125,7 @@ import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryUtilities;
  * Mar 13, 2017 28708      Chris.Golden Further work with new(er) HazardServicesEventIdUtil.
  * Apr 13, 2017 33142      Chris.Golden Changed to use newly available method to delete all
  *                                      copies of a hazard event with a particular identifier.
+ * Oct 18, 2026            agent        Fetch the full event for delta notifications.
  * </pre>
  * 
  * @author jsanchez
@@ -232,6 +233,21 @@ public class HazardEventHandler {
         HazardNotification notification = SerializationUtil
                 .transformFromThrift(HazardNotification.class, bytes);
         IHazardEvent hazardEvent = notification.getEvent();
+        if (notification.isDelta()) {
+
+            /*
+             * Grids are built from the whole event, so fetch it rather than
+             * tracking the versions needed to apply the delta.
+             */
+            hazardEvent = new HazardEventManager(notification.isPracticeMode())
+                    .getLatestByEventID(notification.getEventID(), false);
+            if (hazardEvent == null) {
+                statusHandler.warn("Unable to retrieve hazard event "
+                        + notification.getEventID()
+                        + " ... unable to process the Hazard Notification!");
+                return;
+            }
+        }
 
         /*
          * Determine which parm should be used.
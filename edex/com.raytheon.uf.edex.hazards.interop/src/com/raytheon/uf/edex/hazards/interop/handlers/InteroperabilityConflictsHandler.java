@@ -19,7 +19,15 @@
  **/
 package com.raytheon.uf.edex.hazards.interop.handlers;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictQuery;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardInteroperabilityResponse;
+import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.services.IHazardEventInteropServices;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.services.client.HazardEventInteropServicesSoapClient;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.requests.InteroperabilityConflictsRequest;
 import com.raytheon.uf.common.serialization.comm.IRequestHandler;
@@ -35,6 +43,7 @@ import com.raytheon.uf.common.serialization.comm.IRequestHandler;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Aug 20, 2015 6895     Ben.Phillippe Routing registry requests through request server
+ * Oct 18, 2026            agent       Added handling of bulk requests.
  * 
  * </pre>
  * 
@@ -48,11 +57,26 @@ public class InteroperabilityConflictsHandler implements
     public HazardInteroperabilityResponse handleRequest(
             InteroperabilityConflictsRequest request) throws Exception {
         HazardInteroperabilityResponse response = new HazardInteroperabilityResponse();
-        boolean hasConflicts = HazardEventInteropServicesSoapClient
-                .getServices(request.isPractice()).hasConflicts(
-                        request.getPhenSig(), request.getSiteID(),
-                        request.getStartTime(), request.getEndTime());
-        response.setPayload(hasConflicts);
+        IHazardEventInteropServices services = HazardEventInteropServicesSoapClient
+                .getServices(request.isPractice());
+        List<HazardConflictQuery> queries = request.getQueries();
+        if (queries != null) {
+            Set<String> conflictingEventIDs = new HashSet<>();
+            if (queries.isEmpty() == false) {
+                conflictingEventIDs.addAll(services.findConflicts(queries));
+            }
+            Map<String, Boolean> conflicts = new HashMap<>(queries.size());
+            for (HazardConflictQuery query : queries) {
+                conflicts.put(query.getEventID(),
+                        conflictingEventIDs.contains(query.getEventID()));
+            }
+            response.setPayload(conflicts);
+        } else {
+            boolean hasConflicts = services.hasConflicts(request.getPhenSig(),
+                    request.getSiteID(), request.getStartTime(),
+                    request.getEndTime());
+            response.setPayload(hasConflicts);
+        }
         return response;
     }
 
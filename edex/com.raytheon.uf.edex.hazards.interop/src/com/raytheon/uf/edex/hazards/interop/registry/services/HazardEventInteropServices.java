@@ -19,13 +19,19 @@
  **/
 package com.raytheon.uf.edex.hazards.interop.registry.services;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Resource;
 import javax.jws.WebMethod;
@@ -51,6 +57,7 @@ import com.raytheon.uf.common.dataplugin.gfe.discrete.DiscreteKey;
 import com.raytheon.uf.common.dataplugin.gfe.slice.DiscreteGridSlice;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.HazardInteroperabilityRecord;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictDict;
+import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictQuery;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardInteroperabilityResponse;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.services.IHazardEventInteropServices;
 import com.raytheon.uf.common.hazards.configuration.ConfigLoader;
@@ -85,6 +92,9 @@ import com.raytheon.uf.edex.registry.ebxml.util.EbxmlObjectUtil;
  * Aug 04, 2015 6895      Ben.Phillippe Finished HS data access refactor
  * Aug 20, 2015 6895      Ben.Phillippe Routing registry requests through
  *                                      request server
+ * Oct 18, 2026            agent        Added findConflicts() to check many
+ *                                      events against the grids of each site
+ *                                      using a single grid retrieval.
  * </pre>
  * 
  * @author bphillip
@@ -233,6 +243,63 @@ public class HazardEventInteropServices implements IHazardEventInteropServices {
         return hasConflicts;
     }
 
+    @Override
+    @WebMethod(operationName = "findConflicts")
+    public List<String> findConflicts(
+            @WebParam(name = "queries") List<HazardConflictQuery> queries) {
+        retrieveHazardsConflictDict();
+        List<String> eventIDs = new ArrayList<String>();
+        if (hazardsConflictDict == null) {
+            return eventIDs;
+        }
+
+        /*
+         * Group the queries by site, skipping any for hazard types that cannot
+         * conflict with anything, and determine the grid time range of each.
+         */
+        TimeConstraints timeConstraints = new TimeConstraints(
+                TimeUtil.SECONDS_PER_HOUR, TimeUtil.SECONDS_PER_HOUR, 0);
+        Map<String, Map<HazardConflictQuery, TimeRange>> timeRangesForQueriesForSites = new LinkedHashMap<>();
+        for (HazardConflictQuery query : queries) {
+            if (hazardsConflictDict.get(query.getPhenSig()).isEmpty()) {
+                continue;
+            }
+            Map<HazardConflictQuery, TimeRange> timeRangesForQueries = timeRangesForQueriesForSites
+                    .get(query.getSiteID());
+            if (timeRangesForQueries == null) {
+                timeRangesForQueries = new IdentityHashMap<>();
+                timeRangesForQueriesForSites.put(query.getSiteID(),
+                        timeRangesForQueries);
+            }
+            timeRangesForQueries.put(query, GFERecordUtil.createGridTimeRange(
+                    query.getStartTime(), query.getEndTime(), timeConstraints));
+        }
+
+        /*
+         * For each site, retrieve all the grids intersecting any of the
+         * queries' time ranges at once, and then check each query against
+         * those grids intersecting its own time range.
+         */
+        for (Map.Entry<String, Map<HazardConflictQuery, TimeRange>> siteEntry : timeRangesForQueriesForSites
+                .entrySet()) {
+            try {
+                Map<TimeRange, Set<String>> subKeysForTimeRanges = getHazardSubKeys(
+                        siteEntry.getKey(), siteEntry.getValue().values());
+                for (Map.Entry<HazardConflictQuery, TimeRange> entry : siteEntry
+                        .getValue().entrySet()) {
+                    if (hasConflicts(entry.getKey().getPhenSig(),
+                            entry.getValue(), subKeysForTimeRanges)) {
+                        eventIDs.add(entry.getKey().getEventID());
+                    }
+                }
+            } catch (Exception e) {
+                statusHandler.error(
+                        "Error trying to retrieve intersecting gfe records", e);
+            }
+        }
+        return eventIDs;
+    }
+
     @Override
     @WebMethod(operationName = "retrieveHazardsConflictDict")
     public HazardConflictDict retrieveHazardsConflictDict() {
@@ -464,6 +531,66 @@ public class HazardEventInteropServices implements IHazardEventInteropServices {
         return false;
     }
 
+    /**
+     * Gets the hazard subkeys of the grids for the specified site that
+     * intersect any of the specified time ranges
+     * 
+     * @param siteID
+     *            The site ID
+     * @param timeRanges
+     *            The time ranges
+     * @return Map of the time ranges of the intersecting grids to their
+     *         subkeys
+     * @throws Exception
+     *             If the grids cannot be retrieved
+     */
+    private Map<TimeRange, Set<String>> getHazardSubKeys(String siteID,
+            Collection<TimeRange> timeRanges) throws Exception {
+        final String parmIDFormat = (practice ? GridRequestHandler.PRACTICE_PARM_ID_FORMAT
+                : GridRequestHandler.OPERATIONAL_PARM_ID_FORMAT);
+        ParmID parmID = new ParmID(String.format(parmIDFormat, siteID));
+        Map<TimeRange, Set<String>> subKeysForTimeRanges = new HashMap<>();
+        for (GFERecord record : gridRequestHandler.findIntersectedGrids(
+                parmID, timeRanges)) {
+            DiscreteGridSlice gridSlice = (DiscreteGridSlice) record
+                    .getMessageData();
+            Set<String> subKeys = new HashSet<>();
+            for (DiscreteKey discreteKey : gridSlice.getKeys()) {
+                subKeys.addAll(discreteKey.getSubKeys());
+            }
+            subKeysForTimeRanges.put(record.getTimeRange(), subKeys);
+        }
+        return subKeysForTimeRanges;
+    }
+
+    /**
+     * Checks if the specified phensig conflicts with any of the grids that
+     * intersect the specified time range
+     * 
+     * @param phenSig
+     *            The phen/sig
+     * @param timeRange
+     *            The time range
+     * @param subKeysForTimeRanges
+     *            Map of the time ranges of grids to their hazard subkeys
+     * @return True if conflicts exist, else false
+     */
+    private boolean hasConflicts(String phenSig, TimeRange timeRange,
+            Map<TimeRange, Set<String>> subKeysForTimeRanges) {
+        List<String> hazardsConflictList = hazardsConflictDict.get(phenSig);
+        for (Map.Entry<TimeRange, Set<String>> entry : subKeysForTimeRanges
+                .entrySet()) {
+            if (timeRange.overlaps(entry.getKey())) {
+                for (String key : hazardsConflictList) {
+                    if (entry.getValue().contains(key)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     private static HashMap<String, String> initHeadlineMap() {
         HashMap<String, String> headlineLookupMap = new HashMap<String, String>();
 
@@ -19,11 +19,11 @@
  **/
 package com.raytheon.uf.edex.hazards.interop.riverpro;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import com.raytheon.uf.common.dataaccess.util.DatabaseQueryUtil;
 import com.raytheon.uf.common.dataaccess.util.DatabaseQueryUtil.QUERY_MODE;
@@ -47,8 +47,12 @@ import com.raytheon.uf.edex.database.DataAccessLayerException;
 import com.raytheon.uf.edex.database.dao.CoreDao;
 import com.raytheon.uf.edex.database.dao.DaoConfig;
 import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Geometry;
 import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.prep.PreparedGeometry;
+import com.vividsolutions.jts.geom.prep.PreparedGeometryFactory;
+import com.vividsolutions.jts.index.strtree.STRtree;
 
 /**
  * Interoperates between Riverpro and Hazard Services
@@ -65,6 +69,11 @@ import com.vividsolutions.jts.geom.Point;
  * Dec 04, 2014 2826       dgilling    Remove unneeded methods.
  * Dec 08, 2014 2826       dgilling    Remove unnecessary phen/sig validation from
  *                                     RiverPro database.
+ * Oct 18, 2026            agent       Cache gauge locations in an STRtree that
+ *                                     is rebuilt when the location table
+ *                                     changes, test containment with prepared
+ *                                     geometries, cache the VTEC code tables,
+ *                                     and insert all rows for a batch at once.
  * 
  * </pre>
  * 
@@ -88,13 +97,86 @@ public class RiverProHazardsCreator {
 
     private static final String SELECT_GAUGE_STRING = "select lid,lat,lon from location;";
 
+    /**
+     * Query yielding a digest of the gauge locations, used to determine
+     * whether the location table has changed since the gauge index was built
+     * without transferring the whole table.
+     */
+    private static final String SELECT_GAUGE_DIGEST_STRING = "select md5(string_agg(lid || ':' || coalesce(lat::text, '') || ':' || coalesce(lon::text, ''), ',' order by lid)) from location;";
+
     private static final String ACTION = "action";
 
     private static final String RECORD = "record";
 
+    /**
+     * Minimum interval in milliseconds between reloads of a VTEC code table
+     * triggered by a lookup of a value not found in the cached table.
+     */
+    private static final long CODE_TABLE_RELOAD_INTERVAL = 5L * 60L * 1000L;
+
     private static final CoreDao dao = new CoreDao(
             DaoConfig.forDatabase(IHFS_DB));
 
+    /**
+     * Gauge location.
+     */
+    private static class Gauge {
+
+        private final String lid;
+
+        private final Point point;
+
+        Gauge(String lid, Point point) {
+            this.lid = lid;
+            this.point = point;
+        }
+    }
+
+    /**
+     * Spatial index of the gauge locations, along with the digest of the
+     * location table from which it was built.
+     */
+    private static class GaugeIndex {
+
+        private final String digest;
+
+        private final STRtree tree;
+
+        private final int size;
+
+        GaugeIndex(String digest, STRtree tree, int size) {
+            this.digest = digest;
+            this.tree = tree;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Cached rows of one of the small VTEC code tables, keyed by their first
+     * column.
+     */
+    private static class CodeTable {
+
+        private final Map<String, Object> rowsForCodes;
+
+        private final long loadTime;
+
+        CodeTable(Map<String, Object> rowsForCodes, long loadTime) {
+            this.rowsForCodes = rowsForCodes;
+            this.loadTime = loadTime;
+        }
+    }
+
+    /**
+     * Gauge index; rebuilt when the location table changes.
+     */
+    private volatile GaugeIndex gaugeIndex;
+
+    /**
+     * Cached VTEC code tables, keyed by class.
+     */
+    private final Map<Class<?>, CodeTable> codeTables = new HashMap<>();
+
     /*
      * TODO: As of 17.1.1, the class this variable uses as its type is gone.
      * Since the enclosing class needs overhaul anyway as part of
@@ -106,15 +188,16 @@ public class RiverProHazardsCreator {
     public void createHazards(List<PluginDataObject> objects) {
         if (!objects.isEmpty()) {
             // find the gauge locations from the table
-            Map<String, Point> gaugeLocations = null;
+            GaugeIndex gauges = null;
             try {
-                gaugeLocations = calculateGaugeLocations();
+                gauges = getGaugeIndex();
             } catch (Throwable t) {
                 statusHandler.error(
                         "Unable to query for gauge data, events will not be interoperable with RiverPro");
                 return;
             }
 
+            List<Object> events = new ArrayList<>();
             for (PluginDataObject obj : objects) {
                 AbstractWarningRecord warning = null;
                 if (obj instanceof AbstractWarningRecord) {
@@ -132,118 +215,202 @@ public class RiverProHazardsCreator {
                     continue;
                 }
 
-                // loop over all gauge locations
-                for (Entry<String, Point> pt : gaugeLocations.entrySet()) {
-                    // only create a record, if the gauge is in the area
-                    if (warning.getGeometry().contains(pt.getValue())) {
-                        // query the afos_to_awips table to get the product
-                        // id
-                        String productId = "";
-                        try {
-                            String xxxId = warning.getOfficeid();
-                            String wmottaaii = warning.getWmoid().split(" ")[0];
-
-                            /*
-                             * TODO: a2aDao has been commented out as of 17.1.1
-                             * transition (see TODO above); thus, an exception
-                             * is thrown here, since the commented-out code
-                             * below cannot be compiled or run.
-                             */
-                            throw new DataAccessLayerException(
-                                    "not implemented");
-                            // List<AfosToAwips> list = a2aDao
-                            // .lookupAfosId(wmottaaii, xxxId).getIdList();
-                            // for (AfosToAwips a2a : list) {
-                            // if (a2a.getAfosid()
-                            // .contains(warning.getPil())) {
-                            // productId = a2a.getAfosid();
-                            // break;
-                            // }
-                            // }
-                        } catch (DataAccessLayerException e) {
-                            statusHandler.handle(Priority.PROBLEM,
-                                    "Unable to query afos_to_awips table for afosId",
-                                    e);
+                /*
+                 * Find the gauges within the area, using the index to find the
+                 * candidates whose points fall within the area's envelope and
+                 * then testing those against the prepared area.
+                 */
+                List<Gauge> containedGauges = findContainedGauges(gauges,
+                        warning.getGeometry());
+                if (containedGauges.isEmpty()) {
+                    continue;
+                }
+
+                // query the afos_to_awips table to get the product id
+                String productId = getProductId(warning);
+
+                // testing whether it should go to the practice table, or to
+                // the regular table.
+                for (Gauge gauge : containedGauges) {
+                    if (obj instanceof PracticeWarningRecord) {
+                        VtecpracticeId id = new VtecpracticeId(gauge.lid,
+                                productId, warning.getIssueTime().getTime());
+                        Vtecpractice event = new Vtecpractice(id);
+                        event.setBegintime(warning.getStartTime().getTime());
+                        event.setEndtime(warning.getEndTime().getTime());
+                        Calendar floodCrestTime = warning.getFloodCrest();
+                        if (floodCrestTime != null) {
+                            event.setCresttime(floodCrestTime.getTime());
                         }
-                        // testing whether it should go to the practice
-                        // table, or to the regular table.
-                        if (obj instanceof PracticeWarningRecord) {
-                            VtecpracticeId id = new VtecpracticeId(pt.getKey(),
-                                    productId,
-                                    warning.getIssueTime().getTime());
-                            Vtecpractice event = new Vtecpractice(id);
-                            event.setBegintime(
-                                    warning.getStartTime().getTime());
-                            event.setEndtime(warning.getEndTime().getTime());
-                            Calendar floodCrestTime = warning.getFloodCrest();
-                            if (floodCrestTime != null) {
-                                event.setCresttime(floodCrestTime.getTime());
-                            }
-                            event.setRecord(warning.getFloodRecordStatus());
-                            event.setEtn(Short.parseShort(warning.getEtn()));
-                            event.setOfficeId(warning.getOfficeid());
-                            event.setPhenom(warning.getPhen());
-                            event.setSeverity(warning.getFloodSeverity());
-                            event.setSignif(warning.getSig());
-                            event.setAction(warning.getAct());
-                            event.setImmedCause(warning.getImmediateCause());
-                            event.setProductmode(warning.getProductClass());
-                            event.setRecord(warning.getFloodRecordStatus());
-                            dao.create(event);
-                        } else {
-                            VteceventId id = new VteceventId(pt.getKey(),
-                                    productId,
-                                    warning.getIssueTime().getTime());
-                            Vtecevent event = new Vtecevent(id);
-                            event.setBegintime(
-                                    warning.getStartTime().getTime());
-                            event.setEndtime(warning.getEndTime().getTime());
-                            Calendar floodCrestTime = warning.getFloodCrest();
-                            if (floodCrestTime != null) {
-                                event.setCresttime(floodCrestTime.getTime());
-                            }
-                            event.setEtn(Short.parseShort(warning.getEtn()));
-                            event.setOfficeId(warning.getOfficeid());
-                            event.setProductmode(warning.getProductClass());
-
-                            event.setVteccause(retrieveVtecObject(
-                                    warning.getImmediateCause(), IMMED_CAUSE,
-                                    Vteccause.class));
-                            event.setVtecaction(
-                                    retrieveVtecObject(warning.getAct(), ACTION,
-                                            Vtecaction.class));
-                            event.setVtecphenom(
-                                    retrieveVtecObject(warning.getPhen(),
-                                            PHENOM, Vtecphenom.class));
-                            event.setVtecsignif(
-                                    retrieveVtecObject(warning.getSig(), SIGNIF,
-                                            Vtecsignif.class));
-                            event.setVtecsever(retrieveVtecObject(
-                                    warning.getFloodSeverity(), SEVERITY,
-                                    Vtecsever.class));
-                            event.setVtecrecord(retrieveVtecObject(
-                                    warning.getFloodRecordStatus(), RECORD,
-                                    Vtecrecord.class));
-                            dao.create(event);
+                        event.setRecord(warning.getFloodRecordStatus());
+                        event.setEtn(Short.parseShort(warning.getEtn()));
+                        event.setOfficeId(warning.getOfficeid());
+                        event.setPhenom(warning.getPhen());
+                        event.setSeverity(warning.getFloodSeverity());
+                        event.setSignif(warning.getSig());
+                        event.setAction(warning.getAct());
+                        event.setImmedCause(warning.getImmediateCause());
+                        event.setProductmode(warning.getProductClass());
+                        event.setRecord(warning.getFloodRecordStatus());
+                        events.add(event);
+                    } else {
+                        VteceventId id = new VteceventId(gauge.lid, productId,
+                                warning.getIssueTime().getTime());
+                        Vtecevent event = new Vtecevent(id);
+                        event.setBegintime(warning.getStartTime().getTime());
+                        event.setEndtime(warning.getEndTime().getTime());
+                        Calendar floodCrestTime = warning.getFloodCrest();
+                        if (floodCrestTime != null) {
+                            event.setCresttime(floodCrestTime.getTime());
                         }
+                        event.setEtn(Short.parseShort(warning.getEtn()));
+                        event.setOfficeId(warning.getOfficeid());
+                        event.setProductmode(warning.getProductClass());
+
+                        event.setVteccause(
+                                retrieveVtecObject(warning.getImmediateCause(),
+                                        IMMED_CAUSE, Vteccause.class));
+                        event.setVtecaction(retrieveVtecObject(
+                                warning.getAct(), ACTION, Vtecaction.class));
+                        event.setVtecphenom(retrieveVtecObject(
+                                warning.getPhen(), PHENOM, Vtecphenom.class));
+                        event.setVtecsignif(retrieveVtecObject(
+                                warning.getSig(), SIGNIF, Vtecsignif.class));
+                        event.setVtecsever(
+                                retrieveVtecObject(warning.getFloodSeverity(),
+                                        SEVERITY, Vtecsever.class));
+                        event.setVtecrecord(retrieveVtecObject(
+                                warning.getFloodRecordStatus(), RECORD,
+                                Vtecrecord.class));
+                        events.add(event);
                     }
                 }
             }
+
+            // insert the rows for all the gauges at once
+            if (events.isEmpty() == false) {
+                dao.persistAll(events);
+            }
+        }
+    }
+
+    /**
+     * Get the product identifier for the specified warning.
+     * 
+     * @param warning
+     *            Warning.
+     * @return Product identifier.
+     */
+    private String getProductId(AbstractWarningRecord warning) {
+        String productId = "";
+        try {
+            String xxxId = warning.getOfficeid();
+            String wmottaaii = warning.getWmoid().split(" ")[0];
+
+            /*
+             * TODO: a2aDao has been commented out as of 17.1.1 transition (see
+             * TODO above); thus, an exception is thrown here, since the
+             * commented-out code below cannot be compiled or run.
+             */
+            throw new DataAccessLayerException("not implemented");
+            // List<AfosToAwips> list = a2aDao
+            // .lookupAfosId(wmottaaii, xxxId).getIdList();
+            // for (AfosToAwips a2a : list) {
+            // if (a2a.getAfosid()
+            // .contains(warning.getPil())) {
+            // productId = a2a.getAfosid();
+            // break;
+            // }
+            // }
+        } catch (DataAccessLayerException e) {
+            statusHandler.handle(Priority.PROBLEM,
+                    "Unable to query afos_to_awips table for afosId", e);
+        }
+        return productId;
+    }
+
+    /**
+     * Find the gauges contained within the specified area.
+     * 
+     * @param gauges
+     *            Gauge index.
+     * @param area
+     *            Area.
+     * @return Gauges contained within the area.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Gauge> findContainedGauges(GaugeIndex gauges, Geometry area) {
+        List<Gauge> candidates = gauges.tree.query(area.getEnvelopeInternal());
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        PreparedGeometry preparedArea = PreparedGeometryFactory.prepare(area);
+        List<Gauge> containedGauges = new ArrayList<>(candidates.size());
+        for (Gauge gauge : candidates) {
+            if (preparedArea.contains(gauge.point)) {
+                containedGauges.add(gauge);
+            }
+        }
+        return containedGauges;
+    }
+
+    /**
+     * Get the index of the gauge locations, rebuilding it from the location
+     * table if the latter has changed since the index was last built.
+     * 
+     * @return Gauge index.
+     */
+    private GaugeIndex getGaugeIndex() {
+        String digest = queryGaugeDigest();
+        GaugeIndex index = gaugeIndex;
+        if ((index != null) && (digest != null)
+                && digest.equals(index.digest)) {
+            return index;
+        }
+        synchronized (this) {
+            index = gaugeIndex;
+            if ((index == null) || (digest == null)
+                    || (digest.equals(index.digest) == false)) {
+                index = buildGaugeIndex(digest);
+                gaugeIndex = index;
+                statusHandler.debug("Rebuilt RiverPro gauge index with "
+                        + index.size + " gauges.");
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Query the digest of the gauge locations.
+     * 
+     * @return Digest, or <code>null</code> if none could be computed, in which
+     *         case the index should always be rebuilt.
+     */
+    private String queryGaugeDigest() {
+        List<Object[]> objects = DatabaseQueryUtil.executeDatabaseQuery(
+                QUERY_MODE.MODE_SQLQUERY, SELECT_GAUGE_DIGEST_STRING, IHFS_DB,
+                "location");
+        if ((objects.isEmpty() == false) && (objects.get(0).length > 0)
+                && (objects.get(0)[0] != null)) {
+            return objects.get(0)[0].toString();
         }
+        return null;
     }
 
     /**
      * Queries the location table to get all the gauge locations so we can write
-     * a new row for each location
+     * a new row for each location, and builds a spatial index of them.
      * 
+     * @param digest
+     *            Digest of the location table.
      * @return
      */
-    private Map<String, Point> calculateGaugeLocations() {
-        Map<String, Point> gaugeLocations = new HashMap<String, Point>();
+    private GaugeIndex buildGaugeIndex(String digest) {
         List<Object[]> objects = DatabaseQueryUtil.executeDatabaseQuery(
                 QUERY_MODE.MODE_SQLQUERY, SELECT_GAUGE_STRING, IHFS_DB,
                 "location");
         GeometryFactory factory = new GeometryFactory();
+        Map<String, Point> gaugeLocations = new HashMap<String, Point>();
         for (Object[] obj : objects) {
             if (obj[0] == null || obj[1] == null || obj[2] == null) {
                 continue;
@@ -255,14 +422,22 @@ public class RiverProHazardsCreator {
             Point point = factory.createPoint(new Coordinate(lon, lat));
             gaugeLocations.put(id, point);
         }
-        return gaugeLocations;
+        STRtree tree = new STRtree();
+        for (Map.Entry<String, Point> entry : gaugeLocations.entrySet()) {
+            tree.insert(entry.getValue().getEnvelopeInternal(),
+                    new Gauge(entry.getKey(), entry.getValue()));
+        }
+        tree.build();
+        return new GaugeIndex(digest, tree, gaugeLocations.size());
     }
 
     /**
-     * Tries to generically retrieve an object of type T from the database where
-     * the first column value is passed in. This is mainly for the Vtec* table
-     * retrieval since we have to have those objects to store to the Vtecevent
-     * table.
+     * Retrieve an object of type T, that is, a row from one of the small Vtec*
+     * tables, where the first column value is passed in. This is mainly for the
+     * Vtec* table retrieval since we have to have those objects to store to the
+     * Vtecevent table. The tables are cached, and reloaded if a value is not
+     * found, though no more often than every
+     * {@link #CODE_TABLE_RELOAD_INTERVAL} milliseconds.
      * 
      * @param firstColumnValue
      * @param firstColumnName
@@ -272,17 +447,42 @@ public class RiverProHazardsCreator {
     @SuppressWarnings("unchecked")
     private <T extends Object> T retrieveVtecObject(String firstColumnValue,
             String firstColumnName, Class<T> clazz) {
+        if (firstColumnValue == null) {
+            return null;
+        }
+        synchronized (codeTables) {
+            CodeTable codeTable = codeTables.get(clazz);
+            if ((codeTable == null)
+                    || ((codeTable.rowsForCodes
+                            .containsKey(firstColumnValue) == false)
+                            && (System.currentTimeMillis()
+                                    - codeTable.loadTime > CODE_TABLE_RELOAD_INTERVAL))) {
+                codeTable = loadCodeTable(firstColumnName, clazz);
+                codeTables.put(clazz, codeTable);
+            }
+            return (T) codeTable.rowsForCodes.get(firstColumnValue);
+        }
+    }
+
+    /**
+     * Load the specified Vtec* table.
+     * 
+     * @param firstColumnName
+     * @param clazz
+     * @return
+     */
+    private CodeTable loadCodeTable(String firstColumnName, Class<?> clazz) {
         List<Object[]> objects = DatabaseQueryUtil.executeDatabaseQuery(
                 QUERY_MODE.MODE_HQLQUERY,
-                "from " + clazz.getSimpleName() + " where " + firstColumnName
-                        + "='" + firstColumnValue + "'",
+                "select v." + firstColumnName + ", v from "
+                        + clazz.getSimpleName() + " v",
                 IHFS_DB, clazz.getSimpleName());
+        Map<String, Object> rowsForCodes = new HashMap<>(objects.size());
         for (Object[] obs : objects) {
-            if (obs.length != 0) {
-                T cause = (T) obs[0];
-                return cause;
+            if ((obs.length > 1) && (obs[0] != null)) {
+                rowsForCodes.put(obs[0].toString(), obs[1]);
             }
         }
-        return null;
+        return new CodeTable(rowsForCodes, System.currentTimeMillis());
     }
-}
\ No newline at end of file
+}
@@ -24,8 +24,6 @@ import java.util.List;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardLockNotification;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardLockNotification.NotificationType;
 import com.raytheon.uf.common.message.WsId;
-import com.raytheon.uf.common.serialization.SerializationException;
-import com.raytheon.uf.common.serialization.SerializationUtil;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
 import com.raytheon.uf.common.status.UFStatus.Priority;
@@ -34,6 +32,9 @@ import com.raytheon.uf.edex.core.EdexException;
 
 /**
  * Notifies the appropriate topic that something about hazard locks has changed.
+ * Notifications are handed to a route that sets the mode message property used
+ * by subscribers' selectors, then serializes them and places them on the
+ * topic.
  * 
  * <pre>
  * 
@@ -43,6 +44,8 @@ import com.raytheon.uf.edex.core.EdexException;
  * ------------ ---------- ----------- --------------------------
  * Dec 12, 2016 21504      Robert.Blum Initial creation
  * Apr 05, 2017 32733      Robert.Blum Changed to handle a list of eventIds.
+ * Oct 18, 2026            agent       Send notifications through a route
+ *                                     that sets the mode message property.
  * </pre>
  * 
  * @author Robert.Blum
@@ -54,9 +57,11 @@ public class HazardLockNotifier {
     private static final IUFStatusHandler statusHandler = UFStatus
             .getHandler(HazardLockNotifier.class);
 
-    /** Hazard topic uri */
-    private static final String SEND_URI = "jms-generic:topic:"
-            + HazardLockNotification.HAZARD_TOPIC + "?timeToLive=60000";
+    /**
+     * Uri of the route that sets the message property and places the
+     * notification on the hazard lock topic
+     */
+    private static final String SEND_URI = "vm:hazards.hazardLockNotification";
 
     /**
      * Places a notification on the topic
@@ -67,14 +72,10 @@ public class HazardLockNotifier {
     protected static void sendNotification(
             HazardLockNotification notification) {
         try {
-            byte[] bytes = SerializationUtil.transformToThrift(notification);
-            EDEXUtil.getMessageProducer().sendAsyncUri(SEND_URI, bytes);
+            EDEXUtil.getMessageProducer().sendAsyncUri(SEND_URI, notification);
         } catch (EdexException e) {
             statusHandler.handle(Priority.PROBLEM,
                     "Unable to send to the hazards topic", e);
-        } catch (SerializationException e) {
-            statusHandler.handle(Priority.PROBLEM,
-                    "Unable to transform hazard to bytes for transfer", e);
         }
     }
 
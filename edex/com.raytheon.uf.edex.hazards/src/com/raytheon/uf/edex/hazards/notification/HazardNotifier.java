@@ -19,13 +19,18 @@
  **/
 package com.raytheon.uf.edex.hazards.notification;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants.HazardStatus;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification.NotificationType;
+import com.raytheon.uf.common.dataplugin.events.hazards.datastorage.HazardEventManager;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
-import com.raytheon.uf.common.serialization.SerializationException;
-import com.raytheon.uf.common.serialization.SerializationUtil;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEventDelta;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
 import com.raytheon.uf.common.status.UFStatus.Priority;
@@ -34,6 +39,22 @@ import com.raytheon.uf.edex.core.EdexException;
 
 /**
  * Notifies the appropriate topic that something about hazards has changed.
+ * <p>
+ * When delta notifications are enabled, the last latest version of each event
+ * for which a store or update notification was sent is remembered, and later
+ * store or update notifications for that event carry only the fields that
+ * differ from it. Versions are identified by insert time, so a recipient that
+ * missed a notification, or that is hearing from another EDEX node, detects
+ * the mismatch and fetches the full event instead. Events are forgotten once
+ * they have ended or elapsed, and only the most recently notified events are
+ * remembered; a notification for an event that is not remembered carries the
+ * full event.
+ * </p>
+ * <p>
+ * Notifications are handed to a route that sets the site and mode message
+ * properties used by subscribers' selectors, then serializes them and places
+ * them on the topic.
+ * </p>
  * 
  * <pre>
  * 
@@ -49,6 +70,13 @@ import com.raytheon.uf.edex.core.EdexException;
  * Feb 16, 2017 29138      Chris.Golden  Changed to use HazardEvent instead of
  *                                       IHazardEvent, since only the former
  *                                       has a unique identifier.
+ * Oct 18, 2026            agent         Added field-level delta notifications
+ *                                       for stores and updates.
+ * Oct 18, 2026            agent         Send notifications through a route
+ *                                       that sets site and mode message
+ *                                       properties.
+ * Oct 19, 2026            agent         Bounded the remembered events, and
+ *                                       forget events that end or elapse.
  * </pre>
  * 
  * @author mnash
@@ -60,9 +88,35 @@ public class HazardNotifier {
     private static final IUFStatusHandler statusHandler = UFStatus
             .getHandler(HazardNotifier.class);
 
-    /** Hazard topic uri */
-    private static final String SEND_URI = "jms-generic:topic:"
-            + HazardNotification.HAZARD_TOPIC + "?timeToLive=60000";
+    /**
+     * Uri of the route that sets the message properties and places the
+     * notification on the hazard topic
+     */
+    private static final String SEND_URI = "vm:hazards.hazardNotification";
+
+    /**
+     * Maximum number of events whose last notified versions are remembered
+     */
+    private static final int MAXIMUM_NOTIFIED_EVENTS = 1000;
+
+    /**
+     * Last latest version of each event for which a store or update
+     * notification was sent, keyed by mode and event identifier, in least
+     * recently notified order.
+     */
+    @SuppressWarnings("serial")
+    private final Map<String, HazardEvent> lastNotifiedEvents = Collections
+            .synchronizedMap(new LinkedHashMap<String, HazardEvent>(16, 0.75f,
+                    true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<String, HazardEvent> eldest) {
+                    return (size() > MAXIMUM_NOTIFIED_EVENTS);
+                }
+            });
+
+    /** Flag indicating whether delta notifications are to be sent */
+    private boolean sendDeltas = true;
 
     /**
      * Places a notification on the topic
@@ -72,14 +126,10 @@ public class HazardNotifier {
      */
     protected static void sendNotification(HazardNotification notification) {
         try {
-            byte[] bytes = SerializationUtil.transformToThrift(notification);
-            EDEXUtil.getMessageProducer().sendAsyncUri(SEND_URI, bytes);
+            EDEXUtil.getMessageProducer().sendAsyncUri(SEND_URI, notification);
         } catch (EdexException e) {
             statusHandler.handle(Priority.PROBLEM,
                     "Unable to send to the hazards topic", e);
-        } catch (SerializationException e) {
-            statusHandler.handle(Priority.PROBLEM,
-                    "Unable to transform hazard to bytes for transfer", e);
         }
     }
 
@@ -101,7 +151,7 @@ public class HazardNotifier {
         if (event == null) {
             throw new IllegalArgumentException("Cannot publish a null event");
         }
-        HazardNotification notification = new HazardNotification(event, type,
+        HazardNotification notification = createNotification(event, type,
                 practice);
 
         /*
@@ -123,6 +173,83 @@ public class HazardNotifier {
         }
     }
 
+    /**
+     * Create the notification for the specified event, using a delta if
+     * delta notifications are enabled and the event is a latest version
+     * following one for which a notification was already sent.
+     * 
+     * @param event
+     *            The hazard event
+     * @param type
+     *            The type of notification
+     * @param practice
+     *            The practice or operational mode flag
+     * @return The notification
+     */
+    private HazardNotification createNotification(HazardEvent event,
+            NotificationType type, boolean practice) {
+        String key = (practice ? "P:" : "O:") + event.getEventID();
+        switch (type) {
+        case DELETE_ALL:
+            lastNotifiedEvents.remove(key);
+            break;
+        case DELETE:
+            if (isHistorical(event) == false) {
+                lastNotifiedEvents.remove(key);
+            }
+            break;
+        default:
+            if (sendDeltas && (isHistorical(event) == false)) {
+
+                /*
+                 * An event that has ended or elapsed is not expected to
+                 * change again, so there is no need to remember it.
+                 */
+                HazardEvent previous = (isFinished(event)
+                        ? lastNotifiedEvents.remove(key)
+                        : lastNotifiedEvents.put(key, new HazardEvent(event)));
+                if (previous != null) {
+                    HazardEventDelta delta = HazardEventDelta.create(previous,
+                            event);
+                    if (delta != null) {
+                        return new HazardNotification(delta, type, practice);
+                    }
+                }
+            }
+        }
+        return new HazardNotification(event, type, practice);
+    }
+
+    /**
+     * Determine whether the specified event is a historical snapshot.
+     * 
+     * TODO: Use isLatestVersion() once the HISTORICAL attribute is no longer
+     * being used.
+     */
+    private static boolean isHistorical(HazardEvent event) {
+        return (event.getHazardAttribute(HazardEventManager.HISTORICAL) != null);
+    }
+
+    /**
+     * Determine whether the specified event has ended or elapsed.
+     */
+    private static boolean isFinished(HazardEvent event) {
+        return ((event.getStatus() == HazardStatus.ENDED)
+                || (event.getStatus() == HazardStatus.ELAPSED));
+    }
+
+    /**
+     * @param sendDeltas
+     *            Flag indicating whether store and update notifications may
+     *            carry deltas rather than full events
+     */
+    public void setSendDeltas(boolean sendDeltas) {
+        this.sendDeltas = sendDeltas;
+        if (sendDeltas == false) {
+            lastNotifiedEvents.clear();
+        }
+    }
+
     /**
      * Check to see if a transaction is active.
      * 
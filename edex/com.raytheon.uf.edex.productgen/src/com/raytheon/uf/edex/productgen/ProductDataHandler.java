@@ -27,15 +27,28 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.Criteria;
+import org.hibernate.Query;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.criterion.Projections;
 import org.hibernate.criterion.Restrictions;
 
 import com.raytheon.uf.common.dataquery.db.QueryParam.QueryOperand;
 import com.raytheon.uf.common.hazards.productgen.data.CustomDataId;
 import com.raytheon.uf.common.hazards.productgen.data.ProductData;
+import com.raytheon.uf.common.hazards.productgen.data.ProductDataEventId;
 import com.raytheon.uf.common.hazards.productgen.data.ProductDataRequest;
 import com.raytheon.uf.common.hazards.productgen.data.ProductDataResponse;
 import com.raytheon.uf.common.serialization.SerializationException;
@@ -75,6 +88,13 @@ import com.raytheon.uf.edex.database.query.DatabaseQuery;
  * Aug 26, 2016 19223      Kevin.Bisanz Changes to get correctable products for
  *                                      specific events.
  * Nov 10, 2016 22119      Kevin.Bisanz Changes to export/import the ProductData table.
+ * Oct 18, 2026            agent        Maintain the productdataeventid table and
+ *                                      use it to filter viewable products by
+ *                                      event ID in the database; select the
+ *                                      latest correctable product per event in
+ *                                      one pass; close sessions after use.
+ * Oct 19, 2026            agent        Remove only the event ID rows of deleted
+ *                                      product data.
  * 
  * </pre>
  * 
@@ -97,8 +117,58 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
 
     private static final int VALID_CORRECTION_DELTA = 10;
 
+    /**
+     * Number of records written between flushes of the session.
+     */
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * Condition matching a product data event ID row to the product data
+     * aliased as <code>pd</code>.
+     */
+    private static final String EVENT_ID_MATCHES_PRODUCT_DATA = "e.id.mode = pd.id.mode"
+            + " and e.id.productGeneratorName = pd.id.productGeneratorName"
+            + " and e.id.officeID = pd.id.officeID"
+            + " and e.id.issueTime = pd.id.issueTime";
+
+    private static final String SELECT_BY_EVENT_IDS_HQL = "select pd from "
+            + ProductData.class.getName()
+            + " pd where pd.id.mode = :mode and exists (select e.id.eventID from "
+            + ProductDataEventId.class.getName()
+            + " e where e.id.eventID in (:eventIDs) and "
+            + EVENT_ID_MATCHES_PRODUCT_DATA + ")";
+
+    private static final String SELECT_UNINDEXED_HQL = "select pd from "
+            + ProductData.class.getName()
+            + " pd where not exists (select e.id.eventID from "
+            + ProductDataEventId.class.getName() + " e where "
+            + EVENT_ID_MATCHES_PRODUCT_DATA + ")";
+
+    /**
+     * Delete of the event ID table rows for the specified event IDs of the
+     * specified deleted record, unless another record with the same mode,
+     * generator, office and issue time remains.
+     */
+    private static final String DELETE_EVENT_IDS_OF_RECORD_HQL = "delete from "
+            + ProductDataEventId.class.getName()
+            + " e where e.id.eventID in (:eventIDs) and e.id.mode = :mode"
+            + " and e.id.productGeneratorName = :productGeneratorName"
+            + " and e.id.officeID = :officeID"
+            + " and e.id.issueTime = :issueTime"
+            + " and not exists (select pd.id.mode from "
+            + ProductData.class.getName() + " pd where "
+            + EVENT_ID_MATCHES_PRODUCT_DATA + ")";
+
     private final CoreDao dao;
 
+    /**
+     * Flag indicating whether all product data have been verified to have
+     * rows in the event ID table. Rows written before that table existed, or
+     * whose event ID rows failed to be written, are indexed the first time an
+     * event ID lookup is made.
+     */
+    private volatile boolean eventIdsIndexed = false;
+
     public ProductDataHandler() {
         dao = new CoreDao(DaoConfig.DEFAULT);
     }
@@ -108,7 +178,6 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
             throws Exception {
         ProductDataResponse response = new ProductDataResponse();
         ProductData pData = request.getProductData();
-        Criteria criteria = null;
         List<ProductData> data = null;
         List<ProductData> filteredData = null;
         if (statusHandler.isPriorityEnabled(Priority.INFO)) {
@@ -121,6 +190,7 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
         case CREATE:
             try {
                 dao.create(pData);
+                indexEventIDs(Collections.singletonList(pData));
             } catch (RuntimeException e) {
                 response.setExceptions(e);
             }
@@ -128,6 +198,7 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
         case UPDATE:
             try {
                 dao.update(pData);
+                indexEventIDs(Collections.singletonList(pData));
             } catch (RuntimeException e) {
                 response.setExceptions(e);
             }
@@ -151,7 +222,9 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
                             QueryOperand.EQUALS);
                 }
 
+                List<CustomDataId> deletedIds = retrieveIds(pData);
                 dao.deleteByCriteria(query);
+                removeEventIDs(deletedIds);
             } catch (RuntimeException e) {
                 response.setExceptions(e);
             }
@@ -159,6 +232,7 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
         case SAVE_OR_UPDATE:
             try {
                 dao.saveOrUpdate(pData);
+                indexEventIDs(Collections.singletonList(pData));
             } catch (RuntimeException e) {
                 response.setExceptions(e);
             }
@@ -169,59 +243,42 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
             response.setData(data);
             break;
         case RETRIEVE_CORRECTABLE:
-            criteria = dao.getSessionFactory().openSession()
-                    .createCriteria(ProductData.class);
-            criteria.add(Restrictions.eq("id.mode", pData.getMode()));
-
-            /*
-             * This only queries for rows that has the current time within 10
-             * minutes after the issue time.
-             */
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(request.getCurrentTime());
-            calendar.add(Calendar.MINUTE, -VALID_CORRECTION_DELTA);
-            criteria.add(
-                    Restrictions.ge(ISSUE_TIME_COLUMN, calendar.getTime()));
-
-            /*
-             * Filter out products that should not be able to be corrected (RVS,
-             * HY.O).
-             */
-            criteria.add(Restrictions.ne("id.productGeneratorName",
-                    RVS_GENERATOR_NAME));
-            criteria.add(Restrictions.ne("id.productGeneratorName",
-                    ESF_GENERATOR_NAME));
-            data = criteria.list();
+            data = retrieveCorrectable(pData, request.getCurrentTime());
 
             /*
              * Filter out remaining products that should not be able to be
              * corrected, but can not be filtered by generator name (HY.S).
              */
-            for (ProductData productData : new ArrayList<>(data)) {
-                if (productData.getProductGeneratorName()
-                        .equals(FLW_FLS_GENERATOR_NAME)) {
-                    boolean remove = checkForHYS(productData);
-                    if (remove) {
-                        data.remove(productData);
-                    }
+            List<ProductData> correctableData = new ArrayList<>(data.size());
+            for (ProductData productData : data) {
+                if ((productData.getProductGeneratorName()
+                        .equals(FLW_FLS_GENERATOR_NAME) == false)
+                        || (checkForHYS(productData) == false)) {
+                    correctableData.add(productData);
                 }
             }
             response = new ProductDataResponse();
-            filteredData = filterPDataForCorrections(data);
+
+            /*
+             * Correction filtering must see every product within the window,
+             * not just those with the requested event IDs, since a product may
+             * be superseded through an event ID that was not requested; thus
+             * the event ID filtering is done afterward.
+             */
+            filteredData = filterPDataForCorrections(correctableData);
             filteredData = filterPDataForEventIDs(filteredData,
                     pData.getEventIDs());
             response.setData(filteredData);
             break;
         case RETRIEVE_VIEWABLE:
-            criteria = dao.getSessionFactory().openSession()
-                    .createCriteria(ProductData.class);
-            criteria.add(Restrictions.eq("id.mode", pData.getMode()));
-
-            data = criteria.list();
+            data = retrieveViewable(pData);
 
             response = new ProductDataResponse();
 
-            // Filter by event ID.
+            /*
+             * Filter by event ID; the database query only finds candidates, as
+             * explained in ProductDataEventId.
+             */
             filteredData = filterPDataForEventIDs(data, pData.getEventIDs());
             response.setData(filteredData);
             break;
@@ -281,6 +338,7 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
         try (InputStream is = new FileInputStream(filePath)) {
             records = SerializationUtil.transformFromThrift(List.class, is);
             dao.persistAll(records);
+            indexEventIDs(records);
         } catch (IOException | SerializationException e) {
             statusHandler.error(e.getLocalizedMessage(), e);
             response.setExceptions(e);
@@ -289,55 +347,335 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
 
     /**
      * Retrieve records
-     *
+     * 
      * @param pData
      *            ProductData containing criteria for retrieval
      * @return
      */
     private List<ProductData> retrieve(ProductData pData) {
-        Criteria criteria;
-        List<ProductData> data;
-        criteria = dao.getSessionFactory().openSession()
-                .createCriteria(ProductData.class);
-        if (pData.getMode() != null) {
+        Session session = dao.getSessionFactory().openSession();
+        try {
+            Criteria criteria = session.createCriteria(ProductData.class);
+            if (pData.getMode() != null) {
+                criteria.add(Restrictions.eq("id.mode", pData.getMode()));
+            }
+            if (pData.getProductGeneratorName() != null) {
+                criteria.add(Restrictions.eq("id.productGeneratorName",
+                        pData.getProductGeneratorName()));
+            }
+            if (pData.getEventIDs() != null) {
+                criteria.add(
+                        Restrictions.eq("id.eventIDs", pData.getEventIDs()));
+            }
+            if (pData.getIssueTime() != null) {
+                criteria.add(Restrictions.eq(ISSUE_TIME_COLUMN,
+                        pData.getIssueTime()));
+            }
+            if (pData.getOfficeID() != null) {
+                criteria.add(
+                        Restrictions.eq("id.officeID", pData.getOfficeID()));
+            }
+            return criteria.list();
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Retrieve the records that may be corrected, that is, those issued within
+     * the correction window before the current time by generators whose
+     * products may be corrected.
+     * 
+     * @param pData
+     *            ProductData providing the mode.
+     * @param currentTime
+     *            Current time.
+     * @return Records.
+     */
+    private List<ProductData> retrieveCorrectable(ProductData pData,
+            Date currentTime) {
+        Session session = dao.getSessionFactory().openSession();
+        try {
+            Criteria criteria = session.createCriteria(ProductData.class);
+            criteria.add(Restrictions.eq("id.mode", pData.getMode()));
+
+            /*
+             * This only queries for rows that has the current time within 10
+             * minutes after the issue time.
+             */
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTime(currentTime);
+            calendar.add(Calendar.MINUTE, -VALID_CORRECTION_DELTA);
+            criteria.add(
+                    Restrictions.ge(ISSUE_TIME_COLUMN, calendar.getTime()));
+
+            /*
+             * Filter out products that should not be able to be corrected (RVS,
+             * HY.O).
+             */
+            criteria.add(Restrictions.ne("id.productGeneratorName",
+                    RVS_GENERATOR_NAME));
+            criteria.add(Restrictions.ne("id.productGeneratorName",
+                    ESF_GENERATOR_NAME));
+            return criteria.list();
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Retrieve the records that may be viewed. If event IDs are specified,
+     * the product data event ID table is used to retrieve only the records
+     * that may have at least one of those event IDs.
+     * 
+     * @param pData
+     *            ProductData providing the mode and event IDs.
+     * @return Records.
+     */
+    private List<ProductData> retrieveViewable(ProductData pData) {
+        List<String> eventIDs = pData.getEventIDs();
+        boolean filterByEventIDs = ((eventIDs != null)
+                && (eventIDs.isEmpty() == false));
+        if (filterByEventIDs) {
+            ensureEventIDsIndexed();
+        }
+        Session session = dao.getSessionFactory().openSession();
+        try {
+            if (filterByEventIDs) {
+                Query query = session.createQuery(SELECT_BY_EVENT_IDS_HQL);
+                query.setParameter("mode", pData.getMode());
+                query.setParameterList("eventIDs", eventIDs);
+                return query.list();
+            }
+            Criteria criteria = session.createCriteria(ProductData.class);
             criteria.add(Restrictions.eq("id.mode", pData.getMode()));
+            return criteria.list();
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Write the event ID table rows for the specified records. Failure to do
+     * so is logged rather than failing the request, since it is repaired the
+     * next time {@link #ensureEventIDsIndexed()} runs.
+     * 
+     * @param records
+     *            Records for which to write rows.
+     */
+    private void indexEventIDs(Collection<ProductData> records) {
+        Session session = dao.getSessionFactory().openSession();
+        Transaction tx = null;
+        try {
+            tx = session.beginTransaction();
+            int count = 0;
+            for (ProductData record : records) {
+                count = indexEventIDs(record, session, count);
+            }
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (tx != null) {
+                tx.rollback();
+            }
+            eventIdsIndexed = false;
+            statusHandler.error("Unable to index product data event IDs", e);
+        } finally {
+            session.close();
         }
-        if (pData.getProductGeneratorName() != null) {
-            criteria.add(Restrictions.eq("id.productGeneratorName",
-                    pData.getProductGeneratorName()));
+    }
+
+    /**
+     * Write the event ID table rows for the specified record using the
+     * specified session, flushing and clearing the session every
+     * {@link #BATCH_SIZE} rows.
+     * 
+     * @param record
+     *            Record for which to write rows.
+     * @param session
+     *            Session to be used.
+     * @param count
+     *            Number of rows written so far.
+     * @return Number of rows written so far, including those for this record.
+     */
+    private int indexEventIDs(ProductData record, Session session, int count) {
+        if (record.getEventIDs() == null) {
+            return count;
         }
-        if (pData.getEventIDs() != null) {
-            criteria.add(Restrictions.eq("id.eventIDs", pData.getEventIDs()));
+        for (String eventID : new HashSet<>(record.getEventIDs())) {
+            session.merge(new ProductDataEventId(eventID, record.getId()));
+            if (++count % BATCH_SIZE == 0) {
+                session.flush();
+                session.clear();
+            }
         }
-        if (pData.getIssueTime() != null) {
-            criteria.add(
-                    Restrictions.eq(ISSUE_TIME_COLUMN, pData.getIssueTime()));
+        return count;
+    }
+
+    /**
+     * Ensure that every record has rows in the event ID table, writing any
+     * that are missing. This is only done once unless writing rows fails.
+     */
+    private void ensureEventIDsIndexed() {
+        if (eventIdsIndexed) {
+            return;
+        }
+        synchronized (this) {
+            if (eventIdsIndexed) {
+                return;
+            }
+            Session session = dao.getSessionFactory().openSession();
+            Transaction tx = null;
+            try {
+                tx = session.beginTransaction();
+                ScrollableResults results = session
+                        .createQuery(SELECT_UNINDEXED_HQL)
+                        .setFetchSize(BATCH_SIZE)
+                        .scroll(ScrollMode.FORWARD_ONLY);
+                int records = 0;
+                try {
+                    int count = 0;
+                    while (results.next()) {
+                        count = indexEventIDs((ProductData) results.get(0),
+                                session, count);
+                        records++;
+                    }
+                } finally {
+                    results.close();
+                }
+                tx.commit();
+                eventIdsIndexed = true;
+                if (records > 0) {
+                    statusHandler.info("Indexed event IDs of " + records
+                            + " product data records.");
+                }
+            } catch (RuntimeException e) {
+                if (tx != null) {
+                    tx.rollback();
+                }
+                statusHandler.error("Unable to index product data event IDs",
+                        e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    /**
+     * Retrieve the identifiers of the records matching the specified deletion
+     * criteria. If no mode is given, records of all modes are included; this
+     * is harmless, since event ID rows are only removed once no record
+     * remains for them.
+     * 
+     * @param pData
+     *            ProductData containing criteria for deletion.
+     * @return Identifiers of the records.
+     */
+    @SuppressWarnings("unchecked")
+    private List<CustomDataId> retrieveIds(ProductData pData) {
+        Session session = dao.getSessionFactory().openSession();
+        try {
+            Criteria criteria = session.createCriteria(ProductData.class);
+            criteria.setProjection(Projections.id());
+            if (pData.getMode() != null) {
+                criteria.add(Restrictions.eq("id.mode", pData.getMode()));
+            }
+            if (pData.getEventIDs() != null) {
+                criteria.add(
+                        Restrictions.eq("id.eventIDs", pData.getEventIDs()));
+            }
+            if (pData.getProductGeneratorName() != null) {
+                criteria.add(Restrictions.eq("id.productGeneratorName",
+                        pData.getProductGeneratorName()));
+            }
+            if (pData.getIssueTime() != null) {
+                criteria.add(Restrictions.eq(ISSUE_TIME_COLUMN,
+                        pData.getIssueTime()));
+            }
+            return criteria.list();
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Remove the event ID table rows of the specified deleted records. Each
+     * record's rows are found through the index on the product data columns,
+     * so only the rows of the deleted records are visited. Failure to remove
+     * them is logged rather than failing the request, since rows left behind
+     * match no record and so are never used.
+     * 
+     * @param deletedIds
+     *            Identifiers of the deleted records.
+     */
+    private void removeEventIDs(List<CustomDataId> deletedIds) {
+        if (deletedIds.isEmpty()) {
+            return;
         }
-        if (pData.getOfficeID() != null) {
-            criteria.add(Restrictions.eq("id.officeID", pData.getOfficeID()));
+        Session session = dao.getSessionFactory().openSession();
+        Transaction tx = null;
+        try {
+            tx = session.beginTransaction();
+            Query query = session.createQuery(DELETE_EVENT_IDS_OF_RECORD_HQL);
+            for (CustomDataId id : deletedIds) {
+                if ((id.getEventIDs() == null)
+                        || id.getEventIDs().isEmpty()) {
+                    continue;
+                }
+                query.setParameterList("eventIDs",
+                        new HashSet<>(id.getEventIDs()));
+                query.setParameter("mode", id.getMode());
+                query.setParameter("productGeneratorName",
+                        id.getProductGeneratorName());
+                query.setParameter("officeID", id.getOfficeID());
+                query.setParameter("issueTime", id.getIssueTime());
+                query.executeUpdate();
+            }
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (tx != null) {
+                tx.rollback();
+            }
+            statusHandler.error(
+                    "Unable to remove event IDs of deleted product data", e);
+        } finally {
+            session.close();
         }
-        data = criteria.list();
-        return data;
     }
 
     /*
      * Filters the list of product data for corrections. Removing any entries
      * that have common eventIDs, keeping only the one with the latest
-     * issueTime.
+     * issueTime. This is done in one pass to find the latest entry for each
+     * eventID, and a second to keep only those entries that are the latest
+     * for all their eventIDs; when entries with a common eventID have the
+     * same issueTime, the last one in the list is kept.
      */
     private List<ProductData> filterPDataForCorrections(
             List<ProductData> pDataList) {
-        List<ProductData> filteredPDataList = new ArrayList<>(pDataList);
-        for (int i = 0; i < pDataList.size(); i++) {
-            for (int j = i + 1; j < pDataList.size(); j++) {
-                int value = compareProductData(pDataList.get(i),
-                        pDataList.get(j));
-                if (value == 1) {
-                    filteredPDataList.remove(pDataList.get(j));
-                } else if (value == -1) {
-                    filteredPDataList.remove(pDataList.get(i));
+        Map<String, ProductData> latestForEventIDs = new HashMap<>(
+                pDataList.size() * 2);
+        for (ProductData productData : pDataList) {
+            for (String eventID : productData.getEventIDs()) {
+                ProductData latest = latestForEventIDs.get(eventID);
+                if ((latest == null) || (latest.getIssueTime()
+                        .after(productData.getIssueTime()) == false)) {
+                    latestForEventIDs.put(eventID, productData);
+                }
+            }
+        }
+        List<ProductData> filteredPDataList = new ArrayList<>(
+                pDataList.size());
+        for (ProductData productData : pDataList) {
+            boolean latest = true;
+            for (String eventID : productData.getEventIDs()) {
+                if (latestForEventIDs.get(eventID) != productData) {
+                    latest = false;
+                    break;
                 }
             }
+            if (latest) {
+                filteredPDataList.add(productData);
+            }
         }
         return filteredPDataList;
     }
@@ -361,9 +699,10 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
          * one of those eventIDs.
          */
         if (eventIDs != null && eventIDs.isEmpty() == false) {
+            Set<String> eventIDSet = new HashSet<>(eventIDs);
             for (ProductData productData : data) {
                 for (String eventID : productData.getEventIDs()) {
-                    if (eventIDs.contains(eventID)) {
+                    if (eventIDSet.contains(eventID)) {
                         keepList.add(productData);
                         break;
                     }
@@ -376,28 +715,6 @@ public class ProductDataHandler implements IRequestHandler<ProductDataRequest> {
         return keepList;
     }
 
-    /**
-     * Compares the product data objects. If they share any one common eventID
-     * then the issueTime is compared. If pd1 issueTime is after pd2 issueTime 1
-     * is return. If pd2 issueTime is after pd1 issueTime then -1 is return. If
-     * the two product data object don't share any common eventIDs then 0 is
-     * return.
-     */
-    private int compareProductData(ProductData pd1, ProductData pd2) {
-        for (String pd1EventID : pd1.getEventIDs()) {
-            for (String pd2EventID : pd2.getEventIDs()) {
-                if (pd1EventID.equals(pd2EventID)) {
-                    if (pd1.getIssueTime().after(pd2.getIssueTime())) {
-                        return 1;
-                    } else {
-                        return -1;
-                    }
-                }
-            }
-        }
-        return 0;
-    }
-
     /*
      * Determines if the given productData is for a HY.S product that was issued
      * by itself.
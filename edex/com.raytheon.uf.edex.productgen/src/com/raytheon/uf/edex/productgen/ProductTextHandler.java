@@ -19,16 +19,24 @@
  **/
 package com.raytheon.uf.edex.productgen;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.Criteria;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
 import org.hibernate.criterion.Restrictions;
 
 import com.raytheon.uf.common.hazards.productgen.editable.ProductText;
@@ -56,6 +64,11 @@ import com.raytheon.uf.edex.database.dao.DaoConfig;
  * Apr 27, 2017 29776      Kevin.Bisanz Add insertTime on ProductText
  * Jun 12, 2017 35022      Kevin.Bisanz Changes to save a ProductText row for each event and part.
  * Jun 20, 2017 35022      Kevin.Bisanz Handle case of event id list being empty but not null.
+ * Oct 18, 2026            agent        Write lists of product texts in one batched
+ *                                      transaction, stream export and import in
+ *                                      chunks, and close retrieval sessions.
+ * Oct 19, 2026            agent        Import all chunks of a file in one
+ *                                      transaction.
  * 
  * </pre>
  * 
@@ -68,6 +81,26 @@ public class ProductTextHandler implements IRequestHandler<ProductTextRequest> {
     private static final IUFStatusHandler statusHandler = UFStatus
             .getHandler(ProductTextHandler.class);
 
+    /**
+     * Number of records written to the database before the session is
+     * flushed and cleared, and number of records per chunk in export files.
+     * This should match the JDBC batch size configured for Hibernate.
+     */
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * Marker at the start of a chunked export file. Files without it are
+     * treated as the older format holding a single serialized list.
+     */
+    private static final int CHUNKED_EXPORT_MAGIC = 0x48535054;
+
+    /**
+     * Type of write to be performed by {@link #writeAll}.
+     */
+    private enum WriteType {
+        CREATE, UPDATE, SAVE_OR_UPDATE
+    }
+
     /**
      * 
      */
@@ -91,36 +124,28 @@ public class ProductTextHandler implements IRequestHandler<ProductTextRequest> {
         switch (request.getType()) {
         case CREATE:
             try {
-                for (ProductText productText : productTexts) {
-                    dao.create(productText);
-                }
+                writeAll(productTexts, WriteType.CREATE, dao);
             } catch (RuntimeException e) {
                 response.setExceptions(e);
             }
             break;
         case UPDATE:
             try {
-                for (ProductText productText : productTexts) {
-                    dao.update(productText);
-                }
+                writeAll(productTexts, WriteType.UPDATE, dao);
             } catch (RuntimeException e) {
                 response.setExceptions(e);
             }
             break;
         case DELETE:
-            for (ProductText productText : productTexts) {
-                dao.delete(productText);
-            }
             try {
+                dao.deleteAll(productTexts);
             } catch (RuntimeException e) {
                 response.setExceptions(e);
             }
             break;
         case SAVE_OR_UPDATE:
             try {
-                for (ProductText productText : productTexts) {
-                    dao.saveOrUpdate(productText);
-                }
+                writeAll(productTexts, WriteType.SAVE_OR_UPDATE, dao);
             } catch (RuntimeException e) {
                 response.setExceptions(e);
             }
@@ -172,18 +197,61 @@ public class ProductTextHandler implements IRequestHandler<ProductTextRequest> {
             return;
         }
 
-        List<ProductText> text = retrieve(request, dao);
-
-        try (OutputStream os = new FileOutputStream(filePath)) {
-            SerializationUtil.transformToThriftUsingStream(text, os);
+        Session session = dao.getSessionFactory().openSession();
+        try (DataOutputStream os = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(filePath)))) {
+            ScrollableResults results = buildCriteria(request, session)
+                    .setFetchSize(BATCH_SIZE).scroll(ScrollMode.FORWARD_ONLY);
+            try {
+                os.writeInt(CHUNKED_EXPORT_MAGIC);
+                List<ProductText> chunk = new ArrayList<>(BATCH_SIZE);
+                while (results.next()) {
+                    chunk.add((ProductText) results.get(0));
+                    if (chunk.size() == BATCH_SIZE) {
+                        writeChunk(chunk, os);
+                        chunk.clear();
+                        session.clear();
+                    }
+                }
+                if (chunk.isEmpty() == false) {
+                    writeChunk(chunk, os);
+                }
+                os.writeInt(0);
+            } finally {
+                results.close();
+            }
         } catch (IOException | SerializationException e) {
             statusHandler.error(e.getLocalizedMessage(), e);
             response.setExceptions(e);
+        } finally {
+            session.close();
         }
     }
 
     /**
-     * Import records
+     * Write a chunk of records to an export file as a length-prefixed
+     * serialized list.
+     * 
+     * @param chunk
+     *            Records to be written.
+     * @param os
+     *            Stream to which to write.
+     * @throws IOException
+     *             If the write fails.
+     * @throws SerializationException
+     *             If the records cannot be serialized.
+     */
+    private void writeChunk(List<ProductText> chunk, DataOutputStream os)
+            throws IOException, SerializationException {
+        byte[] bytes = SerializationUtil.transformToThrift(chunk);
+        os.writeInt(bytes.length);
+        os.write(bytes);
+    }
+
+    /**
+     * Import records. All the records in the file are written in a single
+     * transaction, so that a failure partway through leaves the table as it
+     * was.
      *
      * @param request
      *            Request containing the file path of DynamicSerialized records
@@ -200,14 +268,121 @@ public class ProductTextHandler implements IRequestHandler<ProductTextRequest> {
             return;
         }
 
-        List<ProductText> records = null;
-        try (InputStream is = new FileInputStream(filePath)) {
-            records = SerializationUtil.transformFromThrift(List.class, is);
-            dao.persistAll(records);
-        } catch (IOException | SerializationException e) {
+        Session session = dao.getSessionFactory().openSession();
+        Transaction tx = null;
+        try (DataInputStream is = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(filePath)))) {
+            tx = session.beginTransaction();
+            is.mark(4);
+            int magic;
+            try {
+                magic = is.readInt();
+            } catch (EOFException e) {
+                magic = 0;
+            }
+            if (magic != CHUNKED_EXPORT_MAGIC) {
+
+                /*
+                 * Older export files hold one serialized list.
+                 */
+                is.reset();
+                List<ProductText> records = SerializationUtil
+                        .transformFromThrift(List.class, (InputStream) is);
+                write(records, WriteType.SAVE_OR_UPDATE, session, 0);
+            } else {
+                int count = 0;
+                int length;
+                while ((length = is.readInt()) > 0) {
+                    byte[] bytes = new byte[length];
+                    is.readFully(bytes);
+                    List<ProductText> records = SerializationUtil
+                            .transformFromThrift(List.class, bytes);
+                    count = write(records, WriteType.SAVE_OR_UPDATE, session,
+                            count);
+                }
+            }
+            tx.commit();
+        } catch (IOException | SerializationException | RuntimeException e) {
+            if (tx != null) {
+                tx.rollback();
+            }
             statusHandler.error(e.getLocalizedMessage(), e);
             response.setExceptions(e);
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Write the specified records in a single transaction, flushing and
+     * clearing the session every {@link #BATCH_SIZE} records so that the
+     * statements go to the database in JDBC batches and the session does not
+     * grow without bound.
+     * 
+     * @param productTexts
+     *            Records to be written.
+     * @param writeType
+     *            Type of write to perform.
+     * @param dao
+     *            Data access object providing the session factory.
+     */
+    private void writeAll(List<ProductText> productTexts, WriteType writeType,
+            CoreDao dao) {
+        if (productTexts.isEmpty()) {
+            return;
+        }
+        Session session = dao.getSessionFactory().openSession();
+        Transaction tx = null;
+        try {
+            tx = session.beginTransaction();
+            write(productTexts, writeType, session, 0);
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (tx != null) {
+                tx.rollback();
+            }
+            throw e;
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Write the specified records within the specified session's current
+     * transaction, flushing and clearing the session each time the running
+     * count of records written reaches a multiple of {@link #BATCH_SIZE}.
+     * 
+     * @param productTexts
+     *            Records to be written.
+     * @param writeType
+     *            Type of write to perform.
+     * @param session
+     *            Session in which to write.
+     * @param count
+     *            Number of records already written in this transaction.
+     * @return Number of records written in this transaction, including
+     *         these.
+     */
+    private int write(List<ProductText> productTexts, WriteType writeType,
+            Session session, int count) {
+        for (ProductText productText : productTexts) {
+            switch (writeType) {
+            case CREATE:
+                session.save(productText);
+                break;
+            case UPDATE:
+                session.update(productText);
+                break;
+            case SAVE_OR_UPDATE:
+                session.saveOrUpdate(productText);
+                break;
+            }
+            if (++count % BATCH_SIZE == 0) {
+                session.flush();
+                session.clear();
+            }
         }
+        return count;
     }
 
     /**
@@ -219,8 +394,26 @@ public class ProductTextHandler implements IRequestHandler<ProductTextRequest> {
      */
     private List<ProductText> retrieve(ProductTextRequest request,
             CoreDao dao) {
-        Criteria criteria = dao.getSessionFactory().openSession()
-                .createCriteria(ProductText.class);
+        Session session = dao.getSessionFactory().openSession();
+        try {
+            return buildCriteria(request, session).list();
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Build the criteria for retrieving the records matching a request.
+     * 
+     * @param request
+     *            Request containing criteria for retrieval
+     * @param session
+     *            Session in which to create the criteria.
+     * @return Criteria.
+     */
+    private Criteria buildCriteria(ProductTextRequest request,
+            Session session) {
+        Criteria criteria = session.createCriteria(ProductText.class);
         if (request.getKey() != null) {
             criteria.add(Restrictions.eq("id.key", request.getKey()));
         }
@@ -253,8 +446,7 @@ public class ProductTextHandler implements IRequestHandler<ProductTextRequest> {
             criteria.add(Restrictions.eq("id.officeID", request.getOfficeID()));
         }
 
-        List<ProductText> text = criteria.list();
-        return text;
+        return criteria;
     }
 
     private String prettyPrintRequest(ProductTextRequest request) {
@@ -0,0 +1,360 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.edex.recommenders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.raytheon.uf.common.hazards.configuration.HazardsConfigurationConstants;
+import com.raytheon.uf.common.localization.FileUpdatedMessage;
+import com.raytheon.uf.common.localization.ILocalizationFileObserver;
+import com.raytheon.uf.common.localization.IPathManager;
+import com.raytheon.uf.common.localization.LocalizationContext;
+import com.raytheon.uf.common.localization.LocalizationContext.LocalizationLevel;
+import com.raytheon.uf.common.localization.LocalizationContext.LocalizationType;
+import com.raytheon.uf.common.localization.LocalizationFile;
+import com.raytheon.uf.common.localization.PathManagerFactory;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.status.UFStatus.Priority;
+
+/**
+ * Per-site pool of warm {@link EDEXRecommenderEngine}s. Creating an engine
+ * starts a Python interpreter and loads the recommender inventory, which is
+ * far more expensive than running most recommenders, so engines are kept
+ * between requests and handed out one request at a time.
+ * <p>
+ * Changes to individual recommenders and to the event and text utilities are
+ * picked up by the engines' own script managers. Changes to the recommender
+ * configuration directory, which holds the recommender interface, or to the
+ * shared Hazard Services Python directory cannot be, so such changes
+ * invalidate every pooled engine; engines in use when this happens are shut
+ * down when returned rather than being pooled again.
+ * </p>
+ * <p>
+ * The time each request spends waiting for an engine, starting one if none
+ * was idle, and executing is tracked and logged.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+public class EDEXRecommenderEnginePool {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(EDEXRecommenderEnginePool.class);
+
+    /**
+     * Default maximum number of engines per site.
+     */
+    private static final int DEFAULT_MAX_ENGINES_PER_SITE = 2;
+
+    /**
+     * Number of requests between summary log messages.
+     */
+    private static final long STATISTICS_LOG_INTERVAL = 100L;
+
+    /**
+     * Engine borrowed from the pool, along with the timings of its borrowing.
+     */
+    public static class Lease {
+
+        private final EDEXRecommenderEngine engine;
+
+        private final String site;
+
+        private final long generation;
+
+        private final long queueMillis;
+
+        private final long startupMillis;
+
+        private Lease(EDEXRecommenderEngine engine, String site,
+                long generation, long queueMillis, long startupMillis) {
+            this.engine = engine;
+            this.site = site;
+            this.generation = generation;
+            this.queueMillis = queueMillis;
+            this.startupMillis = startupMillis;
+        }
+
+        public EDEXRecommenderEngine getEngine() {
+            return engine;
+        }
+
+        public String getSite() {
+            return site;
+        }
+
+        /**
+         * @return Time spent waiting for an engine to become available.
+         */
+        public long getQueueMillis() {
+            return queueMillis;
+        }
+
+        /**
+         * @return Time spent starting a new engine, or 0 if an idle engine was
+         *         reused.
+         */
+        public long getStartupMillis() {
+            return startupMillis;
+        }
+    }
+
+    /**
+     * Engines for one site.
+     */
+    private class SitePool {
+
+        private final ConcurrentLinkedQueue<EDEXRecommenderEngine> idleEngines = new ConcurrentLinkedQueue<>();
+
+        private final Semaphore permits = new Semaphore(maxEnginesPerSite,
+                true);
+    }
+
+    private final int maxEnginesPerSite;
+
+    private final ConcurrentMap<String, SitePool> sitePools = new ConcurrentHashMap<>();
+
+    /**
+     * Generation of the pool, incremented each time the engines are
+     * invalidated. Engines borrowed under an earlier generation are shut down
+     * when returned.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong startupCount = new AtomicLong();
+
+    private final AtomicLong totalQueueMillis = new AtomicLong();
+
+    private final AtomicLong totalStartupMillis = new AtomicLong();
+
+    private final AtomicLong totalExecutionMillis = new AtomicLong();
+
+    private final List<LocalizationFile> observedDirectories = new ArrayList<>();
+
+    private final ILocalizationFileObserver invalidatingObserver = new ILocalizationFileObserver() {
+
+        @Override
+        public void fileUpdated(FileUpdatedMessage message) {
+            statusHandler.handle(Priority.INFO,
+                    "Invalidating pooled recommender engines due to update of "
+                            + message.getFileName());
+            invalidate();
+        }
+    };
+
+    private volatile boolean shutdown = false;
+
+    /**
+     * Create a pool with the default maximum number of engines per site.
+     */
+    public EDEXRecommenderEnginePool() {
+        this(DEFAULT_MAX_ENGINES_PER_SITE);
+    }
+
+    /**
+     * Create a pool.
+     * 
+     * @param maxEnginesPerSite
+     *            Maximum number of engines, and thus of concurrently executing
+     *            requests, per site.
+     */
+    public EDEXRecommenderEnginePool(int maxEnginesPerSite) {
+        this.maxEnginesPerSite = Math.max(1, maxEnginesPerSite);
+        IPathManager manager = PathManagerFactory.getPathManager();
+        LocalizationContext baseContext = manager.getContext(
+                LocalizationType.COMMON_STATIC, LocalizationLevel.BASE);
+        for (String directory : new String[] {
+                HazardsConfigurationConstants.RECOMMENDERS_CONFIG_LOCALIZATION_DIR,
+                HazardsConfigurationConstants.HAZARD_SERVICES_PYTHON_LOCALIZATION_DIR }) {
+            LocalizationFile file = manager.getLocalizationFile(baseContext,
+                    directory);
+            file.addFileUpdatedObserver(invalidatingObserver);
+            observedDirectories.add(file);
+        }
+    }
+
+    /**
+     * Borrow an engine for the specified site, waiting if the maximum number
+     * of engines for the site are already in use, and starting a new one if
+     * none are idle. The returned lease must be passed to
+     * {@link #release(Lease, long)} when the caller is finished with it.
+     * 
+     * @param site
+     *            Site for which to borrow an engine.
+     * @return Lease holding the engine.
+     * @throws InterruptedException
+     *             If interrupted while waiting for an engine.
+     */
+    public Lease borrow(String site) throws InterruptedException {
+        if (shutdown) {
+            throw new IllegalStateException(
+                    "Recommender engine pool has been shut down");
+        }
+        SitePool sitePool = getSitePool(site);
+        long start = System.currentTimeMillis();
+        sitePool.permits.acquire();
+        long queueMillis = System.currentTimeMillis() - start;
+
+        /*
+         * Read the generation before polling, so that an invalidation racing
+         * with this borrowing causes the engine to be discarded on release.
+         */
+        long currentGeneration = generation.get();
+        EDEXRecommenderEngine engine = sitePool.idleEngines.poll();
+        long startupMillis = 0L;
+        if (engine == null) {
+            start = System.currentTimeMillis();
+            try {
+                engine = createEngine(site);
+            } catch (RuntimeException e) {
+                sitePool.permits.release();
+                throw e;
+            }
+            startupMillis = System.currentTimeMillis() - start;
+            startupCount.incrementAndGet();
+        }
+        return new Lease(engine, site, currentGeneration, queueMillis,
+                startupMillis);
+    }
+
+    /**
+     * Return a borrowed engine to the pool, recording the timings of the
+     * request for which it was used.
+     * 
+     * @param lease
+     *            Lease returned by {@link #borrow(String)}.
+     * @param executionMillis
+     *            Time spent executing the request.
+     */
+    public void release(Lease lease, long executionMillis) {
+        SitePool sitePool = getSitePool(lease.site);
+        if (shutdown || (lease.generation != generation.get())) {
+            lease.engine.shutdownEngine();
+        } else {
+            sitePool.idleEngines.offer(lease.engine);
+
+            /*
+             * If an invalidation occurred while the engine was being offered,
+             * make sure it does not linger in the pool.
+             */
+            if (shutdown || (lease.generation != generation.get())) {
+                if (sitePool.idleEngines.remove(lease.engine)) {
+                    lease.engine.shutdownEngine();
+                }
+            }
+        }
+        sitePool.permits.release();
+        recordRequest(lease, executionMillis);
+    }
+
+    /**
+     * Invalidate all engines, shutting down those that are idle and marking
+     * those in use to be shut down when returned.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        for (SitePool sitePool : sitePools.values()) {
+            shutdownIdleEngines(sitePool);
+        }
+    }
+
+    /**
+     * Shut down the pool and all idle engines.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (LocalizationFile file : observedDirectories) {
+            file.removeFileUpdatedObserver(invalidatingObserver);
+        }
+        observedDirectories.clear();
+        for (SitePool sitePool : sitePools.values()) {
+            shutdownIdleEngines(sitePool);
+        }
+    }
+
+    private SitePool getSitePool(String site) {
+        SitePool sitePool = sitePools.get(site);
+        if (sitePool == null) {
+            SitePool newSitePool = new SitePool();
+            sitePool = sitePools.putIfAbsent(site, newSitePool);
+            if (sitePool == null) {
+                sitePool = newSitePool;
+            }
+        }
+        return sitePool;
+    }
+
+    /**
+     * Create an engine for the specified site and warm it up by fetching the
+     * inventory, which starts the interpreter and imports the recommenders.
+     */
+    private EDEXRecommenderEngine createEngine(String site) {
+        EDEXRecommenderEngine engine = new EDEXRecommenderEngine();
+        engine.setSite(site);
+        engine.getInventory();
+        return engine;
+    }
+
+    private void shutdownIdleEngines(SitePool sitePool) {
+        EDEXRecommenderEngine engine;
+        while ((engine = sitePool.idleEngines.poll()) != null) {
+            engine.shutdownEngine();
+        }
+    }
+
+    private void recordRequest(Lease lease, long executionMillis) {
+        long count = requestCount.incrementAndGet();
+        long queue = totalQueueMillis.addAndGet(lease.queueMillis);
+        long startup = totalStartupMillis.addAndGet(lease.startupMillis);
+        long execution = totalExecutionMillis.addAndGet(executionMillis);
+        if (statusHandler.isPriorityEnabled(Priority.DEBUG)) {
+            statusHandler.debug("Recommender request for site " + lease.site
+                    + ": queue " + lease.queueMillis + " ms, startup "
+                    + lease.startupMillis + " ms, execution "
+                    + executionMillis + " ms.");
+        }
+        if ((count % STATISTICS_LOG_INTERVAL) == 0) {
+            statusHandler.info(count + " recommender requests, "
+                    + startupCount.get() + " engine startups; average queue "
+                    + (queue / count) + " ms, startup " + (startup / count)
+                    + " ms, execution " + (execution / count) + " ms.");
+        }
+    }
+}
@@ -23,7 +23,7 @@ import com.raytheon.uf.common.dataplugin.events.EventSet;
 import com.raytheon.uf.common.dataplugin.events.IEvent;
 import com.raytheon.uf.common.recommenders.requests.ExecuteRecommenderRequest;
 import com.raytheon.uf.common.serialization.comm.IRequestHandler;
-import com.raytheon.uf.edex.recommenders.EDEXRecommenderEngine;
+import com.raytheon.uf.edex.recommenders.EDEXRecommenderEnginePool;
 
 /**
  * Handles requests made to EDEX to run recommenders
@@ -36,6 +36,9 @@ import com.raytheon.uf.edex.recommenders.EDEXRecommenderEngine;
  * ------------ ---------- ----------- --------------------------
  * Jun 7, 2013            mnash        Initial creation
  * Mar 31, 2016 8837      Robert.Blum  Changes for Service Backup.
+ * Oct 18, 2026            agent        Run recommenders on pooled, warm
+ *                                      engines instead of starting a new
+ *                                      engine for each request.
  * 
  * </pre>
  * 
@@ -46,6 +49,16 @@ import com.raytheon.uf.edex.recommenders.EDEXRecommenderEngine;
 public class RecommenderHandler implements
         IRequestHandler<ExecuteRecommenderRequest> {
 
+    private final EDEXRecommenderEnginePool enginePool;
+
+    /**
+     * @param enginePool
+     *            Pool from which to borrow recommender engines.
+     */
+    public RecommenderHandler(EDEXRecommenderEnginePool enginePool) {
+        this.enginePool = enginePool;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -56,12 +69,17 @@ public class RecommenderHandler implements
     @Override
     public Object handleRequest(final ExecuteRecommenderRequest request)
             throws Exception {
-        EDEXRecommenderEngine engine = new EDEXRecommenderEngine();
-        engine.setSite(request.getSite());
         EventSet<IEvent> eventSet = new EventSet<IEvent>();
         eventSet.addAttribute("siteID", request.getSite());
         eventSet.addAttribute("timeRange", request.getTimeRange());
-        return engine.runRecommender(request.getRecommenderName(), eventSet,
-                null, null);
+        EDEXRecommenderEnginePool.Lease lease = enginePool
+                .borrow(request.getSite());
+        long start = System.currentTimeMillis();
+        try {
+            return lease.getEngine().runRecommender(
+                    request.getRecommenderName(), eventSet, null, null);
+        } finally {
+            enginePool.release(lease, System.currentTimeMillis() - start);
+        }
     }
 }
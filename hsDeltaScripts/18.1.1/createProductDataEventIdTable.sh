@@ -0,0 +1,43 @@
+#!/bin/bash
+# Create the awips.productdataeventid table, which indexes the productdata
+# table by event ID so that products for specific events can be looked up in
+# the database. Existing productdata rows are indexed by EDEX the first time a
+# lookup by event ID is made, since their event IDs are stored serialized. The
+# script may be run more than once.
+
+PSQL="/awips2/psql/bin/psql"
+
+cmd="
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS awips.productdataeventid
+(
+  eventid character varying(255) NOT NULL,
+  mode character varying(255) NOT NULL,
+  productgeneratorname character varying(255) NOT NULL,
+  officeid character varying(255) NOT NULL,
+  issuetime timestamp without time zone NOT NULL,
+  CONSTRAINT productdataeventid_pkey PRIMARY KEY (eventid, mode, productgeneratorname, officeid, issuetime)
+)
+WITH (
+  OIDS=FALSE
+);
+
+CREATE INDEX IF NOT EXISTS productdataeventid_productdata_idx
+  ON awips.productdataeventid (mode, productgeneratorname, officeid, issuetime);
+
+ALTER TABLE awips.productdataeventid
+  OWNER TO awipsadmin;
+GRANT ALL ON TABLE awips.productdataeventid TO awipsadmin;
+GRANT SELECT, UPDATE, INSERT, TRUNCATE, DELETE, TRIGGER ON TABLE awips.productdataeventid TO awips;
+
+COMMIT;
+"
+
+echo "INFO: Creating awips.productdataeventid table..."
+
+${PSQL} -U awipsadmin -d metadata -c "${cmd}"
+retval=$?
+
+echo "Done."
+exit $retval
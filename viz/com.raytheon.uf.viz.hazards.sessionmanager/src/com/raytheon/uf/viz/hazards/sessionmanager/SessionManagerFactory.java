@@ -19,6 +19,7 @@
  **/
 package com.raytheon.uf.viz.hazards.sessionmanager;
 
+import com.raytheon.uf.common.dataplugin.events.hazards.datastorage.HazardEventCache;
 import com.raytheon.uf.common.dataplugin.events.hazards.datastorage.HazardEventManager;
 import com.raytheon.uf.common.localization.PathManagerFactory;
 import com.raytheon.uf.viz.hazards.sessionmanager.config.impl.ObservedSettings;
@@ -52,6 +53,7 @@ import gov.noaa.gsd.common.eventbus.BoundedReceptionEventBus;
  * Jul 27, 2016 19924      Chris.Golden Added use of display resource context provider.
  * Dec 17, 2017 20739      Chris.Golden Refactored away access to directly mutable session
  *                                      events.
+ * Oct 18, 2026            agent        Added opt-in hazard event cache.
  * </pre>
  * 
  * @author bsteffen
@@ -60,6 +62,18 @@ import gov.noaa.gsd.common.eventbus.BoundedReceptionEventBus;
 
 public class SessionManagerFactory {
 
+    /**
+     * System property which, if true, causes the hazard event manager to
+     * cache event histories and latest versions.
+     */
+    private static final String EVENT_CACHE_PROPERTY = "hazardServices.eventCache";
+
+    /**
+     * System property which, if true, causes cached results to be checked
+     * against the registry on every cache hit.
+     */
+    private static final String EVENT_CACHE_CHECK_PROPERTY = "hazardServices.eventCache.consistencyCheck";
+
     public static ISessionManager<ObservedSettings> getSessionManager(
             IMessenger messenger,
             ISpatialContextProvider spatialContextProvider,
@@ -67,8 +81,12 @@ public class SessionManagerFactory {
             IFrameContextProvider frameContextProvider,
             BoundedReceptionEventBus<Object> eventBus) {
         boolean practice = !CAVEMode.OPERATIONAL.equals(CAVEMode.getMode());
+        HazardEventCache cache = (Boolean.getBoolean(EVENT_CACHE_PROPERTY)
+                ? new HazardEventCache(
+                        Boolean.getBoolean(EVENT_CACHE_CHECK_PROPERTY))
+                : null);
         return new SessionManager(PathManagerFactory.getPathManager(),
-                new HazardEventManager(practice), spatialContextProvider,
+                new HazardEventManager(practice, cache), spatialContextProvider,
                 displayResourceContextProvider, frameContextProvider, messenger,
                 eventBus);
     }
@@ -11,7 +11,6 @@ package com.raytheon.uf.viz.hazards.sessionmanager.alerts;
 
 import com.google.common.collect.ImmutableList;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification;
-import com.raytheon.uf.viz.hazards.sessionmanager.alerts.impl.IHazardAlertJob;
 import com.raytheon.uf.viz.hazards.sessionmanager.alerts.impl.IHazardAlertStrategy;
 
 /**
@@ -30,6 +29,9 @@ import com.raytheon.uf.viz.hazards.sessionmanager.alerts.impl.IHazardAlertStrate
  * ------------ ---------- ----------- --------------------------
  * July 08, 2013   1325     daniel.s.schaffer@noaa.gov      Initial creation
  * Nov 20, 2013   2159     daniel.s.schaffer@noaa.gov Now interoperable with DRT
+ * Oct 18, 2026            agent       Added cancelAlertsForEvent().
+ * Oct 19, 2026            agent       Removed activateAlert(), as alerts are
+ *                                     no longer activated by per-alert jobs.
  * 
  * </pre>
  * 
@@ -53,15 +55,15 @@ public interface IHazardSessionAlertsManager {
     void scheduleAlert(IHazardAlert hazardAlert);
 
     /**
-     * Activate the {@link IHazardAlert} contained in this
-     * {@link IHazardAlertJob}
+     * Cancel the given {@link IHazardAlert}
      */
-    void activateAlert(IHazardAlertJob hazardAlertJob);
+    void cancelAlert(IHazardAlert hazardAlert);
 
     /**
-     * Cancel the given {@link IHazardAlert}
+     * Cancel all scheduled and active {@link IHazardAlert}s associated with
+     * the event with the given identifier.
      */
-    void cancelAlert(IHazardAlert hazardAlert);
+    void cancelAlertsForEvent(String eventID);
 
     /**
      * @return all scheduled plus active alerts
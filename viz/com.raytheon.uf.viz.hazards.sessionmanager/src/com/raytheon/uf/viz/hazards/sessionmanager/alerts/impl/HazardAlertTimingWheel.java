@@ -0,0 +1,416 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA),
+ * Earth System Research Laboratory (ESRL),
+ * Global Systems Division (GSD),
+ * Information Services Branch (ISB)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package com.raytheon.uf.viz.hazards.sessionmanager.alerts.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import com.raytheon.uf.viz.hazards.sessionmanager.alerts.IHazardAlert;
+import com.raytheon.uf.viz.hazards.sessionmanager.alerts.IHazardEventAlert;
+
+/**
+ * Description: Hashed timing wheel holding all pending {@link IHazardAlert}s
+ * for a session. Each alert is placed in the slot corresponding to its
+ * activation time modulo the wheel's revolution; advancing the wheel to the
+ * current time visits only the slots passed since the last advance, so the
+ * cost of a tick does not depend on how many alerts are pending. Alerts are
+ * also indexed by identity and by event identifier, so that a single alert, or
+ * all the alerts of one event, may be removed without scanning, and are kept
+ * ordered by deadline, so that the time at which the next alert comes due is
+ * known without scanning.
+ * <p>
+ * The wheel has no clock of its own; it is advanced by its owner using the
+ * session's current time. It is not thread-safe; callers must synchronize.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * Oct 19, 2026            agent       Added due time queries, so that the
+ *                                     wheel's owner need only advance it when
+ *                                     alerts come due.
+ * Oct 19, 2026            agent       Track the earliest deadline with an
+ *                                     ordered set instead of scanning all
+ *                                     alerts for it.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class HazardAlertTimingWheel {
+
+    // Private Static Constants
+
+    /**
+     * Comparator ordering entries by deadline tick, and then by the order in
+     * which they were added.
+     */
+    private static final Comparator<Entry> DEADLINE_ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry o1, Entry o2) {
+            int result = Long.compare(o1.deadlineTick, o2.deadlineTick);
+            return (result != 0 ? result
+                    : Long.compare(o1.sequence, o2.sequence));
+        }
+    };
+
+    // Private Classes
+
+    /**
+     * Entry in a wheel slot.
+     */
+    private static class Entry {
+
+        private final IHazardAlert alert;
+
+        private final long deadlineTick;
+
+        private final int slot;
+
+        /**
+         * Order in which the entry was added, used to order entries with the
+         * same deadline tick.
+         */
+        private final long sequence;
+
+        Entry(IHazardAlert alert, long deadlineTick, int slot, long sequence) {
+            this.alert = alert;
+            this.deadlineTick = deadlineTick;
+            this.slot = slot;
+            this.sequence = sequence;
+        }
+    }
+
+    // Private Variables
+
+    /**
+     * Duration of one tick in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * Slots, each holding the entries whose deadline ticks hash to it. These,
+     * like the other indices, are keyed by alert identity since alerts'
+     * equality and hash codes depend upon their mutable state.
+     */
+    private final List<Map<IHazardAlert, Entry>> slots;
+
+    /**
+     * Entries indexed by alert identity.
+     */
+    private final Map<IHazardAlert, Entry> entriesForAlerts = new IdentityHashMap<>();
+
+    /**
+     * Alerts indexed by the identifier of the event with which they are
+     * associated; alerts not associated with an event are not included.
+     */
+    private final Map<String, List<IHazardAlert>> alertsForEventIdentifiers = new HashMap<>();
+
+    /**
+     * Entries ordered by deadline.
+     */
+    private final NavigableSet<Entry> entriesByDeadline = new TreeSet<>(
+            DEADLINE_ORDER);
+
+    /**
+     * Sequence number to be given to the next entry added.
+     */
+    private long nextSequence;
+
+    /**
+     * Last tick to which the wheel was advanced, or {@link Long#MIN_VALUE} if
+     * it has never been advanced.
+     */
+    private long currentTick = Long.MIN_VALUE;
+
+    // Package Constructors
+
+    /**
+     * Construct a standard instance.
+     * 
+     * @param tickMillis
+     *            Duration of one tick in milliseconds.
+     * @param slotCount
+     *            Number of slots in the wheel.
+     */
+    HazardAlertTimingWheel(long tickMillis, int slotCount) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int j = 0; j < slotCount; j++) {
+            slots.add(new IdentityHashMap<IHazardAlert, Entry>());
+        }
+    }
+
+    // Package Methods
+
+    /**
+     * Add the specified alert. If the alert is already present, it is moved
+     * to the slot for its current activation time.
+     * 
+     * @param alert
+     *            Alert to be added.
+     */
+    void add(IHazardAlert alert) {
+        remove(alert);
+        long deadlineTick = getTick(alert.getActivationTime().getTime());
+
+        /*
+         * An alert that is already due is placed in the next slot to be
+         * visited, rather than in one that has already been passed.
+         */
+        int slot = getSlot((currentTick != Long.MIN_VALUE)
+                && (deadlineTick <= currentTick) ? currentTick + 1
+                        : deadlineTick);
+        Entry entry = new Entry(alert, deadlineTick, slot, nextSequence++);
+        slots.get(slot).put(alert, entry);
+        entriesForAlerts.put(alert, entry);
+        entriesByDeadline.add(entry);
+        String eventIdentifier = getEventIdentifier(alert);
+        if (eventIdentifier != null) {
+            List<IHazardAlert> alerts = alertsForEventIdentifiers
+                    .get(eventIdentifier);
+            if (alerts == null) {
+                alerts = new ArrayList<>(4);
+                alertsForEventIdentifiers.put(eventIdentifier, alerts);
+            }
+            alerts.add(alert);
+        }
+    }
+
+    /**
+     * Remove the specified alert.
+     * 
+     * @param alert
+     *            Alert to be removed.
+     * @return <code>true</code> if the alert was present, <code>false</code>
+     *         otherwise.
+     */
+    boolean remove(IHazardAlert alert) {
+        Entry entry = entriesForAlerts.remove(alert);
+        if (entry == null) {
+            return false;
+        }
+        slots.get(entry.slot).remove(alert);
+        entriesByDeadline.remove(entry);
+        removeFromEventIndex(alert);
+        return true;
+    }
+
+    /**
+     * Remove all alerts associated with the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @return Alerts that were removed; may be empty.
+     */
+    List<IHazardAlert> removeAllForEvent(String eventIdentifier) {
+        List<IHazardAlert> alerts = alertsForEventIdentifiers
+                .remove(eventIdentifier);
+        if (alerts == null) {
+            return Collections.emptyList();
+        }
+        for (IHazardAlert alert : alerts) {
+            Entry entry = entriesForAlerts.remove(alert);
+            slots.get(entry.slot).remove(alert);
+            entriesByDeadline.remove(entry);
+        }
+        return alerts;
+    }
+
+    /**
+     * Get the alerts associated with the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @return Alerts; may be empty.
+     */
+    List<IHazardAlert> getAlertsForEvent(String eventIdentifier) {
+        List<IHazardAlert> alerts = alertsForEventIdentifiers
+                .get(eventIdentifier);
+        return (alerts == null ? Collections.<IHazardAlert> emptyList()
+                : new ArrayList<>(alerts));
+    }
+
+    /**
+     * Advance the wheel to the specified time, removing and returning all
+     * alerts whose activation times fall at or before that time.
+     * 
+     * @param time
+     *            Current time in epoch milliseconds.
+     * @return Alerts that are due, ordered by activation time; may be empty.
+     */
+    List<IHazardAlert> advanceTo(long time) {
+        long targetTick = getTick(time);
+        if (entriesForAlerts.isEmpty()) {
+            currentTick = targetTick;
+            return Collections.emptyList();
+        }
+
+        /*
+         * Visit each slot passed since the last advance, but never more than
+         * one full revolution; if the wheel is being advanced for the first
+         * time, or time moved backward, visit every slot.
+         */
+        long slotsToVisit = ((currentTick == Long.MIN_VALUE)
+                || (targetTick < currentTick) ? slots.size()
+                        : Math.min(targetTick - currentTick, slots.size()));
+        List<Entry> due = new ArrayList<>();
+        for (long tick = targetTick - slotsToVisit + 1; tick <= targetTick; tick++) {
+            for (Entry entry : slots.get(getSlot(tick)).values()) {
+                if (entry.deadlineTick <= targetTick) {
+                    due.add(entry);
+                }
+            }
+        }
+        currentTick = targetTick;
+
+        List<IHazardAlert> result = new ArrayList<>(due.size());
+        if (due.isEmpty() == false) {
+            Collections.sort(due, DEADLINE_ORDER);
+            for (Entry entry : due) {
+                remove(entry.alert);
+                result.add(entry.alert);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the earliest time at which advancing the wheel will return one or
+     * more alerts.
+     * 
+     * @return Time in epoch milliseconds, or {@link Long#MAX_VALUE} if the
+     *         wheel is empty.
+     */
+    long getNextDueTime() {
+        return (entriesByDeadline.isEmpty() ? Long.MAX_VALUE
+                : getDueTime(entriesByDeadline.first().deadlineTick));
+    }
+
+    /**
+     * Get the time at which advancing the wheel will return the specified
+     * alert.
+     * 
+     * @param alert
+     *            Alert.
+     * @return Time in epoch milliseconds, or {@link Long#MAX_VALUE} if the
+     *         alert is not present.
+     */
+    long getDueTime(IHazardAlert alert) {
+        Entry entry = entriesForAlerts.get(alert);
+        return (entry == null ? Long.MAX_VALUE
+                : getDueTime(entry.deadlineTick));
+    }
+
+    /**
+     * Get all pending alerts.
+     * 
+     * @return Pending alerts.
+     */
+    List<IHazardAlert> getAlerts() {
+        return new ArrayList<>(entriesForAlerts.keySet());
+    }
+
+    /**
+     * Determine whether or not the wheel is empty.
+     * 
+     * @return <code>true</code> if no alerts are pending.
+     */
+    boolean isEmpty() {
+        return entriesForAlerts.isEmpty();
+    }
+
+    /**
+     * Remove all alerts.
+     */
+    void clear() {
+        for (Map<IHazardAlert, Entry> slot : slots) {
+            slot.clear();
+        }
+        entriesForAlerts.clear();
+        entriesByDeadline.clear();
+        alertsForEventIdentifiers.clear();
+    }
+
+    /**
+     * Get the event identifier of the specified alert.
+     * 
+     * @param alert
+     *            Alert.
+     * @return Event identifier, or <code>null</code> if the alert is not
+     *         associated with an event.
+     */
+    static String getEventIdentifier(IHazardAlert alert) {
+        return (alert instanceof IHazardEventAlert
+                ? ((IHazardEventAlert) alert).getEventID() : null);
+    }
+
+    // Private Methods
+
+    /**
+     * Get the tick for the specified time.
+     */
+    private long getTick(long time) {
+        return Math.floorDiv(time, tickMillis);
+    }
+
+    /**
+     * Get the time at which advancing the wheel will return an alert with the
+     * specified deadline tick. This is the start of that tick, unless the
+     * wheel has already been advanced to or past it, in which case the alert
+     * is returned at the start of the next tick.
+     */
+    private long getDueTime(long deadlineTick) {
+        long tick = ((currentTick == Long.MIN_VALUE) ? deadlineTick
+                : Math.max(deadlineTick, currentTick + 1));
+        return tick * tickMillis;
+    }
+
+    /**
+     * Get the slot for the specified tick.
+     */
+    private int getSlot(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.size());
+    }
+
+    /**
+     * Remove the specified alert from the event index.
+     */
+    private void removeFromEventIndex(IHazardAlert alert) {
+        String eventIdentifier = getEventIdentifier(alert);
+        if (eventIdentifier == null) {
+            return;
+        }
+        List<IHazardAlert> alerts = alertsForEventIdentifiers
+                .get(eventIdentifier);
+        if (alerts != null) {
+            for (int j = 0; j < alerts.size(); j++) {
+                if (alerts.get(j) == alert) {
+                    alerts.remove(j);
+                    break;
+                }
+            }
+            if (alerts.isEmpty()) {
+                alertsForEventIdentifiers.remove(eventIdentifier);
+            }
+        }
+    }
+}
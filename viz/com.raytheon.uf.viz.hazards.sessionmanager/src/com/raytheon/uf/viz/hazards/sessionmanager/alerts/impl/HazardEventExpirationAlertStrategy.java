@@ -79,6 +79,9 @@ import com.raytheon.viz.core.mode.CAVEMode;
  * Feb 16, 2017 29138      Chris.Golden  Changed to use more efficient database
  *                                       query.
  * May 05, 2017 33738      Robert.Blum   Added addAlerts().
+ * Oct 18, 2026            agent         Cancel alerts for deleted hazards by
+ *                                       event identifier instead of scanning.
+ * Oct 18, 2026            agent         Added handling of delta notifications.
  * </pre>
  * 
  * @author daniel.s.schaffer@noaa.gov
@@ -169,7 +172,21 @@ public class HazardEventExpirationAlertStrategy
         switch (hazardNotification.getType()) {
 
         case STORE:
-            checkForNewAlerts(hazardNotification.getEvent());
+            if (hazardNotification.isDelta()) {
+
+                /*
+                 * The session event manager handles notifications on the
+                 * same thread, and before this strategy does, so its copy of
+                 * the event already reflects the delta.
+                 */
+                IReadableHazardEvent event = sessionEventManager
+                        .getEventById(hazardNotification.getEventID());
+                if (event != null) {
+                    checkForNewAlerts(event);
+                }
+            } else {
+                checkForNewAlerts(hazardNotification.getEvent());
+            }
             break;
 
         case DELETE:
@@ -302,17 +319,7 @@ public class HazardEventExpirationAlertStrategy
     private void updatesAlertsForDeletedHazard(
             IReadableHazardEvent hazardEvent) {
         alertedEvents.remove(hazardEvent.getEventID());
-        List<IHazardAlert> currentAlerts = alertsManager.getAlerts();
-        for (IHazardAlert hazardAlert : currentAlerts) {
-            if (hazardAlert instanceof IHazardEventAlert) {
-                IHazardEventAlert hazardEventAlert = (IHazardEventAlert) hazardAlert;
-                if (hazardEventAlert.getEventID()
-                        .equals(hazardEvent.getEventID())) {
-                    alertsManager.cancelAlert(hazardEventAlert);
-
-                }
-            }
-        }
+        alertsManager.cancelAlertsForEvent(hazardEvent.getEventID());
     }
 
     @Override
@@ -13,6 +13,10 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang.builder.ToStringBuilder;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
@@ -63,6 +67,18 @@ import gov.noaa.gsd.common.utilities.IRunnableAsynchronousScheduler;
  *                                      session manager's worker thread.
  * Apr 27, 2017   15561    Chris.Golden Made message posting asynchronous as it
  *                                      was causing deadlocks when synchronous.
+ * Oct 18, 2026            agent        Replaced per-alert jobs with a single
+ *                                      driver job advancing a timing wheel,
+ *                                      indexed active alerts by event, made
+ *                                      the lock per-instance, and added
+ *                                      cancellation of all alerts for an
+ *                                      event.
+ * Oct 19, 2026            agent        Changed the driver job to run only when
+ *                                      the next alert comes due rather than
+ *                                      every tick, and removed the unused alert
+ *                                      job factory.
+ * Oct 19, 2026            agent        Removed the per-alert job classes and
+ *                                      activateAlert().
  * </pre>
  * 
  * @author daniel.s.schaffer@noaa.gov
@@ -71,6 +87,55 @@ import gov.noaa.gsd.common.utilities.IRunnableAsynchronousScheduler;
 public class HazardSessionAlertsManager
         implements IHazardSessionAlertsManager, INotificationObserver {
 
+    // Private Static Constants
+
+    /**
+     * Duration of one tick of the alert timing wheel in milliseconds.
+     */
+    private static final long ALERT_TICK_MILLIS = 1000L;
+
+    /**
+     * Number of slots in the alert timing wheel; with one-second ticks, this
+     * gives a revolution of just over ten minutes.
+     */
+    private static final int ALERT_WHEEL_SLOT_COUNT = 640;
+
+    // Private Classes
+
+    /**
+     * Job that advances the alert timing wheel to the current session time
+     * and activates any alerts that have come due, rescheduling itself for
+     * the time at which the next pending alert comes due.
+     */
+    private class AlertWheelDriverJob extends Job {
+
+        AlertWheelDriverJob() {
+            super("Hazard Alert Job");
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            synchronized (lock) {
+                driverJobDueTime = Long.MAX_VALUE;
+                List<IHazardAlert> dueAlerts = alertWheel.advanceTo(
+                        sessionTimeManager.getCurrentTime().getTime());
+                if (dueAlerts.isEmpty() == false) {
+                    for (IHazardAlert alert : dueAlerts) {
+                        activate(alert);
+                    }
+                    postAlertsModifiedNotification();
+                }
+                if (alertWheel.isEmpty() == false) {
+                    scheduleDriverJob(alertWheel.getNextDueTime());
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+    // Private Variables
+
     /**
      * An object used to post {@link HazardAlertsModified}s to registered
      * objects such as {@link ConsolePresenter}
@@ -92,9 +157,29 @@ public class HazardSessionAlertsManager
     private final List<IHazardAlert> activeAlerts;
 
     /**
-     * {@link IHazardAlertJob}s that have been scheduled.
+     * Currently active {@link IHazardAlert}s that are associated with events,
+     * indexed by event identifier.
+     */
+    private final Map<String, List<IHazardAlert>> activeAlertsForEventIdentifiers;
+
+    /**
+     * Timing wheel holding the {@link IHazardAlert}s that have been scheduled
+     * but not yet activated.
+     */
+    private final HazardAlertTimingWheel alertWheel;
+
+    /**
+     * Job driving the {@link #alertWheel}.
+     */
+    private final AlertWheelDriverJob alertWheelDriverJob;
+
+    /**
+     * Session time in epoch milliseconds at which the
+     * {@link #alertWheelDriverJob} is next scheduled to run, or
+     * {@link Long#MAX_VALUE} if it is not scheduled. Guarded by the
+     * {@link #lock}.
      */
-    private final List<IHazardAlertJob> scheduledAlertJobs;
+    private long driverJobDueTime = Long.MAX_VALUE;
 
     /**
      * Handles the startup and shutdown of notifications from external events
@@ -105,15 +190,12 @@ public class HazardSessionAlertsManager
 
     private final IRunnableAsynchronousScheduler scheduler;
 
-    /**
-     * Creates to create a {@link IHazardAlertJob} containing an
-     * {@link IHazardAlert} when it is scheduled.
-     */
-    private IHazardAlertJobFactory alertJobFactory;
-
     private final ISessionTimeManager sessionTimeManager;
 
-    private static Object sharedLock = new Object();
+    /**
+     * Lock guarding the active and scheduled alerts.
+     */
+    private final Object lock = new Object();
 
     private ISimulatedTimeChangeListener simulatedTimeChangeListener;
 
@@ -130,8 +212,10 @@ public class HazardSessionAlertsManager
         this.alertStrategies = Maps.newHashMap();
         this.notificationHandler = new NotificationHandler(this);
         this.activeAlerts = Lists.newArrayList();
-        this.scheduledAlertJobs = Lists.newArrayList();
-        this.alertJobFactory = new HazardAlertJobFactory();
+        this.activeAlertsForEventIdentifiers = Maps.newHashMap();
+        this.alertWheel = new HazardAlertTimingWheel(ALERT_TICK_MILLIS,
+                ALERT_WHEEL_SLOT_COUNT);
+        this.alertWheelDriverJob = new AlertWheelDriverJob();
         this.simulatedTime = SimulatedTime.getSystemTime();
         buildClockChangedHandler();
 
@@ -142,7 +226,7 @@ public class HazardSessionAlertsManager
 
             @Override
             public void timechanged() {
-                synchronized (sharedLock) {
+                synchronized (lock) {
                     deleteAnyExistingAlerts();
                     if (simulatedTime.isFrozen()) {
                         notificationHandler.stop();
@@ -174,61 +258,145 @@ public class HazardSessionAlertsManager
 
     @Override
     public void scheduleAlert(IHazardAlert hazardAlert) {
-        IHazardAlertJob alertJob = alertJobFactory.createJob(this, hazardAlert);
-        synchronized (sharedLock) {
-
-            scheduledAlertJobs.add(alertJob);
-            scheduleJob(alertJob);
-
+        synchronized (lock) {
+            alertWheel.add(hazardAlert);
+
+            /*
+             * If the alert comes due before the driver job is next scheduled
+             * to run, reschedule the latter. If the driver job is running, it
+             * may have already rescheduled itself for later, or decided not
+             * to reschedule itself at all; scheduling it again causes it to
+             * be run once more at the new time after it finishes.
+             */
+            long dueTime = alertWheel.getDueTime(hazardAlert);
+            if (dueTime < driverJobDueTime) {
+                alertWheelDriverJob.cancel();
+                scheduleDriverJob(dueTime);
+            }
         }
 
     }
 
-    private void scheduleJob(IHazardAlertJob alertJob) {
-        IHazardAlert hazardAlert = alertJob.getHazardAlert();
-        Long delay = Math.max(0, hazardAlert.getActivationTime().getTime()
-                - sessionTimeManager.getCurrentTime().getTime());
-        alertJob.schedule(delay);
-
-    }
-
-    @Override
-    public void activateAlert(IHazardAlertJob hazardAlertJob) {
-        synchronized (sharedLock) {
-            scheduledAlertJobs.remove(hazardAlertJob);
-            IHazardAlert alert = hazardAlertJob.getHazardAlert();
-            alert.setState(HazardAlertState.ACTIVE);
-            removeSupercededAlerts(alert);
-            activeAlerts.add(alert);
-            postAlertsModifiedNotification();
+    /**
+     * Activate the specified alert, removing any active alerts it supersedes.
+     * The caller must hold the {@link #lock}, and is responsible for posting
+     * a notification of the change.
+     */
+    private void activate(IHazardAlert alert) {
+        alert.setState(HazardAlertState.ACTIVE);
+        removeSupercededAlerts(alert);
+        activeAlerts.add(alert);
+        String eventIdentifier = HazardAlertTimingWheel
+                .getEventIdentifier(alert);
+        if (eventIdentifier != null) {
+            List<IHazardAlert> alerts = activeAlertsForEventIdentifiers
+                    .get(eventIdentifier);
+            if (alerts == null) {
+                alerts = Lists.newArrayListWithCapacity(4);
+                activeAlertsForEventIdentifiers.put(eventIdentifier, alerts);
+            }
+            alerts.add(alert);
         }
-
     }
 
     private void removeSupercededAlerts(IHazardAlert alert) {
+
+        /*
+         * Only the active alerts for the same event can be superseded by an
+         * event alert, so pass only those to the strategies.
+         */
+        String eventIdentifier = HazardAlertTimingWheel
+                .getEventIdentifier(alert);
+        List<IHazardAlert> candidates;
+        if (eventIdentifier != null) {
+            List<IHazardAlert> alerts = activeAlertsForEventIdentifiers
+                    .get(eventIdentifier);
+            if (alerts == null) {
+                return;
+            }
+            candidates = Lists.newArrayList(alerts);
+        } else {
+            candidates = Lists.newArrayList(activeAlerts);
+        }
         for (IHazardAlertStrategy alertStrategy : alertStrategies.values()) {
             List<IHazardAlert> supercededAlerts = alertStrategy
-                    .findSupercededAlerts(alert, activeAlerts);
+                    .findSupercededAlerts(alert, candidates);
             for (IHazardAlert supercededAlert : supercededAlerts) {
-                activeAlerts.remove(supercededAlert);
+                removeActiveAlert(supercededAlert);
+            }
+        }
+    }
+
+    /**
+     * Remove the specified alert from the active alerts. The caller must hold
+     * the {@link #lock}.
+     * 
+     * @return <code>true</code> if the alert was active, <code>false</code>
+     *         otherwise.
+     */
+    private boolean removeActiveAlert(IHazardAlert alert) {
+        if (activeAlerts.remove(alert) == false) {
+            return false;
+        }
+        String eventIdentifier = HazardAlertTimingWheel
+                .getEventIdentifier(alert);
+        if (eventIdentifier != null) {
+            List<IHazardAlert> alerts = activeAlertsForEventIdentifiers
+                    .get(eventIdentifier);
+            if (alerts != null) {
+                alerts.remove(alert);
+                if (alerts.isEmpty()) {
+                    activeAlertsForEventIdentifiers.remove(eventIdentifier);
+                }
             }
         }
+        return true;
     }
 
     @Override
     public void cancelAlert(IHazardAlert hazardAlert) {
-        synchronized (sharedLock) {
-            activeAlerts.remove(hazardAlert);
-            IHazardAlertJob alertJobToRemove = null;
-            for (IHazardAlertJob hazardAlertJob : scheduledAlertJobs) {
-                if (hazardAlertJob.getHazardAlert().equals(hazardAlert)) {
-                    alertJobToRemove = hazardAlertJob;
-                    alertJobToRemove.cancel();
-                    break;
+        synchronized (lock) {
+            removeActiveAlert(hazardAlert);
+
+            /*
+             * Alerts are usually canceled using the same instance that was
+             * scheduled; if not, look for an equal alert among those for the
+             * same event, or failing that, among all those scheduled.
+             */
+            boolean removed = alertWheel.remove(hazardAlert);
+            if (removed == false) {
+                String eventIdentifier = HazardAlertTimingWheel
+                        .getEventIdentifier(hazardAlert);
+                List<IHazardAlert> scheduledAlerts = (eventIdentifier != null
+                        ? alertWheel.getAlertsForEvent(eventIdentifier)
+                        : alertWheel.getAlerts());
+                for (IHazardAlert scheduledAlert : scheduledAlerts) {
+                    if (scheduledAlert.equals(hazardAlert)) {
+                        removed = alertWheel.remove(scheduledAlert);
+                        break;
+                    }
                 }
             }
-            if (alertJobToRemove != null) {
-                scheduledAlertJobs.remove(alertJobToRemove);
+            if (removed) {
+                postAlertsModifiedNotification();
+            }
+        }
+    }
+
+    @Override
+    public void cancelAlertsForEvent(String eventID) {
+        synchronized (lock) {
+            boolean removed = (alertWheel.removeAllForEvent(eventID)
+                    .isEmpty() == false);
+            List<IHazardAlert> alerts = activeAlertsForEventIdentifiers
+                    .remove(eventID);
+            if (alerts != null) {
+                for (IHazardAlert alert : alerts) {
+                    activeAlerts.remove(alert);
+                }
+                removed = true;
+            }
+            if (removed) {
                 postAlertsModifiedNotification();
             }
         }
@@ -237,14 +405,25 @@ public class HazardSessionAlertsManager
     private void deleteAnyExistingAlerts() {
         cancelJobs();
         activeAlerts.clear();
+        activeAlertsForEventIdentifiers.clear();
         postAlertsModifiedNotification();
     }
 
     private void cancelJobs() {
-        for (IHazardAlertJob alertJob : scheduledAlertJobs) {
-            alertJob.cancel();
-        }
-        scheduledAlertJobs.clear();
+        alertWheelDriverJob.cancel();
+        driverJobDueTime = Long.MAX_VALUE;
+        alertWheel.clear();
+    }
+
+    /**
+     * Schedule the {@link #alertWheelDriverJob} to run at the specified
+     * session time, or immediately if that time has passed. The caller must
+     * hold the {@link #lock}.
+     */
+    private void scheduleDriverJob(long dueTime) {
+        driverJobDueTime = dueTime;
+        alertWheelDriverJob.schedule(Math.max(0L,
+                dueTime - sessionTimeManager.getCurrentTime().getTime()));
     }
 
     @Override
@@ -258,7 +437,9 @@ public class HazardSessionAlertsManager
         SimulatedTime.getSystemTime()
                 .removeSimulatedTimeChangeListener(simulatedTimeChangeListener);
         notificationHandler.stop();
-        cancelJobs();
+        synchronized (lock) {
+            cancelJobs();
+        }
     }
 
     @Override
@@ -289,29 +470,23 @@ public class HazardSessionAlertsManager
 
     @Override
     public ImmutableList<IHazardAlert> getAlerts() {
-        synchronized (sharedLock) {
+        synchronized (lock) {
             List<IHazardAlert> result = Lists.newArrayList(activeAlerts);
-            for (IHazardAlertJob alertJob : scheduledAlertJobs) {
-                result.add(alertJob.getHazardAlert());
-            }
+            result.addAll(alertWheel.getAlerts());
             return ImmutableList.copyOf(result);
         }
     }
 
     @Override
     public ImmutableList<IHazardAlert> getActiveAlerts() {
-        synchronized (sharedLock) {
+        synchronized (lock) {
             return ImmutableList.copyOf(activeAlerts);
         }
     }
 
     public List<IHazardAlert> getScheduledAlerts() {
-        synchronized (sharedLock) {
-            List<IHazardAlert> result = Lists.newArrayList();
-            for (IHazardAlertJob alertJob : scheduledAlertJobs) {
-                result.add(alertJob.getHazardAlert());
-            }
-            return result;
+        synchronized (lock) {
+            return alertWheel.getAlerts();
         }
     }
 
@@ -332,10 +507,6 @@ public class HazardSessionAlertsManager
         this.notificationHandler = notificationHandler;
     }
 
-    void setAlertJobFactory(IHazardAlertJobFactory alertJobFactory) {
-        this.alertJobFactory = alertJobFactory;
-    }
-
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
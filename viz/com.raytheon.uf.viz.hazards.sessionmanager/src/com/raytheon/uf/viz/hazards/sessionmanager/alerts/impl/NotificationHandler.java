@@ -13,6 +13,7 @@ import org.apache.commons.lang.builder.ToStringBuilder;
 
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification;
 import com.raytheon.uf.viz.core.notification.jobs.NotificationManagerJob;
+import com.raytheon.viz.core.mode.CAVEMode;
 
 /**
  * Description: The basic {@link INotificationHandler}
@@ -23,6 +24,7 @@ import com.raytheon.uf.viz.core.notification.jobs.NotificationManagerJob;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jul 19, 2013   1325     daniel.s.schaffer@noaa.gov      Initial creation
+ * Oct 18, 2026            agent       Subscribe with a mode message selector.
  * 
  * </pre>
  * 
@@ -33,6 +35,9 @@ public class NotificationHandler implements INotificationHandler {
 
     private final HazardSessionAlertsManager hazardSessionAlertsManager;
 
+    private final String selector = HazardNotification.getMessageSelector(
+            CAVEMode.OPERATIONAL.equals(CAVEMode.getMode()) == false, null);
+
     public NotificationHandler(
             HazardSessionAlertsManager hazardSessionAlertsManager) {
         this.hazardSessionAlertsManager = hazardSessionAlertsManager;
@@ -41,13 +46,13 @@ public class NotificationHandler implements INotificationHandler {
     @Override
     public void start() {
         NotificationManagerJob.addObserver(HazardNotification.HAZARD_TOPIC,
-                hazardSessionAlertsManager);
+                hazardSessionAlertsManager, selector);
     }
 
     @Override
     public void stop() {
         NotificationManagerJob.removeObserver(HazardNotification.HAZARD_TOPIC,
-                hazardSessionAlertsManager);
+                hazardSessionAlertsManager, selector);
     }
 
     @Override
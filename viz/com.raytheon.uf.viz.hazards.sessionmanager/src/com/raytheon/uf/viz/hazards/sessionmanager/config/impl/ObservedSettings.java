@@ -34,6 +34,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 
 import org.eclipse.core.runtime.Assert;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEventUtilities;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.IHazardEvent;
@@ -103,6 +104,9 @@ import gov.noaa.gsd.common.utilities.TimeResolution;
  *                                      less shallow.
  * Jun 06, 2018 15561     Chris.Golden  Added practice flag for hazard event
  *                                      construction.
+ * Oct 18, 2026            agent        Added filters generation, so that
+ *                                      compiled event filters can tell when
+ *                                      they are out of date.
  * </pre>
  * 
  * @author bsteffen
@@ -124,6 +128,13 @@ public class ObservedSettings implements ISettings {
 
     private Settings principal;
 
+    /**
+     * Generation of the filters, incremented whenever any of the settings
+     * determining which events are visible changes, whether or not a
+     * notification is sent for the change.
+     */
+    private transient long filtersGeneration;
+
     /**
      * For JAXB serialization.
      */
@@ -229,6 +240,9 @@ public class ObservedSettings implements ISettings {
 
     private void settingsChanged(boolean notify, Type changed,
             IOriginator originator) {
+        if (changed == Type.FILTERS) {
+            filtersGeneration++;
+        }
         if (notify) {
             settingsChanged(
                     new SettingsModified(configManager, changed, originator));
@@ -237,6 +251,9 @@ public class ObservedSettings implements ISettings {
 
     private void settingsChanged(boolean notify, Set<Type> changed,
             IOriginator originator) {
+        if (changed.contains(Type.FILTERS)) {
+            filtersGeneration++;
+        }
         if (notify) {
             settingsChanged(
                     new SettingsModified(configManager, changed, originator));
@@ -245,6 +262,7 @@ public class ObservedSettings implements ISettings {
 
     private void settingsChangedIdentifier(boolean notify,
             IOriginator originator) {
+        filtersGeneration++;
         if (notify) {
             settingsChanged(new SettingsLoaded(configManager, originator));
         }
@@ -261,6 +279,19 @@ public class ObservedSettings implements ISettings {
         }
     }
 
+    /**
+     * Get the generation of the filters. This changes whenever any of the
+     * settings determining which events are visible changes, so that anything
+     * compiled from those settings may be checked for staleness without
+     * copying and comparing them.
+     * 
+     * @return Generation of the filters.
+     */
+    @JsonIgnore
+    public long getFiltersGeneration() {
+        return filtersGeneration;
+    }
+
     @Override
     public String getSettingsID() {
         return principal.getSettingsID();
@@ -340,6 +340,7 @@ import gov.noaa.gsd.viz.megawidgets.sideeffects.PythonSideEffectsApplier;
  * Feb 13, 2018 44514      Chris.Golden Removed event-modifying script code, as such
  *                                      scripts are not to be used.
  * May 04, 2018 50032      Chris.Golden Added additional filters to settings.
+ * Oct 18, 2026            agent        Load configuration files concurrently.
  * </pre>
  * 
  * @author bsteffen
@@ -424,8 +425,15 @@ public class SessionConfigurationManager
 
     private ISessionNotificationSender notificationSender;
 
+    /**
+     * Number of jobs used to load configuration files. Python files are run on
+     * the config loader's own interpreter pool, so this need only be large
+     * enough to overlap those with cache reads and XML and JSON parsing.
+     */
+    private static final int LOADER_JOB_COUNT = 3;
+
     private final JobPool loaderPool = new JobPool(
-            "Loading Hazard Services Config", 1);
+            "Loading Hazard Services Config", LOADER_JOB_COUNT);
 
     private ISessionManager<ObservedSettings> sessionManager;
 
@@ -166,6 +166,7 @@ import gov.noaa.gsd.viz.megawidgets.MegawidgetSpecifierManager;
  * Apr 10, 2018 48027      Chris.Golden Added originator parameter for checking geometry validity.
  * Apr 23, 2018 15561      Chris.Golden Added isHazardous() method, and modified the merge method
  *                                      to allow a new flag, fromDatabase, to be passed in.
+ * Oct 18, 2026            agent        Added getUndoHistoryMemoryUsage() method.
  * </pre>
  * 
  * @author bsteffen
@@ -853,6 +854,14 @@ public interface ISessionEventManager {
      */
     public EventPropertyChangeResult redo(IHazardEventView event);
 
+    /**
+     * Get the estimated number of bytes of heap occupied by the undo and redo
+     * histories of all events in the session.
+     * 
+     * @return Estimated size in bytes.
+     */
+    public long getUndoHistoryMemoryUsage();
+
     /**
      * Get the megawidget specifier manager for the specified event. Note that
      * this method must be implemented to return a cached manager if
@@ -0,0 +1,345 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.status.UFStatus.Priority;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+
+import gov.noaa.gsd.common.utilities.geometry.IAdvancedGeometry;
+
+/**
+ * Cache of geometry-derived values for hazard events: the low-resolution
+ * (clipped, simplified and goosenecked) product geometry, and the UGCs found by
+ * intersecting the event with the map database geometries. Each is expensive to
+ * compute, and is asked for repeatedly for an event whose geometry has not
+ * changed, for example each time low-resolution geometries are shown for the
+ * selected events or the selected events' UGCs are updated.
+ * <p>
+ * At most one value of each kind is held per event. Each value is stored with
+ * the {@link Key} describing the inputs from which it was derived, and is only
+ * returned if the key supplied by the caller matches it; a value that no longer
+ * matches is simply replaced when the caller stores a freshly derived one.
+ * Lookups are counted, and the hit ratios are logged periodically.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class DerivedGeometryCache {
+
+    // Package Static Constants
+
+    /**
+     * Marker cached in place of a low-resolution geometry for an event that
+     * has no hazard areas inside the forecast area.
+     */
+    static final Geometry OUTSIDE_CWA = new GeometryFactory()
+            .createGeometryCollection(null);
+
+    // Private Static Constants
+
+    /**
+     * Status handler for logging.
+     */
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(DerivedGeometryCache.class);
+
+    /**
+     * Number of lookups between logging of hit ratios.
+     */
+    private static final long STATISTICS_LOG_INTERVAL = 200L;
+
+    // Package Classes
+
+    /**
+     * Description of the inputs from which a derived value was computed. Two
+     * keys match if they have the same geometry, the same hazard type entry
+     * (compared by identity, so that reloading of the hazard types
+     * configuration invalidates everything derived under the old one), the
+     * same site, the same CWA geometry version, and equal additional
+     * dependencies.
+     */
+    static class Key {
+
+        private final IAdvancedGeometry geometry;
+
+        private final Object hazardType;
+
+        private final String siteIdentifier;
+
+        private final long cwaGeometryVersion;
+
+        private final Object[] dependencies;
+
+        /**
+         * Construct a standard instance.
+         * 
+         * @param geometry
+         *            Geometry of the event.
+         * @param hazardType
+         *            Hazard type entry of the event.
+         * @param siteIdentifier
+         *            Site identifier of the event.
+         * @param cwaGeometryVersion
+         *            Version of the CWA geometry.
+         * @param dependencies
+         *            Any other values upon which the derived value depends;
+         *            these are compared using their <code>equals()</code>
+         *            methods.
+         */
+        Key(IAdvancedGeometry geometry, Object hazardType,
+                String siteIdentifier, long cwaGeometryVersion,
+                Object... dependencies) {
+            this.geometry = geometry;
+            this.hazardType = hazardType;
+            this.siteIdentifier = siteIdentifier;
+            this.cwaGeometryVersion = cwaGeometryVersion;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Determine whether or not this key matches the specified key.
+         * 
+         * @param other
+         *            Key to be compared.
+         * @return <code>true</code> if the keys match, <code>false</code>
+         *         otherwise.
+         */
+        boolean matches(Key other) {
+
+            /*
+             * Compare the cheap components first, and only compare the
+             * geometries for equality if they are not the same object, which
+             * they usually are when the event has not been modified.
+             */
+            if ((hazardType != other.hazardType)
+                    || (cwaGeometryVersion != other.cwaGeometryVersion)) {
+                return false;
+            }
+            if ((siteIdentifier == null ? other.siteIdentifier != null
+                    : siteIdentifier.equals(other.siteIdentifier) == false)) {
+                return false;
+            }
+            if (Arrays.equals(dependencies, other.dependencies) == false) {
+                return false;
+            }
+            return ((geometry == other.geometry) || ((geometry != null)
+                    && geometry.equals(other.geometry)));
+        }
+    }
+
+    // Private Classes
+
+    /**
+     * Cached value along with the key from which it was derived.
+     */
+    private static class Entry<V> {
+
+        private final Key key;
+
+        private final V value;
+
+        Entry(Key key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    // Private Variables
+
+    /**
+     * Map of event identifiers to their cached low-resolution geometries.
+     */
+    private final Map<String, Entry<Geometry>> lowResolutionGeometriesForEventIdentifiers = new HashMap<>();
+
+    /**
+     * Map of event identifiers to their cached UGCs.
+     */
+    private final Map<String, Entry<List<String>>> ugcsForEventIdentifiers = new HashMap<>();
+
+    private long lowResolutionGeometryHits;
+
+    private long lowResolutionGeometryMisses;
+
+    private long ugcsHits;
+
+    private long ugcsMisses;
+
+    // Package Methods
+
+    /**
+     * Get the cached low-resolution geometry for the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param key
+     *            Key describing the event's current inputs.
+     * @return Copy of the low-resolution geometry, {@link #OUTSIDE_CWA} if the
+     *         event was found to lie outside the CWA, or <code>null</code> if
+     *         no value derived from the same inputs is cached.
+     */
+    synchronized Geometry getLowResolutionGeometry(String eventIdentifier,
+            Key key) {
+        Geometry geometry = get(lowResolutionGeometriesForEventIdentifiers,
+                eventIdentifier, key);
+        if (geometry == null) {
+            lowResolutionGeometryMisses++;
+        } else {
+            lowResolutionGeometryHits++;
+        }
+        logStatisticsIfDue();
+        return ((geometry == null) || (geometry == OUTSIDE_CWA) ? geometry
+                : (Geometry) geometry.clone());
+    }
+
+    /**
+     * Cache the specified low-resolution geometry for the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param key
+     *            Key describing the inputs from which the geometry was
+     *            derived.
+     * @param geometry
+     *            Low-resolution geometry, or {@link #OUTSIDE_CWA}; a copy is
+     *            cached, so the caller may continue to use it.
+     */
+    synchronized void putLowResolutionGeometry(String eventIdentifier, Key key,
+            Geometry geometry) {
+        lowResolutionGeometriesForEventIdentifiers.put(eventIdentifier,
+                new Entry<>(key, (geometry == OUTSIDE_CWA ? geometry
+                        : (Geometry) geometry.clone())));
+    }
+
+    /**
+     * Get the cached UGCs for the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param key
+     *            Key describing the event's current inputs.
+     * @return Copy of the UGCs, or <code>null</code> if no value derived from
+     *         the same inputs is cached.
+     */
+    synchronized List<String> getUgcs(String eventIdentifier, Key key) {
+        List<String> ugcs = get(ugcsForEventIdentifiers, eventIdentifier, key);
+        if (ugcs == null) {
+            ugcsMisses++;
+        } else {
+            ugcsHits++;
+        }
+        logStatisticsIfDue();
+        return (ugcs == null ? null : new ArrayList<>(ugcs));
+    }
+
+    /**
+     * Cache the specified UGCs for the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     * @param key
+     *            Key describing the inputs from which the UGCs were derived.
+     * @param ugcs
+     *            UGCs; a copy is cached, so the caller may continue to use
+     *            them.
+     */
+    synchronized void putUgcs(String eventIdentifier, Key key,
+            List<String> ugcs) {
+        ugcsForEventIdentifiers.put(eventIdentifier,
+                new Entry<List<String>>(key, new ArrayList<>(ugcs)));
+    }
+
+    /**
+     * Remove any cached values for the specified event.
+     * 
+     * @param eventIdentifier
+     *            Identifier of the event.
+     */
+    synchronized void remove(String eventIdentifier) {
+        lowResolutionGeometriesForEventIdentifiers.remove(eventIdentifier);
+        ugcsForEventIdentifiers.remove(eventIdentifier);
+    }
+
+    /**
+     * Remove all cached values.
+     */
+    synchronized void clear() {
+        lowResolutionGeometriesForEventIdentifiers.clear();
+        ugcsForEventIdentifiers.clear();
+    }
+
+    // Private Methods
+
+    /**
+     * Get the value cached in the specified map for the specified event if it
+     * was derived from inputs matching the specified key.
+     */
+    private <V> V get(Map<String, Entry<V>> entriesForEventIdentifiers,
+            String eventIdentifier, Key key) {
+        Entry<V> entry = entriesForEventIdentifiers.get(eventIdentifier);
+        return ((entry != null) && entry.key.matches(key) ? entry.value
+                : null);
+    }
+
+    /**
+     * Log the hit ratios if enough lookups have occurred since they were last
+     * logged.
+     */
+    private void logStatisticsIfDue() {
+        long lookups = lowResolutionGeometryHits + lowResolutionGeometryMisses
+                + ugcsHits + ugcsMisses;
+        if (((lookups % STATISTICS_LOG_INTERVAL) == 0)
+                && statusHandler.isPriorityEnabled(Priority.DEBUG)) {
+            statusHandler.debug("Derived geometry cache: low-resolution "
+                    + "geometry hit ratio "
+                    + getRatio(lowResolutionGeometryHits,
+                            lowResolutionGeometryMisses)
+                    + ", UGCs hit ratio " + getRatio(ugcsHits, ugcsMisses)
+                    + " over " + lookups + " lookups.");
+        }
+    }
+
+    /**
+     * Get the specified hit ratio as a percentage string.
+     */
+    private static String getRatio(long hits, long misses) {
+        long total = hits + misses;
+        return (total == 0 ? "n/a" : ((hits * 100L) / total) + "%");
+    }
+}
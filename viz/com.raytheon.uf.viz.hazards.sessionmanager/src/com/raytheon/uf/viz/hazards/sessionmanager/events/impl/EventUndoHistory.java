@@ -0,0 +1,262 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.raytheon.uf.viz.hazards.sessionmanager.originator.IOriginator;
+
+/**
+ * Undo and redo history of an {@link ObservedHazardEvent}. Edits made directly
+ * by the user through the same originator in quick succession are combined
+ * where possible, so that for example a series of geometry changes made while
+ * dragging is undone as one, and the history is kept within a memory budget
+ * by discarding the oldest edits once it is exceeded. Edits from different
+ * originators, or not made directly by the user, such as those made by
+ * recommenders, are never combined, so each may be undone on its own.
+ * <p>
+ * The budget and the interval within which successive edits are combined may
+ * be set using the {@link #MAX_BYTES_PROPERTY} and
+ * {@link #COALESCE_MILLIS_PROPERTY} system properties.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * Oct 19, 2026            agent        Restricted combining of edits to those
+ *                                      made directly by the user through the
+ *                                      same originator.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class EventUndoHistory {
+
+    // Package Static Constants
+
+    /**
+     * System property giving the maximum estimated number of bytes of heap
+     * that each event's undo and redo history may occupy.
+     */
+    static final String MAX_BYTES_PROPERTY = "hazardServices.undoHistory.maxBytes";
+
+    /**
+     * System property giving the maximum interval in milliseconds between two
+     * successive edits for them to be combined into one.
+     */
+    static final String COALESCE_MILLIS_PROPERTY = "hazardServices.undoHistory.coalesceMillis";
+
+    // Private Static Constants
+
+    /**
+     * Maximum estimated number of bytes of heap that the history may occupy.
+     */
+    private static final long MAX_BYTES = Long.getLong(MAX_BYTES_PROPERTY,
+            4L * 1024L * 1024L);
+
+    /**
+     * Maximum interval in milliseconds between two successive edits for them
+     * to be combined into one.
+     */
+    private static final long COALESCE_MILLIS = Long
+            .getLong(COALESCE_MILLIS_PROPERTY, 1000L);
+
+    // Private Variables
+
+    /**
+     * Edits that may be undone, most recent first.
+     */
+    private final Deque<IEventEdit> undoEdits = new ArrayDeque<>();
+
+    /**
+     * Edits that may be redone, most recently undone first.
+     */
+    private final Deque<IEventEdit> redoEdits = new ArrayDeque<>();
+
+    /**
+     * Estimated number of bytes of heap occupied by the edits.
+     */
+    private long estimatedSize;
+
+    /**
+     * Originator of the most recent edit in {@link #undoEdits}, if that edit
+     * may be combined with the next one; otherwise <code>null</code>.
+     */
+    private IOriginator coalescableOriginator;
+
+    // Package Methods
+
+    /**
+     * Record the specified edit, combining it with the most recent edit if
+     * possible, and discarding any edits that could have been redone. The
+     * edits are only combined if both were made directly by the user through
+     * the same originator, the most recent edit was not undone and redone in
+     * between, and they were made close enough together in time.
+     * 
+     * @param edit
+     *            Edit that was made.
+     * @param originator
+     *            Originator of the edit.
+     */
+    synchronized void record(IEventEdit edit, IOriginator originator) {
+        clearRedo();
+        IEventEdit previous = undoEdits.peekFirst();
+        if ((previous != null) && (coalescableOriginator != null)
+                && coalescableOriginator.equals(originator)
+                && (edit.getTime() - previous.getTime() <= COALESCE_MILLIS)) {
+            long previousSize = previous.getEstimatedSize();
+            IEventEdit combined = previous.coalesce(edit);
+            if (combined != null) {
+                undoEdits.removeFirst();
+                estimatedSize -= previousSize;
+                edit = combined;
+            }
+        }
+        undoEdits.addFirst(edit);
+        estimatedSize += edit.getEstimatedSize();
+        coalescableOriginator = ((originator != null)
+                && originator.isDirectResultOfUserInput() ? originator : null);
+        trim();
+    }
+
+    /**
+     * Undo the most recent edit.
+     * 
+     * @param event
+     *            Event to which the edit was made.
+     * @return <code>true</code> if an edit was undone, <code>false</code>
+     *         otherwise.
+     */
+    synchronized boolean undo(ObservedHazardEvent event) {
+        IEventEdit edit = undoEdits.pollFirst();
+        if (edit == null) {
+            return false;
+        }
+        coalescableOriginator = null;
+        estimatedSize -= edit.getEstimatedSize();
+        if (edit.undo(event) == false) {
+
+            /*
+             * The event is not in the state the edit expects, so no older edit
+             * can be undone either.
+             */
+            clear();
+            return false;
+        }
+        redoEdits.addFirst(edit);
+        estimatedSize += edit.getEstimatedSize();
+        trim();
+        return true;
+    }
+
+    /**
+     * Redo the most recently undone edit.
+     * 
+     * @param event
+     *            Event to which the edit was made.
+     * @return <code>true</code> if an edit was redone, <code>false</code>
+     *         otherwise.
+     */
+    synchronized boolean redo(ObservedHazardEvent event) {
+        IEventEdit edit = redoEdits.pollFirst();
+        if (edit == null) {
+            return false;
+        }
+        coalescableOriginator = null;
+        estimatedSize -= edit.getEstimatedSize();
+        if (edit.redo(event) == false) {
+            clearRedo();
+            return false;
+        }
+        undoEdits.addFirst(edit);
+        estimatedSize += edit.getEstimatedSize();
+        trim();
+        return true;
+    }
+
+    /**
+     * Determine whether or not there is an edit that may be undone.
+     * 
+     * @return <code>true</code> if an edit may be undone.
+     */
+    synchronized boolean isUndoable() {
+        return (undoEdits.isEmpty() == false);
+    }
+
+    /**
+     * Determine whether or not there is an edit that may be redone.
+     * 
+     * @return <code>true</code> if an edit may be redone.
+     */
+    synchronized boolean isRedoable() {
+        return (redoEdits.isEmpty() == false);
+    }
+
+    /**
+     * Get the estimated number of bytes of heap occupied by the history.
+     * 
+     * @return Estimated size in bytes.
+     */
+    synchronized long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Discard all edits.
+     */
+    synchronized void clear() {
+        undoEdits.clear();
+        redoEdits.clear();
+        estimatedSize = 0L;
+        coalescableOriginator = null;
+    }
+
+    // Private Methods
+
+    /**
+     * Discard all edits that could have been redone.
+     */
+    private void clearRedo() {
+        for (IEventEdit edit : redoEdits) {
+            estimatedSize -= edit.getEstimatedSize();
+        }
+        redoEdits.clear();
+    }
+
+    /**
+     * Discard the oldest edits until the history is within its budget, always
+     * keeping at least the most recent edit.
+     */
+    private void trim() {
+        while ((estimatedSize > MAX_BYTES)
+                && (undoEdits.size() + redoEdits.size() > 1)) {
+            IEventEdit edit = (undoEdits.size() > 1 ? undoEdits.pollLast()
+                    : redoEdits.pollLast());
+            estimatedSize -= edit.getEstimatedSize();
+        }
+    }
+}
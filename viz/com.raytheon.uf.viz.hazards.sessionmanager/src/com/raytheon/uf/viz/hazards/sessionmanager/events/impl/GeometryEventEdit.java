@@ -0,0 +1,601 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.CoordinateSequence;
+import com.vividsolutions.jts.geom.CoordinateSequenceFilter;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryCollection;
+import com.vividsolutions.jts.geom.Polygon;
+
+import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryCollection;
+import gov.noaa.gsd.common.utilities.geometry.GeometryWrapper;
+import gov.noaa.gsd.common.utilities.geometry.IAdvancedGeometry;
+
+/**
+ * Undoable edit of the geometry of an {@link ObservedHazardEvent}. When the
+ * geometries before and after the edit have the same structure, as when
+ * vertices of a polygon are dragged, only the coordinates that changed are
+ * kept, along with their values before and after; otherwise, the entire
+ * geometry from before the edit is kept, and is swapped with the event's
+ * geometry each time the edit is undone or redone.
+ * <p>
+ * Coordinate differences are only used for geometries made up solely of
+ * unrotated {@link GeometryWrapper} instances, possibly nested within
+ * {@link AdvancedGeometryCollection} instances, since the center points of
+ * these may be recomputed exactly when they are rebuilt.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+abstract class GeometryEventEdit implements IEventEdit {
+
+    // Private Static Constants
+
+    /**
+     * Estimated bytes of heap used by the edit itself, excluding any geometry
+     * or coordinates it holds.
+     */
+    private static final long EDIT_BYTES = 64L;
+
+    /**
+     * Estimated bytes of heap used by a leaf geometry, excluding its
+     * coordinates.
+     */
+    private static final long GEOMETRY_BYTES = 160L;
+
+    /**
+     * Estimated bytes of heap used by each coordinate of a geometry.
+     */
+    private static final long COORDINATE_BYTES = 48L;
+
+    /**
+     * Bytes of heap used by each changed coordinate recorded in a difference:
+     * its index, plus three ordinates each from before and after.
+     */
+    private static final long CHANGED_COORDINATE_BYTES = 4L + (6L * 8L);
+
+    // Private Classes
+
+    /**
+     * Edit holding the whole geometry from before the edit.
+     */
+    private static class Snapshot extends GeometryEventEdit {
+
+        /**
+         * Geometry to be given to the event the next time this edit is undone
+         * or redone.
+         */
+        private IAdvancedGeometry geometry;
+
+        private Snapshot(IAdvancedGeometry geometry, long time) {
+            super(time);
+            this.geometry = geometry;
+        }
+
+        @Override
+        public boolean undo(ObservedHazardEvent event) {
+            IAdvancedGeometry current = event.getGeometry();
+            event.setGeometry(geometry);
+            geometry = current;
+            return true;
+        }
+
+        @Override
+        public boolean redo(ObservedHazardEvent event) {
+            return undo(event);
+        }
+
+        @Override
+        public IEventEdit coalesce(IEventEdit next) {
+
+            /*
+             * Since the geometry from before this edit is held in its
+             * entirety, any geometry edit following it may be absorbed.
+             */
+            if (next instanceof GeometryEventEdit) {
+                time = next.getTime();
+                return this;
+            }
+            return null;
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return EDIT_BYTES + estimateSize(geometry);
+        }
+    }
+
+    /**
+     * Edit holding only the coordinates that changed.
+     */
+    private static class Difference extends GeometryEventEdit {
+
+        /**
+         * Total number of coordinates in the geometries.
+         */
+        private final int coordinateCount;
+
+        /**
+         * Indices of the changed coordinates, in ascending order.
+         */
+        private final int[] indices;
+
+        /**
+         * X, Y and Z ordinates of the changed coordinates before the edit.
+         */
+        private final double[] beforeOrdinates;
+
+        /**
+         * X, Y and Z ordinates of the changed coordinates after the edit.
+         */
+        private final double[] afterOrdinates;
+
+        private Difference(int coordinateCount, int[] indices,
+                double[] beforeOrdinates, double[] afterOrdinates, long time) {
+            super(time);
+            this.coordinateCount = coordinateCount;
+            this.indices = indices;
+            this.beforeOrdinates = beforeOrdinates;
+            this.afterOrdinates = afterOrdinates;
+        }
+
+        @Override
+        public boolean undo(ObservedHazardEvent event) {
+            return apply(event, afterOrdinates, beforeOrdinates);
+        }
+
+        @Override
+        public boolean redo(ObservedHazardEvent event) {
+            return apply(event, beforeOrdinates, afterOrdinates);
+        }
+
+        @Override
+        public IEventEdit coalesce(IEventEdit next) {
+            if ((next instanceof Difference == false)
+                    || (((Difference) next).coordinateCount != coordinateCount)) {
+                return null;
+            }
+
+            /*
+             * Merge the two sets of changed coordinates, taking the before
+             * values from this edit and the after values from the next where
+             * both changed the same coordinate.
+             */
+            Difference other = (Difference) next;
+            int[] mergedIndices = new int[indices.length
+                    + other.indices.length];
+            double[] mergedBefore = new double[mergedIndices.length * 3];
+            double[] mergedAfter = new double[mergedIndices.length * 3];
+            int j = 0, k = 0, count = 0;
+            while ((j < indices.length) || (k < other.indices.length)) {
+                if ((k == other.indices.length) || ((j < indices.length)
+                        && (indices[j] < other.indices[k]))) {
+                    mergedIndices[count] = indices[j];
+                    System.arraycopy(beforeOrdinates, j * 3, mergedBefore,
+                            count * 3, 3);
+                    System.arraycopy(afterOrdinates, j * 3, mergedAfter,
+                            count * 3, 3);
+                    j++;
+                } else if ((j == indices.length)
+                        || (other.indices[k] < indices[j])) {
+                    mergedIndices[count] = other.indices[k];
+                    System.arraycopy(other.beforeOrdinates, k * 3,
+                            mergedBefore, count * 3, 3);
+                    System.arraycopy(other.afterOrdinates, k * 3, mergedAfter,
+                            count * 3, 3);
+                    k++;
+                } else {
+                    mergedIndices[count] = indices[j];
+                    System.arraycopy(beforeOrdinates, j * 3, mergedBefore,
+                            count * 3, 3);
+                    System.arraycopy(other.afterOrdinates, k * 3, mergedAfter,
+                            count * 3, 3);
+                    j++;
+                    k++;
+                }
+                count++;
+            }
+            return new Difference(coordinateCount,
+                    Arrays.copyOf(mergedIndices, count),
+                    Arrays.copyOf(mergedBefore, count * 3),
+                    Arrays.copyOf(mergedAfter, count * 3), other.getTime());
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return EDIT_BYTES + (indices.length * CHANGED_COORDINATE_BYTES);
+        }
+
+        /**
+         * Replace the event's geometry with a copy having the specified
+         * ordinates at the changed indices, provided the event's geometry
+         * currently has the expected ordinates there.
+         */
+        private boolean apply(ObservedHazardEvent event,
+                double[] expectedOrdinates, double[] newOrdinates) {
+            IAdvancedGeometry current = event.getGeometry();
+            List<Geometry> leaves = getLeafGeometries(current);
+            if ((leaves == null) || (getCoordinateCount(leaves) != coordinateCount)) {
+                return false;
+            }
+            int[] offset = new int[1];
+            IAdvancedGeometry geometry = rebuild(current, offset,
+                    expectedOrdinates, newOrdinates);
+            if (geometry == null) {
+                return false;
+            }
+            event.setGeometry(geometry);
+            return true;
+        }
+
+        /**
+         * Rebuild the specified geometry with the new ordinates, reusing any
+         * leaf geometries that have no changed coordinates.
+         * 
+         * @return Rebuilt geometry, or <code>null</code> if the geometry does
+         *         not have the expected ordinates.
+         */
+        private IAdvancedGeometry rebuild(IAdvancedGeometry geometry,
+                int[] offset, double[] expectedOrdinates,
+                double[] newOrdinates) {
+            if (geometry instanceof AdvancedGeometryCollection) {
+                List<IAdvancedGeometry> children = ((AdvancedGeometryCollection) geometry)
+                        .getChildren();
+                List<IAdvancedGeometry> newChildren = new ArrayList<>(
+                        children.size());
+                boolean changed = false;
+                for (IAdvancedGeometry child : children) {
+                    IAdvancedGeometry newChild = rebuild(child, offset,
+                            expectedOrdinates, newOrdinates);
+                    if (newChild == null) {
+                        return null;
+                    }
+                    changed |= (newChild != child);
+                    newChildren.add(newChild);
+                }
+                return (changed ? new AdvancedGeometryCollection(newChildren)
+                        : geometry);
+            }
+
+            /*
+             * Find the changed coordinates falling within this leaf, if any.
+             */
+            Geometry leaf = ((GeometryWrapper) geometry).getGeometry();
+            int start = offset[0];
+            int end = start + leaf.getNumPoints();
+            offset[0] = end;
+            int first = getInsertionPoint(start);
+            int last = getInsertionPoint(end);
+            if (first == last) {
+                return geometry;
+            }
+
+            /*
+             * Ensure the leaf has the expected coordinates, then copy it and
+             * set the new coordinates.
+             */
+            Coordinate[] coordinates = leaf.getCoordinates();
+            for (int j = first; j < last; j++) {
+                if (matches(coordinates[indices[j] - start],
+                        expectedOrdinates, j) == false) {
+                    return null;
+                }
+            }
+            Geometry newLeaf = (Geometry) leaf.clone();
+            newLeaf.apply(new CoordinateSetter(indices, newOrdinates, first,
+                    last, start));
+            return new GeometryWrapper(newLeaf, 0.0);
+        }
+
+        /**
+         * Get the position within {@link #indices} of the first index that is
+         * greater than or equal to the specified index.
+         */
+        private int getInsertionPoint(int index) {
+            int position = Arrays.binarySearch(indices, index);
+            return (position < 0 ? -(position + 1) : position);
+        }
+    }
+
+    /**
+     * Filter setting the changed coordinates of a leaf geometry.
+     */
+    private static class CoordinateSetter implements CoordinateSequenceFilter {
+
+        private final int[] indices;
+
+        private final double[] ordinates;
+
+        private final int end;
+
+        private int position;
+
+        private int index;
+
+        private CoordinateSetter(int[] indices, double[] ordinates, int start,
+                int end, int offset) {
+            this.indices = indices;
+            this.ordinates = ordinates;
+            this.position = start;
+            this.end = end;
+            this.index = offset;
+        }
+
+        @Override
+        public void filter(CoordinateSequence sequence, int i) {
+            if (indices[position] == index) {
+                sequence.setOrdinate(i, CoordinateSequence.X,
+                        ordinates[position * 3]);
+                sequence.setOrdinate(i, CoordinateSequence.Y,
+                        ordinates[(position * 3) + 1]);
+                if (sequence.getDimension() > 2) {
+                    sequence.setOrdinate(i, CoordinateSequence.Z,
+                            ordinates[(position * 3) + 2]);
+                }
+                position++;
+            }
+            index++;
+        }
+
+        @Override
+        public boolean isDone() {
+            return (position >= end);
+        }
+
+        @Override
+        public boolean isGeometryChanged() {
+            return true;
+        }
+    }
+
+    // Protected Variables
+
+    /**
+     * Time at which the edit, or the last edit combined into it, was made.
+     */
+    protected long time;
+
+    // Private Constructors
+
+    private GeometryEventEdit(long time) {
+        this.time = time;
+    }
+
+    // Package Static Methods
+
+    /**
+     * Create an edit recording the change of an event's geometry.
+     * 
+     * @param before
+     *            Geometry before the change; may be <code>null</code>.
+     * @param after
+     *            Geometry after the change; may be <code>null</code>.
+     * @param time
+     *            Time at which the change was made.
+     * @return Edit.
+     */
+    static GeometryEventEdit create(IAdvancedGeometry before,
+            IAdvancedGeometry after, long time) {
+        List<Geometry> beforeLeaves = getLeafGeometries(before);
+        List<Geometry> afterLeaves = getLeafGeometries(after);
+        if ((beforeLeaves == null) || (afterLeaves == null)
+                || (beforeLeaves.size() != afterLeaves.size())) {
+            return new Snapshot(before, time);
+        }
+        for (int j = 0; j < beforeLeaves.size(); j++) {
+            if (haveSameStructure(beforeLeaves.get(j),
+                    afterLeaves.get(j)) == false) {
+                return new Snapshot(before, time);
+            }
+        }
+
+        /*
+         * Find the coordinates that changed; if they are numerous enough that
+         * recording them would take more memory than the geometry, record the
+         * whole geometry instead.
+         */
+        List<Coordinate[]> beforeCoordinates = new ArrayList<>(
+                beforeLeaves.size());
+        List<Coordinate[]> afterCoordinates = new ArrayList<>(
+                afterLeaves.size());
+        int coordinateCount = 0;
+        int changedCount = 0;
+        for (int j = 0; j < beforeLeaves.size(); j++) {
+            Coordinate[] beforeLeafCoordinates = beforeLeaves.get(j)
+                    .getCoordinates();
+            Coordinate[] afterLeafCoordinates = afterLeaves.get(j)
+                    .getCoordinates();
+            for (int k = 0; k < beforeLeafCoordinates.length; k++) {
+                if (beforeLeafCoordinates[k]
+                        .equals3D(afterLeafCoordinates[k]) == false) {
+                    changedCount++;
+                }
+            }
+            coordinateCount += beforeLeafCoordinates.length;
+            beforeCoordinates.add(beforeLeafCoordinates);
+            afterCoordinates.add(afterLeafCoordinates);
+        }
+        if ((changedCount * CHANGED_COORDINATE_BYTES) >= estimateSize(before)) {
+            return new Snapshot(before, time);
+        }
+        int[] indices = new int[changedCount];
+        double[] beforeOrdinates = new double[changedCount * 3];
+        double[] afterOrdinates = new double[changedCount * 3];
+        int index = 0;
+        int count = 0;
+        for (int j = 0; j < beforeCoordinates.size(); j++) {
+            Coordinate[] beforeLeafCoordinates = beforeCoordinates.get(j);
+            Coordinate[] afterLeafCoordinates = afterCoordinates.get(j);
+            for (int k = 0; k < beforeLeafCoordinates.length; k++, index++) {
+                if (beforeLeafCoordinates[k]
+                        .equals3D(afterLeafCoordinates[k]) == false) {
+                    indices[count] = index;
+                    setOrdinates(beforeOrdinates, count,
+                            beforeLeafCoordinates[k]);
+                    setOrdinates(afterOrdinates, count,
+                            afterLeafCoordinates[k]);
+                    count++;
+                }
+            }
+        }
+        return new Difference(coordinateCount, indices, beforeOrdinates,
+                afterOrdinates, time);
+    }
+
+    // Public Methods
+
+    @Override
+    public long getTime() {
+        return time;
+    }
+
+    // Private Static Methods
+
+    /**
+     * Get the leaf JTS geometries of the specified advanced geometry, in
+     * order, or <code>null</code> if the latter includes anything other than
+     * unrotated geometry wrappers and collections thereof.
+     */
+    private static List<Geometry> getLeafGeometries(
+            IAdvancedGeometry geometry) {
+        List<Geometry> leaves = new ArrayList<>();
+        return (addLeafGeometries(geometry, leaves) ? leaves : null);
+    }
+
+    private static boolean addLeafGeometries(IAdvancedGeometry geometry,
+            List<Geometry> leaves) {
+        if (geometry instanceof AdvancedGeometryCollection) {
+            for (IAdvancedGeometry child : ((AdvancedGeometryCollection) geometry)
+                    .getChildren()) {
+                if (addLeafGeometries(child, leaves) == false) {
+                    return false;
+                }
+            }
+            return true;
+        } else if ((geometry instanceof GeometryWrapper)
+                && (((GeometryWrapper) geometry).getRotation() == 0.0)) {
+            leaves.add(((GeometryWrapper) geometry).getGeometry());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the total number of coordinates in the specified leaf geometries.
+     */
+    private static int getCoordinateCount(List<Geometry> leaves) {
+        int count = 0;
+        for (Geometry leaf : leaves) {
+            count += leaf.getNumPoints();
+        }
+        return count;
+    }
+
+    /**
+     * Determine whether or not the specified geometries are of the same type
+     * and have the same number of components and coordinates, such that one
+     * may be turned into the other by changing coordinates alone.
+     */
+    private static boolean haveSameStructure(Geometry first, Geometry second) {
+        if (first.getClass() != second.getClass()) {
+            return false;
+        } else if (first instanceof Polygon) {
+            Polygon firstPolygon = (Polygon) first;
+            Polygon secondPolygon = (Polygon) second;
+            if ((firstPolygon.getNumInteriorRing() != secondPolygon
+                    .getNumInteriorRing())
+                    || (firstPolygon.getExteriorRing()
+                            .getNumPoints() != secondPolygon.getExteriorRing()
+                                    .getNumPoints())) {
+                return false;
+            }
+            for (int j = 0; j < firstPolygon.getNumInteriorRing(); j++) {
+                if (firstPolygon.getInteriorRingN(j)
+                        .getNumPoints() != secondPolygon.getInteriorRingN(j)
+                                .getNumPoints()) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (first instanceof GeometryCollection) {
+            if (first.getNumGeometries() != second.getNumGeometries()) {
+                return false;
+            }
+            for (int j = 0; j < first.getNumGeometries(); j++) {
+                if (haveSameStructure(first.getGeometryN(j),
+                        second.getGeometryN(j)) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return (first.getNumPoints() == second.getNumPoints());
+    }
+
+    /**
+     * Estimate the number of bytes of heap used by the specified geometry.
+     */
+    private static long estimateSize(IAdvancedGeometry geometry) {
+        if (geometry == null) {
+            return 0L;
+        } else if (geometry instanceof AdvancedGeometryCollection) {
+            long size = GEOMETRY_BYTES;
+            for (IAdvancedGeometry child : ((AdvancedGeometryCollection) geometry)
+                    .getChildren()) {
+                size += estimateSize(child);
+            }
+            return size;
+        } else if (geometry instanceof GeometryWrapper) {
+            return GEOMETRY_BYTES + (COORDINATE_BYTES
+                    * ((GeometryWrapper) geometry).getGeometry().getNumPoints());
+        }
+        return GEOMETRY_BYTES;
+    }
+
+    private static void setOrdinates(double[] ordinates, int position,
+            Coordinate coordinate) {
+        ordinates[position * 3] = coordinate.x;
+        ordinates[(position * 3) + 1] = coordinate.y;
+        ordinates[(position * 3) + 2] = coordinate.z;
+    }
+
+    private static boolean matches(Coordinate coordinate, double[] ordinates,
+            int position) {
+        return coordinate.equals3D(new Coordinate(ordinates[position * 3],
+                ordinates[(position * 3) + 1], ordinates[(position * 3) + 2]));
+    }
+}
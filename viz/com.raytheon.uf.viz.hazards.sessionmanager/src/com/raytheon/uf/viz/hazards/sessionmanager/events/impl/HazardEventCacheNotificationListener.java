@@ -0,0 +1,103 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification;
+import com.raytheon.uf.common.dataplugin.events.hazards.datastorage.HazardEventCache;
+import com.raytheon.uf.common.jms.notification.INotificationObserver;
+import com.raytheon.uf.common.jms.notification.NotificationException;
+import com.raytheon.uf.common.jms.notification.NotificationMessage;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.viz.core.notification.jobs.NotificationManagerJob;
+
+/**
+ * Observer keeping a {@link HazardEventCache} current. Unlike the
+ * {@link SessionHazardNotificationListener}, this subscribes to notifications
+ * for all sites, since the cache may hold events for sites that are not
+ * currently visible. Notifications are applied on the thread on which they
+ * arrive, as the cache is thread-safe. Notifications for visible sites are
+ * also passed to the cache by the session before it handles them; the cache
+ * ignores whichever copy arrives second.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class HazardEventCacheNotificationListener implements INotificationObserver {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(HazardEventCacheNotificationListener.class);
+
+    private final HazardEventCache cache;
+
+    private final String selector;
+
+    /**
+     * Construct a standard instance and subscribe to notifications.
+     * 
+     * @param cache
+     *            Cache to be kept current.
+     * @param practice
+     *            Flag indicating whether notifications for practice mode or
+     *            operational mode are to be received.
+     */
+    HazardEventCacheNotificationListener(HazardEventCache cache,
+            boolean practice) {
+        this.cache = cache;
+        this.selector = HazardNotification.getMessageSelector(practice, null);
+        NotificationManagerJob.addObserver(HazardNotification.HAZARD_TOPIC,
+                this, selector);
+    }
+
+    @Override
+    public void notificationArrived(NotificationMessage[] messages) {
+        for (NotificationMessage message : messages) {
+            try {
+                Object payload = message.getMessagePayload();
+                if (payload instanceof HazardNotification) {
+                    cache.handleNotification((HazardNotification) payload);
+                }
+            } catch (NotificationException e) {
+                statusHandler.error(
+                        "Could not update hazard event cache; discarding it.",
+                        e);
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    /**
+     * Unsubscribe from notifications.
+     */
+    void dispose() {
+        NotificationManagerJob.removeObserver(HazardNotification.HAZARD_TOPIC,
+                this, selector);
+    }
+}
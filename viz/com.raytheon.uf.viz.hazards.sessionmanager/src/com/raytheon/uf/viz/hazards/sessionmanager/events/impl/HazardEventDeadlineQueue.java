@@ -0,0 +1,236 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Queue of deadlines at which hazard events next need to be re-evaluated
+ * against the current time. Each event has at most one deadline; scheduling a
+ * new deadline for an event replaces any previous one. Advancing the queue to
+ * the current time yields only those events whose deadlines have been
+ * reached, so that periodic time-driven checks need not visit every event.
+ * Since deadlines assume that time only moves forward, all events are made
+ * due if the queue is advanced to a time earlier than the last time to which
+ * it was advanced.
+ * <p>
+ * Events are keyed by identity; the session event manager uses their views,
+ * since the latter remain the same for the life of a session event. The
+ * queue is generic only so that it may be exercised without a session.
+ * Replaced deadlines are left in
+ * the underlying heap and skipped when reached, and the heap is compacted if
+ * such stale entries come to dominate it. The queue is not thread-safe; it is
+ * intended to be used only on the session's main thread.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * Oct 19, 2026            agent        Made generic, and moved handling of
+ *                                      backward time changes here.
+ * 
+ * </pre>
+ * 
+ * @param <E>
+ *            Type of the events.
+ * @author agent
+ * @version 1.0
+ */
+class HazardEventDeadlineQueue<E> {
+
+    // Package Static Constants
+
+    /**
+     * Deadline indicating that an event does not need to be re-evaluated
+     * unless it changes.
+     */
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    // Private Static Constants
+
+    /**
+     * Minimum number of stale heap entries before compaction is considered.
+     */
+    private static final int MINIMUM_STALE_ENTRIES_FOR_COMPACTION = 64;
+
+    // Private Classes
+
+    /**
+     * Deadline entry.
+     */
+    private static class Entry<E> implements Comparable<Entry<E>> {
+
+        private final E event;
+
+        private final long deadline;
+
+        Entry(E event, long deadline) {
+            this.event = event;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int compareTo(Entry<E> other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+
+    // Private Variables
+
+    /**
+     * Heap of entries, ordered by deadline; may include stale entries.
+     */
+    private final PriorityQueue<Entry<E>> heap = new PriorityQueue<>();
+
+    /**
+     * Current entries, keyed by event identity.
+     */
+    private final Map<E, Entry<E>> entriesForEvents = new IdentityHashMap<>();
+
+    /**
+     * Time to which the queue was last advanced.
+     */
+    private long advancedTime = Long.MIN_VALUE;
+
+    // Package Methods
+
+    /**
+     * Schedule the specified event to be re-evaluated at the specified time,
+     * replacing any deadline it already had.
+     * 
+     * @param event
+     *            Event.
+     * @param deadline
+     *            Time in epoch milliseconds at or after which the event is to
+     *            be re-evaluated, or {@link #NO_DEADLINE} if it need not be.
+     */
+    void schedule(E event, long deadline) {
+        if (deadline == NO_DEADLINE) {
+            remove(event);
+            return;
+        }
+        Entry<E> entry = new Entry<>(event, deadline);
+        entriesForEvents.put(event, entry);
+        heap.add(entry);
+        compactIfNeeded();
+    }
+
+    /**
+     * Schedule the specified event to be re-evaluated the next time the queue
+     * is advanced, regardless of the time.
+     * 
+     * @param event
+     *            Event.
+     */
+    void scheduleImmediately(E event) {
+        schedule(event, Long.MIN_VALUE);
+    }
+
+    /**
+     * Remove any deadline for the specified event.
+     * 
+     * @param event
+     *            Event.
+     */
+    void remove(E event) {
+        if (entriesForEvents.remove(event) != null) {
+            compactIfNeeded();
+        }
+    }
+
+    /**
+     * Advance the queue to the specified time, removing and returning all
+     * events with deadlines at or before it. If the time is earlier than that
+     * to which the queue was last advanced, all the specified events are
+     * treated as due, since their deadlines assume that time only moves
+     * forward.
+     * 
+     * @param time
+     *            Current time in epoch milliseconds.
+     * @param allEvents
+     *            All events that may be in the queue.
+     * @return Events that are due, in deadline order; may be empty.
+     */
+    List<E> advanceTo(long time, Collection<? extends E> allEvents) {
+        if (time < advancedTime) {
+            for (E event : allEvents) {
+                scheduleImmediately(event);
+            }
+        }
+        advancedTime = time;
+        List<E> due = null;
+        Entry<E> entry;
+        while (((entry = heap.peek()) != null) && (entry.deadline <= time)) {
+            heap.poll();
+            if (entriesForEvents.get(entry.event) == entry) {
+                entriesForEvents.remove(entry.event);
+                if (due == null) {
+                    due = new ArrayList<>();
+                }
+                due.add(entry.event);
+            }
+        }
+        return (due == null ? Collections.<E> emptyList() : due);
+    }
+
+    /**
+     * Get the number of events with deadlines.
+     * 
+     * @return Number of events.
+     */
+    int size() {
+        return entriesForEvents.size();
+    }
+
+    /**
+     * Remove all deadlines, and forget the time to which the queue was last
+     * advanced.
+     */
+    void clear() {
+        heap.clear();
+        entriesForEvents.clear();
+        advancedTime = Long.MIN_VALUE;
+    }
+
+    // Private Methods
+
+    /**
+     * Rebuild the heap from the current entries if stale entries outnumber
+     * them.
+     */
+    private void compactIfNeeded() {
+        int staleCount = heap.size() - entriesForEvents.size();
+        if ((staleCount > MINIMUM_STALE_ENTRIES_FOR_COMPACTION)
+                && (staleCount > entriesForEvents.size())) {
+            heap.clear();
+            heap.addAll(entriesForEvents.values());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+/**
+ * Interface describing the methods that must be implemented by an undoable
+ * edit made to an {@link ObservedHazardEvent}. Each edit knows how to reverse
+ * and reapply itself, and how much memory it is holding, so that an event's
+ * undo history may be kept within a memory budget.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 18, 2026            agent        Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+interface IEventEdit {
+
+    /**
+     * Undo the edit.
+     * 
+     * @param event
+     *            Event to which the edit was made; it must be in the state
+     *            resulting from the edit.
+     * @return <code>true</code> if the edit was undone, <code>false</code> if
+     *         the event's state did not allow it to be.
+     */
+    boolean undo(ObservedHazardEvent event);
+
+    /**
+     * Redo the edit.
+     * 
+     * @param event
+     *            Event to which the edit was made; it must be in the state
+     *            resulting from undoing the edit.
+     * @return <code>true</code> if the edit was redone, <code>false</code> if
+     *         the event's state did not allow it to be.
+     */
+    boolean redo(ObservedHazardEvent event);
+
+    /**
+     * Attempt to combine this edit with the specified edit, which was made
+     * immediately afterward, so that both may be undone as one.
+     * 
+     * @param next
+     *            Edit made immediately after this one.
+     * @return Edit combining the two, or <code>null</code> if they cannot be
+     *         combined.
+     */
+    IEventEdit coalesce(IEventEdit next);
+
+    /**
+     * Get the time at which the edit, or the last of the edits combined into
+     * it, was made.
+     * 
+     * @return Time in epoch milliseconds.
+     */
+    long getTime();
+
+    /**
+     * Get the estimated number of bytes of heap held by the edit.
+     * 
+     * @return Estimated size in bytes.
+     */
+    long getEstimatedSize();
+}
@@ -19,7 +19,6 @@
 package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
 
 import java.io.Serializable;
-import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -28,11 +27,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 
 import org.eclipse.core.runtime.Assert;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants.HazardStatus;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEventUtilities;
@@ -44,7 +41,6 @@ import com.raytheon.uf.common.dataplugin.events.hazards.undoable.IUndoRedoable;
 import com.raytheon.uf.common.message.WsId;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
-import com.raytheon.uf.common.util.Pair;
 import com.raytheon.uf.viz.hazards.sessionmanager.events.EventAttributesModification;
 import com.raytheon.uf.viz.hazards.sessionmanager.events.EventCreationTimeModification;
 import com.raytheon.uf.viz.hazards.sessionmanager.events.EventExpirationTimeModification;
@@ -62,6 +58,7 @@ import com.raytheon.uf.viz.hazards.sessionmanager.originator.IOriginator;
 import com.raytheon.uf.viz.hazards.sessionmanager.originator.Originator;
 import com.vividsolutions.jts.geom.Geometry;
 
+import gov.noaa.gsd.common.utilities.collect.ImmutableMapSnapshot;
 import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryUtilities;
 import gov.noaa.gsd.common.utilities.geometry.IAdvancedGeometry;
 import gov.noaa.gsd.common.visuals.VisualFeature;
@@ -200,6 +197,29 @@ import gov.noaa.gsd.common.visuals.VisualFeaturesList;
  * May 14, 2018 33572      Chris.Golden Fixed problem of hazard areas not being
  *                                      updated before conflicts are checked
  *                                      following a geometry modification.
+ * Oct 18, 2026            agent        Changed hazard attributes fetching to
+ *                                      return a cached read-only map that is
+ *                                      rebuilt only after the attributes are
+ *                                      changed, and to keep null values out of
+ *                                      the attributes when they are written.
+ * Oct 18, 2026            agent        Replaced reflective undo and redo stacks
+ *                                      with a memory-bounded history of typed
+ *                                      edits, recording geometry changes as
+ *                                      coordinate differences where possible
+ *                                      and combining edits made in quick
+ *                                      succession.
+ * Oct 19, 2026            agent        Changed attribute mutators to discard the
+ *                                      cached read-only attributes map after
+ *                                      changing the attributes, not before.
+ * Oct 19, 2026            agent        Tagged the cached read-only attributes
+ *                                      map with a modification count so that a
+ *                                      copy made concurrently with a change is
+ *                                      never served after it.
+ * Oct 19, 2026            agent        Passed the originator of each geometry
+ *                                      change to the undo history, so that only
+ *                                      successive changes made by the user
+ *                                      through the same originator are
+ *                                      combined.
  * </pre>
  * 
  * @author bsteffen
@@ -218,14 +238,10 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
     private final ISessionHazardEvent principal;
 
     /**
-     * Undo stack. Supports undo operations on this hazard event.
+     * Undo and redo history. Supports undo and redo operations on this hazard
+     * event.
      */
-    private final Stack<Pair<Method, Object>> undoStack = new Stack<Pair<Method, Object>>();
-
-    /**
-     * Redo stack. Support redo operations on this hazard event.
-     */
-    private final Stack<Pair<Method, Object>> redoStack = new Stack<Pair<Method, Object>>();
+    private final EventUndoHistory undoHistory = new EventUndoHistory();
 
     /**
      * Flag indicating whether or not an undo operation is in progress.
@@ -250,9 +266,21 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
      */
     private volatile boolean modifiedNotAllowedToChange = false;
 
+    /**
+     * Cached read-only copy of the principal's hazard attributes. The
+     * principal never holds <code>null</code> values, so this may be copied
+     * directly from the principal's map. Mutators must invalidate this after
+     * changing the principal's attributes.
+     */
+    private final ImmutableMapSnapshot<String, Serializable> hazardAttributesView = new ImmutableMapSnapshot<>();
+
     public ObservedHazardEvent(IReadableHazardEvent event,
             SessionEventManager eventManager) {
         principal = new SessionHazardEvent(event);
+        Map<String, Serializable> attributes = principal.getHazardAttributes();
+        if (attributes.containsValue(null)) {
+            principal.setHazardAttributes(getNonNullAttributes(attributes));
+        }
         Assert.isNotNull(eventManager);
         this.eventManager = eventManager;
     }
@@ -403,19 +431,33 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
 
     @Override
     public Map<String, Serializable> getHazardAttributes() {
-        Map<String, Serializable> attr = principal.getHazardAttributes();
 
         /*
          * Do not allow modification because listeners would need to be fired.
-         * Before creating the immutable map, filter out any entries from the
-         * original map that have null values, as this is not allowed for
-         * immutable maps.
+         * The immutable map is only rebuilt after the attributes have changed,
+         * since this is called many times per event for each refresh of the
+         * displays. No null values need filtering out before creating it, as
+         * these are never written to the principal.
          */
-        Map<String, Serializable> map = new HashMap<>(
-                principal.getHazardAttributes());
+        return hazardAttributesView.get(principal.getHazardAttributes());
+    }
+
+    /**
+     * Get a copy of the specified attributes map without any entries having
+     * <code>null</code> values, or the map itself if it has no such entries.
+     * 
+     * @param attributes
+     *            Attributes.
+     * @return Attributes without <code>null</code> values.
+     */
+    private static Map<String, Serializable> getNonNullAttributes(
+            Map<String, Serializable> attributes) {
+        if (attributes.containsValue(null) == false) {
+            return attributes;
+        }
+        Map<String, Serializable> map = new HashMap<>(attributes);
         map.values().removeAll(Collections.singleton(null));
-        attr = ImmutableMap.copyOf(map);
-        return attr;
+        return map;
     }
 
     @Override
@@ -993,16 +1035,15 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
     protected boolean setGeometry(IAdvancedGeometry geometry, boolean notify,
             IOriginator originator) {
         if (changed(getGeometry(), geometry)) {
-            pushToStack("setGeometry", IAdvancedGeometry.class, getGeometry());
-            principal.setGeometry(geometry);
-
             /*
-             * Since the new modification not from undo/redo, clear the redo
-             * stack.
+             * If the new modification is not from undo/redo, record it; this
+             * also clears the redo history.
              */
             if ((undoInProgress == false) && (redoInProgress == false)) {
-                redoStack.clear();
+                undoHistory.record(GeometryEventEdit.create(getGeometry(),
+                        geometry, System.currentTimeMillis()), originator);
             }
+            principal.setGeometry(geometry);
 
             eventManager.handleEventGeometryChange(this);
 
@@ -1242,7 +1283,8 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
 
                 }
             }
-            principal.setHazardAttributes(attributes);
+            principal.setHazardAttributes(getNonNullAttributes(attributes));
+            hazardAttributesView.invalidate();
             if (notify) {
                 Map<String, Serializable> modifiedAttributes = new HashMap<>();
                 for (String changedKey : changedKeys) {
@@ -1344,7 +1386,15 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
             for (String changedKey : changedKeys) {
                 modifiedAttributes.put(changedKey, attributes.get(changedKey));
             }
-            principal.addHazardAttributes(modifiedAttributes);
+            for (Map.Entry<String, Serializable> entry : modifiedAttributes
+                    .entrySet()) {
+                if (entry.getValue() == null) {
+                    principal.removeHazardAttribute(entry.getKey());
+                }
+            }
+            principal.addHazardAttributes(
+                    getNonNullAttributes(modifiedAttributes));
+            hazardAttributesView.invalidate();
             if (notify) {
                 if (eventView != null) {
                     eventManager.hazardEventAttributeModified(
@@ -1373,7 +1423,10 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
             Serializable oldValue = (notify ? principal.getHazardAttribute(key)
                     : null);
             principal.removeHazardAttribute(key);
-            principal.addHazardAttribute(key, value);
+            if (value != null) {
+                principal.addHazardAttribute(key, value);
+            }
+            hazardAttributesView.invalidate();
             if (notify) {
                 IHazardEventView eventView = eventManager
                         .getViewForSessionEvent(this);
@@ -1402,6 +1455,7 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
         Serializable oldValue = principal.getHazardAttribute(key);
         if (oldValue != null) {
             principal.removeHazardAttribute(key);
+            hazardAttributesView.invalidate();
             if (notify) {
                 IHazardEventView eventView = eventManager
                         .getViewForSessionEvent(this);
@@ -1428,15 +1482,14 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
     public boolean undo() {
         boolean success = false;
         if (isUndoable()) {
-
-            Pair<Method, Object> pair = undoStack.pop();
-            Method method = pair.getFirst();
-            Object value = pair.getSecond();
-
             try {
                 undoInProgress = true;
-                method.invoke(this, value);
-                success = true;
+                success = undoHistory.undo(this);
+                if (success == false) {
+                    statusHandler.error("Could not undo change for event "
+                            + getEventID()
+                            + " as its state no longer matches its history.");
+                }
             } catch (Exception e) {
                 statusHandler.error(
                         "Error invoking undo method for event " + getEventID(),
@@ -1452,14 +1505,14 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
     public boolean redo() {
         boolean success = false;
         if (isRedoable()) {
-            Pair<Method, Object> pair = redoStack.pop();
-            Method method = pair.getFirst();
-            Object value = pair.getSecond();
-
             try {
                 redoInProgress = true;
-                method.invoke(this, value);
-                success = true;
+                success = undoHistory.redo(this);
+                if (success == false) {
+                    statusHandler.error("Could not redo change for event "
+                            + getEventID()
+                            + " as its state no longer matches its history.");
+                }
             } catch (Exception e) {
                 statusHandler.error(
                         "Error invoking redo method for event " + getEventID(),
@@ -1473,58 +1526,27 @@ public class ObservedHazardEvent implements ISessionHazardEvent, IUndoRedoable {
 
     @Override
     public boolean isUndoable() {
-        return !undoStack.isEmpty();
+        return undoHistory.isUndoable();
     }
 
     @Override
     public boolean isRedoable() {
-        return !redoStack.isEmpty();
+        return undoHistory.isRedoable();
+    }
+
+    @Override
+    public void clearUndoRedo() {
+        undoHistory.clear();
     }
 
     /**
-     * Method for handling pushes to the undo and redo stack. Each element on
-     * these stacks contain the 'setter' method to call as well as the value to
-     * pass to it. When items are popped off of the undo or redo stack, the
-     * method is invoked with the stored value. This allows other portions of
-     * the ObservedHazardEvent state to be eventually undone/redone.
+     * Get the estimated number of bytes of heap occupied by the undo and redo
+     * history.
      * 
-     * @param methodName
-     *            The name of the calling method which wants to push an item to
-     *            either the undo or redo stack.
-     * @param className
-     *            The name of the class which contains the method.
-     * @param value
-     *            The value to be pushed to either the undo or redo stack.
-     * @return
+     * @return Estimated size in bytes.
      */
-    private void pushToStack(final String methodName, final Class<?> className,
-            Object value) {
-
-        try {
-            if ((!undoInProgress && !redoInProgress) || redoInProgress) {
-                Method method = getClass().getMethod(methodName, className);
-                Pair<Method, Object> methodValuePair = new Pair<Method, Object>(
-                        method, value);
-                undoStack.push(methodValuePair);
-            } else {
-                Method method = getClass().getMethod(methodName, className);
-                Pair<Method, Object> methodValuePair = new Pair<Method, Object>(
-                        method, value);
-                redoStack.push(methodValuePair);
-
-            }
-        } catch (Exception e) {
-            statusHandler.error(
-                    "Error updating undo/redo stack for event " + getEventID(),
-                    e);
-        }
-
-    }
-
-    @Override
-    public void clearUndoRedo() {
-        undoStack.clear();
-        redoStack.clear();
+    long getUndoHistorySize() {
+        return undoHistory.getEstimatedSize();
     }
 
     @Override
@@ -39,6 +39,7 @@ import static com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants.V
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -69,12 +70,15 @@ import com.raytheon.uf.common.dataplugin.events.EventSet;
 import com.raytheon.uf.common.dataplugin.events.IEvent;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants.HazardStatus;
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification;
+import com.raytheon.uf.common.dataplugin.events.hazards.datastorage.HazardEventCache;
 import com.raytheon.uf.common.dataplugin.events.hazards.datastorage.HazardEventManager;
 import com.raytheon.uf.common.dataplugin.events.hazards.datastorage.HazardEventManager.Include;
 import com.raytheon.uf.common.dataplugin.events.hazards.datastorage.IHazardEventManager;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.AbstractHazardServicesEventIdUtil;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.AbstractHazardServicesEventIdUtil.IdDisplayType;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEventDelta;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEventUtilities;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEventView;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardServicesEventIdUtil;
@@ -690,6 +694,28 @@ import gov.noaa.gsd.viz.megawidgets.validators.SingleTimeDeltaStringChoiceValida
  * Jun 06, 2018   15561    Chris.Golden Added handling of temporary event identifiers within the
  *                                      addEvent() method. Also added practice flag for hazard
  *                                      event construction.
+ * Oct 18, 2026            agent        Added handling of delta notifications from the database.
+ * Oct 18, 2026            agent        Restricted database notifications received to those for
+ *                                      visible sites.
+ * Oct 18, 2026            agent        Kept the database manager's event cache, if any, current.
+ * Oct 18, 2026            agent        Changed time-driven boundary, expiration and elapse checks
+ *                                      to visit only events whose deadlines have been reached.
+ * Oct 18, 2026            agent        Changed filtering of events for the current settings to
+ *                                      use a filter compiled once from the settings, and to keep
+ *                                      the set of visible events current as events are added,
+ *                                      removed, and modified, instead of refiltering every event
+ *                                      for each query.
+ * Oct 18, 2026            agent        Added undo history memory usage metric.
+ * Oct 18, 2026            agent        Cached low-resolution geometries and intersection-based
+ *                                      UGCs for each event until their inputs change.
+ * Oct 19, 2026            agent        Re-evaluated all event deadlines when the hazard types
+ *                                      configuration is reloaded, kept expired events due on
+ *                                      every tick, and added a deadline consistency check mode.
+ * Oct 19, 2026            agent        Moved time-driven event rules to TimeDrivenEventRules so
+ *                                      that deadline-driven checks may be verified against full
+ *                                      scans outside a session, replacing the consistency check
+ *                                      mode. Also re-evaluated an event's time boundaries when
+ *                                      it is elapsed or unelapsed.
  * </pre>
  * 
  * @author bsteffen
@@ -756,6 +782,35 @@ public class SessionEventManager implements ISessionEventManager {
 
     private final Map<String, Date> expireTimesForEventIdentifiers = new HashMap<>();
 
+    /**
+     * Deadlines at which events' time range boundaries, or whether or not they
+     * are past their expiration times, next need to be re-evaluated as the
+     * current time advances. Events are scheduled for immediate re-evaluation
+     * whenever they are added or modified.
+     */
+    private final HazardEventDeadlineQueue<IHazardEventView> timeBoundaryDeadlines = new HazardEventDeadlineQueue<>();
+
+    /**
+     * Low-resolution geometries and intersection-based UGCs of events, cached
+     * until the inputs from which they were derived change.
+     */
+    private final DerivedGeometryCache derivedGeometryCache = new DerivedGeometryCache();
+
+    /**
+     * Deadlines at which events next need to be checked to see if they should
+     * be elapsed or unelapsed as the current time advances. Events are
+     * scheduled for immediate re-evaluation whenever they are added or
+     * modified.
+     */
+    private final HazardEventDeadlineQueue<IHazardEventView> elapseDeadlines = new HazardEventDeadlineQueue<>();
+
+    /**
+     * Hazard types configuration in effect when the deadlines in
+     * {@link #timeBoundaryDeadlines} and {@link #elapseDeadlines} were last
+     * advanced; if it has since been reloaded, all events are re-evaluated.
+     */
+    private HazardTypes deadlinesHazardTypes;
+
     /**
      * Map pairing identifiers of issued events with either the end times they
      * had when they were last issued, or else the durations they had when last
@@ -795,6 +850,23 @@ public class SessionEventManager implements ISessionEventManager {
      */
     private final Map<String, HazardEvent> latestVersionsFromDatabaseForEventIdentifiers = new HashMap<>();
 
+    /**
+     * Listener for notifications of changes to hazard events in the database.
+     */
+    private final SessionHazardNotificationListener databaseNotificationListener;
+
+    /**
+     * Cache used by the database manager, or <code>null</code> if it does not
+     * cache.
+     */
+    private final HazardEventCache databaseCache;
+
+    /**
+     * Listener keeping the {@link #databaseCache} current for all sites, or
+     * <code>null</code> if there is no such cache.
+     */
+    private final HazardEventCacheNotificationListener databaseCacheListener;
+
     /**
      * Map pairing event identifiers for all the {@link #allEvents} with
      * historical versions with the number of historical versions. If an event
@@ -855,6 +927,27 @@ public class SessionEventManager implements ISessionEventManager {
 
     private Map<String, Set<String>> allowableValuesForFilteredEventAttributes;
 
+    /**
+     * Filter compiled from the current settings, or <code>null</code> if it
+     * has not yet been compiled or has been invalidated.
+     */
+    private SettingsEventFilter settingsEventFilter;
+
+    /**
+     * Views of the events that pass {@link #settingsEventFilter}, kept current
+     * as events are added, removed, and modified as long as the latter is not
+     * <code>null</code>.
+     */
+    private final Set<IHazardEventView> eventViewsForCurrentSettings = Collections
+            .newSetFromMap(new IdentityHashMap<IHazardEventView, Boolean>());
+
+    /**
+     * Views of the events that pass {@link #settingsEventFilter}, in the same
+     * order as {@link #allEventViews}, or <code>null</code> if this must be
+     * rebuilt from {@link #eventViewsForCurrentSettings}.
+     */
+    private List<IHazardEventView> orderedEventViewsForCurrentSettings;
+
     /**
      * Intra-managerial notification handler for session event additions.
      */
@@ -894,6 +987,9 @@ public class SessionEventManager implements ISessionEventManager {
 
         @Override
         public void handleNotification(SessionEventModified notification) {
+            scheduleTimeDrivenReevaluation(notification.getEvent());
+            updateEventForCurrentSettings(notification.getEvent(),
+                    notification.getModifications());
             for (IEventModification modification : notification
                     .getModifications()) {
                 if (modification instanceof EventTypeModification) {
@@ -1012,8 +1108,13 @@ public class SessionEventManager implements ISessionEventManager {
         this.timeManager = timeManager;
         this.dbManager = dbManager;
         this.notificationSender = notificationSender;
-        new SessionHazardNotificationListener(this,
-                sessionManager.getRunnableAsynchronousScheduler());
+        this.databaseCache = (dbManager instanceof HazardEventManager
+                ? ((HazardEventManager) dbManager).getCache() : null);
+        this.databaseCacheListener = (databaseCache == null ? null
+                : new HazardEventCacheNotificationListener(databaseCache,
+                        !CAVEMode.OPERATIONAL.equals(CAVEMode.getMode())));
+        this.databaseNotificationListener = new SessionHazardNotificationListener(
+                this, sessionManager.getRunnableAsynchronousScheduler());
         this.messenger = messenger;
         geometryFactory = new GeometryFactory();
         this.geoMapUtilities = sessionManager.getGeoMapUtilities();
@@ -1144,9 +1245,7 @@ public class SessionEventManager implements ISessionEventManager {
 
     @Override
     public List<IHazardEventView> getEventsForCurrentSettings() {
-        List<IHazardEventView> result = getEvents();
-        filterEventsForConfig(result);
-        return result;
+        return new ArrayList<>(getOrderedEventViewsForCurrentSettings());
     }
 
     @Override
@@ -1899,6 +1998,15 @@ public class SessionEventManager implements ISessionEventManager {
                 : EventPropertyChangeResult.FAILURE_DUE_TO_BAD_VALUE);
     }
 
+    @Override
+    public long getUndoHistoryMemoryUsage() {
+        long size = 0L;
+        for (ObservedHazardEvent event : allEvents) {
+            size += event.getUndoHistorySize();
+        }
+        return size;
+    }
+
     /**
      * Remove the add/remove shapes context menu option from the attributes of
      * the specified event, if said menu option is found there.
@@ -2001,6 +2109,7 @@ public class SessionEventManager implements ISessionEventManager {
             reloadHazardServicesEventId();
         }
         if (notification.getChanged().contains(ObservedSettings.Type.FILTERS)) {
+            invalidateSettingsEventFilter();
             compileEventAttributeFilters(notification.getSettings());
             loadEventsForSettings(notification.getSettings());
         }
@@ -3011,43 +3120,126 @@ public class SessionEventManager implements ISessionEventManager {
 
     private void filterEventsForConfig(
             Collection<? extends IHazardEventView> eventViews) {
-        ISettings settings = configManager.getSettings();
-        Set<String> siteIDs = configManager
-                .getSettingsValue(SETTING_HAZARD_SITES, settings);
-        Set<String> phenSigs = settings.getVisibleTypes();
-        Set<HazardStatus> statuses = EnumSet.noneOf(HazardStatus.class);
-        for (String state : settings.getVisibleStatuses()) {
-            statuses.add(HazardStatus.valueOf(state.toUpperCase()));
-        }
-
-        /*
-         * TODO: If ever undoing changes from issue #17328 (making pending
-         * status not available for filtering out), delete the line below that
-         * adds the pending status to the set of statuses.
-         */
-        statuses.add(HazardStatus.PENDING);
+        SettingsEventFilter filter = getSettingsEventFilter();
         Iterator<? extends IHazardEventView> iterator = eventViews.iterator();
         while (iterator.hasNext()) {
-            IHazardEventView eventView = iterator.next();
-            if (!statuses.contains(eventView.getStatus())) {
-                iterator.remove();
-            } else if (!siteIDs.contains(eventView.getSiteID())) {
+            if (filter.accepts(iterator.next()) == false) {
                 iterator.remove();
-            } else {
-                String key = HazardEventUtilities.getHazardType(eventView);
-                /*
-                 * Check for null key ensures we don't filter out events for
-                 * which a type has not yet been defined.
-                 */
-                if (key != null && !phenSigs.contains(key)) {
-                    iterator.remove();
-                    continue;
+            }
+        }
+    }
+
+    /**
+     * Get the filter compiled from the current settings, compiling it first
+     * if it has not yet been compiled or is out of date. If it must be
+     * compiled, the set of events passing it is rebuilt as well.
+     * 
+     * @return Filter compiled from the current settings.
+     */
+    private SettingsEventFilter getSettingsEventFilter() {
+        ObservedSettings settings = configManager.getSettings();
+        if ((settingsEventFilter == null)
+                || (settingsEventFilter.isCompiledFrom(settings,
+                        allowableValuesForFilteredEventAttributes) == false)) {
+            Set<String> siteIDs = configManager
+                    .getSettingsValue(SETTING_HAZARD_SITES, settings);
+            settingsEventFilter = new SettingsEventFilter(settings, siteIDs,
+                    allowableValuesForFilteredEventAttributes);
+            eventViewsForCurrentSettings.clear();
+            for (IHazardEventView eventView : allEventViews) {
+                if (settingsEventFilter.accepts(eventView)) {
+                    eventViewsForCurrentSettings.add(eventView);
                 }
+            }
+            orderedEventViewsForCurrentSettings = null;
+        }
+        return settingsEventFilter;
+    }
 
-                if (isEventFilteredOutDueToAttributeFilters(eventView)) {
-                    iterator.remove();
+    /**
+     * Get the views of the events that pass the filter compiled from the
+     * current settings, in the same order as {@link #allEventViews}. The
+     * returned list must not be modified.
+     * 
+     * @return Views of the events for the current settings.
+     */
+    private List<IHazardEventView> getOrderedEventViewsForCurrentSettings() {
+        getSettingsEventFilter();
+        if (orderedEventViewsForCurrentSettings == null) {
+            List<IHazardEventView> eventViews = new ArrayList<>(
+                    eventViewsForCurrentSettings.size());
+            for (IHazardEventView eventView : allEventViews) {
+                if (eventViewsForCurrentSettings.contains(eventView)) {
+                    eventViews.add(eventView);
                 }
             }
+            orderedEventViewsForCurrentSettings = eventViews;
+        }
+        return orderedEventViewsForCurrentSettings;
+    }
+
+    /**
+     * Invalidate the filter compiled from the current settings, so that it is
+     * recompiled, and the set of events passing it rebuilt, when next needed.
+     */
+    private void invalidateSettingsEventFilter() {
+        settingsEventFilter = null;
+        eventViewsForCurrentSettings.clear();
+        orderedEventViewsForCurrentSettings = null;
+    }
+
+    /**
+     * Update the set of events passing the filter compiled from the current
+     * settings to reflect the addition or modification of the specified event.
+     * 
+     * @param eventView
+     *            View of the event that was added or modified.
+     * @param modifications
+     *            Modifications made to the event, or <code>null</code> if the
+     *            event was added.
+     */
+    private void updateEventForCurrentSettings(IHazardEventView eventView,
+            Collection<? extends IEventModification> modifications) {
+        if (settingsEventFilter == null) {
+            return;
+        }
+        if (modifications != null) {
+
+            /*
+             * Ignore modifications of events that have since been removed.
+             */
+            if (getSessionEventForView(eventView) == null) {
+                return;
+            }
+            boolean affected = false;
+            for (IEventModification modification : modifications) {
+                if (settingsEventFilter.isAffectedBy(modification)) {
+                    affected = true;
+                    break;
+                }
+            }
+            if (affected == false) {
+                return;
+            }
+        }
+        boolean changed = (settingsEventFilter.accepts(eventView)
+                ? eventViewsForCurrentSettings.add(eventView)
+                : eventViewsForCurrentSettings.remove(eventView));
+        if (changed) {
+            orderedEventViewsForCurrentSettings = null;
+        }
+    }
+
+    /**
+     * Update the set of events passing the filter compiled from the current
+     * settings to reflect the removal of the specified event.
+     * 
+     * @param eventView
+     *            View of the event that was removed.
+     */
+    private void removeEventForCurrentSettings(IHazardEventView eventView) {
+        if (eventViewsForCurrentSettings.remove(eventView)) {
+            orderedEventViewsForCurrentSettings = null;
         }
     }
 
@@ -3085,6 +3277,7 @@ public class SessionEventManager implements ISessionEventManager {
      *            Settings from which to compile the additional filter values.
      */
     private void compileEventAttributeFilters(ObservedSettings settings) {
+        invalidateSettingsEventFilter();
 
         /*
          * For any additional filters included with this setting, translate them
@@ -3136,6 +3329,7 @@ public class SessionEventManager implements ISessionEventManager {
             visibleSites.add(configSiteID);
             settings.setVisibleSites(visibleSites);
         }
+        databaseNotificationListener.setSites(visibleSites);
 
         /*
          * Include visible types in the query filter.
@@ -3489,6 +3683,8 @@ public class SessionEventManager implements ISessionEventManager {
          */
         allEvents.add(oevent);
         allEventViews.add(eventView);
+        scheduleTimeDrivenReevaluation(eventView);
+        updateEventForCurrentSettings(eventView, null);
 
         /*
          * Create a view for the new hazard event, and associate the two.
@@ -3692,22 +3888,6 @@ public class SessionEventManager implements ISessionEventManager {
         return (event.getStatus() == HazardStatus.ENDED);
     }
 
-    private boolean isPastExpirationTime(IHazardEventView eventView) {
-        long currTimeLong = SimulatedTime.getSystemTime().getMillis();
-
-        Long expirationTimeLong = (eventView.getExpirationTime() == null ? null
-                : eventView.getExpirationTime().getTime());
-        if ((expirationTimeLong != null)
-                && (expirationTimeLong < currTimeLong)) {
-            long expirationTime = expirationTimeLong.longValue();
-            if (expirationTime < currTimeLong) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     /**
      * Handle the addition or modification of an event in the database.
      * 
@@ -3819,6 +3999,51 @@ public class SessionEventManager implements ISessionEventManager {
         identifiersOfPersistedEvents.add(eventIdentifier);
     }
 
+    /**
+     * Update the database manager's event cache, if any, to reflect the
+     * specified notification. This is done before the session handles the
+     * notification, so that any database queries made while handling it do
+     * not see stale cached results, even if the
+     * {@link HazardEventCacheNotificationListener} has not yet received the
+     * notification. The cache recognizes and ignores whichever of the two
+     * copies of the notification arrives second, so it is only applied once.
+     * 
+     * @param notification
+     *            Notification from the database.
+     */
+    protected void updateDatabaseCache(HazardNotification notification) {
+        if (databaseCache != null) {
+            databaseCache.handleNotification(notification);
+        }
+    }
+
+    /**
+     * Handle the modification of an event in the database that was announced
+     * by means of a delta. If the delta applies to the latest version of the
+     * event last received from the database, the result is handled as any
+     * other modification; otherwise, the full event is fetched.
+     * 
+     * @param delta
+     *            Delta between the previous and the new latest version of the
+     *            event.
+     */
+    protected void handleEventDeltaFromDatabase(HazardEventDelta delta) {
+        String eventIdentifier = delta.getEventID();
+        HazardEvent base = latestVersionsFromDatabaseForEventIdentifiers
+                .get(eventIdentifier);
+        HazardEvent event = (base == null ? null : delta.applyTo(base));
+        if (event == null) {
+            event = dbManager.getLatestByEventID(eventIdentifier, false);
+            if (event == null) {
+                statusHandler.warn("Could not fetch hazard event "
+                        + eventIdentifier
+                        + " after receiving change notification.");
+                return;
+            }
+        }
+        handleEventAdditionToDatabase(event);
+    }
+
     /**
      * Handle the removal of an event from the database.
      * 
@@ -4002,6 +4227,10 @@ public class SessionEventManager implements ISessionEventManager {
             ObservedHazardEvent event = getSessionEventForView(eventView);
             allEvents.remove(event);
             allEventViews.remove(eventView);
+            removeEventForCurrentSettings(eventView);
+            timeBoundaryDeadlines.remove(eventView);
+            elapseDeadlines.remove(eventView);
+            derivedGeometryCache.remove(eventIdentifier);
 
             /*
              * Remove the view for the deleted hazard event.
@@ -4054,6 +4283,7 @@ public class SessionEventManager implements ISessionEventManager {
             IOriginator originator) {
         Collections.sort(allEvents, comparator);
         Collections.sort(allEventViews, comparator);
+        orderedEventViewsForCurrentSettings = null;
         notificationSender.postNotificationAsync(
                 new SessionEventsOrderingModified(this, originator));
     }
@@ -4745,8 +4975,11 @@ public class SessionEventManager implements ISessionEventManager {
      * 
      * @param singleEventView
      *            View of the event that has been added, removed, or modified.
-     *            If <code>null</code>, all events should be updated. In this
-     *            case, the assumption is made that no events have been removed.
+     *            If <code>null</code>, all events whose boundaries or
+     *            expiration states may have changed with the passage of time,
+     *            as recorded in {@link #timeBoundaryDeadlines}, should be
+     *            updated. In this case, the assumption is made that no events
+     *            have been removed.
      * @param removed
      *            Flag indicating whether or not the change is the removal of
      *            the event; this is ignored if <code>event</code> is
@@ -4764,7 +4997,8 @@ public class SessionEventManager implements ISessionEventManager {
         Set<String> identifiersWithChangedBoundaries = new HashSet<>();
         if (singleEventView == null) {
             Set<String> identifiersWithExpiredTimes = new HashSet<>();
-            for (IHazardEventView eventView : allEventViews) {
+            for (IHazardEventView eventView : getEventViewsWithDueDeadlines(
+                    timeBoundaryDeadlines, currentTime)) {
 
                 /*
                  * Round the current time down to the previous minute if this
@@ -4774,14 +5008,20 @@ public class SessionEventManager implements ISessionEventManager {
                         .get(eventView.getEventID()) == TimeResolution.MINUTES
                                 ? roundTimeDownToNearestMinute(currentTime)
                                 : currentTime);
-                if (updateTimeBoundariesForSingleEvent(eventView,
-                        eventCurrentTime)) {
+                boolean changed = updateTimeBoundariesForSingleEvent(eventView,
+                        eventCurrentTime);
+                if (changed) {
                     identifiersWithChangedBoundaries
                             .add(eventView.getEventID());
                 }
-                if (isPastExpirationTime(eventView) == true) {
+                if (TimeDrivenEventRules.isPastExpirationTime(
+                        eventView.getExpirationTime(), currentTime)) {
                     identifiersWithExpiredTimes.add(eventView.getEventID());
                 }
+                timeBoundaryDeadlines.schedule(eventView,
+                        TimeDrivenEventRules.getNextTimeBoundaryDeadline(
+                                eventView.getStatus(),
+                                eventView.getExpirationTime(), currentTime));
             }
 
             /*
@@ -5329,6 +5569,10 @@ public class SessionEventManager implements ISessionEventManager {
                 .unregisterIntraNotificationHandler(settingsChangeHandler);
         notificationSender
                 .unregisterIntraNotificationHandler(currentTimeChangeHandler);
+        if (databaseCacheListener != null) {
+            databaseCacheListener.dispose();
+        }
+        derivedGeometryCache.clear();
         messenger = null;
         shutDown = true;
     }
@@ -6262,6 +6506,71 @@ public class SessionEventManager implements ISessionEventManager {
         HazardTypes hazardTypes = configManager.getHazardTypes();
         HazardTypeEntry hazardType = hazardTypes.get(eventView.getHazardType());
 
+        /*
+         * If a low-resolution geometry derived from the same inputs is cached,
+         * use it. WarnGen-style clipping also depends upon the hazard areas and
+         * upon which geometry is visible, so those are included in the key for
+         * such events.
+         */
+        String eventIdentifier = eventView.getEventID();
+        DerivedGeometryCache.Key key = null;
+        if (eventIdentifier != null) {
+            key = (geoMapUtilities.isWarngenHatching(eventView)
+                    ? getDerivedGeometryKey(eventView, hazardType,
+                            eventView.getHazardAttribute(HAZARD_AREA),
+                            eventView.getHazardAttribute(VISIBLE_GEOMETRY),
+                            eventView.getHazardAttribute(
+                                    LOW_RESOLUTION_GEOMETRY))
+                    : getDerivedGeometryKey(eventView, hazardType));
+            Geometry result = derivedGeometryCache
+                    .getLowResolutionGeometry(eventIdentifier, key);
+            if (result == DerivedGeometryCache.OUTSIDE_CWA) {
+                throw new HazardGeometryOutsideCWAException();
+            } else if (result != null) {
+                return result;
+            }
+        }
+
+        /*
+         * Derive the low-resolution geometry and cache it, or the fact that it
+         * lies outside the CWA.
+         */
+        Geometry result;
+        try {
+            result = deriveLowResolutionEventGeometry(eventView, hazardType);
+        } catch (HazardGeometryOutsideCWAException e) {
+            if (key != null) {
+                derivedGeometryCache.putLowResolutionGeometry(eventIdentifier,
+                        key, DerivedGeometryCache.OUTSIDE_CWA);
+            }
+            throw e;
+        }
+        if (key != null) {
+            derivedGeometryCache.putLowResolutionGeometry(eventIdentifier, key,
+                    result);
+        }
+        return result;
+    }
+
+    private DerivedGeometryCache.Key getDerivedGeometryKey(
+            IReadableHazardEvent event, HazardTypeEntry hazardType,
+            Object... dependencies) {
+
+        /*
+         * The configured site is always a dependency, as it is used both to
+         * check for National and as a fallback if the event has no site.
+         */
+        Object[] allDependencies = Arrays.copyOf(dependencies,
+                dependencies.length + 1);
+        allDependencies[dependencies.length] = configManager.getSiteID();
+        return new DerivedGeometryCache.Key(event.getGeometry(), hazardType,
+                event.getSiteID(), geoMapUtilities.getCwaGeometryVersion(),
+                allDependencies);
+    }
+
+    private Geometry deriveLowResolutionEventGeometry(
+            IHazardEventView eventView, HazardTypeEntry hazardType) {
+
         /*
          * By default, just set the low-resolution geometry to the be the
          * original flattened.
@@ -6446,8 +6755,31 @@ public class SessionEventManager implements ISessionEventManager {
 
     private List<String> buildIntersectionStrategyUgcs(
             IReadableHazardEvent hazardEvent) {
-        return new ArrayList<>(geoMapUtilities
+
+        /*
+         * If UGCs derived from the same inputs are cached, use them.
+         */
+        String eventIdentifier = hazardEvent.getEventID();
+        DerivedGeometryCache.Key key = null;
+        if (eventIdentifier != null) {
+            key = getDerivedGeometryKey(hazardEvent,
+                    configManager.getHazardTypes()
+                            .get(hazardEvent.getHazardType()),
+                    hazardEvent.getHazardAttributes()
+                            .containsKey(HazardConstants.GFE_INTEROPERABILITY));
+            List<String> result = derivedGeometryCache
+                    .getUgcs(eventIdentifier, key);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        List<String> result = new ArrayList<>(geoMapUtilities
                 .getIntersectingMapGeometriesForUgcs(hazardEvent).keySet());
+        if (key != null) {
+            derivedGeometryCache.putUgcs(eventIdentifier, key, result);
+        }
+        return result;
     }
 
     private Geometry addGoosenecksAsNecessary(Geometry productGeometry) {
@@ -6800,14 +7132,97 @@ public class SessionEventManager implements ISessionEventManager {
     }
 
     /**
-     * Expire or unexpire all managed hazard events as appropriate.
+     * Expire or unexpire all managed hazard events as appropriate. Only those
+     * events that have been added or modified since last checked, or that
+     * have reached their end or expiration times since then, are checked,
+     * unless the current time has moved backward. Any event that has its
+     * status changed is scheduled to have its time range boundaries
+     * re-evaluated, since said boundaries depend upon status, and status
+     * changes made here do not generate modification notifications.
      */
     private void expireOrUnexpireHazardEvents() {
         Date currentTime = SessionEventManager.this.timeManager
                 .getCurrentTime();
-        for (ObservedHazardEvent event : allEvents) {
+        long currentTimeMillis = currentTime.getTime();
+        for (IHazardEventView eventView : getEventViewsWithDueDeadlines(
+                elapseDeadlines, currentTimeMillis)) {
+            ObservedHazardEvent event = getSessionEventForView(eventView);
+            HazardStatus oldStatus = event.getStatus();
             expireOrUnexpireHazardEvent(event, currentTime);
+            if (event.getStatus() != oldStatus) {
+                timeBoundaryDeadlines.scheduleImmediately(eventView);
+            }
+            elapseDeadlines.schedule(eventView,
+                    getNextElapseDeadline(event));
+        }
+    }
+
+    /**
+     * Schedule the specified event to have its time range boundaries,
+     * expiration state, and elapsed state re-evaluated the next time these are
+     * checked for all events, since something about it has changed.
+     * 
+     * @param eventView
+     *            View of the event.
+     */
+    private void scheduleTimeDrivenReevaluation(IHazardEventView eventView) {
+        timeBoundaryDeadlines.scheduleImmediately(eventView);
+        elapseDeadlines.scheduleImmediately(eventView);
+    }
+
+    /**
+     * Get the views of the events with deadlines in the specified queue that
+     * are due at the specified time. If the time is earlier than that at which
+     * the queue was last advanced, all events are treated as due, since the
+     * deadlines assume that time only moves forward; the same is true if the
+     * hazard types configuration has been reloaded since the last advance,
+     * since the deadlines depend upon it.
+     * 
+     * @param deadlines
+     *            Queue of deadlines.
+     * @param currentTime
+     *            Current time in epoch milliseconds.
+     * @return Views of managed events that are due.
+     */
+    private List<IHazardEventView> getEventViewsWithDueDeadlines(
+            HazardEventDeadlineQueue<IHazardEventView> deadlines,
+            long currentTime) {
+        HazardTypes hazardTypes = configManager.getHazardTypes();
+        if (hazardTypes != deadlinesHazardTypes) {
+            deadlinesHazardTypes = hazardTypes;
+            for (IHazardEventView eventView : allEventViews) {
+                scheduleTimeDrivenReevaluation(eventView);
+            }
         }
+        List<IHazardEventView> dueEventViews = deadlines
+                .advanceTo(currentTime, allEventViews);
+        List<IHazardEventView> managedEventViews = new ArrayList<>(
+                dueEventViews.size());
+        for (IHazardEventView eventView : dueEventViews) {
+            if (getSessionEventForView(eventView) != null) {
+                managedEventViews.add(eventView);
+            }
+        }
+        return managedEventViews;
+    }
+
+    /**
+     * Get the next time at which the specified event may need to be elapsed,
+     * assuming that the current time only moves forward and that the event
+     * itself does not change.
+     * 
+     * @param event
+     *            Event.
+     * @return Deadline in epoch milliseconds, or
+     *         {@link HazardEventDeadlineQueue#NO_DEADLINE} if there is none.
+     */
+    private long getNextElapseDeadline(ObservedHazardEvent event) {
+        boolean elapseWhenIssued = isElapseWhenIssued(event);
+        return TimeDrivenEventRules.getNextElapseDeadline(event.getStatus(),
+                elapseWhenIssued, event.getEndTime().getTime(),
+                (elapseWhenIssued
+                        || (event.getStatus() != HazardStatus.ELAPSING) ? 0L
+                                : getExpireTimeForEvent(event).getTime()));
     }
 
     /**
@@ -6834,49 +7249,31 @@ public class SessionEventManager implements ISessionEventManager {
      */
     private void expireOrUnexpireHazardEvent(ObservedHazardEvent event,
             Date currentTime) {
-
-        /*
-         * If the event is meant to be immediately elapsed when issued, ensure
-         * that this is the case.
-         */
+        boolean elapseWhenIssued = isElapseWhenIssued(event);
         HazardStatus status = event.getStatus();
-        if ((event.getHazardType() != null) && configManager.getHazardTypes()
-                .get(event.getHazardType()).isElapseWhenIssued()) {
-            if (status == HazardStatus.ISSUED) {
-                event.setStatus(HazardStatus.ELAPSED, false, Originator.OTHER);
-            }
-            return;
+        HazardStatus newStatus = TimeDrivenEventRules.getElapseStatus(status,
+                event.getPreExpiredStatus(), elapseWhenIssued,
+                currentTime.getTime(), event.getEndTime().getTime(),
+                (elapseWhenIssued ? 0L
+                        : getExpireTimeForEvent(event).getTime()));
+        if (newStatus != status) {
+            event.setStatus(newStatus, false, Originator.OTHER);
         }
+    }
 
-        /*
-         * If the event is issued and it should be expired, make it so;
-         * otherwise, if the event has previously been expired by this session,
-         * but the current time dictates that it should no longer be so,
-         * unexpire it; otherwise, if it is elapsing but should now be elapsed,
-         * or vice versa, change it appropriately.
-         */
-        long currentTimeMillis = currentTime.getTime();
-        long endTimeMillis = event.getEndTime().getTime();
-        long expireTimeMillis = getExpireTimeForEvent(event).getTime();
-        if ((status == HazardStatus.ISSUED)
-                && (currentTimeMillis >= endTimeMillis)) {
-            event.setStatus(
-                    (currentTimeMillis >= expireTimeMillis
-                            ? HazardStatus.ELAPSED : HazardStatus.ELAPSING),
-                    false, Originator.OTHER);
-        } else if ((event.getPreExpiredStatus() != null)
-                && ((status == HazardStatus.ELAPSING)
-                        || (status == HazardStatus.ELAPSED))
-                && (currentTimeMillis < endTimeMillis)) {
-            event.setStatus(event.getPreExpiredStatus(), false,
-                    Originator.OTHER);
-        } else if ((status == HazardStatus.ELAPSING)
-                && (currentTimeMillis >= expireTimeMillis)) {
-            event.setStatus(HazardStatus.ELAPSED, false, Originator.OTHER);
-        } else if ((status == HazardStatus.ELAPSED)
-                && (currentTimeMillis < expireTimeMillis)) {
-            event.setStatus(HazardStatus.ELAPSING, false, Originator.OTHER);
-        }
+    /**
+     * Determine whether or not the specified hazard event's type is
+     * configured to be elapsed immediately upon issuance.
+     * 
+     * @param event
+     *            Event to be checked.
+     * @return <code>true</code> if the event is elapsed when issued,
+     *         <code>false</code> otherwise.
+     */
+    private boolean isElapseWhenIssued(IReadableHazardEvent event) {
+        return ((event.getHazardType() != null) && configManager
+                .getHazardTypes().get(event.getHazardType())
+                .isElapseWhenIssued());
     }
 
     /**
@@ -7033,14 +7430,11 @@ public class SessionEventManager implements ISessionEventManager {
 
     @Override
     public Set<IHazardEventView> getFilteredEvents() {
-        Set<IHazardEventView> allEvents = new HashSet<>(allEventViews);
-
-        Collection<IHazardEventView> filteredEvents = new ArrayList<>(
-                allEvents);
-        filterEventsForConfig(filteredEvents);
+        getSettingsEventFilter();
 
         // Result is only those that have been filtered out.
-        allEvents.removeAll(filteredEvents);
+        Set<IHazardEventView> allEvents = new HashSet<>(allEventViews);
+        allEvents.removeAll(eventViewsForCurrentSettings);
         return allEvents;
     }
 
@@ -21,6 +21,9 @@ package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
 
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification;
 import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEvent;
@@ -38,7 +41,10 @@ import gov.noaa.gsd.common.utilities.IRunnableAsynchronousScheduler;
 
 /**
  * An INotificationObserver that keeps the session event manager in sync with
- * the database.
+ * the database. The observer subscribes with a message selector so that the
+ * broker drops notifications for the other mode and, once the visible sites
+ * are known, for sites that are not visible. Counts of notifications received
+ * and applied are kept and periodically logged.
  * 
  * <pre>
  * 
@@ -78,6 +84,10 @@ import gov.noaa.gsd.common.utilities.IRunnableAsynchronousScheduler;
  *                                      hazard event were removed.
  * Dec 17, 2017 20739      Chris.Golden Refactored away access to directly
  *                                      mutable session events.
+ * Oct 18, 2026            agent        Added handling of delta notifications.
+ * Oct 18, 2026            agent        Subscribe with a site and mode message
+ *                                      selector, and count notifications
+ *                                      received and applied.
  * </pre>
  * 
  * @author bsteffen
@@ -89,10 +99,37 @@ public class SessionHazardNotificationListener
     private static final transient IUFStatusHandler statusHandler = UFStatus
             .getHandler(SessionHazardNotificationListener.class);
 
+    /**
+     * Number of notifications received between summary log messages.
+     */
+    private static final long STATISTICS_LOG_INTERVAL = 500L;
+
     private final Reference<SessionEventManager> manager;
 
     private final Reference<IRunnableAsynchronousScheduler> scheduler;
 
+    /**
+     * Practice mode flag.
+     */
+    private final boolean practice = (CAVEMode.OPERATIONAL
+            .equals(CAVEMode.getMode()) == false);
+
+    /**
+     * Message selector with which this observer is subscribed, or
+     * <code>null</code> if it is not subscribed.
+     */
+    private String selector;
+
+    /**
+     * Number of notifications received.
+     */
+    private final AtomicLong receivedCount = new AtomicLong();
+
+    /**
+     * Number of notifications applied to the session.
+     */
+    private final AtomicLong appliedCount = new AtomicLong();
+
     public SessionHazardNotificationListener(SessionEventManager manager,
             IRunnableAsynchronousScheduler scheduler) {
         this(manager, scheduler, true);
@@ -104,8 +141,69 @@ public class SessionHazardNotificationListener
         this.scheduler = new WeakReference<IRunnableAsynchronousScheduler>(
                 scheduler);
         if (observe) {
-            NotificationManagerJob.addObserver(HazardNotification.HAZARD_TOPIC,
-                    this);
+            subscribe(HazardNotification.getMessageSelector(practice, null));
+        }
+    }
+
+    /**
+     * Set the identifiers of the sites for which notifications are to be
+     * received. If the listener is subscribed, it resubscribes with the new
+     * selector, subscribing anew before unsubscribing so that no notification
+     * is missed.
+     * 
+     * @param siteIDs
+     *            Identifiers of the sites.
+     */
+    public synchronized void setSites(Collection<String> siteIDs) {
+        if (selector == null) {
+            return;
+        }
+        String newSelector = HazardNotification.getMessageSelector(practice,
+                new TreeSet<>(siteIDs));
+        if (newSelector.equals(selector)) {
+            return;
+        }
+        String oldSelector = selector;
+        subscribe(newSelector);
+        NotificationManagerJob.removeObserver(HazardNotification.HAZARD_TOPIC,
+                this, oldSelector);
+    }
+
+    /**
+     * Get the number of notifications received.
+     * 
+     * @return Number of notifications received.
+     */
+    public long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    /**
+     * Get the number of notifications applied to the session.
+     * 
+     * @return Number of notifications applied.
+     */
+    public long getAppliedCount() {
+        return appliedCount.get();
+    }
+
+    /**
+     * Subscribe using the specified selector.
+     */
+    private synchronized void subscribe(String selector) {
+        this.selector = selector;
+        NotificationManagerJob.addObserver(HazardNotification.HAZARD_TOPIC,
+                this, selector);
+    }
+
+    /**
+     * Unsubscribe.
+     */
+    private synchronized void unsubscribe() {
+        if (selector != null) {
+            NotificationManagerJob.removeObserver(
+                    HazardNotification.HAZARD_TOPIC, this, selector);
+            selector = null;
         }
     }
 
@@ -122,8 +220,7 @@ public class SessionHazardNotificationListener
          */
         IRunnableAsynchronousScheduler scheduler = this.scheduler.get();
         if (scheduler == null) {
-            NotificationManagerJob
-                    .removeObserver(HazardNotification.HAZARD_TOPIC, this);
+            unsubscribe();
         } else {
             scheduler.schedule(new Runnable() {
                 @Override
@@ -131,15 +228,14 @@ public class SessionHazardNotificationListener
                     ISessionEventManager manager = SessionHazardNotificationListener.this.manager
                             .get();
                     if ((manager == null) || manager.isShutDown()) {
-                        NotificationManagerJob.removeObserver(
-                                HazardNotification.HAZARD_TOPIC,
-                                SessionHazardNotificationListener.this);
+                        unsubscribe();
                         return;
                     }
                     for (NotificationMessage message : messages) {
                         try {
                             Object payload = message.getMessagePayload();
                             if (payload instanceof HazardNotification) {
+                                recordReceipt();
                                 handleNotification(
                                         (HazardNotification) payload);
                             }
@@ -165,8 +261,7 @@ public class SessionHazardNotificationListener
      *            Notification that has arrived.
      */
     public void handleNotification(HazardNotification notification) {
-        if (CAVEMode.getMode() == CAVEMode.PRACTICE
-                && notification.isPracticeMode() == false) {
+        if (notification.isPracticeMode() != practice) {
             return;
         }
         HazardEvent newEvent = notification.getEvent();
@@ -175,6 +270,8 @@ public class SessionHazardNotificationListener
             return;
         }
 
+        appliedCount.incrementAndGet();
+        manager.updateDatabaseCache(notification);
         switch (notification.getType()) {
 
         case DELETE:
@@ -186,8 +283,22 @@ public class SessionHazardNotificationListener
             break;
         case UPDATE:
         case STORE:
-            manager.handleEventAdditionToDatabase(newEvent);
+            if (notification.isDelta()) {
+                manager.handleEventDeltaFromDatabase(notification.getDelta());
+            } else {
+                manager.handleEventAdditionToDatabase(newEvent);
+            }
         }
     }
 
+    /**
+     * Record the receipt of a notification, logging the counts periodically.
+     */
+    private void recordReceipt() {
+        long received = receivedCount.incrementAndGet();
+        if ((received % STATISTICS_LOG_INTERVAL) == 0) {
+            statusHandler.info(received + " hazard notifications received, "
+                    + appliedCount.get() + " applied to the session.");
+        }
+    }
 }
@@ -0,0 +1,243 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants.HazardStatus;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.HazardEventUtilities;
+import com.raytheon.uf.common.dataplugin.events.hazards.event.IReadableHazardEvent;
+import com.raytheon.uf.viz.hazards.sessionmanager.config.impl.ObservedSettings;
+import com.raytheon.uf.viz.hazards.sessionmanager.events.EventAttributesModification;
+import com.raytheon.uf.viz.hazards.sessionmanager.events.EventOriginModification;
+import com.raytheon.uf.viz.hazards.sessionmanager.events.EventStatusModification;
+import com.raytheon.uf.viz.hazards.sessionmanager.events.EventTypeModification;
+import com.raytheon.uf.viz.hazards.sessionmanager.events.IEventModification;
+
+/**
+ * Description: Predicate compiled from the filters of a settings object,
+ * determining which events are visible under those settings. Compiling the
+ * settings once, rather than each time a set of events is filtered, avoids
+ * copying the settings' sets and parsing their statuses for every query; the
+ * filter also indicates which event modifications could change whether or not
+ * an event passes it, so that the set of visible events may be maintained
+ * incrementally as events change.
+ * <p>
+ * A filter is immutable; when the settings' filters change, a new one must be
+ * compiled. {@link #isCompiledFrom(ObservedSettings, Map)} may be used to
+ * determine whether or not that is necessary.
+ * </p>
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class SettingsEventFilter {
+
+    // Private Variables
+
+    /**
+     * Settings from which this filter was compiled.
+     */
+    private final ObservedSettings settings;
+
+    /**
+     * Filters generation of {@link #settings} at the time this filter was
+     * compiled.
+     */
+    private final long filtersGeneration;
+
+    /**
+     * Site identifiers of visible events.
+     */
+    private final Set<String> siteIdentifiers;
+
+    /**
+     * Types of visible events.
+     */
+    private final Set<String> types;
+
+    /**
+     * Statuses of visible events.
+     */
+    private final Set<HazardStatus> statuses;
+
+    /**
+     * Map of attribute names to the sets of values for those attributes that
+     * are allowed for visible events.
+     */
+    private final Map<String, Set<String>> allowableValuesForAttributes;
+
+    // Package Constructors
+
+    /**
+     * Construct a standard instance.
+     * 
+     * @param settings
+     *            Settings from which to compile the filter.
+     * @param siteIdentifiers
+     *            Site identifiers of visible events, as found in the settings
+     *            or, if the latter do not specify them, in the startup
+     *            configuration.
+     * @param allowableValuesForAttributes
+     *            Map of attribute names to the sets of values for those
+     *            attributes that are allowed for visible events, as compiled
+     *            from the settings' additional filters. The map is not copied,
+     *            and must not be modified thereafter.
+     */
+    SettingsEventFilter(ObservedSettings settings, Set<String> siteIdentifiers,
+            Map<String, Set<String>> allowableValuesForAttributes) {
+        this.settings = settings;
+        this.filtersGeneration = settings.getFiltersGeneration();
+        this.siteIdentifiers = (siteIdentifiers == null
+                ? Collections.<String> emptySet()
+                : new HashSet<>(siteIdentifiers));
+        Set<String> visibleTypes = settings.getVisibleTypes();
+        this.types = (visibleTypes == null ? Collections.<String> emptySet()
+                : visibleTypes);
+        this.statuses = EnumSet.noneOf(HazardStatus.class);
+        Set<String> visibleStatuses = settings.getVisibleStatuses();
+        if (visibleStatuses != null) {
+            for (String status : visibleStatuses) {
+                this.statuses.add(HazardStatus.valueOf(status.toUpperCase()));
+            }
+        }
+
+        /*
+         * TODO: If ever undoing changes from issue #17328 (making pending
+         * status not available for filtering out), delete the line below that
+         * adds the pending status to the set of statuses.
+         */
+        this.statuses.add(HazardStatus.PENDING);
+        this.allowableValuesForAttributes = (allowableValuesForAttributes == null
+                ? Collections.<String, Set<String>> emptyMap()
+                : allowableValuesForAttributes);
+    }
+
+    // Package Methods
+
+    /**
+     * Determine whether or not this filter was compiled from the current
+     * state of the specified settings and attribute filters.
+     * 
+     * @param settings
+     *            Settings currently in use.
+     * @param allowableValuesForAttributes
+     *            Attribute filters currently in use.
+     * @return <code>true</code> if this filter is up to date,
+     *         <code>false</code> if it must be recompiled.
+     */
+    boolean isCompiledFrom(ObservedSettings settings,
+            Map<String, Set<String>> allowableValuesForAttributes) {
+        return ((this.settings == settings)
+                && (filtersGeneration == settings.getFiltersGeneration())
+                && ((this.allowableValuesForAttributes == allowableValuesForAttributes)
+                        || ((allowableValuesForAttributes == null)
+                                && this.allowableValuesForAttributes
+                                        .isEmpty())));
+    }
+
+    /**
+     * Determine whether or not the specified event passes this filter.
+     * 
+     * @param event
+     *            Event to be checked.
+     * @return <code>true</code> if the event is visible, <code>false</code>
+     *         otherwise.
+     */
+    boolean accepts(IReadableHazardEvent event) {
+        if ((statuses.contains(event.getStatus()) == false)
+                || (siteIdentifiers.contains(event.getSiteID()) == false)) {
+            return false;
+        }
+
+        /*
+         * Events for which a type has not yet been defined are not filtered
+         * out.
+         */
+        String type = HazardEventUtilities.getHazardType(event);
+        if ((type != null) && (types.contains(type) == false)) {
+            return false;
+        }
+        return (isFilteredOutDueToAttributes(event) == false);
+    }
+
+    /**
+     * Determine whether or not the specified modification of an event could
+     * change whether or not the event passes this filter.
+     * 
+     * @param modification
+     *            Modification of the event.
+     * @return <code>true</code> if the event must be checked again,
+     *         <code>false</code> otherwise.
+     */
+    boolean isAffectedBy(IEventModification modification) {
+        if ((modification instanceof EventStatusModification)
+                || (modification instanceof EventTypeModification)
+                || (modification instanceof EventOriginModification)) {
+            return true;
+        } else if (modification instanceof EventAttributesModification) {
+            if (allowableValuesForAttributes.isEmpty()) {
+                return false;
+            }
+            for (String key : ((EventAttributesModification) modification)
+                    .getAttributeKeys()) {
+                if (allowableValuesForAttributes.containsKey(key)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Private Methods
+
+    /**
+     * Determine whether or not the specified event is filtered out by the
+     * attribute filters. If the event has a null value for any of the
+     * attributes for which there is a filter, it is not filtered out; it is
+     * only culled if it has a non-null value that is not found in the set of
+     * allowed values for that attribute filter.
+     */
+    private boolean isFilteredOutDueToAttributes(IReadableHazardEvent event) {
+        for (Map.Entry<String, Set<String>> entry : allowableValuesForAttributes
+                .entrySet()) {
+            Object value = event.getHazardAttribute(entry.getKey());
+            if ((value != null)
+                    && (entry.getValue().contains(value) == false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
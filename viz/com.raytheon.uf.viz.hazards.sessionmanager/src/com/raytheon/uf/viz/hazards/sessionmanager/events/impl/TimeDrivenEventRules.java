@@ -0,0 +1,229 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.events.impl;
+
+import java.util.Date;
+
+import com.raytheon.uf.common.dataplugin.events.hazards.HazardConstants.HazardStatus;
+
+/**
+ * Rules determining how hazard events change as the current time changes,
+ * and the deadlines at which they next need to be re-evaluated against the
+ * current time to apply those rules. These are kept free of any session
+ * state, so that the deadline-driven checks made by the session event manager
+ * may be verified against checks of every event.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer     Description
+ * ------------ ---------- ------------ --------------------------
+ * Oct 19, 2026            agent        Initial creation, extracted from the
+ *                                      session event manager.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+final class TimeDrivenEventRules {
+
+    // Private Constructors
+
+    /**
+     * Prevent instantiation.
+     */
+    private TimeDrivenEventRules() {
+    }
+
+    // Package Static Methods
+
+    /**
+     * Determine whether or not the time range boundaries of an event with the
+     * specified status follow the current time.
+     * 
+     * @param status
+     *            Status of the event.
+     * @return <code>true</code> if the boundaries follow the current time,
+     *         <code>false</code> otherwise.
+     */
+    static boolean hasCurrentTimeDependentBoundaries(HazardStatus status) {
+        return ((status == HazardStatus.POTENTIAL)
+                || (status == HazardStatus.PENDING)
+                || (status == HazardStatus.PROPOSED));
+    }
+
+    /**
+     * Determine whether or not an event with the specified expiration time is
+     * past said time.
+     * 
+     * @param expirationTime
+     *            Expiration time of the event; may be <code>null</code>.
+     * @param currentTime
+     *            Current time in epoch milliseconds.
+     * @return <code>true</code> if the event is past its expiration time,
+     *         <code>false</code> otherwise.
+     */
+    static boolean isPastExpirationTime(Date expirationTime,
+            long currentTime) {
+        return ((expirationTime != null)
+                && (expirationTime.getTime() < currentTime));
+    }
+
+    /**
+     * Get the next time at which the time range boundaries of an event, or
+     * whether or not it is past its expiration time, may change without the
+     * event itself changing.
+     * 
+     * @param status
+     *            Status of the event.
+     * @param expirationTime
+     *            Expiration time of the event; may be <code>null</code>.
+     * @param currentTime
+     *            Current time in epoch milliseconds.
+     * @return Deadline in epoch milliseconds, or
+     *         {@link HazardEventDeadlineQueue#NO_DEADLINE} if there is none.
+     */
+    static long getNextTimeBoundaryDeadline(HazardStatus status,
+            Date expirationTime, long currentTime) {
+
+        /*
+         * Events that have not been issued may have boundaries that follow the
+         * current time, so they must be re-evaluated whenever it changes.
+         */
+        long deadline = HazardEventDeadlineQueue.NO_DEADLINE;
+        if (hasCurrentTimeDependentBoundaries(status)) {
+            deadline = currentTime + 1L;
+        }
+
+        /*
+         * An event becomes past its expiration time once the current time is
+         * later than said time. Once it is past it, it is kept due on every
+         * pass, even one made without the current time changing, so that it
+         * continues to be removed from the selection set each time, as it
+         * would be if all events were checked.
+         */
+        if (expirationTime != null) {
+            deadline = Math.min(deadline,
+                    (expirationTime.getTime() >= currentTime
+                            ? expirationTime.getTime() + 1L : currentTime));
+        }
+        return deadline;
+    }
+
+    /**
+     * Get the status an event should have at the specified time with regard
+     * to elapsing. An event is elapsed or elapsing once issued and past its
+     * end time, or immediately upon issuance if its type is so configured; an
+     * event that was elapsed by the session reverts to its status prior to
+     * that if the current time moves back before its end time.
+     * 
+     * @param status
+     *            Current status of the event.
+     * @param preExpiredStatus
+     *            Status of the event prior to its being elapsed by the
+     *            session, if any; may be <code>null</code>.
+     * @param elapseWhenIssued
+     *            Flag indicating whether or not the event's type is elapsed
+     *            immediately upon issuance.
+     * @param currentTime
+     *            Current time in epoch milliseconds.
+     * @param endTime
+     *            End time of the event in epoch milliseconds.
+     * @param expireTime
+     *            Time in epoch milliseconds at which the event goes from
+     *            elapsing to elapsed; ignored if <code>elapseWhenIssued</code>
+     *            is <code>true</code>.
+     * @return Status the event should have; this is <code>status</code> if
+     *         no change is needed.
+     */
+    static HazardStatus getElapseStatus(HazardStatus status,
+            HazardStatus preExpiredStatus, boolean elapseWhenIssued,
+            long currentTime, long endTime, long expireTime) {
+
+        /*
+         * If the event is meant to be immediately elapsed when issued, ensure
+         * that this is the case.
+         */
+        if (elapseWhenIssued) {
+            return (status == HazardStatus.ISSUED ? HazardStatus.ELAPSED
+                    : status);
+        }
+
+        /*
+         * If the event is issued and it should be expired, make it so;
+         * otherwise, if the event has previously been expired by this session,
+         * but the current time dictates that it should no longer be so,
+         * unexpire it; otherwise, if it is elapsing but should now be elapsed,
+         * or vice versa, change it appropriately.
+         */
+        if ((status == HazardStatus.ISSUED) && (currentTime >= endTime)) {
+            return (currentTime >= expireTime ? HazardStatus.ELAPSED
+                    : HazardStatus.ELAPSING);
+        } else if ((preExpiredStatus != null)
+                && ((status == HazardStatus.ELAPSING)
+                        || (status == HazardStatus.ELAPSED))
+                && (currentTime < endTime)) {
+            return preExpiredStatus;
+        } else if ((status == HazardStatus.ELAPSING)
+                && (currentTime >= expireTime)) {
+            return HazardStatus.ELAPSED;
+        } else if ((status == HazardStatus.ELAPSED)
+                && (currentTime < expireTime)) {
+            return HazardStatus.ELAPSING;
+        }
+        return status;
+    }
+
+    /**
+     * Get the next time at which an event may need to be elapsed, assuming
+     * that the current time only moves forward and that the event itself does
+     * not change.
+     * 
+     * @param status
+     *            Status of the event.
+     * @param elapseWhenIssued
+     *            Flag indicating whether or not the event's type is elapsed
+     *            immediately upon issuance.
+     * @param endTime
+     *            End time of the event in epoch milliseconds.
+     * @param expireTime
+     *            Time in epoch milliseconds at which the event goes from
+     *            elapsing to elapsed; ignored if <code>elapseWhenIssued</code>
+     *            is <code>true</code>.
+     * @return Deadline in epoch milliseconds, or
+     *         {@link HazardEventDeadlineQueue#NO_DEADLINE} if there is none.
+     */
+    static long getNextElapseDeadline(HazardStatus status,
+            boolean elapseWhenIssued, long endTime, long expireTime) {
+        if (elapseWhenIssued) {
+            return HazardEventDeadlineQueue.NO_DEADLINE;
+        }
+        switch (status) {
+        case ISSUED:
+            return endTime;
+        case ELAPSING:
+            return expireTime;
+        default:
+            return HazardEventDeadlineQueue.NO_DEADLINE;
+        }
+    }
+}
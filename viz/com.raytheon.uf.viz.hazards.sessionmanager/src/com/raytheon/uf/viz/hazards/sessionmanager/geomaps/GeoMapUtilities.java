@@ -35,6 +35,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.collect.Lists;
 import com.raytheon.uf.common.dataaccess.DataAccessLayer;
@@ -166,6 +167,10 @@ import gov.noaa.gsd.common.utilities.geometry.AdvancedGeometryUtilities;
  *                                      events.
  * Jan 17, 2018 33428      Chris.Golden Changed to use new version of method to get union of
  *                                      polygonal elements of geometry.
+ * Oct 18, 2026            agent        Made the map geometry cache and CWA geometry
+ *                                      safe to prefetch from another thread.
+ * Oct 18, 2026            agent        Added CWA geometry version, so that values derived
+ *                                      from the CWA geometry may be cached.
  * </pre>
  * 
  * @author blawrenc
@@ -252,7 +257,9 @@ public class GeoMapUtilities {
             .getHandler(GeoMapUtilities.class);
 
     /**
-     * Map for caching geometries retrieved from the geo database.
+     * Map for caching geometries retrieved from the geo database. Access is
+     * synchronized on the map, since geometries may be prefetched on another
+     * thread during session startup.
      */
     private static Map<String, Map<String, Set<IGeometryData>>> mapGeometryCache = new HashMap<>();
 
@@ -270,7 +277,12 @@ public class GeoMapUtilities {
     private final PrecisionModel precisionModel = new PrecisionModel(
             PrecisionModel.FLOATING_SINGLE);
 
-    private Geometry cwaGeometry;
+    private volatile Geometry cwaGeometry;
+
+    /**
+     * Version of the CWA geometry, incremented each time it is cleared.
+     */
+    private final AtomicLong cwaGeometryVersion = new AtomicLong();
 
     /**
      * Interface through which the user can be notified.
@@ -863,6 +875,20 @@ public class GeoMapUtilities {
      */
     private Set<IGeometryData> getMapGeometries(String mapDatabaseTableName,
             String mapLabelParameter, String cwa) {
+        synchronized (mapGeometryCache) {
+            return getMapGeometriesFromCacheOrDatabase(mapDatabaseTableName,
+                    mapLabelParameter, cwa);
+        }
+    }
+
+    /**
+     * Get the geometry data as per
+     * {@link #getMapGeometries(String, String, String)}; the caller must be
+     * synchronized on {@link #mapGeometryCache}.
+     */
+    private Set<IGeometryData> getMapGeometriesFromCacheOrDatabase(
+            String mapDatabaseTableName, String mapLabelParameter,
+            String cwa) {
 
         Map<String, Set<IGeometryData>> mapGeometryMap;
 
@@ -1509,13 +1535,32 @@ public class GeoMapUtilities {
      * @return County Warning Area geometry.
      */
     public Geometry getCwaGeometry() {
-        if (cwaGeometry == null) {
-            cwaGeometry = buildCwaGeometry();
+        Geometry geometry = cwaGeometry;
+        if (geometry == null) {
+            synchronized (this) {
+                geometry = cwaGeometry;
+                if (geometry == null) {
+                    geometry = buildCwaGeometry();
+                    cwaGeometry = geometry;
+                }
+            }
         }
-        return cwaGeometry;
+        return geometry;
+    }
+
+    /**
+     * Get the version of the CWA geometry. The version changes whenever the
+     * CWA geometry is cleared, so that anything derived from an earlier CWA
+     * geometry may be recognized as stale.
+     * 
+     * @return Version of the CWA geometry.
+     */
+    public long getCwaGeometryVersion() {
+        return cwaGeometryVersion.get();
     }
 
     public void clearCWAGeometry() {
         cwaGeometry = null;
+        cwaGeometryVersion.incrementAndGet();
     }
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ package com.raytheon.uf.viz.hazards.sessionmanager.impl;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 import com.raytheon.uf.common.activetable.request.ClearPracticeVTECTableRequest;
 import com.raytheon.uf.common.dataplugin.events.hazards.HazardNotification;
@@ -198,6 +200,9 @@ import gov.noaa.gsd.common.utilities.IRunnableAsynchronousScheduler;
  * Dec 17, 2017 20739      Chris.Golden Refactored away access to directly mutable session events.
  * Feb 13, 2018 44514      Chris.Golden Removed event-modifying script code, as such scripts are
  *                                      not to be used.
+ * Oct 18, 2026            agent        Profiled startup phases, and built the lock
+ *                                      manager and prefetched map geometries in
+ *                                      parallel with configuration loading.
  * </pre>
  * 
  * @author bsteffen
@@ -296,31 +301,106 @@ public class SessionManager implements ISessionManager<ObservedSettings> {
 
     private volatile boolean issueOngoing = false;
 
-    public SessionManager(IPathManager pathManager,
-            IHazardEventManager hazardEventManager,
+    public SessionManager(final IPathManager pathManager,
+            final IHazardEventManager hazardEventManager,
             ISpatialContextProvider spatialContextProvider,
             IDisplayResourceContextProvider displayResourceContextProvider,
-            IFrameContextProvider frameContextProvider, IMessenger messenger,
+            IFrameContextProvider frameContextProvider,
+            final IMessenger messenger,
             BoundedReceptionEventBus<Object> eventBus) {
         this.messenger = messenger;
         sender = new SessionNotificationSender(eventBus,
                 RUNNABLE_ASYNC_SCHEDULER);
-        timeManager = new SessionTimeManager(this, sender);
-        configManager = new SessionConfigurationManager(this, pathManager,
-                timeManager, sender);
-        lockManager = new SessionLockManager(this, sender, messenger);
+        SessionStartupProfiler profiler = new SessionStartupProfiler();
+        timeManager = profiler.run("time manager",
+                new Callable<ISessionTimeManager>() {
+
+                    @Override
+                    public ISessionTimeManager call() {
+                        return new SessionTimeManager(SessionManager.this,
+                                sender);
+                    }
+                });
+
+        /*
+         * The lock manager does not depend upon the configuration, so it is
+         * built, and subscribes to lock notifications, while the configuration
+         * is loading. It must be complete before the event manager is built,
+         * so that its intra-managerial handlers stay ahead of the latter's.
+         */
+        Future<ISessionLockManager> lockManagerFuture = profiler
+                .submit("lock manager", new Callable<ISessionLockManager>() {
+
+                    @Override
+                    public ISessionLockManager call() {
+                        return new SessionLockManager(SessionManager.this,
+                                sender, messenger);
+                    }
+                });
+        configManager = profiler.run("configuration",
+                new Callable<ISessionConfigurationManager<ObservedSettings>>() {
+
+                    @Override
+                    public ISessionConfigurationManager<ObservedSettings> call() {
+                        return new SessionConfigurationManager(
+                                SessionManager.this, pathManager, timeManager,
+                                sender);
+                    }
+                });
         geoMapUtilities = new GeoMapUtilities(this.configManager,
                 this.messenger);
-        SessionEventManager eventManager = new SessionEventManager(this,
-                timeManager, configManager, hazardEventManager, sender,
-                messenger);
+
+        /*
+         * Now that the site is known, fetch the map geometries for the county
+         * warning area in the background, so that they are ready by the time
+         * the first events are loaded and their hazard areas are computed.
+         */
+        profiler.submit("map geometry prefetch", new Callable<Void>() {
+
+            @Override
+            public Void call() {
+                try {
+                    geoMapUtilities.getCwaGeometry();
+                } catch (RuntimeException e) {
+                    statusHandler.warn("Could not prefetch map geometries; "
+                            + "they will be fetched when first needed.", e);
+                    throw e;
+                }
+                return null;
+            }
+        });
+        lockManager = profiler.await(lockManagerFuture);
+        final SessionEventManager eventManager = profiler.run("event manager",
+                new Callable<SessionEventManager>() {
+
+                    @Override
+                    public SessionEventManager call() {
+                        return new SessionEventManager(SessionManager.this,
+                                timeManager, configManager, hazardEventManager,
+                                sender, messenger);
+                    }
+                });
         this.eventManager = eventManager;
         selectionManager = new SessionSelectionManager(eventManager, sender);
-        recommenderManager = new SessionRecommenderManager(this, sender,
-                messenger);
-        productManager = new SessionProductManager(this, timeManager,
-                configManager, eventManager, selectionManager, sender,
-                messenger);
+        recommenderManager = profiler.run("recommender manager",
+                new Callable<ISessionRecommenderManager>() {
+
+                    @Override
+                    public ISessionRecommenderManager call() {
+                        return new SessionRecommenderManager(
+                                SessionManager.this, sender, messenger);
+                    }
+                });
+        productManager = profiler.run("product manager",
+                new Callable<ISessionProductManager>() {
+
+                    @Override
+                    public ISessionProductManager call() {
+                        return new SessionProductManager(SessionManager.this,
+                                timeManager, configManager, eventManager,
+                                selectionManager, sender, messenger);
+                    }
+                });
         alertsManager = new HazardSessionAlertsManager(sender,
                 getRunnableAsynchronousScheduler(), timeManager);
         alertStrategy = new HazardEventExpirationAlertStrategy(alertsManager,
@@ -336,8 +416,15 @@ public class SessionManager implements ISessionManager<ObservedSettings> {
          * TODO Where should a call be made to remove the NotificationJob
          * observer (done in the stop method)?
          */
-        alertsManager.start();
+        profiler.run("alerts manager", new Callable<Void>() {
 
+            @Override
+            public Void call() {
+                alertsManager.start();
+                return null;
+            }
+        });
+        profiler.finish();
     }
 
     @Override
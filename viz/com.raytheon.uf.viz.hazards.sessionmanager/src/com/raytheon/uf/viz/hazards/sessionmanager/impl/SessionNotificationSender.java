@@ -55,6 +55,7 @@ import gov.noaa.gsd.common.utilities.Merger;
  *                                      being ended to be sent after all the
  *                                      notifications that were accumulated have
  *                                      themselves been sent.
+ * Oct 18, 2026            agent        Made handler registration thread-safe.
  * </pre>
  * 
  * @author bsteffen
@@ -72,7 +73,9 @@ public class SessionNotificationSender implements ISessionNotificationSender {
      * that are to be notified when notifications of those types are received
      * for posting. Note that the the values are sets that use the order in
      * which handlers were added to the sets as the order of iteration, allowing
-     * handlers that were ordered earlier to be executed earlier.
+     * handlers that were ordered earlier to be executed earlier. Access is
+     * synchronized on the map itself, since managers may register their
+     * handlers from different threads while the session is starting up.
      */
     private final Map<Class<? extends ISessionNotification>, Set<IIntraNotificationHandler<? extends ISessionNotification>>> intraHandlersForNotificationTypes = new HashMap<>();
 
@@ -133,9 +136,11 @@ public class SessionNotificationSender implements ISessionNotificationSender {
     @Override
     public <N extends ISessionNotification> void unregisterIntraNotificationHandler(
             IIntraNotificationHandler<N> handler) {
-        for (Set<IIntraNotificationHandler<?>> handlers : intraHandlersForNotificationTypes
-                .values()) {
-            handlers.remove(handler);
+        synchronized (intraHandlersForNotificationTypes) {
+            for (Set<IIntraNotificationHandler<?>> handlers : intraHandlersForNotificationTypes
+                    .values()) {
+                handlers.remove(handler);
+            }
         }
     }
 
@@ -225,21 +230,23 @@ public class SessionNotificationSender implements ISessionNotificationSender {
     private void associateNotificationTypeWithHandler(
             Class<? extends ISessionNotification> type,
             IIntraNotificationHandler<? extends ISessionNotification> handler) {
-        Set<IIntraNotificationHandler<?>> handlers = intraHandlersForNotificationTypes
-                .get(type);
+        synchronized (intraHandlersForNotificationTypes) {
+            Set<IIntraNotificationHandler<?>> handlers = intraHandlersForNotificationTypes
+                    .get(type);
 
-        /*
-         * If no handler set was found, create a set that iterates in the order
-         * in which handlers were added. This allows the order in which handlers
-         * are registered using this method to be the order in which they are
-         * executed.
-         */
-        if (handlers == null) {
-            handlers = new LinkedHashSet<>();
-            intraHandlersForNotificationTypes.put(type, handlers);
-        }
+            /*
+             * If no handler set was found, create a set that iterates in the
+             * order in which handlers were added. This allows the order in
+             * which handlers are registered using this method to be the order
+             * in which they are executed.
+             */
+            if (handlers == null) {
+                handlers = new LinkedHashSet<>();
+                intraHandlersForNotificationTypes.put(type, handlers);
+            }
 
-        handlers.add(handler);
+            handlers.add(handler);
+        }
     }
 
     /**
@@ -253,8 +260,15 @@ public class SessionNotificationSender implements ISessionNotificationSender {
     @SuppressWarnings("unchecked")
     private <N extends ISessionNotification> void notifyIntraNotificationHandlers(
             final N notification) {
-        Set<IIntraNotificationHandler<?>> handlers = intraHandlersForNotificationTypes
-                .get(notification.getClass());
+        List<IIntraNotificationHandler<?>> handlers = null;
+        synchronized (intraHandlersForNotificationTypes) {
+            Set<IIntraNotificationHandler<?>> handlerSet = intraHandlersForNotificationTypes
+                    .get(notification.getClass());
+            if (handlerSet != null) {
+                handlers = new ArrayList<IIntraNotificationHandler<?>>(
+                        handlerSet);
+            }
+        }
         if (handlers != null) {
             for (final IIntraNotificationHandler<?> handler : handlers) {
                 if (((IIntraNotificationHandler<? super N>) handler)
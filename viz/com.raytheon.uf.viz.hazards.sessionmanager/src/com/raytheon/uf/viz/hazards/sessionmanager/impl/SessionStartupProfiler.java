@@ -0,0 +1,284 @@
+/**
+ * This software was developed and / or modified by Raytheon Company,
+ * pursuant to Contract DG133W-05-CQ-1067 with the US Government.
+ * 
+ * U.S. EXPORT CONTROLLED TECHNICAL DATA
+ * This software product contains export-restricted data whose
+ * export/transfer/disclosure is restricted by U.S. law. Dissemination
+ * to non-U.S. persons whether in the United States or abroad requires
+ * an export license or other authorization.
+ * 
+ * Contractor Name:        Raytheon Company
+ * Contractor Address:     6825 Pine Street, Suite 340
+ *                         Mail Stop B8
+ *                         Omaha, NE 68106
+ *                         402.291.0100
+ * 
+ * See the AWIPS II Master Rights File ("Master Rights File.pdf") for
+ * further licensing information.
+ **/
+package com.raytheon.uf.viz.hazards.sessionmanager.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * Profiler for the startup of a session. Each phase of the startup is run
+ * through the profiler, either on the calling thread or, if it does not
+ * depend upon the phases still running, on one of the profiler's own threads,
+ * and is recorded as a timed span. Once the session manager has finished
+ * constructing itself and every phase handed to the profiler has completed, a
+ * report of the spans is logged, so that cold-start times may be compared
+ * across releases and sites.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 18, 2026            agent       Initial creation.
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class SessionStartupProfiler {
+
+    private static final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(SessionStartupProfiler.class);
+
+    /**
+     * Timed span of a single startup phase.
+     */
+    private static class Span {
+
+        private final String phase;
+
+        private final String thread;
+
+        private final long startNanos;
+
+        private final long endNanos;
+
+        private final boolean failed;
+
+        private Span(String phase, String thread, long startNanos,
+                long endNanos, boolean failed) {
+            this.phase = phase;
+            this.thread = thread;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.failed = failed;
+        }
+    }
+
+    /**
+     * Time at which the startup began.
+     */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Completed spans, in order of completion.
+     */
+    private final List<Span> spans = new ArrayList<>();
+
+    /**
+     * Number of phases that have not yet completed, plus one for the startup
+     * as a whole until {@link #finish()} is called.
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger(1);
+
+    /**
+     * Executor for phases run in parallel; created when first needed.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Run the specified phase on the calling thread.
+     * 
+     * @param phase
+     *            Name of the phase.
+     * @param task
+     *            Task performing the phase.
+     * @return Result of the task.
+     */
+    <T> T run(String phase, Callable<T> task) {
+        pendingCount.incrementAndGet();
+        try {
+            return execute(phase, task);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(
+                    "Session startup phase \"" + phase + "\" failed", e);
+        } finally {
+            phaseCompleted();
+        }
+    }
+
+    /**
+     * Run the specified phase in parallel with the calling thread.
+     * 
+     * @param phase
+     *            Name of the phase.
+     * @param task
+     *            Task performing the phase.
+     * @return Future providing the result of the task.
+     */
+    <T> Future<T> submit(final String phase, final Callable<T> task) {
+        pendingCount.incrementAndGet();
+        synchronized (this) {
+            if (executor == null) {
+                executor = Executors.newCachedThreadPool(new ThreadFactory() {
+
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r,
+                                "HazardServices-startup-"
+                                        + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+        }
+        return executor.submit(new Callable<T>() {
+
+            @Override
+            public T call() throws Exception {
+                try {
+                    return execute(phase, task);
+                } finally {
+                    phaseCompleted();
+                }
+            }
+        });
+    }
+
+    /**
+     * Wait for the specified phase run in parallel to complete, rethrowing any
+     * unchecked exception or error it threw.
+     * 
+     * @param future
+     *            Future returned by {@link #submit(String, Callable)}.
+     * @return Result of the phase's task.
+     */
+    <T> T await(Future<T> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Session startup phase failed",
+                    cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Indicate that the session manager has finished starting up. Phases
+     * still running in parallel continue, and the report is logged when the
+     * last of them completes.
+     */
+    void finish() {
+        phaseCompleted();
+    }
+
+    /**
+     * Run the specified phase's task on the current thread, recording its
+     * span.
+     */
+    private <T> T execute(String phase, Callable<T> task) throws Exception {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = task.call();
+            failed = false;
+            return result;
+        } finally {
+            Span span = new Span(phase, Thread.currentThread().getName(),
+                    start, System.nanoTime(), failed);
+            synchronized (spans) {
+                spans.add(span);
+            }
+        }
+    }
+
+    /**
+     * Note that a phase, or the startup as a whole, has completed, logging the
+     * report and releasing the executor if nothing remains pending.
+     */
+    private void phaseCompleted() {
+        if (pendingCount.decrementAndGet() > 0) {
+            return;
+        }
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+        logReport();
+    }
+
+    /**
+     * Log the report of all spans.
+     */
+    private void logReport() {
+        List<Span> completedSpans;
+        synchronized (spans) {
+            completedSpans = new ArrayList<>(spans);
+        }
+        long endNanos = startNanos;
+        long summedNanos = 0L;
+        StringBuilder details = new StringBuilder();
+        for (Span span : completedSpans) {
+            endNanos = Math.max(endNanos, span.endNanos);
+            summedNanos += span.endNanos - span.startNanos;
+            details.append("\n    ").append(span.phase).append(": +")
+                    .append(toMillis(span.startNanos - startNanos))
+                    .append(" ms, ")
+                    .append(toMillis(span.endNanos - span.startNanos))
+                    .append(" ms on ").append(span.thread);
+            if (span.failed) {
+                details.append(" (failed)");
+            }
+        }
+        statusHandler.info("Hazard Services session startup took "
+                + toMillis(endNanos - startNanos) + " ms ("
+                + toMillis(summedNanos) + " ms of phases):" + details);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
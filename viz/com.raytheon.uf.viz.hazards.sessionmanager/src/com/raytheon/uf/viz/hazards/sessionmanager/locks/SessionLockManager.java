@@ -84,6 +84,8 @@ import com.raytheon.viz.core.mode.CAVEMode;
  *                                       event could not occur because the
  *                                       hazard event was (rightfully) not
  *                                       locked to begin with.
+ * Oct 18, 2026            agent         Subscribe with a mode message
+ *                                       selector.
  * </pre>
  * 
  * @author Robert.Blum
@@ -196,7 +198,7 @@ public class SessionLockManager
         this.sender = sender;
         this.messenger = messenger;
         NotificationManagerJob.addObserver(HazardLockNotification.HAZARD_TOPIC,
-                this);
+                this, HazardLockNotification.getMessageSelector(practice));
         sender.registerIntraNotificationHandler(
                 Sets.newHashSet(SettingsModified.class, SettingsLoaded.class),
                 settingsChangeHandler);
@@ -357,8 +359,9 @@ public class SessionLockManager
 
     @Override
     public void shutdown() {
-        NotificationManagerJob
-                .removeObserver(HazardLockNotification.HAZARD_TOPIC, this);
+        NotificationManagerJob.removeObserver(
+                HazardLockNotification.HAZARD_TOPIC, this,
+                HazardLockNotification.getMessageSelector(practice));
         sender.unregisterIntraNotificationHandler(
                 previewOrIssueOngoingChangeHandler);
         sender.unregisterIntraNotificationHandler(settingsChangeHandler);
@@ -61,6 +61,7 @@ import com.raytheon.uf.common.dataplugin.events.hazards.event.SessionHazardEvent
 import com.raytheon.uf.common.dataplugin.events.hazards.registry.HazardEventServiceException;
 import com.raytheon.uf.common.dataplugin.events.locks.LockInfo;
 import com.raytheon.uf.common.dataplugin.events.locks.LockInfo.LockStatus;
+import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.HazardConflictQuery;
 import com.raytheon.uf.common.dataplugin.hazards.interoperability.registry.services.client.InteroperabilityRequestServices;
 import com.raytheon.uf.common.hazards.configuration.types.HazardTypeEntry;
 import com.raytheon.uf.common.hazards.configuration.types.HazardTypes;
@@ -296,6 +297,14 @@ import gov.noaa.gsd.viz.megawidgets.sideeffects.PythonSideEffectsApplier;
  *                                      events.
  * Feb 21, 2018 46736      Chris.Golden Changed call to mergeHazardEvents() to use new signature.
  * May 08, 2018 15561      Chris.Golden Changed BaseHazardEvent to SessionHazardEvent.
+ * Oct 18, 2026            agent        Changed issuance to check all the generated events for
+ *                                      grid conflicts with a single bulk request, instead of
+ *                                      one request per pairing of session and generated events.
+ * Oct 18, 2026            agent        Changed event set building to prepare each event only
+ *                                      once per generation request, sharing the prepared
+ *                                      snapshots between all the generators in the request.
+ * Oct 19, 2026            agent        Changed product updates and storage to use the product
+ *                                      dictionaries as generated, rather than read-only views.
  * </pre>
  * 
  * @author bsteffen
@@ -373,6 +382,12 @@ public class SessionProductManager implements ISessionProductManager {
     /** Used to order product dissemination. */
     private final Map<IGeneratedProduct, ProductGeneratorInformation> pgiMap = new HashMap<>();
 
+    /**
+     * Event snapshots for the generation request currently being processed, if
+     * any; see {@link #beginEventSnapshots(boolean)}.
+     */
+    private GenerationEventSnapshots eventSnapshots;
+
     /**
      * Intra-managerial notification handler for event time range changes.
      */
@@ -822,8 +837,7 @@ public class SessionProductManager implements ISessionProductManager {
          * Just terminate ongoing operation and return if there is nothing to
          * do.
          */
-        if (!eventManager.setLowResolutionGeometriesVisibleForSelectedEvents(
-                Originator.OTHER)) {
+        if (!setLowResolutionGeometriesVisible(getEventSnapshots(issue))) {
             setPreviewOrIssueOngoing(issue, false);
             return false;
         }
@@ -860,7 +874,7 @@ public class SessionProductManager implements ISessionProductManager {
                 List<Map<String, Serializable>> dataList = new ArrayList<>(
                         productList.size());
                 for (IGeneratedProduct product : productList) {
-                    dataList.add(product.getData());
+                    dataList.add(product.getGeneratedData());
                 }
                 productGen.update(productGeneratorName, events, dataList,
                         productFormats, listener);
@@ -901,6 +915,20 @@ public class SessionProductManager implements ISessionProductManager {
 
         if (pgEntry.getChangeHazardStatus() == true) {
 
+            /*
+             * Check all the events for which products were generated for grid
+             * conflicts at once.
+             */
+            Map<String, Boolean> conflictsForEventIdentifiers = Collections
+                    .emptyMap();
+            try {
+                conflictsForEventIdentifiers = checkForConflicts(
+                        productGeneratorInformation.getGeneratedProducts()
+                                .getEventSet());
+            } catch (HazardEventServiceException e) {
+                statusHandler.error("Error checking for conflicts", e);
+            }
+
             /*
              * Need to look at all events in the SessionManager because some
              * events for which products were generated may not have been
@@ -916,8 +944,11 @@ public class SessionProductManager implements ISessionProductManager {
                 for (IEvent ev : productGeneratorInformation
                         .getGeneratedProducts().getEventSet()) {
                     IReadableHazardEvent updatedEvent = (IReadableHazardEvent) ev;
-                    try {
-                        if (checkForConflicts(updatedEvent)) {
+                    if (sessionEvent.getEventID()
+                            .equals(updatedEvent.getEventID())) {
+
+                        if (Boolean.TRUE.equals(conflictsForEventIdentifiers
+                                .get(updatedEvent.getEventID()))) {
                             statusHandler.info(
                                     "There is a grid conflict with the hazard event.");
                             // TODO It needs to be decided if we should prevent
@@ -926,13 +957,6 @@ public class SessionProductManager implements ISessionProductManager {
                             // from issuing a hazard if there is a grid
                             // conflict.
                         }
-                    } catch (HazardEventServiceException e) {
-                        // TODO Auto-generated catch block. Please revise as
-                        // appropriate.
-                        statusHandler.error("Error checking for conflicts", e);
-                    }
-                    if (sessionEvent.getEventID()
-                            .equals(updatedEvent.getEventID())) {
 
                         eventManager.mergeHazardEvents(updatedEvent,
                                 sessionEvent, true, true, false, false,
@@ -1220,21 +1244,34 @@ public class SessionProductManager implements ISessionProductManager {
         }
 
         /*
-         * See if staging is required; if it is, request it and do nothing more.
+         * Share event snapshots between the staging check and the generation
+         * that may follow it.
          */
-        StagingRequired stagingRequired = getProductStagingRequired(
-                allProductGeneratorInfo, issue);
-        if (stagingRequired == StagingRequired.NO_APPLICABLE_EVENTS) {
-            setPreviewOrIssueOngoing(issue, false);
-            return;
-        } else if (stagingRequired != StagingRequired.NONE) {
-            notificationSender
-                    .postNotificationAsync(new ProductStagingRequired(issue));
-            return;
-        }
-        runProductGeneration(
-                productGeneratorInformationForSelectedHazardsCache.get(issue),
+        GenerationEventSnapshots previousEventSnapshots = beginEventSnapshots(
                 issue);
+        try {
+
+            /*
+             * See if staging is required; if it is, request it and do nothing
+             * more.
+             */
+            StagingRequired stagingRequired = getProductStagingRequired(
+                    allProductGeneratorInfo, issue);
+            if (stagingRequired == StagingRequired.NO_APPLICABLE_EVENTS) {
+                setPreviewOrIssueOngoing(issue, false);
+                return;
+            } else if (stagingRequired != StagingRequired.NONE) {
+                notificationSender.postNotificationAsync(
+                        new ProductStagingRequired(issue));
+                return;
+            }
+            runProductGeneration(
+                    productGeneratorInformationForSelectedHazardsCache
+                            .get(issue),
+                    issue);
+        } finally {
+            eventSnapshots = previousEventSnapshots;
+        }
     }
 
     /*
@@ -1473,13 +1510,19 @@ public class SessionProductManager implements ISessionProductManager {
          * the call to getProductStagingRequired() will have been executed by
          * the required generateProducts() before this code is executed).
          */
-        if (addFinalProductGeneratorInformationForSelectedHazards(issue,
-                allMatchingProductGeneratorInfo) == StagingRequired.PRODUCT_SPECIFIC_INFO) {
-            return true;
+        GenerationEventSnapshots previousEventSnapshots = beginEventSnapshots(
+                issue);
+        try {
+            if (addFinalProductGeneratorInformationForSelectedHazards(issue,
+                    allMatchingProductGeneratorInfo) == StagingRequired.PRODUCT_SPECIFIC_INFO) {
+                return true;
+            }
+            productGeneratorInformationForSelectedHazardsCache.put(issue,
+                    allMatchingProductGeneratorInfo);
+            runProductGeneration(allMatchingProductGeneratorInfo, issue);
+        } finally {
+            eventSnapshots = previousEventSnapshots;
         }
-        productGeneratorInformationForSelectedHazardsCache.put(issue,
-                allMatchingProductGeneratorInfo);
-        runProductGeneration(allMatchingProductGeneratorInfo, issue);
         return false;
     }
 
@@ -1604,21 +1647,25 @@ public class SessionProductManager implements ISessionProductManager {
     private EventSet<IEvent> buildEventSet(
             ProductGeneratorInformation productGeneratorInformation,
             boolean issue) {
-        if (eventManager.setLowResolutionGeometriesVisibleForSelectedEvents(
-                Originator.OTHER) == false) {
+        GenerationEventSnapshots snapshots = getEventSnapshots(issue);
+        if (setLowResolutionGeometriesVisible(snapshots) == false) {
             return null;
         }
 
         /*
-         * Update the UGC information in the Hazard Event
+         * Update the UGC information in the Hazard Event, unless this has
+         * already been done for this generation request.
          */
-        try {
-            eventManager.updateSelectedHazardUgcs();
-        } catch (ProductGenerationException e) {
-            messenger.getWarner().warnUser("Product Generation Error",
-                    productGeneratorInformation.getProductGeneratorName()
-                            + " unable to run: " + e.getMessage());
-            return null;
+        if (snapshots.ugcsUpdated == false) {
+            try {
+                eventManager.updateSelectedHazardUgcs();
+            } catch (ProductGenerationException e) {
+                messenger.getWarner().warnUser("Product Generation Error",
+                        productGeneratorInformation.getProductGeneratorName()
+                                + " unable to run: " + e.getMessage());
+                return null;
+            }
+            snapshots.ugcsUpdated = true;
         }
 
         EventSet<IEvent> events = new EventSet<IEvent>();
@@ -1648,102 +1695,185 @@ public class SessionProductManager implements ISessionProductManager {
                 events.addAttribute(entry.getKey(), entry.getValue());
             }
         }
+
+        /*
+         * Give each event set its own copies of the events, so that changes
+         * made by one generator are not seen by another, but prepare each event
+         * only once per generation request.
+         */
         for (IReadableHazardEvent event : productGeneratorInformation
                 .getProductEvents()) {
-            IHazardEvent newEvent = new SessionHazardEvent(event);
-            for (Entry<String, Serializable> entry : newEvent
-                    .getHazardAttributes().entrySet()) {
-                if (entry.getValue() instanceof Date) {
-                    entry.setValue(((Date) entry.getValue()).getTime());
-                }
+            IHazardEvent snapshot = snapshots.snapshotsForEventIdentifiers
+                    .get(event.getEventID());
+            if (snapshot == null) {
+                snapshot = createEventSnapshot(event, issue);
+                snapshots.snapshotsForEventIdentifiers.put(event.getEventID(),
+                        snapshot);
             }
+            events.add(new SessionHazardEvent(snapshot));
+        }
+        return events;
+    }
 
-            /* Make an ArrayList of any polygon geometries we encounter. */
-            /*
-             * Later, if non-zero length, will make GeometryCollection with it.
-             */
-            Geometry geometryCollection = null;
-            List<Geometry> polygonGeometries = new ArrayList<>();
-
-            String headline = configManager.getHeadline(newEvent);
-            newEvent.addHazardAttribute(HazardConstants.HEADLINE, headline);
-            if (newEvent.getHazardAttribute(
-                    HazardConstants.FORECAST_POINT) != null) {
-                newEvent.addHazardAttribute(HazardConstants.GEO_TYPE,
-                        HazardConstants.POINT_TYPE);
-            } else {
-                geometryCollection = newEvent.getProductGeometry();
-
-                for (int i = 0; i < geometryCollection
-                        .getNumGeometries(); ++i) {
-                    Geometry geometry = geometryCollection.getGeometryN(i);
-
-                    if (geometry instanceof Puntal) {
-                        newEvent.addHazardAttribute(HazardConstants.GEO_TYPE,
-                                HazardConstants.POINT_TYPE);
-                    } else if (geometry instanceof Lineal) {
-                        newEvent.addHazardAttribute(HazardConstants.GEO_TYPE,
-                                HazardConstants.LINE_TYPE);
-                    } else if (geometry instanceof Polygonal) {
-                        newEvent.addHazardAttribute(HazardConstants.GEO_TYPE,
-                                HazardConstants.AREA_TYPE);
-                        polygonGeometries.add(geometry);
-                    } else {
-                        statusHandler
-                                .warn("SessionProductManager: Geometry type "
-                                        + geometry.getClass()
-                                        + " not supported. GEO_TYPE hazard attribute not set.");
-                    }
+    /**
+     * Create a snapshot of the specified event prepared for product
+     * generation.
+     * 
+     * @param event
+     *            Event to be prepared.
+     * @param issue
+     *            Flag indicating whether or not the event is being prepared for
+     *            issuance; if false, it is being prepared for preview.
+     * @return Snapshot of the event.
+     */
+    private IHazardEvent createEventSnapshot(IReadableHazardEvent event,
+            boolean issue) {
+        IHazardEvent newEvent = new SessionHazardEvent(event);
+        for (Entry<String, Serializable> entry : newEvent
+                .getHazardAttributes().entrySet()) {
+            if (entry.getValue() instanceof Date) {
+                entry.setValue(((Date) entry.getValue()).getTime());
+            }
+        }
 
-                } /* end loop over geometryCollection */
+        /* Make an ArrayList of any polygon geometries we encounter. */
+        /*
+         * Later, if non-zero length, will make GeometryCollection with it.
+         */
+        Geometry geometryCollection = null;
+        List<Geometry> polygonGeometries = new ArrayList<>();
+
+        String headline = configManager.getHeadline(newEvent);
+        newEvent.addHazardAttribute(HazardConstants.HEADLINE, headline);
+        if (newEvent.getHazardAttribute(
+                HazardConstants.FORECAST_POINT) != null) {
+            newEvent.addHazardAttribute(HazardConstants.GEO_TYPE,
+                    HazardConstants.POINT_TYPE);
+        } else {
+            geometryCollection = newEvent.getProductGeometry();
+
+            for (int i = 0; i < geometryCollection
+                    .getNumGeometries(); ++i) {
+                Geometry geometry = geometryCollection.getGeometryN(i);
+
+                if (geometry instanceof Puntal) {
+                    newEvent.addHazardAttribute(HazardConstants.GEO_TYPE,
+                            HazardConstants.POINT_TYPE);
+                } else if (geometry instanceof Lineal) {
+                    newEvent.addHazardAttribute(HazardConstants.GEO_TYPE,
+                            HazardConstants.LINE_TYPE);
+                } else if (geometry instanceof Polygonal) {
+                    newEvent.addHazardAttribute(HazardConstants.GEO_TYPE,
+                            HazardConstants.AREA_TYPE);
+                    polygonGeometries.add(geometry);
+                } else {
+                    statusHandler
+                            .warn("SessionProductManager: Geometry type "
+                                    + geometry.getClass()
+                                    + " not supported. GEO_TYPE hazard attribute not set.");
+                }
 
-            } /* if not a polygon event type */
-            newEvent.removeHazardAttribute(HazardConstants.HAZARD_EVENT_TYPE);
+            } /* end loop over geometryCollection */
 
-            /*
-             * Make descriptions of portions of counties if we have any polygon
-             * geometries for this event.
-             */
-            HazardTypeEntry hazardTypeEntry = configManager.getHazardTypes()
-                    .get(HazardEventUtilities.getHazardType(newEvent));
-            Set<String> ugcTypes = hazardTypeEntry.getUgcTypes();
-            if (ugcTypes.contains(MAPDATA_COUNTY)
-                    && polygonGeometries.size() > 0) {
-                if (polygonGeometries.size() < geometryCollection
-                        .getNumGeometries()) {
-                    geometryCollection = new GeometryFactory()
-                            .buildGeometry(polygonGeometries);
-                }
-                if (!configManager.getSiteID().equals(NATIONAL)) {
-                    partsOfCounty.addPortionsDescriptionToEvent(
-                            geometryCollection, newEvent,
-                            configManager.getSiteID());
-                }
-            }
+        } /* if not a polygon event type */
+        newEvent.removeHazardAttribute(HazardConstants.HAZARD_EVENT_TYPE);
 
-            /*
-             * Need to re-initialize product information when issuing
-             */
-            if (issue) {
-                newEvent.removeHazardAttribute(HazardConstants.ISSUE_TIME);
-                newEvent.removeHazardAttribute(HazardConstants.VTEC_CODES);
-                newEvent.removeHazardAttribute(HazardConstants.ETNS);
-                newEvent.removeHazardAttribute(HazardConstants.PILS);
+        /*
+         * Make descriptions of portions of counties if we have any polygon
+         * geometries for this event.
+         */
+        HazardTypeEntry hazardTypeEntry = configManager.getHazardTypes()
+                .get(HazardEventUtilities.getHazardType(newEvent));
+        Set<String> ugcTypes = hazardTypeEntry.getUgcTypes();
+        if (ugcTypes.contains(MAPDATA_COUNTY)
+                && polygonGeometries.size() > 0) {
+            if (polygonGeometries.size() < geometryCollection
+                    .getNumGeometries()) {
+                geometryCollection = new GeometryFactory()
+                        .buildGeometry(polygonGeometries);
+            }
+            if (!configManager.getSiteID().equals(NATIONAL)) {
+                partsOfCounty.addPortionsDescriptionToEvent(
+                        geometryCollection, newEvent,
+                        configManager.getSiteID());
             }
-            newEvent.setExpirationTime(null);
-            newEvent.removeHazardAttribute(HazardConstants.ISSUED);
-            newEvent.removeHazardAttribute(
-                    HazardConstants.HAZARD_EVENT_CATEGORY);
+        }
 
-            /*
-             * TODO: Remove this once the HAZARD_EVENT_SELECTED attribute has
-             * been entirely done away with.
-             */
-            newEvent.removeHazardAttribute(HAZARD_EVENT_SELECTED);
+        /*
+         * Need to re-initialize product information when issuing
+         */
+        if (issue) {
+            newEvent.removeHazardAttribute(HazardConstants.ISSUE_TIME);
+            newEvent.removeHazardAttribute(HazardConstants.VTEC_CODES);
+            newEvent.removeHazardAttribute(HazardConstants.ETNS);
+            newEvent.removeHazardAttribute(HazardConstants.PILS);
+        }
+        newEvent.setExpirationTime(null);
+        newEvent.removeHazardAttribute(HazardConstants.ISSUED);
+        newEvent.removeHazardAttribute(
+                HazardConstants.HAZARD_EVENT_CATEGORY);
 
-            events.add(newEvent);
-        } /* end loop over information.getProductEvents */
-        return events;
+        /*
+         * TODO: Remove this once the HAZARD_EVENT_SELECTED attribute has
+         * been entirely done away with.
+         */
+        newEvent.removeHazardAttribute(HAZARD_EVENT_SELECTED);
+
+        return newEvent;
+    }
+
+    /**
+     * Begin sharing event snapshots between the event sets built for the
+     * specified kind of generation, unless such sharing is already under way.
+     * Once the event sets for the generation request have been built, the
+     * caller must restore {@link #eventSnapshots} to the returned value.
+     * 
+     * @param issue
+     *            Flag indicating whether or not the generation is an issuance;
+     *            if false, it is a preview.
+     * @return Event snapshots that were in use before this invocation, if any.
+     */
+    private GenerationEventSnapshots beginEventSnapshots(boolean issue) {
+        GenerationEventSnapshots previousEventSnapshots = eventSnapshots;
+        if ((eventSnapshots == null) || (eventSnapshots.issue != issue)) {
+            eventSnapshots = new GenerationEventSnapshots(issue);
+        }
+        return previousEventSnapshots;
+    }
+
+    /**
+     * Get the event snapshots to be used when building an event set for the
+     * specified kind of generation. If no generation request is under way, the
+     * returned snapshots are used only for the one event set.
+     * 
+     * @param issue
+     *            Flag indicating whether or not the generation is an issuance;
+     *            if false, it is a preview.
+     * @return Event snapshots.
+     */
+    private GenerationEventSnapshots getEventSnapshots(boolean issue) {
+        return ((eventSnapshots != null) && (eventSnapshots.issue == issue)
+                ? eventSnapshots : new GenerationEventSnapshots(issue));
+    }
+
+    /**
+     * Ensure the low-resolution geometries of the selected events are visible,
+     * unless this has already been done for the generation request with the
+     * specified snapshots.
+     * 
+     * @param snapshots
+     *            Event snapshots for the generation request.
+     * @return True if the low-resolution geometries are visible, false
+     *         otherwise.
+     */
+    private boolean setLowResolutionGeometriesVisible(
+            GenerationEventSnapshots snapshots) {
+        if (snapshots.lowResolutionGeometriesVisible == false) {
+            snapshots.lowResolutionGeometriesVisible = eventManager
+                    .setLowResolutionGeometriesVisibleForSelectedEvents(
+                            Originator.OTHER);
+        }
+        return snapshots.lowResolutionGeometriesVisible;
     }
 
     private boolean areYouSure(String eventLabel) {
@@ -1819,7 +1949,7 @@ public class SessionProductManager implements ISessionProductManager {
 
             issueTimeDate = new Date(issueTime);
             ProductDataUtil.createOrUpdateProductData(caveModeStr, productInfo,
-                    eventIDs, siteID, issueTimeDate, product.getData(),
+                    eventIDs, siteID, issueTimeDate, product.getGeneratedData(),
                     product.getEditableEntries());
         }
 
@@ -1859,18 +1989,75 @@ public class SessionProductManager implements ISessionProductManager {
         }
     }
 
-    private boolean checkForConflicts(IReadableHazardEvent hazardEvent)
+    /**
+     * Check the specified events for conflicts with existing grids using a
+     * single request.
+     * 
+     * @param events
+     *            Events to be checked; any that are not hazard events are
+     *            ignored.
+     * @return Map of event identifiers to flags indicating whether or not the
+     *         corresponding events have conflicts.
+     * @throws HazardEventServiceException
+     *             If the check fails.
+     */
+    private Map<String, Boolean> checkForConflicts(EventSet<IEvent> events)
             throws HazardEventServiceException {
+        List<HazardConflictQuery> queries = new ArrayList<>(events.size());
+        for (IEvent event : events) {
+            if (event instanceof IReadableHazardEvent) {
+                IReadableHazardEvent hazardEvent = (IReadableHazardEvent) event;
+                queries.add(new HazardConflictQuery(hazardEvent.getEventID(),
+                        hazardEvent.getPhenomenon() + "."
+                                + hazardEvent.getSignificance(),
+                        hazardEvent.getSiteID(), hazardEvent.getStartTime(),
+                        hazardEvent.getEndTime()));
+            }
+        }
+        if (queries.isEmpty()) {
+            return Collections.emptyMap();
+        }
         boolean practice = (CAVEMode.OPERATIONAL.equals(caveMode) == false);
         InteroperabilityRequestServices services = InteroperabilityRequestServices
                 .getServices(practice);
-        boolean hasConflicts = services.hasConflicts(
-                hazardEvent.getPhenomenon() + "."
-                        + hazardEvent.getSignificance(),
-                hazardEvent.getSiteID(), hazardEvent.getStartTime(),
-                hazardEvent.getEndTime());
+        return services.getConflicts(queries);
+    }
+
+    /**
+     * Events prepared for product generation during a single generation
+     * request, so that events used by more than one product generator, or used
+     * both to determine whether staging is required and then to generate, are
+     * prepared only once. The snapshots themselves are never handed to product
+     * generators, and thus remain unchanged for the life of the request.
+     */
+    private static class GenerationEventSnapshots {
+
+        /**
+         * Flag indicating whether or not the request is an issuance; if false,
+         * it is a preview.
+         */
+        private final boolean issue;
+
+        /**
+         * Flag indicating whether or not the low-resolution geometries of the
+         * selected events have been made visible.
+         */
+        private boolean lowResolutionGeometriesVisible;
 
-        return hasConflicts;
+        /**
+         * Flag indicating whether or not the UGCs of the selected events have
+         * been updated.
+         */
+        private boolean ugcsUpdated;
+
+        /**
+         * Map of event identifiers to the snapshots of the corresponding events.
+         */
+        private final Map<String, IHazardEvent> snapshotsForEventIdentifiers = new HashMap<>();
+
+        private GenerationEventSnapshots(boolean issue) {
+            this.issue = issue;
+        }
     }
 
     /**
@@ -2011,14 +2198,20 @@ public class SessionProductManager implements ISessionProductManager {
                     return;
                 }
             }
-            for (ProductGeneratorInformation productGeneratorInformation : allMatchingProductGeneratorInformation) {
-                if (generate(productGeneratorInformation, issue) == false) {
-                    /*
-                     * Events were invalid, don't increment processed.
-                     */
-                    continue;
+            GenerationEventSnapshots previousEventSnapshots = beginEventSnapshots(
+                    issue);
+            try {
+                for (ProductGeneratorInformation productGeneratorInformation : allMatchingProductGeneratorInformation) {
+                    if (generate(productGeneratorInformation, issue) == false) {
+                        /*
+                         * Events were invalid, don't increment processed.
+                         */
+                        continue;
+                    }
+                    processed.incrementAndGet();
                 }
-                processed.incrementAndGet();
+            } finally {
+                eventSnapshots = previousEventSnapshots;
             }
 
             if (processed.get() > 0) {
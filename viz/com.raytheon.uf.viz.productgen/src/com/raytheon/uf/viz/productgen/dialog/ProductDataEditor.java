@@ -149,6 +149,11 @@ import com.raytheon.viz.core.mode.CAVEMode;
  * Dec 17, 2017 20739      Chris.Golden Refactored away access to directly mutable session events.
  * Jun 06, 2018 15561      Chris.Golden Made typecasting to floats safer (in case the object is a Number
  *                                      but not a Float).
+ * Oct 19, 2026            agent        Changed expiration time updates to replace the product
+ *                                      dictionary with a modified copy, since copies of the
+ *                                      product share the dictionary.
+ * Oct 19, 2026            agent        Changed expiration time updates to copy the dictionary
+ *                                      as generated, since the product's is now read-only.
  * </pre>
  * 
  * @author jsanchez
@@ -635,16 +640,38 @@ public class ProductDataEditor extends AbstractDataEditor
         }
     }
 
+    /**
+     * Update the purge hours and the segments' expiration times in the product
+     * dictionary. The dictionary may be shared with copies of the product, and
+     * is read-only, so a copy of it and of the segments list and segments is
+     * made from it as generated, modified, and used to replace it.
+     * 
+     * @param expireDate
+     *            New expiration time.
+     * @param purgeHours
+     *            New purge hours.
+     */
     @SuppressWarnings("unchecked")
     private void updateSegmentExpirationTimes(Date expireDate,
             double purgeHours) {
-        Map<String, Serializable> data = product.getData();
+        HashMap<String, Serializable> data = new HashMap<>(
+                product.getGeneratedData());
         List<Map<String, Serializable>> segments = (List<Map<String, Serializable>>) data
                 .get(HazardConstants.SEGMENTS);
         data.put(HazardConstants.PURGE_HOURS, purgeHours);
-        for (Map<String, Serializable> segment : segments) {
-            segment.put(HazardConstants.EXPIRATION_TIME, expireDate.getTime());
+        if (segments != null) {
+            ArrayList<HashMap<String, Serializable>> newSegments = new ArrayList<>(
+                    segments.size());
+            for (Map<String, Serializable> segment : segments) {
+                HashMap<String, Serializable> newSegment = new HashMap<>(
+                        segment);
+                newSegment.put(HazardConstants.EXPIRATION_TIME,
+                        expireDate.getTime());
+                newSegments.add(newSegment);
+            }
+            data.put(HazardConstants.SEGMENTS, newSegments);
         }
+        product.setData(data);
     }
 
     @Override
@@ -125,6 +125,8 @@ import gov.noaa.gsd.viz.mvp.widgets.ICommandInvoker;
  * Apr 03, 2017 32572      Roger.Ferrel Added required fields to {@link #validateEditableFields()},
  * Jun 05, 2017 29996      Robert.Blum  Updates for previous text design.
  * Dec 17, 2017 20739      Chris.Golden Refactored away access to directly mutable session events.
+ * Oct 19, 2026            agent        Changed regeneration to copy over the product dictionary
+ *                                      as generated, rather than its read-only view.
  * </pre>
  * 
  * @author jsanchez
@@ -660,7 +662,8 @@ public class ProductEditor extends AbstractProductDialog {
                                             updatedProduct.getEntries());
                                     product.setEditableEntries(updatedProduct
                                             .getEditableEntries());
-                                    product.setData(updatedProduct.getData());
+                                    product.setData(
+                                            updatedProduct.getGeneratedData());
                                     if (isDisposed() == false) {
                                         editorManager
                                                 .updateFormattedTextViewers(
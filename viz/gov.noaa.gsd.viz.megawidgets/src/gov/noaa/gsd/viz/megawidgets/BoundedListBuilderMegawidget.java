@@ -15,6 +15,7 @@ import gov.noaa.gsd.viz.megawidgets.displaysettings.ListSettings;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -97,6 +98,12 @@ import com.raytheon.viz.ui.widgets.duallist.ButtonImages;
  *                                           the megawidget, but are instead
  *                                           passed up to any ancestor that is a
  *                                           scrolled composite.
+ * Oct 19, 2026            agent             Changed to update the tables'
+ *                                           items in place when the choices
+ *                                           or state change, instead of re-
+ *                                           creating all of them, and removed
+ *                                           quadratic lookups, for lists with
+ *                                           thousands of choices.
  * </pre>
  * 
  * @author Chris.Golden
@@ -416,11 +423,7 @@ public class BoundedListBuilderMegawidget extends
          */
         availableTable = buildTable(panel, listListener, specifier);
         TableColumn column = availableTable.getColumn(0);
-        for (Object choice : getStateValidator().getAvailableChoices()) {
-            TableItem item = new TableItem(availableTable, SWT.NONE);
-            item.setText(0, specifier.getNameOfNode(choice));
-            item.setData(specifier.getIdentifierOfNode(choice));
-        }
+        synchronizeAvailableItems(Collections.<String> emptySet());
         availableTable.getVerticalBar().addSelectionListener(scrollListener);
         column.pack();
 
@@ -974,8 +977,9 @@ public class BoundedListBuilderMegawidget extends
          */
         Table[] tables = { availableTable, selectedTable };
         for (Table table : tables) {
-            List<String> selectedChoiceIdentifiers = (table == availableTable ? selectedAvailableChoiceIdentifiers
-                    : selectedSelectedChoiceIdentifiers);
+            Set<String> selectedChoiceIdentifiers = new HashSet<>(
+                    table == availableTable ? selectedAvailableChoiceIdentifiers
+                            : selectedSelectedChoiceIdentifiers);
             Set<String> actuallySelectedChoices = new HashSet<>(
                     selectedChoiceIdentifiers.size());
             List<TableItem> selectedTableItems = new ArrayList<>();
@@ -1031,12 +1035,11 @@ public class BoundedListBuilderMegawidget extends
          * Get a list of the choice identifiers, and set the selected list's
          * contents to match it.
          */
-        selectedTable.removeAll();
+        List<String> names = new ArrayList<>(state.size());
         for (String choice : state) {
-            TableItem item = new TableItem(selectedTable, SWT.NONE);
-            item.setText(0, choiceNamesForIdentifiers.get(choice));
-            item.setData(choice);
+            names.add(choiceNamesForIdentifiers.get(choice));
         }
+        TableItemsSynchronizer.synchronizeItems(selectedTable, names, state);
         selectedTable.getColumn(0).pack();
         displaySettings.getFirstListSettings().setSelectedChoices(null);
         recordTopmostVisibleChoiceForTable(availableTable,
@@ -1046,16 +1049,7 @@ public class BoundedListBuilderMegawidget extends
          * Determine which choices are left over, and set the available list's
          * contents to match.
          */
-        availableTable.removeAll();
-        BoundedListBuilderSpecifier specifier = getSpecifier();
-        for (Object choice : getStateValidator().getAvailableChoices()) {
-            String identifier = specifier.getIdentifierOfNode(choice);
-            if (state.contains(identifier) == false) {
-                TableItem item = new TableItem(availableTable, SWT.NONE);
-                item.setText(0, specifier.getNameOfNode(choice));
-                item.setData(identifier);
-            }
-        }
+        synchronizeAvailableItems(new HashSet<>(state));
         availableTable.getColumn(0).pack();
         displaySettings.getSecondListSettings().setSelectedChoices(null);
         recordTopmostVisibleChoiceForTable(selectedTable,
@@ -1857,14 +1851,31 @@ public class BoundedListBuilderMegawidget extends
      * Add all items to the available list.
      */
     private void addAllItemsToAvailableList() {
-        availableTable.removeAll();
+        synchronizeAvailableItems(Collections.<String> emptySet());
+        availableTable.getColumn(0).pack();
+    }
+
+    /**
+     * Synchronize the available list's items with the choices, leaving out any
+     * with the specified identifiers.
+     * 
+     * @param excludedIdentifiers
+     *            Identifiers of choices that are not to be included.
+     */
+    private void synchronizeAvailableItems(Set<String> excludedIdentifiers) {
+        List<?> choices = getStateValidator().getAvailableChoices();
+        List<String> names = new ArrayList<>(choices.size());
+        List<String> identifiers = new ArrayList<>(choices.size());
         BoundedListBuilderSpecifier specifier = getSpecifier();
-        for (Object choice : getStateValidator().getAvailableChoices()) {
-            TableItem item = new TableItem(availableTable, SWT.NONE);
-            item.setText(0, specifier.getNameOfNode(choice));
-            item.setData(specifier.getIdentifierOfNode(choice));
+        for (Object choice : choices) {
+            String identifier = specifier.getIdentifierOfNode(choice);
+            if (excludedIdentifiers.contains(identifier) == false) {
+                names.add(specifier.getNameOfNode(choice));
+                identifiers.add(identifier);
+            }
         }
-        availableTable.getColumn(0).pack();
+        TableItemsSynchronizer.synchronizeItems(availableTable, names,
+                identifiers);
     }
 
     /**
@@ -1882,14 +1893,17 @@ public class BoundedListBuilderMegawidget extends
          * where it lives in the choices list.
          */
         int[] indices = new int[items.size()];
-        List<String> choiceNames = new ArrayList<>();
+        Map<String, Integer> indicesForChoiceNames = new HashMap<>();
         BoundedListBuilderSpecifier specifier = getSpecifier();
         for (Object choice : getStateValidator().getAvailableChoices()) {
-            choiceNames.add(specifier.getNameOfNode(choice));
+            String name = specifier.getNameOfNode(choice);
+            if (indicesForChoiceNames.containsKey(name) == false) {
+                indicesForChoiceNames.put(name, indicesForChoiceNames.size());
+            }
         }
         for (int j = 0; j < items.size(); j++) {
-            int index = choiceNames.indexOf(items.get(j));
-            if (index != -1) {
+            Integer index = indicesForChoiceNames.get(items.get(j));
+            if (index != null) {
                 indices[j] = index;
             }
         }
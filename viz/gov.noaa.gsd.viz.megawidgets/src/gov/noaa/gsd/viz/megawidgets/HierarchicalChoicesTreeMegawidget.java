@@ -29,7 +29,9 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.swt.widgets.Widget;
@@ -74,6 +76,18 @@ import com.google.common.collect.ImmutableSet;
  *                                           the megawidget, but are instead
  *                                           passed up to any ancestor that is a
  *                                           scrolled composite.
+ * Oct 19, 2026            agent             Changed to update the tree's items
+ *                                           in place when the choices change,
+ *                                           instead of recreating all of them,
+ *                                           and removed quadratic lookups when
+ *                                           checking items to match the state,
+ *                                           for trees with thousands of
+ *                                           choices.
+ * Oct 19, 2026            agent             Changed to create the child items
+ *                                           of a branch only when the latter
+ *                                           is first expanded, so that the
+ *                                           initial build of a large tree is
+ *                                           limited to its visible items.
  * </pre>
  * 
  * @author Chris.Golden
@@ -112,6 +126,41 @@ public class HierarchicalChoicesTreeMegawidget extends
         private static final long serialVersionUID = 1L;
     };
 
+    /**
+     * Children of a branch item that have not yet been created as items, since
+     * said branch has never been expanded. Until they are created, the branch
+     * item holds a single placeholder child item, so that it may be expanded,
+     * and the checked state of the children is tracked here in state hierarchy
+     * form instead of as item check states.
+     */
+    private class DeferredChildren {
+
+        // Private Variables
+
+        /**
+         * Child choices for which items have not yet been created.
+         */
+        private List<?> choices;
+
+        /**
+         * State hierarchy holding the child choices that are checked or
+         * half-checked, or <code>null</code> if all of them are checked.
+         */
+        private List<?> state = Collections.emptyList();
+
+        // Public Constructors
+
+        /**
+         * Construct a standard instance.
+         * 
+         * @param choices
+         *            Child choices for which items are not yet to be created.
+         */
+        public DeferredChildren(List<?> choices) {
+            this.choices = choices;
+        }
+    };
+
     // Private Variables
 
     /**
@@ -168,6 +217,23 @@ public class HierarchicalChoicesTreeMegawidget extends
      */
     private final NodesMap expandedNodes = new NodesMap();
 
+    /**
+     * Map of branch items that have never been expanded to the children for
+     * which items have not yet been created.
+     */
+    private final Map<TreeItem, DeferredChildren> deferredChildrenForItems = new HashMap<>();
+
+    /**
+     * Listener for the disposal of branch items with deferred children, used
+     * to remove the latter from {@link #deferredChildrenForItems}.
+     */
+    private final Listener deferredChildrenItemDisposeListener = new Listener() {
+        @Override
+        public void handleEvent(Event event) {
+            deferredChildrenForItems.remove(event.widget);
+        }
+    };
+
     /**
      * Control component helper.
      */
@@ -313,6 +379,7 @@ public class HierarchicalChoicesTreeMegawidget extends
 
             @Override
             public void treeExpanded(TreeEvent e) {
+                createDeferredChildItems((TreeItem) e.item);
                 List<String> choiceHierarchy = getChoiceHierarchyIdentifiersForItem((TreeItem) e.item);
                 displaySettings.getExpandedChoices().add(choiceHierarchy);
             }
@@ -448,6 +515,7 @@ public class HierarchicalChoicesTreeMegawidget extends
                                 && (expandedChoices.isEmpty() == false)) {
                             TreeItem[] items = getItemsForChoiceHierarchies(selectedChoices);
                             for (TreeItem item : items) {
+                                createDeferredChildItems(item);
                                 item.setExpanded(true);
                             }
                             recordExpandedNodes();
@@ -531,15 +599,15 @@ public class HierarchicalChoicesTreeMegawidget extends
     protected final void synchronizeComponentWidgetsToChoices() {
 
         /*
-         * Remove all the previous tree items.
-         */
-        tree.removeAll();
-
-        /*
-         * Create the new tree items.
+         * Synchronize the tree items with the new choices, leaving those that
+         * still match alone and creating only those that are needed.
          */
-        for (Object choice : getStateValidator().getAvailableChoices()) {
-            convertStateToTree(tree, choice, expandedNodes);
+        tree.setRedraw(false);
+        try {
+            synchronizeItemsToChoices(tree,
+                    getStateValidator().getAvailableChoices(), expandedNodes);
+        } finally {
+            tree.setRedraw(true);
         }
 
         /*
@@ -549,7 +617,7 @@ public class HierarchicalChoicesTreeMegawidget extends
         TreeItem itemToSelect = null;
         for (String identifier : selectedNodeIdentifiers) {
             TreeItem[] items = (itemToSelect == null ? tree.getItems()
-                    : itemToSelect.getItems());
+                    : getChildItems(itemToSelect));
             if (items == null) {
                 break;
             }
@@ -681,7 +749,11 @@ public class HierarchicalChoicesTreeMegawidget extends
         for (TreeItem item : items) {
             item.setChecked(false);
             item.setGrayed(false);
-            if (item.getItemCount() > 0) {
+            DeferredChildren deferredChildren = deferredChildrenForItems
+                    .get(item);
+            if (deferredChildren != null) {
+                deferredChildren.state = Collections.emptyList();
+            } else if (item.getItemCount() > 0) {
                 clearSelection(item);
             }
         }
@@ -716,30 +788,47 @@ public class HierarchicalChoicesTreeMegawidget extends
             items = ((TreeItem) tree).getItems();
         }
 
+        /*
+         * If all leaves are to be selected, select them.
+         */
+        if (state == null) {
+            setAllItemsCheckedState(items, true);
+            return;
+        }
+
         /*
          * Iterate through the state hierarchy's children, finding the
          * corresponding tree item for each and telling that item to update its
          * leaf selections to match this state (if it is not a leaf), or to set
-         * itself as checked (if it is a leaf).
+         * itself as checked (if it is a leaf). Items with deferred children
+         * simply record the state for the latter.
          */
+        Map<Object, TreeItem> itemsForIdentifiers = new HashMap<>(
+                items.length);
+        for (TreeItem item : items) {
+            if (itemsForIdentifiers.containsKey(item.getData()) == false) {
+                itemsForIdentifiers.put(item.getData(), item);
+            }
+        }
         HierarchicalChoicesTreeSpecifier specifier = getSpecifier();
         for (Object node : state) {
-            String identifier = specifier.getIdentifierOfNode(node);
-            int index;
-            for (index = 0; index < items.length; index++) {
-                if (items[index].getData().equals(identifier)) {
-                    break;
-                }
-            }
+            TreeItem item = itemsForIdentifiers.get(specifier
+                    .getIdentifierOfNode(node));
             List<?> childState = null;
             if (node instanceof Map) {
                 childState = (List<?>) ((Map<?, ?>) node)
                         .get(HierarchicalChoicesTreeSpecifier.CHOICE_CHILDREN);
             }
-            if (items[index].getItemCount() > 0) {
-                setLeafSelectionToMatchState(items[index], childState);
+            DeferredChildren deferredChildren = deferredChildrenForItems
+                    .get(item);
+            if (deferredChildren != null) {
+                deferredChildren.state = childState;
+                updateItemStateBasedUponDeferredChildren(item,
+                        deferredChildren);
+            } else if (item.getItemCount() > 0) {
+                setLeafSelectionToMatchState(item, childState);
             } else {
-                items[index].setChecked(true);
+                item.setChecked(true);
             }
         }
     }
@@ -756,7 +845,12 @@ public class HierarchicalChoicesTreeMegawidget extends
         for (TreeItem item : items) {
             item.setChecked(checked);
             item.setGrayed(false);
-            if (item.getItemCount() > 0) {
+            DeferredChildren deferredChildren = deferredChildrenForItems
+                    .get(item);
+            if (deferredChildren != null) {
+                deferredChildren.state = (checked ? null : Collections
+                        .emptyList());
+            } else if (item.getItemCount() > 0) {
                 setAllItemsCheckedState(item.getItems(), checked);
             }
         }
@@ -780,6 +874,32 @@ public class HierarchicalChoicesTreeMegawidget extends
      */
     private TreeItem convertStateToTree(Widget parent, Object tree,
             NodesMap expandedMap) {
+        return convertStateToTree(parent, tree, expandedMap, -1);
+    }
+
+    /**
+     * Turn the specified state hierarchy into a tree item hierarchy, placing
+     * the topmost tree item at the specified index within its parent.
+     * 
+     * @param parent
+     *            Parent tree (if the parameter is of type {@link Tree}) or tree
+     *            item (if the parameter is of type {@link TreeItem}).
+     * @param tree
+     *            State hierarchy to be converted.
+     * @param expandedMap
+     *            Map with key-value pairs for all nodes that were expanded at
+     *            this level of the previous hierarchy, with each key being the
+     *            identifier of an old node that was expanded, and each value
+     *            being a sub-map for its children, or <code>null</code> if none
+     *            of the old node's children were expanded.
+     * @param index
+     *            Index within the parent at which to place the topmost tree
+     *            item, or <code>-1</code> if it is to be placed after any
+     *            existing items.
+     * @return Tree item hierarchy resulting from the conversion.
+     */
+    private TreeItem convertStateToTree(Widget parent, Object tree,
+            NodesMap expandedMap, int index) {
 
         /*
          * If the node is a string, just create a leaf; otherwise, create a node
@@ -787,7 +907,7 @@ public class HierarchicalChoicesTreeMegawidget extends
          * children.
          */
         if (tree instanceof String) {
-            return createTreeItem(parent, (String) tree, null);
+            return createTreeItem(parent, (String) tree, null, index);
         } else {
 
             /*
@@ -802,10 +922,12 @@ public class HierarchicalChoicesTreeMegawidget extends
             /*
              * Create the tree item for the node.
              */
-            TreeItem item = createTreeItem(parent, name, identifier);
+            TreeItem item = createTreeItem(parent, name, identifier, index);
 
             /*
-             * If the newly-created node should have children, create them.
+             * If the newly-created node should have children, create them if
+             * the node is to be expanded, or defer their creation until it is
+             * expanded otherwise.
              */
             List<?> children = (List<?>) dict
                     .get(HierarchicalChoicesTreeSpecifier.CHOICE_CHILDREN);
@@ -819,17 +941,168 @@ public class HierarchicalChoicesTreeMegawidget extends
                 String key = (identifier == null ? name : identifier);
                 boolean expanded = (expandedMap == null ? false : expandedMap
                         .containsKey(key));
-                NodesMap childExpandedMap = (expanded ? expandedMap.get(key)
-                        : null);
-                for (Object child : children) {
-                    convertStateToTree(item, child, childExpandedMap);
+                if (expanded) {
+                    NodesMap childExpandedMap = expandedMap.get(key);
+                    for (Object child : children) {
+                        convertStateToTree(item, child, childExpandedMap);
+                    }
+                    item.setExpanded(true);
+                } else {
+                    deferChildItems(item, children);
                 }
-                item.setExpanded(expanded);
             }
             return item;
         }
     }
 
+    /**
+     * Synchronize the child items of the specified tree or tree item with the
+     * specified choices. Items at the start and end that already match the
+     * choices are left in place, with their own child items synchronized in
+     * turn; only the items between them are replaced.
+     * 
+     * @param parent
+     *            Parent tree (if the parameter is of type {@link Tree}) or tree
+     *            item (if the parameter is of type {@link TreeItem}).
+     * @param choices
+     *            Choices with which to synchronize the child items.
+     * @param expandedMap
+     *            Map with key-value pairs for all nodes that were expanded at
+     *            this level of the previous hierarchy, as for
+     *            {@link #convertStateToTree(Widget, Object, NodesMap)}; used
+     *            for any items that must be created.
+     */
+    private void synchronizeItemsToChoices(Widget parent, List<?> choices,
+            NodesMap expandedMap) {
+
+        /*
+         * Get the children of the tree or tree item.
+         */
+        TreeItem[] items = null;
+        if (parent instanceof Tree) {
+            items = ((Tree) parent).getItems();
+        } else {
+            items = ((TreeItem) parent).getItems();
+        }
+
+        /*
+         * Find the number of items at the start, and then at the end, that
+         * match the choices.
+         */
+        int oldCount = items.length;
+        int newCount = choices.size();
+        int prefixCount = 0;
+        while ((prefixCount < oldCount) && (prefixCount < newCount)
+                && isItemMatchingChoice(items[prefixCount],
+                        choices.get(prefixCount))) {
+            prefixCount++;
+        }
+        int suffixCount = 0;
+        while ((suffixCount < oldCount - prefixCount)
+                && (suffixCount < newCount - prefixCount)
+                && isItemMatchingChoice(items[oldCount - 1 - suffixCount],
+                        choices.get(newCount - 1 - suffixCount))) {
+            suffixCount++;
+        }
+
+        /*
+         * Replace the items between the matching ones at the start and end.
+         */
+        for (int j = prefixCount; j < oldCount - suffixCount; j++) {
+            items[j].dispose();
+        }
+        for (int j = prefixCount; j < newCount - suffixCount; j++) {
+            convertStateToTree(parent, choices.get(j), expandedMap, j);
+        }
+
+        /*
+         * Synchronize the children of the matching items.
+         */
+        for (int j = 0; j < prefixCount; j++) {
+            synchronizeChildItemsToChoice(items[j], choices.get(j),
+                    expandedMap);
+        }
+        for (int j = 0; j < suffixCount; j++) {
+            synchronizeChildItemsToChoice(items[oldCount - 1 - j],
+                    choices.get(newCount - 1 - j), expandedMap);
+        }
+    }
+
+    /**
+     * Synchronize the child items of the specified tree item with the children
+     * of the specified choice, which the item is known to match.
+     * 
+     * @param item
+     *            Tree item.
+     * @param choice
+     *            Choice matching the tree item.
+     * @param expandedMap
+     *            Map with key-value pairs for all nodes that were expanded at
+     *            the item's level of the previous hierarchy.
+     */
+    private void synchronizeChildItemsToChoice(TreeItem item, Object choice,
+            NodesMap expandedMap) {
+        List<?> children = null;
+        if (choice instanceof Map) {
+            children = (List<?>) ((Map<?, ?>) choice)
+                    .get(HierarchicalChoicesTreeSpecifier.CHOICE_CHILDREN);
+        }
+        DeferredChildren deferredChildren = deferredChildrenForItems.get(item);
+        if ((children == null) || children.isEmpty()) {
+            if (deferredChildren != null) {
+                removeDeferredChildren(item);
+            }
+            if (item.getItemCount() > 0) {
+                item.removeAll();
+            }
+            return;
+        }
+
+        /*
+         * If the item's children have not been created, just replace the
+         * choices to be used when they are.
+         */
+        if (deferredChildren != null) {
+            deferredChildren.choices = children;
+            deferredChildren.state = Collections.emptyList();
+            return;
+        }
+        Object key = item.getData();
+        NodesMap childExpandedMap = ((expandedMap != null)
+                && expandedMap.containsKey(key) ? expandedMap.get(key) : null);
+        synchronizeItemsToChoices(item, children, childExpandedMap);
+    }
+
+    /**
+     * Determine whether or not the specified tree item matches the specified
+     * choice, that is, whether it has the same name and identifier.
+     * 
+     * @param item
+     *            Tree item to be checked.
+     * @param choice
+     *            Choice to be checked.
+     * @return <code>true</code> if the item matches the choice,
+     *         <code>false</code> otherwise.
+     */
+    private boolean isItemMatchingChoice(TreeItem item, Object choice) {
+        String name;
+        String identifier;
+        if (choice instanceof String) {
+            name = identifier = (String) choice;
+        } else {
+            Map<?, ?> dict = (Map<?, ?>) choice;
+            name = (String) dict
+                    .get(HierarchicalChoicesTreeSpecifier.CHOICE_NAME);
+            identifier = (String) dict
+                    .get(HierarchicalChoicesTreeSpecifier.CHOICE_IDENTIFIER);
+            if (identifier == null) {
+                identifier = name;
+            }
+        }
+        return (identifier.equals(item.getData()) && name.equals(item
+                .getText()));
+    }
+
     /**
      * Turn the specified tree or tree item into a state hierarchy.
      * 
@@ -868,8 +1141,13 @@ public class HierarchicalChoicesTreeMegawidget extends
                         item.getText());
                 node.put(HierarchicalChoicesTreeSpecifier.CHOICE_IDENTIFIER,
                         item.getData());
+                DeferredChildren deferredChildren = deferredChildrenForItems
+                        .get(item);
                 node.put(HierarchicalChoicesTreeSpecifier.CHOICE_CHILDREN,
-                        convertTreeToState(item));
+                        (deferredChildren == null ? convertTreeToState(item)
+                                : new ArrayList<>(
+                                        deferredChildren.state == null ? deferredChildren.choices
+                                                : deferredChildren.state)));
                 children.add(node);
             }
         }
@@ -887,12 +1165,23 @@ public class HierarchicalChoicesTreeMegawidget extends
      * @param identifier
      *            Choice identifier, or <code>null</code> if none exists, in
      *            which case the name will be used as the identifier.
+     * @param index
+     *            Index within the parent at which to place the item, or
+     *            <code>-1</code> if it is to be placed after any existing
+     *            items.
      * @return Created tree item.
      */
     private TreeItem createTreeItem(Widget parent, String name,
-            String identifier) {
-        TreeItem item = (parent instanceof Tree ? new TreeItem((Tree) parent,
-                SWT.NONE) : new TreeItem((TreeItem) parent, SWT.NONE));
+            String identifier, int index) {
+        TreeItem item;
+        if (index < 0) {
+            item = (parent instanceof Tree ? new TreeItem((Tree) parent,
+                    SWT.NONE) : new TreeItem((TreeItem) parent, SWT.NONE));
+        } else {
+            item = (parent instanceof Tree ? new TreeItem((Tree) parent,
+                    SWT.NONE, index) : new TreeItem((TreeItem) parent,
+                    SWT.NONE, index));
+        }
         item.setText(name);
         item.setData(identifier != null ? identifier : name);
         return item;
@@ -909,6 +1198,14 @@ public class HierarchicalChoicesTreeMegawidget extends
      */
     private void updateNonLeafStates(Widget tree) {
 
+        /*
+         * If this is an item with deferred children, its state was set when
+         * the latter's state was recorded.
+         */
+        if (deferredChildrenForItems.containsKey(tree)) {
+            return;
+        }
+
         /*
          * Get the child items from this tree or tree item.
          */
@@ -991,6 +1288,16 @@ public class HierarchicalChoicesTreeMegawidget extends
             return false;
         }
 
+        /*
+         * If the item's children have not been created, use their recorded
+         * state.
+         */
+        DeferredChildren deferredChildren = deferredChildrenForItems.get(item);
+        if (deferredChildren != null) {
+            updateItemStateBasedUponDeferredChildren(item, deferredChildren);
+            return true;
+        }
+
         /*
          * Iterate through the item's children to find out whether they are
          * mixed in state. If they are, make the parent item grayed in state;
@@ -1030,6 +1337,11 @@ public class HierarchicalChoicesTreeMegawidget extends
      */
     private void updateDescendantStates(TreeItem item) {
         boolean checked = item.getChecked();
+        DeferredChildren deferredChildren = deferredChildrenForItems.get(item);
+        if (deferredChildren != null) {
+            deferredChildren.state = (checked ? null : Collections.emptyList());
+            return;
+        }
         for (int j = 0; j < item.getItemCount(); j++) {
             TreeItem childItem = item.getItem(j);
             childItem.setChecked(checked);
@@ -1143,9 +1455,10 @@ public class HierarchicalChoicesTreeMegawidget extends
      */
     private TreeItem getItemForChoiceHierarchyIdentifiers(
             List<String> choiceHierarchy) {
-        TreeItem[] items = tree.getItems();
         TreeItem foundItem = null;
         for (String identifier : choiceHierarchy) {
+            TreeItem[] items = (foundItem == null ? tree.getItems()
+                    : getChildItems(foundItem));
             foundItem = null;
             for (TreeItem item : items) {
                 if (item.getData().equals(identifier)) {
@@ -1156,7 +1469,6 @@ public class HierarchicalChoicesTreeMegawidget extends
             if (foundItem == null) {
                 return null;
             }
-            items = foundItem.getItems();
         }
         return foundItem;
     }
@@ -1206,9 +1518,146 @@ public class HierarchicalChoicesTreeMegawidget extends
             if (item.getExpanded()) {
                 item.setExpanded(false);
             }
-            if (item.getItemCount() > 0) {
+            if ((item.getItemCount() > 0)
+                    && (deferredChildrenForItems.containsKey(item) == false)) {
                 collapseItems(item.getItems());
             }
         }
     }
+
+    /**
+     * Defer the creation of child items for the specified choices within the
+     * specified item until the latter is expanded, giving it a placeholder
+     * child item in the meantime so that it may be expanded.
+     * 
+     * @param item
+     *            Item that is to have its child items created later.
+     * @param children
+     *            Child choices.
+     */
+    private void deferChildItems(TreeItem item, List<?> children) {
+        if (children.isEmpty()) {
+            return;
+        }
+        new TreeItem(item, SWT.NONE);
+        deferredChildrenForItems.put(item, new DeferredChildren(children));
+        item.addListener(SWT.Dispose, deferredChildrenItemDisposeListener);
+    }
+
+    /**
+     * Remove the record of the deferred children of the specified item.
+     * 
+     * @param item
+     *            Item with deferred children.
+     * @return Deferred children that were removed, or <code>null</code> if
+     *         the item had none.
+     */
+    private DeferredChildren removeDeferredChildren(TreeItem item) {
+        DeferredChildren deferredChildren = deferredChildrenForItems
+                .remove(item);
+        if (deferredChildren != null) {
+            item.removeListener(SWT.Dispose,
+                    deferredChildrenItemDisposeListener);
+        }
+        return deferredChildren;
+    }
+
+    /**
+     * Create the child items of the specified item if their creation was
+     * deferred, replacing its placeholder child item, and check them so as to
+     * match the recorded state of the children. The newly created child items'
+     * own children are in turn deferred.
+     * 
+     * @param item
+     *            Item that is to have its child items created if necessary.
+     */
+    private void createDeferredChildItems(TreeItem item) {
+        DeferredChildren deferredChildren = removeDeferredChildren(item);
+        if (deferredChildren == null) {
+            return;
+        }
+        item.removeAll();
+        for (Object child : deferredChildren.choices) {
+            convertStateToTree(item, child, null);
+        }
+        if ((deferredChildren.state == null)
+                || (deferredChildren.state.isEmpty() == false)) {
+            setLeafSelectionToMatchState(item, deferredChildren.state);
+        }
+    }
+
+    /**
+     * Get the child items of the specified item, creating them first if their
+     * creation was deferred.
+     * 
+     * @param item
+     *            Item for which to get the child items.
+     * @return Child items.
+     */
+    private TreeItem[] getChildItems(TreeItem item) {
+        createDeferredChildItems(item);
+        return item.getItems();
+    }
+
+    /**
+     * Update the checked/grayed state of the specified item with deferred
+     * children based upon the recorded state of the latter.
+     * 
+     * @param item
+     *            Item to be updated.
+     * @param deferredChildren
+     *            Deferred children of the item.
+     */
+    private void updateItemStateBasedUponDeferredChildren(TreeItem item,
+            DeferredChildren deferredChildren) {
+        boolean checked = ((deferredChildren.state == null) || (deferredChildren.state
+                .isEmpty() == false));
+        item.setChecked(checked);
+        item.setGrayed(checked
+                && (deferredChildren.state != null)
+                && (isStateCoveringChoices(deferredChildren.state,
+                        deferredChildren.choices) == false));
+    }
+
+    /**
+     * Determine whether or not the specified state hierarchy includes all the
+     * leaves of the specified choices hierarchy.
+     * 
+     * @param state
+     *            State hierarchy; must hold only nodes found in
+     *            <code>choices</code>.
+     * @param choices
+     *            Choices hierarchy.
+     * @return <code>true</code> if all leaves are included, <code>false</code>
+     *         otherwise.
+     */
+    private boolean isStateCoveringChoices(List<?> state, List<?> choices) {
+        if (state.size() < choices.size()) {
+            return false;
+        }
+        HierarchicalChoicesTreeSpecifier specifier = getSpecifier();
+        Map<String, Object> nodesForIdentifiers = new HashMap<>(state.size());
+        for (Object node : state) {
+            nodesForIdentifiers.put(specifier.getIdentifierOfNode(node), node);
+        }
+        for (Object choice : choices) {
+            Object node = nodesForIdentifiers.get(specifier
+                    .getIdentifierOfNode(choice));
+            if (node == null) {
+                return false;
+            }
+            if ((choice instanceof Map) && (node instanceof Map)) {
+                List<?> choiceChildren = (List<?>) ((Map<?, ?>) choice)
+                        .get(HierarchicalChoicesTreeSpecifier.CHOICE_CHILDREN);
+                List<?> nodeChildren = (List<?>) ((Map<?, ?>) node)
+                        .get(HierarchicalChoicesTreeSpecifier.CHOICE_CHILDREN);
+                if ((choiceChildren != null) && (nodeChildren != null)
+                        && (isStateCoveringChoices(nodeChildren,
+                                choiceChildren) == false)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/**
+ * This software was developed and / or modified by the
+ * National Oceanic and Atmospheric Administration (NOAA), 
+ * Earth System Research Laboratory (ESRL), 
+ * Global Systems Division (GSD), 
+ * Information Services Branch (ISB)
+ * 
+ * Address: Department of Commerce Boulder Labs, 325 Broadway, Boulder, CO 80305
+ */
+package gov.noaa.gsd.viz.megawidgets;
+
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+
+/**
+ * Description: Utility class providing a method to synchronize the items of a
+ * single-column table with a list of choices. Rather than removing all the
+ * items and creating new ones, which for choice lists holding thousands of
+ * entries (counties, zones, or forecast points for a large County Warning Area)
+ * is slow enough to stall the user interface, the items at the start and end of
+ * the table that already match the choices are left untouched, those in
+ * between are reused where possible, and only the difference in item count is
+ * created or removed. Redrawing is suspended while this is done.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 19, 2026            agent             Initial creation.
+ * </pre>
+ * 
+ * @author agent
+ * @version 1.0
+ */
+class TableItemsSynchronizer {
+
+    // Package Static Methods
+
+    /**
+     * Synchronize the items of the specified table with the specified choices.
+     * Any selection within the table is cleared.
+     * 
+     * @param table
+     *            Table to be synchronized; its items are assumed to display
+     *            their text in the first column.
+     * @param names
+     *            Names of the choices, to be used as the items' text.
+     * @param identifiers
+     *            Identifiers of the choices, to be used as the items' data, or
+     *            <code>null</code> if the items do not carry data. If not
+     *            <code>null</code>, this list must be the same length as
+     *            <code>names</code>.
+     */
+    static void synchronizeItems(Table table, List<String> names,
+            List<String> identifiers) {
+        table.setRedraw(false);
+        try {
+            table.deselectAll();
+            TableItem[] items = table.getItems();
+            int oldCount = items.length;
+            int newCount = names.size();
+
+            /*
+             * Find the number of items at the start, and then at the end, of
+             * the table that already match the choices.
+             */
+            int prefixCount = 0;
+            while ((prefixCount < oldCount) && (prefixCount < newCount)
+                    && isItemMatchingChoice(items[prefixCount], prefixCount,
+                            names, identifiers)) {
+                prefixCount++;
+            }
+            int suffixCount = 0;
+            while ((suffixCount < oldCount - prefixCount)
+                    && (suffixCount < newCount - prefixCount)
+                    && isItemMatchingChoice(items[oldCount - 1 - suffixCount],
+                            newCount - 1 - suffixCount, names, identifiers)) {
+                suffixCount++;
+            }
+
+            /*
+             * Reuse as many of the items between the matching start and end as
+             * possible, then either remove those left over or create those
+             * still needed.
+             */
+            int oldMiddleCount = oldCount - prefixCount - suffixCount;
+            int newMiddleCount = newCount - prefixCount - suffixCount;
+            int reusedCount = Math.min(oldMiddleCount, newMiddleCount);
+            for (int j = prefixCount; j < prefixCount + reusedCount; j++) {
+                setItemToChoice(items[j], j, names, identifiers);
+            }
+            if (oldMiddleCount > newMiddleCount) {
+                table.remove(prefixCount + reusedCount,
+                        prefixCount + oldMiddleCount - 1);
+            } else {
+                for (int j = prefixCount + reusedCount; j < prefixCount
+                        + newMiddleCount; j++) {
+                    setItemToChoice(new TableItem(table, SWT.NONE, j), j,
+                            names, identifiers);
+                }
+            }
+        } finally {
+            table.setRedraw(true);
+        }
+    }
+
+    // Private Static Methods
+
+    /**
+     * Determine whether or not the specified item matches the choice at the
+     * specified index.
+     * 
+     * @param item
+     *            Item to be checked.
+     * @param index
+     *            Index of the choice.
+     * @param names
+     *            Names of the choices.
+     * @param identifiers
+     *            Identifiers of the choices, or <code>null</code>.
+     * @return <code>true</code> if the item matches, <code>false</code>
+     *         otherwise.
+     */
+    private static boolean isItemMatchingChoice(TableItem item, int index,
+            List<String> names, List<String> identifiers) {
+        if ((identifiers != null)
+                && (identifiers.get(index).equals(item.getData()) == false)) {
+            return false;
+        }
+        return names.get(index).equals(item.getText(0));
+    }
+
+    /**
+     * Set the specified item to represent the choice at the specified index.
+     * 
+     * @param item
+     *            Item to be set.
+     * @param index
+     *            Index of the choice.
+     * @param names
+     *            Names of the choices.
+     * @param identifiers
+     *            Identifiers of the choices, or <code>null</code>.
+     */
+    private static void setItemToChoice(TableItem item, int index,
+            List<String> names, List<String> identifiers) {
+        item.setText(0, names.get(index));
+        if (identifiers != null) {
+            item.setData(identifiers.get(index));
+        }
+    }
+}
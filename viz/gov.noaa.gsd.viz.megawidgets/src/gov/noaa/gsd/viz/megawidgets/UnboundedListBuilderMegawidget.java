@@ -93,6 +93,11 @@ import com.raytheon.viz.ui.widgets.duallist.ButtonImages;
  *                                           the megawidget, but are instead
  *                                           passed up to any ancestor that is a
  *                                           scrolled composite.
+ * Oct 19, 2026            agent             Changed to update the table's items
+ *                                           in place when the state changes,
+ *                                           instead of recreating all of them,
+ *                                           for lists with thousands of
+ *                                           choices.
  * </pre>
  * 
  * @author Chris.Golden
@@ -298,10 +303,7 @@ public class UnboundedListBuilderMegawidget extends StatefulMegawidget
          */
         table = buildTable(panel, listListener, specifier);
         TableColumn column = table.getColumn(0);
-        for (String choice : state) {
-            TableItem item = new TableItem(table, SWT.NONE);
-            item.setText(0, choice);
-        }
+        TableItemsSynchronizer.synchronizeItems(table, state, null);
         column.pack();
         UiBuilder.ensureMouseWheelEventsPassedUpToAncestor(table);
 
@@ -817,13 +819,9 @@ public class UnboundedListBuilderMegawidget extends StatefulMegawidget
         draggingFromTable = droppingToTable = false;
 
         /*
-         * Clear the table and fill it with the current choices.
+         * Synchronize the table's items with the current choices.
          */
-        table.removeAll();
-        for (String choice : state) {
-            TableItem item = new TableItem(table, SWT.NONE);
-            item.setText(0, choice);
-        }
+        TableItemsSynchronizer.synchronizeItems(table, state, null);
         table.getColumn(0).pack();
 
         /*
@@ -835,9 +833,10 @@ public class UnboundedListBuilderMegawidget extends StatefulMegawidget
          * See what items were selected previously that are present in the new
          * list, and select those items.
          */
+        Set<String> selectedChoicesSet = new HashSet<>(selectedChoices);
         List<TableItem> selectedTableItems = new ArrayList<>();
         for (TableItem item : table.getItems()) {
-            if (selectedChoices.contains(item.getText())) {
+            if (selectedChoicesSet.contains(item.getText())) {
                 selectedTableItems.add(item);
             }
         }
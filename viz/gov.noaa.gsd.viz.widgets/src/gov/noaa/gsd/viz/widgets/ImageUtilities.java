@@ -28,6 +28,10 @@ import org.eclipse.swt.widgets.Display;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Apr 04, 2013            Chris.Golden      Initial induction into repo
+ * Oct 18, 2026            agent             Changed AWT to SWT image
+ *                                           conversion to work a row at a
+ *                                           time rather than a pixel at a
+ *                                           time.
  * 
  * </pre>
  * 
@@ -55,16 +59,53 @@ public class ImageUtilities {
         ImageData imageData = new ImageData(awtImage.getWidth(),
                 awtImage.getHeight(), model.getPixelSize(), palette);
         WritableRaster raster = awtImage.getRaster();
-        int[] pixelArray = new int[4];
+        int width = imageData.width;
+        int[] samples = new int[width * 4];
+        int[] pixels = new int[width];
+        byte[] alphas = new byte[width];
         for (int y = 0; y < imageData.height; y++) {
-            for (int x = 0; x < imageData.width; x++) {
-                raster.getPixel(x, y, pixelArray);
-                int pixel = palette.getPixel(new RGB(pixelArray[0],
-                        pixelArray[1], pixelArray[2]));
-                imageData.setPixel(x, y, pixel);
-                imageData.setAlpha(x, y, pixelArray[3]);
+            raster.getPixels(0, y, width, 1, samples);
+            for (int x = 0, k = 0; x < width; x++, k += 4) {
+                pixels[x] = toPixel(palette, samples[k], samples[k + 1],
+                        samples[k + 2]);
+                alphas[x] = (byte) samples[k + 3];
             }
+            imageData.setPixels(0, y, width, pixels, 0);
+            imageData.setAlphas(0, y, width, alphas, 0);
         }
         return new Image(Display.getCurrent(), imageData);
     }
+
+    // Private Static Methods
+
+    /**
+     * Get the pixel value for the specified color components using the
+     * specified direct palette; this is equivalent to
+     * {@link PaletteData#getPixel(RGB)}, but avoids creating an {@link RGB}
+     * for each pixel.
+     * 
+     * @param palette
+     *            Direct palette.
+     * @param red
+     *            Red component.
+     * @param green
+     *            Green component.
+     * @param blue
+     *            Blue component.
+     * @return Pixel value.
+     */
+    private static int toPixel(PaletteData palette, int red, int green,
+            int blue) {
+        return (shift(red, palette.redShift) & palette.redMask)
+                | (shift(green, palette.greenShift) & palette.greenMask)
+                | (shift(blue, palette.blueShift) & palette.blueMask);
+    }
+
+    /**
+     * Shift the specified value as {@link PaletteData} does, that is, left if
+     * the shift is negative, and right otherwise.
+     */
+    private static int shift(int value, int shift) {
+        return (shift < 0 ? value << -shift : value >>> shift);
+    }
 }
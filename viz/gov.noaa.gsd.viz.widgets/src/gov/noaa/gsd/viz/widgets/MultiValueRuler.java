@@ -13,6 +13,7 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -29,6 +30,8 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontMetrics;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Composite;
 
@@ -77,6 +80,13 @@ import org.eclipse.swt.widgets.Composite;
  *                                           zooming occurs with the center
  *                                           of the zoom being at the point
  *                                           where the mouse cursor lies.
+ * Oct 18, 2026            agent             Changed to reuse thumb images
+ *                                           across instances via a resource
+ *                                           cache, and to paint the back-
+ *                                           ground, ranges, hatch marks and
+ *                                           labels from an offscreen layer
+ *                                           that is only re-rendered when
+ *                                           something it depicts changes.
  * </pre>
  * 
  * @author Chris.Golden
@@ -150,6 +160,11 @@ public class MultiValueRuler extends MultiValueLinearControl {
      */
     private static final float DEFAULT_HEIGHT_MULTIPLIER = 4.0f;
 
+    /**
+     * Cache used by all instances of this class to store thumb images.
+     */
+    private static final WidgetResourceCache<ThumbImageParameters, Image> THUMB_IMAGE_CACHE = new WidgetResourceCache<>();
+
     // Public Enumerated Types
 
     /**
@@ -171,6 +186,162 @@ public class MultiValueRuler extends MultiValueLinearControl {
         DOWN
     }
 
+    // Private Enumerated Types
+
+    /**
+     * Shape of a thumb.
+     */
+    private enum ThumbShape {
+        FULL, LEFT_BOOKEND, RIGHT_BOOKEND
+    };
+
+    // Private Static Classes
+
+    /**
+     * Parameters of a thumb image that differentiate it from other thumb
+     * images.
+     */
+    private static class ThumbImageParameters {
+
+        // Private Variables
+
+        /**
+         * Width and height of the thumb in pixels.
+         */
+        private final int size;
+
+        /**
+         * Components of the color of the thumb, or <code>null</code> if the
+         * default color is used.
+         */
+        private final RGB color;
+
+        /**
+         * Shape of the thumb.
+         */
+        private final ThumbShape shape;
+
+        /**
+         * Pointing direction of the thumb.
+         */
+        private final IndicatorDirection direction;
+
+        /**
+         * Flag indicating whether or not the thumb is active.
+         */
+        private final boolean active;
+
+        // Public Constructors
+
+        /**
+         * Construct a standard instance.
+         * 
+         * @param size
+         *            Width and height of the thumb in pixels.
+         * @param color
+         *            Components of the color of the thumb, or
+         *            <code>null</code> if the default color is used.
+         * @param shape
+         *            Shape of the thumb.
+         * @param direction
+         *            Pointing direction of the thumb.
+         * @param active
+         *            Flag indicating whether or not the thumb is active.
+         */
+        public ThumbImageParameters(int size, RGB color, ThumbShape shape,
+                IndicatorDirection direction, boolean active) {
+            this.size = size;
+            this.color = color;
+            this.shape = shape;
+            this.direction = direction;
+            this.active = active;
+        }
+
+        // Public Methods
+
+        @Override
+        public boolean equals(Object other) {
+            if ((other == null)
+                    || (other instanceof ThumbImageParameters == false)) {
+                return false;
+            }
+            ThumbImageParameters otherParams = (ThumbImageParameters) other;
+            return ((size == otherParams.size)
+                    && (color == null ? otherParams.color == null
+                            : color.equals(otherParams.color))
+                    && (shape == otherParams.shape)
+                    && (direction == otherParams.direction)
+                    && (active == otherParams.active));
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + size;
+            result = prime * result + (color == null ? 0 : color.hashCode());
+            result = prime * result + (shape == null ? 0 : shape.hashCode());
+            result = prime * result
+                    + (direction == null ? 0 : direction.hashCode());
+            result = prime * result + (active ? 1 : 0);
+            return result;
+        }
+    }
+
+    /**
+     * Parameters of the background layer that, if changed, require it to be
+     * rendered anew. These consist of all the values and objects that the
+     * layer depicts, or that govern how it is laid out.
+     */
+    private static class BackgroundLayerParameters {
+
+        // Private Variables
+
+        /**
+         * Numerical values upon which the layer depends.
+         */
+        private final long[] values;
+
+        /**
+         * Objects (colors, fonts, and hatch mark groups) upon which the layer
+         * depends.
+         */
+        private final Object[] objects;
+
+        // Public Constructors
+
+        /**
+         * Construct a standard instance.
+         * 
+         * @param values
+         *            Numerical values upon which the layer depends.
+         * @param objects
+         *            Objects upon which the layer depends.
+         */
+        public BackgroundLayerParameters(long[] values, Object[] objects) {
+            this.values = values;
+            this.objects = objects;
+        }
+
+        // Public Methods
+
+        @Override
+        public boolean equals(Object other) {
+            if ((other == null)
+                    || (other instanceof BackgroundLayerParameters == false)) {
+                return false;
+            }
+            BackgroundLayerParameters otherParams = (BackgroundLayerParameters) other;
+            return (Arrays.equals(values, otherParams.values)
+                    && Arrays.equals(objects, otherParams.objects));
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * Arrays.hashCode(values)) + Arrays.hashCode(objects);
+        }
+    }
+
     // Private Variables
 
     /**
@@ -290,6 +461,30 @@ public class MultiValueRuler extends MultiValueLinearControl {
      */
     private int preferredClientHeight = 0;
 
+    /**
+     * Offscreen image holding the background, ranges, hatch marks, labels,
+     * and border of the widget, or <code>null</code> if it has not yet been
+     * created. This is drawn onto the widget when painting, so that only the
+     * marked values and thumbs need be drawn each time.
+     */
+    private Image backgroundLayer = null;
+
+    /**
+     * Parameters with which {@link #backgroundLayer} was last rendered, or
+     * <code>null</code> if it has not been rendered.
+     */
+    private BackgroundLayerParameters backgroundLayerParameters = null;
+
+    // Public Static Methods
+
+    /**
+     * Dispose of any unused images created by instances of this class but not
+     * removed.
+     */
+    public static void purgeUnusedResources() {
+        THUMB_IMAGE_CACHE.prune();
+    }
+
     // Public Constructors
 
     /**
@@ -861,201 +1056,39 @@ public class MultiValueRuler extends MultiValueLinearControl {
         computePreferredSize(false);
         Rectangle clientArea = getClientArea();
         Rectangle drawingArea = getTooltipBounds();
-        int height = drawingArea.height;
-        int heightOffset = drawingArea.y;
 
         // Get the default colors, as they are needed later.
         Color background = e.gc.getBackground();
         Color foreground = e.gc.getForeground();
 
-        // Draw the background.
-        if (e.gc.getBackground() != null) {
-            e.gc.fillRectangle(clientArea);
-        }
-
-        // Ensure that the drawing does not occur in the inset area,
-        // only in the client area.
-        e.gc.setClipping(clientArea);
-
-        // Iterate through the constrained marked value indicators,
-        // drawing the ranges between them and at either end.
-        int lastMarkedValueX = mapValueToPixel(getMinimumAllowableValue()) - 1;
-        for (int j = 0; j <= getConstrainedMarkedValueCount(); j++) {
-            int markedValueX = mapValueToPixel(j == getConstrainedMarkedValueCount() ? getMaximumAllowableValue()
-                    : getConstrainedMarkedValue(j))
-                    + (j == getConstrainedMarkedValueCount() ? 1 : 0);
-            Color color = getConstrainedMarkedRangeColor(j);
-            if (color != null) {
-                e.gc.setBackground(color);
-                e.gc.fillRectangle(lastMarkedValueX + 1, clientArea.y,
-                        markedValueX - lastMarkedValueX, clientArea.height);
-            }
-            lastMarkedValueX = markedValueX;
-        }
-
-        // Ensure that the drawing does not occur in the horizontal
-        // inset area, only in the client area and the vertical padding
-        // area above and below the client area.
-        e.gc.setClipping(clientArea.x, 0, clientArea.width, getTopInset()
-                + clientArea.height + getBottomInset());
-
-        // Iterate through the constrained thumb value indicators, draw-
-        // ing the ranges between them and at either end.
-        int lastThumbValueX = mapValueToPixel(getMinimumAllowableValue()) - 1;
-        for (int j = 0; j <= getConstrainedThumbValueCount(); j++) {
-            int thumbValueX = mapValueToPixel(j == getConstrainedThumbValueCount() ? getMaximumAllowableValue()
-                    : getConstrainedThumbValue(j))
-                    + (j == getConstrainedThumbValueCount() ? 1 : 0);
-            Color color = getConstrainedThumbRangeColor(j);
-            if (color != null) {
-                e.gc.setBackground(color);
-                e.gc.fillRectangle(lastThumbValueX + 1, 0, thumbValueX
-                        - lastThumbValueX, getTopInset() + clientArea.height
-                        + getBottomInset());
-            }
-            lastThumbValueX = thumbValueX;
-        }
-
-        // Ensure that the drawing does not occur in the inset area,
-        // only in the client area.
-        e.gc.setClipping(clientArea);
-
-        // Get the widget font height.
-        Font font = e.gc.getFont();
-        int fontHeight = e.gc.getFontMetrics().getHeight();
-
-        // Iterate through the hatch mark groups, drawing the hatch
-        // marks for each in turn.
-        for (int j = 0; j < hatchMarkGroups.size(); j++) {
-
-            // Get the hatch mark group at this index.
-            IHatchMarkGroup group = hatchMarkGroups.get(j);
-
-            // Determine the height of the font to be used for the
-            // labels of this group, if any, and set that font as
-            // the current one.
-            int thisFontHeight = fontHeight;
-            if (group.getFont() == null) {
-                e.gc.setFont(font);
-            } else {
-                e.gc.setFont(group.getFont());
-                thisFontHeight = e.gc.getFontMetrics().getHeight();
-            }
-
-            // If the height of the hatch marks is 100%, draw a hori-
-            // zontal dividing line below the area where the labels
-            // will be.
-            if (group.getHeightFraction() == 1.0) {
-                e.gc.setForeground(group.getColor() == null ? foreground
-                        : group.getColor());
-                e.gc.drawLine(clientArea.x, thisFontHeight + heightOffset,
-                        clientArea.x + clientArea.width, thisFontHeight
-                                + heightOffset);
-            }
-
-            // Get the pixel width of this interval; if it is too
-            // small, do nothing more with hatch marks.
-            int intervalWidth = mapValueDeltaToPixelWidth(group.getInterval());
-            if (intervalWidth < MIN_RULER_LINE_INTERVAL) {
-                break;
-            }
-
-            // Determine the uppermost Y value of the hatch marks for
-            // this group.
-            int lineY = (int) (((1.0f - group.getHeightFraction()) * height) + 0.5f);
-
-            // Determine whether or not labels should be drawn; this
-            // depends upon whether there is enough room between ad-
-            // jacent hatch marks for this group.
-            boolean drawLabels = ((e.gc.stringExtent(group.getLongestLabel()).x) * 1.5f <= mapValueDeltaToPixelWidth(group
-                    .getInterval()));
-
-            // Determine the Y coordinate at which the labels should
-            // be drawn, if any.
-            int labelY = lineY + 1 - thisFontHeight;
-            if (labelY < 0) {
-                labelY = 0;
-            }
-
-            // Iterate through the possible hatch marks for this
-            // group, from lowest to highest, that might be visible,
-            // drawing each in turn if it was not already done by a
-            // previous group.
-            for (long value = (getLowerVisibleValue() / group.getInterval())
-                    * group.getInterval(); value < getUpperVisibleValue()
-                    + group.getInterval(); value += group.getInterval()) {
-
-                // Ensure that this hatch mark has not already been
-                // dealt with by a previous group.
-                boolean alreadyDone = false;
-                for (int k = j - 1; k >= 0; k--) {
-                    if (value % hatchMarkGroups.get(k).getInterval() == 0) {
-                        alreadyDone = true;
-                        break;
-                    }
-                }
-                if (alreadyDone) {
-                    continue;
-                }
-
-                // Draw the vertical line for this hatch mark.
-                e.gc.setForeground(group.getColor() == null ? foreground
-                        : group.getColor());
-                int valueX = mapValueToPixel(value);
-                e.gc.drawLine(valueX, lineY + heightOffset, valueX, height
-                        + heightOffset);
-
-                // Draw the label if appropriate.
-                if (drawLabels) {
-
-                    // Set the foreground color, and get the label for
-                    // this value, and its width.
-                    e.gc.setForeground(foreground);
-                    String label = group.getLabel(value);
-                    int labelWidth = e.gc.stringExtent(label).x;
-                    int labelWidthPadding = (int) ((labelWidth * 0.25f) + 0.5f);
-
-                    // Determine the X coordinate at which to draw the
-                    // label. If the label is to be drawn between
-                    // this value's hatch mark and the next one's, it
-                    // may be positioned differently to ensure it
-                    // remains fully visible within the current view-
-                    // port if there is enough room for it to be posi-
-                    // tioned thusly without running into another
-                    // value's area.
-                    int labelX = valueX - (labelWidth / 2);
-                    if (group.getLabelPosition() == IHatchMarkGroup.LabelPosition.BETWEEN_HATCH_MARKS) {
-                        labelX += intervalWidth / 2;
-                        if (labelX - labelWidthPadding < clientArea.x) {
-                            labelX = clientArea.x + labelWidthPadding;
-                            if (labelX + labelWidth + labelWidthPadding > valueX
-                                    + intervalWidth) {
-                                labelX = valueX + intervalWidth
-                                        - (labelWidth + labelWidthPadding);
-                            }
-                        }
-                        if (labelX + labelWidth + labelWidthPadding > clientArea.x
-                                + clientArea.width) {
-                            labelX = clientArea.x + clientArea.width
-                                    - (labelWidth + labelWidthPadding);
-                            if (labelX - labelWidthPadding < valueX) {
-                                labelX = valueX + labelWidthPadding;
-                            }
-                        }
-                    }
-
-                    // Draw the label.
-                    e.gc.drawText(label, labelX, labelY + heightOffset, true);
+        // Render the background layer anew if anything it depicts has
+        // changed since it was last rendered, and then draw it.
+        Point size = getSize();
+        BackgroundLayerParameters parameters = getBackgroundLayerParameters(
+                size, clientArea, drawingArea, e.gc);
+        if ((backgroundLayer == null) || backgroundLayer.isDisposed()
+                || (parameters.equals(backgroundLayerParameters) == false)) {
+            if ((backgroundLayer != null)
+                    && (backgroundLayer.isDisposed() == false)) {
+                Rectangle bounds = backgroundLayer.getBounds();
+                if ((bounds.width != size.x) || (bounds.height != size.y)) {
+                    backgroundLayer.dispose();
+                    backgroundLayer = null;
                 }
             }
+            if ((backgroundLayer == null) || backgroundLayer.isDisposed()) {
+                backgroundLayer = new Image(getDisplay(), size.x, size.y);
+            }
+            GC layerGC = new GC(backgroundLayer);
+            layerGC.setFont(e.gc.getFont());
+            layerGC.setBackground(background);
+            layerGC.setForeground(foreground);
+            layerGC.fillRectangle(0, 0, size.x, size.y);
+            paintBackgroundLayer(layerGC, clientArea, drawingArea);
+            layerGC.dispose();
+            backgroundLayerParameters = parameters;
         }
-
-        // Draw the border around the widget.
-        e.gc.setForeground(borderColor == null ? foreground : borderColor);
-        e.gc.drawRectangle(drawingArea);
-
-        // Reset the clipping region.
-        e.gc.setClipping((Rectangle) null);
+        e.gc.drawImage(backgroundLayer, 0, 0);
 
         // Iterate through the marked value indicators, drawing any
         // that are visible. Draw the marked value types in the order
@@ -1214,19 +1247,297 @@ public class MultiValueRuler extends MultiValueLinearControl {
         for (ValueType type : getThumbTypeDrawingOrder()) {
             for (Image image : thumbImagesForTypes.get(type)) {
                 if (image != null) {
-                    image.dispose();
+                    THUMB_IMAGE_CACHE.release(image);
                 }
             }
             for (Image image : activeThumbImagesForTypes.get(type)) {
                 if (image != null) {
-                    image.dispose();
+                    THUMB_IMAGE_CACHE.release(image);
                 }
             }
         }
+        if (backgroundLayer != null) {
+            backgroundLayer.dispose();
+        }
     }
 
     // Private Methods
 
+    /**
+     * Paint the background layer, consisting of the background fill, the
+     * marked and thumb ranges, the hatch marks and their labels, and the
+     * border.
+     * 
+     * @param gc
+     *            Graphics context in which to paint; its background and
+     *            foreground colors and font must be those of the widget.
+     * @param clientArea
+     *            Client area of the widget.
+     * @param drawingArea
+     *            Area of the widget within which the ruler is drawn.
+     */
+    private void paintBackgroundLayer(GC gc, Rectangle clientArea,
+            Rectangle drawingArea) {
+
+        // Get the default foreground color, as it is needed later, and
+        // the height and vertical offset of the drawing area.
+        Color foreground = gc.getForeground();
+        int height = drawingArea.height;
+        int heightOffset = drawingArea.y;
+
+        // Draw the background.
+        if (gc.getBackground() != null) {
+            gc.fillRectangle(clientArea);
+        }
+
+        // Ensure that the drawing does not occur in the inset area,
+        // only in the client area.
+        gc.setClipping(clientArea);
+
+        // Iterate through the constrained marked value indicators,
+        // drawing the ranges between them and at either end.
+        int lastMarkedValueX = mapValueToPixel(getMinimumAllowableValue()) - 1;
+        for (int j = 0; j <= getConstrainedMarkedValueCount(); j++) {
+            int markedValueX = mapValueToPixel(j == getConstrainedMarkedValueCount() ? getMaximumAllowableValue()
+                    : getConstrainedMarkedValue(j))
+                    + (j == getConstrainedMarkedValueCount() ? 1 : 0);
+            Color color = getConstrainedMarkedRangeColor(j);
+            if (color != null) {
+                gc.setBackground(color);
+                gc.fillRectangle(lastMarkedValueX + 1, clientArea.y,
+                        markedValueX - lastMarkedValueX, clientArea.height);
+            }
+            lastMarkedValueX = markedValueX;
+        }
+
+        // Ensure that the drawing does not occur in the horizontal
+        // inset area, only in the client area and the vertical padding
+        // area above and below the client area.
+        gc.setClipping(clientArea.x, 0, clientArea.width, getTopInset()
+                + clientArea.height + getBottomInset());
+
+        // Iterate through the constrained thumb value indicators, draw-
+        // ing the ranges between them and at either end.
+        int lastThumbValueX = mapValueToPixel(getMinimumAllowableValue()) - 1;
+        for (int j = 0; j <= getConstrainedThumbValueCount(); j++) {
+            int thumbValueX = mapValueToPixel(j == getConstrainedThumbValueCount() ? getMaximumAllowableValue()
+                    : getConstrainedThumbValue(j))
+                    + (j == getConstrainedThumbValueCount() ? 1 : 0);
+            Color color = getConstrainedThumbRangeColor(j);
+            if (color != null) {
+                gc.setBackground(color);
+                gc.fillRectangle(lastThumbValueX + 1, 0, thumbValueX
+                        - lastThumbValueX, getTopInset() + clientArea.height
+                        + getBottomInset());
+            }
+            lastThumbValueX = thumbValueX;
+        }
+
+        // Ensure that the drawing does not occur in the inset area,
+        // only in the client area.
+        gc.setClipping(clientArea);
+
+        // Get the widget font height.
+        Font font = gc.getFont();
+        int fontHeight = gc.getFontMetrics().getHeight();
+
+        // Iterate through the hatch mark groups, drawing the hatch
+        // marks for each in turn.
+        for (int j = 0; j < hatchMarkGroups.size(); j++) {
+
+            // Get the hatch mark group at this index.
+            IHatchMarkGroup group = hatchMarkGroups.get(j);
+
+            // Determine the height of the font to be used for the
+            // labels of this group, if any, and set that font as
+            // the current one.
+            int thisFontHeight = fontHeight;
+            if (group.getFont() == null) {
+                gc.setFont(font);
+            } else {
+                gc.setFont(group.getFont());
+                thisFontHeight = gc.getFontMetrics().getHeight();
+            }
+
+            // If the height of the hatch marks is 100%, draw a hori-
+            // zontal dividing line below the area where the labels
+            // will be.
+            if (group.getHeightFraction() == 1.0) {
+                gc.setForeground(group.getColor() == null ? foreground
+                        : group.getColor());
+                gc.drawLine(clientArea.x, thisFontHeight + heightOffset,
+                        clientArea.x + clientArea.width, thisFontHeight
+                                + heightOffset);
+            }
+
+            // Get the pixel width of this interval; if it is too
+            // small, do nothing more with hatch marks.
+            int intervalWidth = mapValueDeltaToPixelWidth(group.getInterval());
+            if (intervalWidth < MIN_RULER_LINE_INTERVAL) {
+                break;
+            }
+
+            // Determine the uppermost Y value of the hatch marks for
+            // this group.
+            int lineY = (int) (((1.0f - group.getHeightFraction()) * height) + 0.5f);
+
+            // Determine whether or not labels should be drawn; this
+            // depends upon whether there is enough room between ad-
+            // jacent hatch marks for this group.
+            boolean drawLabels = ((gc.stringExtent(group.getLongestLabel()).x) * 1.5f <= mapValueDeltaToPixelWidth(group
+                    .getInterval()));
+
+            // Determine the Y coordinate at which the labels should
+            // be drawn, if any.
+            int labelY = lineY + 1 - thisFontHeight;
+            if (labelY < 0) {
+                labelY = 0;
+            }
+
+            // Iterate through the possible hatch marks for this
+            // group, from lowest to highest, that might be visible,
+            // drawing each in turn if it was not already done by a
+            // previous group.
+            for (long value = (getLowerVisibleValue() / group.getInterval())
+                    * group.getInterval(); value < getUpperVisibleValue()
+                    + group.getInterval(); value += group.getInterval()) {
+
+                // Ensure that this hatch mark has not already been
+                // dealt with by a previous group.
+                boolean alreadyDone = false;
+                for (int k = j - 1; k >= 0; k--) {
+                    if (value % hatchMarkGroups.get(k).getInterval() == 0) {
+                        alreadyDone = true;
+                        break;
+                    }
+                }
+                if (alreadyDone) {
+                    continue;
+                }
+
+                // Draw the vertical line for this hatch mark.
+                gc.setForeground(group.getColor() == null ? foreground
+                        : group.getColor());
+                int valueX = mapValueToPixel(value);
+                gc.drawLine(valueX, lineY + heightOffset, valueX, height
+                        + heightOffset);
+
+                // Draw the label if appropriate.
+                if (drawLabels) {
+
+                    // Set the foreground color, and get the label for
+                    // this value, and its width.
+                    gc.setForeground(foreground);
+                    String label = group.getLabel(value);
+                    int labelWidth = gc.stringExtent(label).x;
+                    int labelWidthPadding = (int) ((labelWidth * 0.25f) + 0.5f);
+
+                    // Determine the X coordinate at which to draw the
+                    // label. If the label is to be drawn between
+                    // this value's hatch mark and the next one's, it
+                    // may be positioned differently to ensure it
+                    // remains fully visible within the current view-
+                    // port if there is enough room for it to be posi-
+                    // tioned thusly without running into another
+                    // value's area.
+                    int labelX = valueX - (labelWidth / 2);
+                    if (group.getLabelPosition() == IHatchMarkGroup.LabelPosition.BETWEEN_HATCH_MARKS) {
+                        labelX += intervalWidth / 2;
+                        if (labelX - labelWidthPadding < clientArea.x) {
+                            labelX = clientArea.x + labelWidthPadding;
+                            if (labelX + labelWidth + labelWidthPadding > valueX
+                                    + intervalWidth) {
+                                labelX = valueX + intervalWidth
+                                        - (labelWidth + labelWidthPadding);
+                            }
+                        }
+                        if (labelX + labelWidth + labelWidthPadding > clientArea.x
+                                + clientArea.width) {
+                            labelX = clientArea.x + clientArea.width
+                                    - (labelWidth + labelWidthPadding);
+                            if (labelX - labelWidthPadding < valueX) {
+                                labelX = valueX + labelWidthPadding;
+                            }
+                        }
+                    }
+
+                    // Draw the label.
+                    gc.drawText(label, labelX, labelY + heightOffset, true);
+                }
+            }
+        }
+
+        // Draw the border around the widget.
+        gc.setForeground(borderColor == null ? foreground : borderColor);
+        gc.drawRectangle(drawingArea);
+
+        // Reset the clipping region.
+        gc.setClipping((Rectangle) null);
+    }
+
+    /**
+     * Get the parameters of the background layer as it would be rendered at
+     * this moment.
+     * 
+     * @param size
+     *            Size of the widget.
+     * @param clientArea
+     *            Client area of the widget.
+     * @param drawingArea
+     *            Area of the widget within which the ruler is drawn.
+     * @param gc
+     *            Graphics context in which the widget is being painted.
+     * @return Background layer parameters.
+     */
+    private BackgroundLayerParameters getBackgroundLayerParameters(
+            Point size, Rectangle clientArea, Rectangle drawingArea, GC gc) {
+        int markedValueCount = getConstrainedMarkedValueCount();
+        int thumbValueCount = getConstrainedThumbValueCount();
+        long[] values = new long[18 + markedValueCount + thumbValueCount];
+        int index = 0;
+        values[index++] = size.x;
+        values[index++] = size.y;
+        values[index++] = clientArea.x;
+        values[index++] = clientArea.y;
+        values[index++] = clientArea.width;
+        values[index++] = clientArea.height;
+        values[index++] = drawingArea.x;
+        values[index++] = drawingArea.y;
+        values[index++] = drawingArea.width;
+        values[index++] = drawingArea.height;
+        values[index++] = getTopInset();
+        values[index++] = getBottomInset();
+        values[index++] = getLowerVisibleValue();
+        values[index++] = getUpperVisibleValue();
+        values[index++] = getMinimumAllowableValue();
+        values[index++] = getMaximumAllowableValue();
+        values[index++] = markedValueCount;
+        values[index++] = thumbValueCount;
+        for (int j = 0; j < markedValueCount; j++) {
+            values[index++] = getConstrainedMarkedValue(j);
+        }
+        for (int j = 0; j < thumbValueCount; j++) {
+            values[index++] = getConstrainedThumbValue(j);
+        }
+        Object[] objects = new Object[6 + hatchMarkGroups.size()
+                + markedValueCount + thumbValueCount];
+        index = 0;
+        objects[index++] = gc.getFont();
+        objects[index++] = gc.getBackground();
+        objects[index++] = gc.getForeground();
+        objects[index++] = borderColor;
+        for (IHatchMarkGroup group : hatchMarkGroups) {
+            objects[index++] = group;
+        }
+        for (int j = 0; j <= markedValueCount; j++) {
+            objects[index++] = getConstrainedMarkedRangeColor(j);
+        }
+        for (int j = 0; j <= thumbValueCount; j++) {
+            objects[index++] = getConstrainedThumbRangeColor(j);
+        }
+        return new BackgroundLayerParameters(values, objects);
+    }
+
     /**
      * Initialize the widget.
      * 
@@ -1641,18 +1952,17 @@ public class MultiValueRuler extends MultiValueLinearControl {
                 : getThumbTypeDrawingOrder());
         for (ValueType type : types) {
 
-            // Allow the constrained thumb images to dispose of them-
-            // selves if they are already in existence, and then re-
-            // create them.
+            // Release the thumb images if they are already in exis-
+            // tence, and then fetch them anew.
             for (Image image : thumbImagesForTypes.get(type)) {
                 if (image != null) {
-                    image.dispose();
+                    THUMB_IMAGE_CACHE.release(image);
                 }
             }
             thumbImagesForTypes.get(type).clear();
             for (Image image : activeThumbImagesForTypes.get(type)) {
                 if (image != null) {
-                    image.dispose();
+                    THUMB_IMAGE_CACHE.release(image);
                 }
             }
             activeThumbImagesForTypes.get(type).clear();
@@ -1661,25 +1971,19 @@ public class MultiValueRuler extends MultiValueLinearControl {
             for (int j = 0; j < numValues; j++) {
                 thumbImagesForTypes
                         .get(type)
-                        .add(createThumbImage(
+                        .add(getThumbImage(
                                 (j >= thumbColorsForTypes.get(type).size() ? null
                                         : thumbColorsForTypes.get(type).get(j)),
-                                type,
-                                j,
-                                ((halfTriangleWidth - 1) * 2) + 1,
-                                ((halfTriangleWidth - 1) * 2) + 1,
+                                type, j,
                                 (j >= thumbDirectionsForTypes.get(type).size() ? IndicatorDirection.UP
                                         : thumbDirectionsForTypes.get(type)
                                                 .get(j)), false));
                 activeThumbImagesForTypes
                         .get(type)
-                        .add(createThumbImage(
+                        .add(getThumbImage(
                                 (j >= thumbColorsForTypes.get(type).size() ? null
                                         : thumbColorsForTypes.get(type).get(j)),
-                                type,
-                                j,
-                                ((halfTriangleWidth - 1) * 2) + 1,
-                                ((halfTriangleWidth - 1) * 2) + 1,
+                                type, j,
                                 (j >= thumbDirectionsForTypes.get(type).size() ? IndicatorDirection.UP
                                         : thumbDirectionsForTypes.get(type)
                                                 .get(j)), true));
@@ -1693,7 +1997,10 @@ public class MultiValueRuler extends MultiValueLinearControl {
     }
 
     /**
-     * Create a image to be used for drawing the selected time thumb.
+     * Get an image to be used for drawing the specified thumb, fetching it
+     * from the cache if an identical one has already been created, and
+     * creating it otherwise. The returned image must be released to the cache
+     * when no longer needed.
      * 
      * @param color
      *            Color to be used for the thumb, or <code>null</code> if the
@@ -1702,19 +2009,49 @@ public class MultiValueRuler extends MultiValueLinearControl {
      *            Type of the thumb to be drawn.
      * @param index
      *            Index of the thumb to be drawn.
-     * @param width
-     *            Width of the thumb to be drawn.
-     * @param height
-     *            Height of the thumb to be drawn.
      * @param direction
      *            Pointing direction of the thumb.
      * @param active
-     *            Flag indicating whether or not the image to be created is of
+     *            Flag indicating whether or not the image to be fetched is of
      *            an active thumb.
+     * @return Thumb image.
+     */
+    private Image getThumbImage(Color color, ValueType type, int index,
+            IndicatorDirection direction, boolean active) {
+
+        // Determine whether this thumb should be full-sized, or a
+        // book-end, and if the latter, which side it is on.
+        ThumbShape shape = ThumbShape.FULL;
+        if ((type == ValueType.CONSTRAINED) && constrainedThumbsAreBookends) {
+            shape = (index % 2 == 0 ? ThumbShape.LEFT_BOOKEND
+                    : ThumbShape.RIGHT_BOOKEND);
+        }
+
+        // See if the cache has the image; if so, just use it instead
+        // of creating one.
+        ThumbImageParameters parameters = new ThumbImageParameters(
+                ((halfTriangleWidth - 1) * 2) + 1, (color == null ? null
+                        : color.getRGB()), shape, direction, active);
+        Image image = THUMB_IMAGE_CACHE.acquire(parameters);
+        if (image == null) {
+            image = createThumbImage(parameters);
+            THUMB_IMAGE_CACHE.add(parameters, image);
+        }
+        return image;
+    }
+
+    /**
+     * Create an image to be used for drawing a thumb.
+     * 
+     * @param parameters
+     *            Parameters of the thumb to be drawn.
      * @return Image that was created.
      */
-    private Image createThumbImage(Color color, ValueType type, int index,
-            int width, int height, IndicatorDirection direction, boolean active) {
+    private Image createThumbImage(ThumbImageParameters parameters) {
+        RGB color = parameters.color;
+        int width = parameters.size;
+        int height = parameters.size;
+        boolean active = parameters.active;
 
         // Create an AWT image, since such an image can be created
         // with transparency and painted onto with varying alpha
@@ -1739,11 +2076,9 @@ public class MultiValueRuler extends MultiValueLinearControl {
         // a book-end, and if the latter, which side it is on.
         // Also determine whether it should be an inverted tri-
         // angle instead of a standard one.
-        boolean left = ((type == ValueType.CONSTRAINED)
-                && constrainedThumbsAreBookends && (index % 2 == 0));
-        boolean right = ((type == ValueType.CONSTRAINED)
-                && constrainedThumbsAreBookends && (index % 2 == 1));
-        boolean inverted = (direction == IndicatorDirection.DOWN);
+        boolean left = (parameters.shape == ThumbShape.LEFT_BOOKEND);
+        boolean right = (parameters.shape == ThumbShape.RIGHT_BOOKEND);
+        boolean inverted = (parameters.direction == IndicatorDirection.DOWN);
 
         // Create the points for the triangle, and determine the
         // color to be used as the background. If a color was
@@ -1756,8 +2091,8 @@ public class MultiValueRuler extends MultiValueLinearControl {
                 (inverted ? 0 : height) };
         java.awt.Color backgroundColor = null;
         if (color != null) {
-            backgroundColor = new java.awt.Color(color.getRed(),
-                    color.getGreen(), color.getBlue());
+            backgroundColor = new java.awt.Color(color.red, color.green,
+                    color.blue);
             if (active) {
                 backgroundColor = backgroundColor.brighter();
             }
@@ -1949,26 +2284,21 @@ public class MultiValueRuler extends MultiValueLinearControl {
         while (thumbImagesForTypes.get(type).size() < index) {
             int thisIndex = thumbImagesForTypes.get(type).size();
             thumbImagesForTypes.get(type).add(
-                    createThumbImage(
+                    getThumbImage(
                             thumbColorsForTypes.get(type).get(thisIndex), type,
-                            thisIndex, ((halfTriangleWidth - 1) * 2) + 1,
-                            ((halfTriangleWidth - 1) * 2) + 1,
+                            thisIndex,
                             thumbDirectionsForTypes.get(type).get(thisIndex),
                             false));
             activeThumbImagesForTypes.get(type).add(
-                    createThumbImage(
+                    getThumbImage(
                             thumbColorsForTypes.get(type).get(thisIndex), type,
-                            thisIndex, ((halfTriangleWidth - 1) * 2) + 1,
-                            ((halfTriangleWidth - 1) * 2) + 1,
+                            thisIndex,
                             thumbDirectionsForTypes.get(type).get(thisIndex),
                             true));
         }
-        Image passiveImage = createThumbImage(color, type, index,
-                ((halfTriangleWidth - 1) * 2) + 1,
-                ((halfTriangleWidth - 1) * 2) + 1, direction, false);
-        Image activeImage = createThumbImage(color, type, index,
-                ((halfTriangleWidth - 1) * 2) + 1,
-                ((halfTriangleWidth - 1) * 2) + 1, direction, true);
+        Image passiveImage = getThumbImage(color, type, index, direction,
+                false);
+        Image activeImage = getThumbImage(color, type, index, direction, true);
         if (thumbColorsForTypes.get(type).size() == index) {
             thumbColorsForTypes.get(type).add(color);
         } else {
@@ -1989,10 +2319,12 @@ public class MultiValueRuler extends MultiValueLinearControl {
             activeThumbImagesForTypes.get(type).add(activeImage);
         } else {
             if (thumbImagesForTypes.get(type).get(index) != null) {
-                thumbImagesForTypes.get(type).get(index).dispose();
+                THUMB_IMAGE_CACHE.release(thumbImagesForTypes.get(type).get(
+                        index));
             }
             if (activeThumbImagesForTypes.get(type).get(index) != null) {
-                activeThumbImagesForTypes.get(type).get(index).dispose();
+                THUMB_IMAGE_CACHE.release(activeThumbImagesForTypes.get(type)
+                        .get(index));
             }
             thumbImagesForTypes.get(type).set(index, passiveImage);
             activeThumbImagesForTypes.get(type).set(index, activeImage);
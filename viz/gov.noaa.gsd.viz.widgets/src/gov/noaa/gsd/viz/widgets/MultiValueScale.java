@@ -76,6 +76,10 @@ import com.raytheon.uf.common.util.Pair;
  *                                           representing themselves visually,
  *                                           and to reuse said images across
  *                                           instances of the widgets.
+ * Oct 18, 2026            agent             Changed gradient painting to
+ *                                           reuse each scanline color for
+ *                                           as long as its quantized alpha
+ *                                           is unchanged.
  * </pre>
  * 
  * @author Chris.Golden
@@ -1338,13 +1342,25 @@ public class MultiValueScale extends MultiValueLinearControl {
     private void paintGradient(Graphics2D graphics, java.awt.Color color,
             float alphaStart, float alphaEnd, int xStart, int xEnd, int yStart,
             int yEnd, int cornerIndent) {
-        float[] rgbComponents = color.getColorComponents(null);
         float alphaOffset = ((alphaEnd - alphaStart)) / (yEnd + 1 - yStart);
         int yHalfway = ((yEnd + 1 - yStart) / 2) + yStart;
+
+        /*
+         * Colors only have 8 bits of alpha, so adjacent scanlines frequently
+         * end up with the same color; only create a new color when the
+         * quantized alpha (rounded the same way the float-based color
+         * constructor rounds it) changes.
+         */
+        int rgb = color.getRGB() & 0x00FFFFFF;
+        int lastAlpha = -1;
         for (int y = yStart; y <= yEnd; y++) {
-            graphics.setColor(new java.awt.Color(rgbComponents[0],
-                    rgbComponents[1], rgbComponents[2],
-                    alphaStart + (alphaOffset * (y - yStart))));
+            int alpha = (int) (((alphaStart + (alphaOffset * (y - yStart))) * 255)
+                    + 0.5f);
+            if (alpha != lastAlpha) {
+                graphics.setColor(new java.awt.Color((alpha << 24) | rgb,
+                        true));
+                lastAlpha = alpha;
+            }
             int xOffset = (cornerIndent)
                     - ((y >= yHalfway ? yEnd + 1 - y : y) + 1);
             if (xOffset < 0) {